@@ -5,21 +5,31 @@ import se.tetris.team5.utils.setting.GameSettings;
 
 public abstract class Block {
 		
-	protected int[][] shape;
+	// 블록 종류별로 미리 계산된 회전 테이블과 현재 회전 상태
+	// 회전은 인덱스만 바꾸므로 새 배열을 만들지 않습니다.
+	protected final RotationTable rotationTable;
+	protected RotationTable.Orientation orientation;
 	protected Color color;
 	protected String blockType; // 블록 타입 식별자
-		// 각 칸별 아이템 정보 (null이면 아이템 없음)
-		protected se.tetris.team5.items.Item[][] items;
+		// 각 칸별 아이템 정보 (회전 0 기준 칸 번호로 저장, null이면 아이템 없음)
+		protected final se.tetris.team5.items.Item[] items;
+
+	private static final RotationTable DEFAULT_TABLE = new RotationTable("O", new int[][]{
+			{1, 1},
+			{1, 1}
+	});
 	
 	public Block() {
-		shape = new int[][]{ 
-				{1, 1}, 
-				{1, 1}
-		};
-		blockType = "O"; // 기본값
+		this(DEFAULT_TABLE);
+	}
+
+	protected Block(RotationTable rotationTable) {
+		this.rotationTable = rotationTable;
+		this.orientation = rotationTable.get(0);
+		blockType = rotationTable.getBlockType();
 		updateColor();
-		// 아이템 배열 초기화 (shape와 항상 크기 동기화)
-		items = new se.tetris.team5.items.Item[shape.length][shape[0].length];
+		// 아이템 배열은 기준 방향 경계 상자 크기로 한 번만 생성 (회전해도 크기 불변)
+		items = new se.tetris.team5.items.Item[rotationTable.getSlotCount()];
 	}
 
 	public String getBlockType() {
@@ -27,7 +37,7 @@ public abstract class Block {
 	}
 	
 	public int getShape(int x, int y) {
-		return shape[y][x];
+		return orientation.getShape(x, y);
 	}
 	
 	public Color getColor() {
@@ -42,31 +52,41 @@ public abstract class Block {
 	
 	public void rotate() {
 		//Rotate the block 90 deg. clockwise.
-		int rows = shape.length;
-		int cols = shape[0].length;
-		int[][] rotated = new int[cols][rows];
-		se.tetris.team5.items.Item[][] rotatedItems = new se.tetris.team5.items.Item[cols][rows];
-		for (int i = 0; i < rows; i++) {
-			for (int j = 0; j < cols; j++) {
-				rotated[j][rows - 1 - i] = shape[i][j];
-				// items 배열이 null이거나 크기가 다를 수 있으므로 안전하게 접근
-				if (items != null && i < items.length && j < items[0].length) {
-					rotatedItems[j][rows - 1 - i] = items[i][j];
-				} else {
-					rotatedItems[j][rows - 1 - i] = null;
-				}
-			}
-		}
-		shape = rotated;
-		items = rotatedItems;
+		orientation = rotationTable.get(orientation.getRotation() + 1);
+	}
+
+	/**
+	 * 현재 회전 상태 (0~3, 시계 방향 90도 단위)
+	 */
+	public int getRotation() {
+		return orientation.getRotation();
+	}
+
+	/**
+	 * 회전 상태를 직접 지정합니다 (4로 나눈 나머지 사용)
+	 * 아이템은 기준 방향 칸에 저장되어 있으므로 함께 회전합니다.
+	 */
+	public void setRotation(int rotation) {
+		orientation = rotationTable.get(rotation);
+	}
+
+	public RotationTable getRotationTable() {
+		return rotationTable;
+	}
+
+	/**
+	 * 현재 회전 상태의 미리 계산된 모양 정보
+	 */
+	public RotationTable.Orientation getOrientation() {
+		return orientation;
 	}
 
 	/**
 	 * (x, y) 위치에 아이템 부여
 	 */
 	public void setItem(int x, int y, se.tetris.team5.items.Item item) {
-		if (y >= 0 && y < items.length && x >= 0 && x < items[0].length) {
-			items[y][x] = item;
+		if (y >= 0 && y < orientation.height() && x >= 0 && x < orientation.width()) {
+			items[orientation.getSlot(x, y)] = item;
 		}
 	}
 
@@ -74,8 +94,8 @@ public abstract class Block {
 	 * (x, y) 위치의 아이템 반환 (없으면 null)
 	 */
 	public se.tetris.team5.items.Item getItem(int x, int y) {
-		if (y >= 0 && y < items.length && x >= 0 && x < items[0].length) {
-			return items[y][x];
+		if (y >= 0 && y < orientation.height() && x >= 0 && x < orientation.width()) {
+			return items[orientation.getSlot(x, y)];
 		}
 		return null;
 	}
@@ -84,21 +104,28 @@ public abstract class Block {
 	 * (x, y) 위치의 아이템 제거 (획득 시 호출)
 	 */
 	public se.tetris.team5.items.Item removeItem(int x, int y) {
-		if (y >= 0 && y < items.length && x >= 0 && x < items[0].length) {
-			se.tetris.team5.items.Item item = items[y][x];
-			items[y][x] = null;
+		if (y >= 0 && y < orientation.height() && x >= 0 && x < orientation.width()) {
+			int slot = orientation.getSlot(x, y);
+			se.tetris.team5.items.Item item = items[slot];
+			items[slot] = null;
 			return item;
 		}
 		return null;
 	}
 	
+	/**
+	 * y번째 줄의 모양을 비트마스크로 반환 (0번 열이 최하위 비트)
+	 * BitBoard 충돌 검사에서 x만큼 시프트하여 사용합니다.
+	 */
+	public long getRowMask(int y) {
+		return orientation.getRowMask(y);
+	}
+
 	public int height() {
-		return shape.length;
+		return orientation.height();
 	}
 	
 	public int width() {
-		if(shape.length > 0)
-			return shape[0].length;
-		return 0;
+		return orientation.width();
 	}
 }
@@ -2,13 +2,13 @@ package se.tetris.team5.blocks;
 
 public class JBlock extends Block {
 		
+	// 회전 0 상태의 모양으로 4방향 회전을 미리 계산
+	private static final RotationTable TABLE = new RotationTable("J", new int[][] { 
+		{1, 1, 1},
+		{0, 0, 1}
+	});
+
 	public JBlock() {
-		shape = new int[][] { 
-				{1, 1, 1},
-				{0, 0, 1}
-		};
-		blockType = "J";
-		updateColor();
-		items = new se.tetris.team5.items.Item[shape.length][shape[0].length];
+		super(TABLE);
 	}
 }
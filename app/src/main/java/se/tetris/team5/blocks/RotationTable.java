@@ -0,0 +1,225 @@
+package se.tetris.team5.blocks;
+
+/**
+ * 블록 종류별로 미리 계산해 둔 4방향 회전 테이블 (불변)
+ *
+ * 각 방향(Orientation)은 모양 행렬, 줄별 비트마스크, 칸 좌표 목록, 경계 상자 크기와
+ * 기준 방향(회전 0) 칸 번호로의 매핑을 가지고 있습니다. 블록은 회전 상태 인덱스로 이 테이블을
+ * 참조하므로 회전 시 새 배열을 만들지 않습니다. 회전 방향은 기존 Block.rotate()와 같은
+ * 시계 방향 90도이며, 경계 상자의 가로/세로가 서로 바뀝니다.
+ */
+public final class RotationTable {
+	/** 회전 상태 개수 */
+	public static final int ROTATIONS = 4;
+
+	private final String blockType;
+	private final int slotCount;
+	private final Orientation[] orientations = new Orientation[ROTATIONS];
+
+	/**
+	 * RotationTable 생성자
+	 *
+	 * @param blockType 블록 타입 식별자
+	 * @param baseShape 회전 0 상태의 모양 행렬 (shape[y][x], 1이면 채워진 칸)
+	 */
+	public RotationTable(String blockType, int[][] baseShape) {
+		this.blockType = blockType;
+		int height = baseShape.length;
+		int width = baseShape[0].length;
+		this.slotCount = width * height;
+
+		int[][] shape = new int[height][];
+		int[][] slots = new int[height][width];
+		for (int y = 0; y < height; y++) {
+			shape[y] = baseShape[y].clone();
+			for (int x = 0; x < width; x++) {
+				slots[y][x] = y * width + x;
+			}
+		}
+
+		for (int r = 0; r < ROTATIONS; r++) {
+			orientations[r] = new Orientation(r, shape, slots);
+			shape = rotateClockwise(shape);
+			slots = rotateClockwise(slots);
+		}
+	}
+
+	public String getBlockType() {
+		return blockType;
+	}
+
+	/**
+	 * 기준 방향 경계 상자의 칸 수 (아이템 저장 칸 수)
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	/**
+	 * 회전 상태에 해당하는 방향 정보를 반환합니다 (4로 나눈 나머지 사용)
+	 */
+	public Orientation get(int rotation) {
+		return orientations[rotation & (ROTATIONS - 1)];
+	}
+
+	// 기존 Block.rotate()와 동일한 시계 방향 90도 회전
+	private static int[][] rotateClockwise(int[][] src) {
+		int rows = src.length;
+		int cols = src[0].length;
+		int[][] rotated = new int[cols][rows];
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < cols; j++) {
+				rotated[j][rows - 1 - i] = src[i][j];
+			}
+		}
+		return rotated;
+	}
+
+	/**
+	 * 한 회전 상태의 미리 계산된 모양 정보
+	 */
+	public static final class Orientation {
+		private final int rotation;
+		private final int width;
+		private final int height;
+		private final int[] cells; // shape[y][x] 를 y * width + x 순서로 펼친 값
+		private final long[] rowMasks;
+		private final int[] cellX;
+		private final int[] cellY;
+		private final int[] slotIndex; // (y * width + x) -> 기준 방향 칸 번호
+		private final int[] columnBottoms; // 열별 가장 아래 칸의 y 오프셋 (빈 열은 -1)
+		private final int[] columnTops; // 열별 가장 위 칸의 y 오프셋 (빈 열은 -1)
+		private final boolean contiguousColumns;
+
+		private Orientation(int rotation, int[][] shape, int[][] slots) {
+			this.rotation = rotation;
+			this.height = shape.length;
+			this.width = shape[0].length;
+			this.cells = new int[width * height];
+			this.slotIndex = new int[width * height];
+			this.rowMasks = new long[height];
+
+			int count = 0;
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					cells[y * width + x] = shape[y][x];
+					slotIndex[y * width + x] = slots[y][x];
+					if (shape[y][x] == 1) {
+						rowMasks[y] |= 1L << x;
+						count++;
+					}
+				}
+			}
+
+			this.cellX = new int[count];
+			this.cellY = new int[count];
+			this.columnBottoms = new int[width];
+			this.columnTops = new int[width];
+			int i = 0;
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					if (shape[y][x] == 1) {
+						cellX[i] = x;
+						cellY[i] = y;
+						i++;
+					}
+				}
+			}
+
+			// 열마다 채워진 칸이 끊김 없이 이어져 있으면 바닥 칸만으로 착지 위치를 구할 수 있음
+			boolean contiguous = true;
+			for (int x = 0; x < width; x++) {
+				int top = -1;
+				int bottom = -1;
+				int filled = 0;
+				for (int y = 0; y < height; y++) {
+					if (shape[y][x] == 1) {
+						if (top < 0) {
+							top = y;
+						}
+						bottom = y;
+						filled++;
+					}
+				}
+				columnBottoms[x] = bottom;
+				columnTops[x] = top;
+				if (filled > 0 && bottom - top + 1 != filled) {
+					contiguous = false;
+				}
+			}
+			this.contiguousColumns = contiguous;
+		}
+
+		public int getRotation() {
+			return rotation;
+		}
+
+		public int width() {
+			return width;
+		}
+
+		public int height() {
+			return height;
+		}
+
+		public int getShape(int x, int y) {
+			return cells[y * width + x];
+		}
+
+		/**
+		 * y번째 줄의 비트마스크 (0번 열이 최하위 비트)
+		 */
+		public long getRowMask(int y) {
+			return rowMasks[y];
+		}
+
+		/**
+		 * 채워진 칸의 개수
+		 */
+		public int getCellCount() {
+			return cellX.length;
+		}
+
+		/**
+		 * i번째 채워진 칸의 x 오프셋 (위에서 아래, 왼쪽에서 오른쪽 순서)
+		 */
+		public int getCellX(int i) {
+			return cellX[i];
+		}
+
+		/**
+		 * i번째 채워진 칸의 y 오프셋
+		 */
+		public int getCellY(int i) {
+			return cellY[i];
+		}
+
+		/**
+		 * (x, y) 위치에 대응하는 기준 방향의 칸 번호
+		 */
+		public int getSlot(int x, int y) {
+			return slotIndex[y * width + x];
+		}
+
+		/**
+		 * x번째 열에서 가장 아래에 있는 채워진 칸의 y 오프셋 (빈 열이면 -1)
+		 */
+		public int getColumnBottom(int x) {
+			return columnBottoms[x];
+		}
+
+		/**
+		 * x번째 열에서 가장 위에 있는 채워진 칸의 y 오프셋 (빈 열이면 -1)
+		 */
+		public int getColumnTop(int x) {
+			return columnTops[x];
+		}
+
+		/**
+		 * 모든 열의 채워진 칸이 세로로 끊김 없이 이어져 있는지 여부
+		 */
+		public boolean hasContiguousColumns() {
+			return contiguousColumns;
+		}
+	}
+}
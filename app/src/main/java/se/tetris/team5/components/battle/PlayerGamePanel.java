@@ -12,8 +12,10 @@ import javax.swing.Timer;
 
 import se.tetris.team5.blocks.Block;
 import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.event.GameEvent;
 import se.tetris.team5.components.game.GameBoard;
 import se.tetris.team5.components.game.DoubleScoreBadge;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 단일 플레이어의 게임 패널 (UI + GameEngine 캡슐화)
@@ -35,6 +37,7 @@ public class PlayerGamePanel extends JPanel {
   private JLabel levelLabel;
   private JLabel linesLabel;
   private JLabel timerLabel;
+  private JLabel aiStatsLabel; // AI 탐색 계측 오버레이 (켜졌을 때만 보임)
   private JPanel attackPanel;
 
   // 게임 로직
@@ -53,6 +56,8 @@ public class PlayerGamePanel extends JPanel {
   private java.util.List<Color[]> attackBlocksData = new java.util.ArrayList<>();
   // 대전모드: 방금 생성된 공격 블럭 (P2P 전송용)
   private java.util.List<Color[]> pendingOutgoingAttackBlocks = new java.util.ArrayList<>();
+  // 화면 갱신마다 재사용하는 보드 사본
+  private int[][] renderBoardBuffer;
 
   // 대전모드: 누적 공격 줄 수 (게임 전체에서 받은 총 공격 줄 수)
   private int totalReceivedAttackLines = 0;
@@ -107,15 +112,17 @@ public class PlayerGamePanel extends JPanel {
     if (customEngine != null) {
       this.gameEngine = customEngine;
       // 대전모드 콜백 설정
-      System.out.println("[PlayerGamePanel] 콜백 등록 중 (커스텀 엔진)...");
+      Log.debug("[PlayerGamePanel] 콜백 등록 중 (커스텀 엔진)...");
       gameEngine.setOnBlockFixedCallback(() -> {
-        System.out.println("[PlayerGamePanel 콜백] 실행됨!");
-        checkAndApplyAttackBlocks();
+        Log.debug("[PlayerGamePanel 콜백] 실행됨!");
+        onBlockFixed();
       });
-      System.out.println("[PlayerGamePanel] 콜백 등록 완료");
+      Log.debug("[PlayerGamePanel] 콜백 등록 완료");
     } else {
       initGameEngine();
     }
+    // 줄 삭제/폭탄 애니메이션은 엔진 이벤트로 처리 (EDT에서 전달됨, 공격은 onBlockFixed에서 처리)
+    gameEngine.getEventBus().subscribe(this::onGameEvent);
 
     initComponents();
   }
@@ -124,31 +131,9 @@ public class PlayerGamePanel extends JPanel {
     // autoStart=false로 생성하여 자동 시작 방지 (빈 보드 상태)
     gameEngine = new GameEngine(GameBoard.HEIGHT, GameBoard.WIDTH, false);
 
-    // 대전모드: 블럭 고정 후 공격 블럭 적용 및 전송 콜백 설정
+    // 대전모드: 블럭 고정 직후(다음 블럭 생성 전) 공격 블럭 적용 및 전송
     gameEngine.setOnBlockFixedCallback(() -> {
-      // 받은 공격 블럭 적용
-      checkAndApplyAttackBlocks();
-
-      // 줄 삭제 애니메이션 트리거 (consumeLastClearedRows 호출 전에)
-      try {
-        java.util.List<Integer> clearedRows = gameEngine.consumeLastClearedRows();
-        if (clearedRows != null && !clearedRows.isEmpty()) {
-          // 애니메이션 트리거
-          if (gameBoard != null) {
-            gameBoard.triggerClearAnimation(clearedRows);
-          }
-
-          // 보낼 공격 블럭 전송 (2줄 이상 삭제 시)
-          if (clearedRows.size() >= 2 && opponentPanel != null) {
-            java.util.List<Color[]> attackData = gameEngine.getBoardManager().getAttackBlocksData();
-            if (attackData != null && !attackData.isEmpty()) {
-              opponentPanel.addAttackBlocks(attackData);
-            }
-          }
-        }
-      } catch (Exception ex) {
-        // 공격 블럭 전송 실패해도 게임 진행
-      }
+      onBlockFixed();
     });
   }
 
@@ -157,7 +142,7 @@ public class PlayerGamePanel extends JPanel {
     javax.swing.JLayeredPane boardContainer = new javax.swing.JLayeredPane();
     boardContainer.setLayout(null);
 
-    gameBoard = new GameBoard();
+    gameBoard = new GameBoard(gameEngine.getBoardManager().getHeight(), gameEngine.getBoardManager().getWidth());
     boardContainer.add(gameBoard, Integer.valueOf(0));
 
     // 타이머 라벨
@@ -169,6 +154,17 @@ public class PlayerGamePanel extends JPanel {
     timerLabel.setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 8));
     boardContainer.add(timerLabel, Integer.valueOf(100));
 
+    // AI 탐색 계측 오버레이 (처음에는 숨김)
+    aiStatsLabel = new JLabel();
+    aiStatsLabel.setFont(new Font("Monospaced", Font.PLAIN, 11));
+    aiStatsLabel.setForeground(new Color(120, 255, 120));
+    aiStatsLabel.setOpaque(true);
+    aiStatsLabel.setBackground(new Color(0, 0, 0, 180));
+    aiStatsLabel.setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
+    aiStatsLabel.setVerticalAlignment(javax.swing.SwingConstants.TOP);
+    aiStatsLabel.setVisible(false);
+    boardContainer.add(aiStatsLabel, Integer.valueOf(150));
+
     // 타임스톱 오버레이 패널 (처음에는 숨김)
     timeStopOverlay = new JPanel() {
       @Override
@@ -217,6 +213,7 @@ public class PlayerGamePanel extends JPanel {
         java.awt.Dimension size = boardContainer.getSize();
         gameBoard.setBounds(0, 0, size.width, size.height);
         timerLabel.setBounds(10, 10, 80, 30);
+        aiStatsLabel.setBounds(10, 46, Math.max(0, size.width - 20), 96);
         timeStopOverlay.setBounds(0, 0, size.width, size.height);
       }
     });
@@ -574,6 +571,19 @@ public class PlayerGamePanel extends JPanel {
     }
   }
 
+  /**
+   * AI 탐색 계측 오버레이 내용 설정 (null이면 숨김)
+   *
+   * @param text 표시할 내용 (HTML 가능)
+   */
+  public void setAIStatsText(String text) {
+    if (aiStatsLabel == null) {
+      return;
+    }
+    aiStatsLabel.setVisible(text != null);
+    aiStatsLabel.setText(text);
+  }
+
   public void updateGameUI() {
     // 게임 보드 업데이트
     if (gameBoard == null)
@@ -588,7 +598,6 @@ public class PlayerGamePanel extends JPanel {
       return;
     }
     gameBoard.setShowTextOverlay(false);
-    int[][] board = gameEngine.getBoardManager().getBoard();
     Color[][] boardColors = gameEngine.getBoardManager().getBoardColors();
     Block currBlock = gameEngine.getCurrentBlock();
     int currX = gameEngine.getX();
@@ -599,6 +608,9 @@ public class PlayerGamePanel extends JPanel {
       gameEngine.getBoardManager().eraseBlock(currBlock, currX, currY);
       gameEngine.getBoardManager().placeBlock(currBlock, currX, currY);
     }
+    // 읽기 전용 사본 (getBoard()와 달리 비트마스크를 다시 맞추지 않음)
+    renderBoardBuffer = gameEngine.getBoardManager().copyBoard(renderBoardBuffer);
+    int[][] board = renderBoardBuffer;
 
     se.tetris.team5.items.Item[][] items = new se.tetris.team5.items.Item[board.length][board[0].length];
     for (int i = 0; i < board.length; i++) {
@@ -609,39 +621,6 @@ public class PlayerGamePanel extends JPanel {
     int ghostY = gameEngine.getGhostY();
     gameBoard.renderBoard(board, boardColors, items, currBlock, currX, currY, ghostY);
 
-    // 줄 삭제 애니메이션 처리
-    // 주의: onBlockFixedCallback에서 이미 consumeLastClearedRows()를 호출했으므로,
-    // 여기서는 이미 소비된 데이터가 없을 수 있습니다. 하지만 혹시 모를 경우를 대비해 체크합니다.
-    try {
-      java.util.List<Integer> clearedRows = gameEngine.consumeLastClearedRows();
-      if (clearedRows != null && !clearedRows.isEmpty()) {
-        // onBlockFixedCallback에서 이미 애니메이션을 트리거했지만,
-        // 혹시 놓친 경우를 대비해 여기서도 트리거합니다.
-        gameBoard.triggerClearAnimation(clearedRows);
-
-        // 대전모드: 2줄 이상 삭제 시 공격 블럭 데이터를 상대방에게 전송
-        if (clearedRows.size() >= 2) {
-          java.util.List<Color[]> attackData = gameEngine.getBoardManager().getAttackBlocksData();
-          if (attackData != null && !attackData.isEmpty()) {
-            if (opponentPanel != null) {
-              opponentPanel.addAttackBlocks(attackData);
-              System.out.println("[공격 전송] " + attackData.size() + "줄을 상대방에게 전송");
-            }
-            queueOutgoingAttackBlocks(attackData);
-          }
-        }
-      }
-
-      // 폭탄 폭발 애니메이션 처리
-      java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> bombCells = gameEngine
-          .consumeLastBombExplosionCells();
-      if (bombCells != null && !bombCells.isEmpty()) {
-        gameBoard.triggerBombExplosion(bombCells);
-      }
-    } catch (Exception ex) {
-      // 애니메이션 처리 실패해도 게임 진행
-    }
-
     // 다음 블록 업데이트
     if (nextVisualPanel != null) {
       nextVisualPanel.repaint();
@@ -779,7 +758,7 @@ public class PlayerGamePanel extends JPanel {
           }
         }
       } catch (Exception e) {
-        System.err.println("[P2P] 다음 블록 업데이트 실패: " + e.getMessage());
+        Log.error("[P2P] 다음 블록 업데이트 실패: " + e.getMessage());
       }
     }
   }
@@ -890,8 +869,28 @@ public class PlayerGamePanel extends JPanel {
   }
 
   /**
-   * 대전모드: 블럭 고정 후 공격 블럭이 있는지 체크하고 적용합니다.
+   * 대전모드: 블럭 고정 직후(엔진이 다음 블럭을 만들기 전) 호출된다.
+   * 받은 공격 블럭을 적용하고, 2줄 이상 삭제했으면 공격 블럭을 상대방에게 보낸다.
+   * 공격은 승패에 영향을 주므로 가득 차면 버려질 수 있는 이벤트 큐를 거치지 않는다.
    */
+  private void onBlockFixed() {
+    checkAndApplyAttackBlocks();
+
+    se.tetris.team5.components.game.BoardManager boardManager = gameEngine.getBoardManager();
+    if (boardManager.getLastClearedRowCount() < 2) {
+      return;
+    }
+    java.util.List<Color[]> attackData = boardManager.getAttackBlocksData();
+    if (attackData.isEmpty()) {
+      return;
+    }
+    if (opponentPanel != null) {
+      opponentPanel.addAttackBlocks(attackData);
+      Log.debug("[공격 전송] " + attackData.size() + "줄을 상대방에게 전송");
+    }
+    queueOutgoingAttackBlocks(attackData);
+  }
+
   private void checkAndApplyAttackBlocks() {
     synchronized (attackBlocksData) {
       if (!attackBlocksData.isEmpty()) {
@@ -933,6 +932,26 @@ public class PlayerGamePanel extends JPanel {
     this.opponentPanel = opponent;
   }
 
+  /**
+   * 게임 엔진 이벤트 처리: 줄 삭제/폭탄 애니메이션을 트리거한다 (화면 표시 전용).
+   */
+  private void onGameEvent(GameEvent event) {
+    switch (event.getType()) {
+      case LINES_CLEARED:
+        if (gameBoard != null) {
+          gameBoard.triggerClearAnimation(((GameEvent.LinesCleared) event).getRows());
+        }
+        break;
+      case BOMB_EXPLODED:
+        if (gameBoard != null) {
+          gameBoard.triggerBombExplosion(((GameEvent.BombExploded) event).getCells());
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
   /**
    * 최근 생성된 공격 블럭 데이터를 P2P 전송을 위해 큐에 저장한다.
    */
@@ -972,8 +991,7 @@ public class PlayerGamePanel extends JPanel {
 
     synchronized (attackBlocksData) {
       attackBlocksData.addAll(receivedBlocks);
-      System.out
-          .println("[P2P 공격 블럭 수신] " + receivedBlocks.size() + "줄 추가됨 - 대기 중인 공격: " + attackBlocksData.size() + "줄");
+      Log.debug("[P2P 공격 블럭 수신] " + receivedBlocks.size() + "줄 추가됨 - 대기 중인 공격: " + attackBlocksData.size() + "줄");
     }
 
     // 공격 블럭 패널 업데이트
@@ -1024,7 +1042,7 @@ public class PlayerGamePanel extends JPanel {
       timeStopCountdownTimer.setRepeats(true);
       timeStopCountdownTimer.start();
 
-      System.out.println("[" + playerName + "] 타임스톱 아이템 사용!");
+      Log.debug("[" + playerName + "] 타임스톱 아이템 사용!");
       return true;
     }
     return false;
@@ -1067,6 +1085,6 @@ public class PlayerGamePanel extends JPanel {
       gameTimer.start();
     }
 
-    System.out.println("[" + playerName + "] 타임스톱 종료");
+    Log.debug("[" + playerName + "] 타임스톱 종료");
   }
 }
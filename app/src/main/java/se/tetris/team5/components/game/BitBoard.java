@@ -0,0 +1,181 @@
+package se.tetris.team5.components.game;
+
+/**
+ * 고정된 블록의 점유 상태를 줄 단위 비트마스크로 보관하는 보드 백엔드
+ *
+ * 각 줄은 하나의 long 값이며, x번째 열이 채워져 있으면 (1L << x) 비트가 켜집니다.
+ * 충돌 검사, 가득 찬 줄 판정, 줄 압축이 칸 단위 순회 대신 몇 번의 워드 연산으로 처리됩니다.
+ * 움직이는 블록(값 2)은 기록하지 않고, 고정된 블록(값 1)만 표현합니다.
+ */
+public class BitBoard {
+  /** 한 줄에 표현할 수 있는 최대 열 수 */
+  public static final int MAX_WIDTH = Long.SIZE;
+
+  private final int height;
+  private final int width;
+  private final long fullRowMask;
+  private final long[] rows;
+
+  /**
+   * BitBoard 생성자
+   *
+   * @param height 보드 높이
+   * @param width  보드 너비 (최대 {@link #MAX_WIDTH})
+   */
+  public BitBoard(int height, int width) {
+    if (height <= 0 || width <= 0 || width > MAX_WIDTH) {
+      throw new IllegalArgumentException("지원하지 않는 보드 크기입니다: " + height + "x" + width);
+    }
+    this.height = height;
+    this.width = width;
+    this.fullRowMask = width == MAX_WIDTH ? -1L : (1L << width) - 1;
+    this.rows = new long[height];
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * 한 줄이 가득 찼을 때의 마스크를 반환합니다
+   */
+  public long getFullRowMask() {
+    return fullRowMask;
+  }
+
+  /**
+   * 모든 칸을 비웁니다
+   */
+  public void clear() {
+    java.util.Arrays.fill(rows, 0L);
+  }
+
+  /**
+   * (x, y) 칸이 채워져 있는지 확인합니다 (범위 밖이면 false)
+   */
+  public boolean get(int x, int y) {
+    if (y < 0 || y >= height || x < 0 || x >= width) {
+      return false;
+    }
+    return (rows[y] & (1L << x)) != 0;
+  }
+
+  /**
+   * (x, y) 칸을 채웁니다
+   */
+  public void set(int x, int y) {
+    rows[y] |= 1L << x;
+  }
+
+  /**
+   * (x, y) 칸을 비웁니다
+   */
+  public void unset(int x, int y) {
+    rows[y] &= ~(1L << x);
+  }
+
+  /**
+   * y번째 줄의 마스크를 반환합니다
+   */
+  public long getRow(int y) {
+    return rows[y];
+  }
+
+  /**
+   * y번째 줄의 마스크를 설정합니다
+   */
+  public void setRow(int y, long mask) {
+    rows[y] = mask & fullRowMask;
+  }
+
+  public boolean isRowFull(int y) {
+    return rows[y] == fullRowMask;
+  }
+
+  public boolean isRowEmpty(int y) {
+    return rows[y] == 0L;
+  }
+
+  /**
+   * 블록의 한 줄 마스크(0번 열 기준)를 x만큼 이동시켜 y번째 줄과 겹치는지 확인합니다.
+   * 보드 위쪽(y &lt; 0)은 항상 비어 있는 것으로 취급합니다.
+   */
+  public boolean collides(long pieceRowMask, int x, int y) {
+    if (y < 0) {
+      return false;
+    }
+    return (rows[y] & (pieceRowMask << x)) != 0;
+  }
+
+  /**
+   * 주어진 열의 모든 칸을 비웁니다
+   */
+  public void clearColumn(int x) {
+    long keep = ~(1L << x);
+    for (int y = 0; y < height; y++) {
+      rows[y] &= keep;
+    }
+  }
+
+  /**
+   * from 줄의 내용을 to 줄로 복사합니다
+   */
+  public void copyRow(int from, int to) {
+    rows[to] = rows[from];
+  }
+
+  /**
+   * 모든 줄을 count만큼 위로 밀어 올립니다. 아래쪽에 생긴 count개의 줄은 비워집니다.
+   */
+  public void shiftUp(int count) {
+    if (count <= 0) {
+      return;
+    }
+    if (count >= height) {
+      clear();
+      return;
+    }
+    System.arraycopy(rows, count, rows, 0, height - count);
+    java.util.Arrays.fill(rows, height - count, height, 0L);
+  }
+
+  /**
+   * 채워진 칸이 있는 가장 위쪽 줄의 인덱스를 반환합니다 (없으면 -1)
+   */
+  public int highestRow() {
+    for (int y = 0; y < height; y++) {
+      if (rows[y] != 0L) {
+        return y;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * int[][] 보드에서 값이 1인 칸만으로 비트마스크를 다시 만듭니다.
+   * 외부에서 보드 배열을 직접 수정한 뒤 상태를 맞추기 위해 사용합니다.
+   *
+   * @return 기존 마스크와 달라진 줄이 있으면 true
+   */
+  public boolean loadFrom(int[][] board) {
+    boolean changed = false;
+    for (int y = 0; y < height; y++) {
+      long mask = 0L;
+      int[] row = board[y];
+      for (int x = 0; x < width; x++) {
+        if (row[x] == 1) {
+          mask |= 1L << x;
+        }
+      }
+      if (rows[y] != mask) {
+        rows[y] = mask;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+}
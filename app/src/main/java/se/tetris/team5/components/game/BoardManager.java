@@ -2,6 +2,7 @@ package se.tetris.team5.components.game;
 
 import java.awt.Color;
 import se.tetris.team5.blocks.Block;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 게임 보드의 상태 관리 및 블록 배치/제거 등을 담당하는 클래스
@@ -11,27 +12,64 @@ public class BoardManager {
    * (x, y) 좌표의 아이템을 반환합니다 (없으면 null)
    */
   public se.tetris.team5.items.Item getBoardItem(int x, int y) {
-    if (y >= 0 && y < HEIGHT && x >= 0 && x < WIDTH) {
+    if (y >= 0 && y < height && x >= 0 && x < width) {
       return boardItems[y][x];
     }
     return null;
   }
 
-  // 보드 크기 상수
+  // 기본 보드 크기
   public static final int HEIGHT = 20;
   public static final int WIDTH = 10;
   public static final char BORDER_CHAR = 'X';
 
+  // 이 보드의 크기 (생성 시 결정)
+  private final int height;
+  private final int width;
+
   // 보드 상태와 색상 정보
   private int[][] board;
   private Color[][] boardColors;
   // 각 칸별 아이템 정보 (null이면 아이템 없음)
   private se.tetris.team5.items.Item[][] boardItems;
+  // 고정된 블록(값 1)의 비트마스크 백엔드 (충돌/줄 판정용)
+  private final BitBoard bitBoard;
+  // getBoard()로 배열이 외부에 노출되어 직접 수정되었을 수 있으면 true
+  private boolean bitBoardStale = false;
+  // 열 높이/줄 채움 수/구멍 수 (고정된 블록 기준, 비트마스크와 함께 증분 갱신)
+  private final BoardStats stats;
+  // 고정된 블록 상태가 바뀔 때마다 증가하는 버전 (고스트 위치 등 보드 기반 캐시 무효화용)
+  private int boardVersion = 0;
+  // 줄 압축 시 재사용하는 삭제된 줄 배열 보관용 버퍼
+  private final int[][] spareRows;
+  private final Color[][] spareColorRows;
+  private final se.tetris.team5.items.Item[][] spareItemRows;
 
   /**
-   * BoardManager 생성자
+   * BoardManager 생성자 (기본 크기 {@value #HEIGHT}x{@value #WIDTH})
    */
   public BoardManager() {
+    this(HEIGHT, WIDTH);
+  }
+
+  /**
+   * BoardManager 생성자
+   *
+   * @param height 보드 높이
+   * @param width  보드 너비 (최대 {@link BitBoard#MAX_WIDTH})
+   */
+  public BoardManager(int height, int width) {
+    this.height = height;
+    this.width = width;
+    bitBoard = new BitBoard(height, width);
+    stats = new BoardStats(height, width);
+    spareRows = new int[height][];
+    spareColorRows = new Color[height][];
+    spareItemRows = new se.tetris.team5.items.Item[height][];
+    lastClearedRows = new int[height];
+    lastFixedRowMasks = new long[height];
+    lastAttackBlocksData = new Color[height][width];
+    lastBombExplosionCells = new int[height * width];
     initializeBoard();
   }
 
@@ -39,20 +77,118 @@ public class BoardManager {
    * 보드를 초기화합니다
    */
   public void initializeBoard() {
-    board = new int[HEIGHT][WIDTH];
-    boardColors = new Color[HEIGHT][WIDTH];
-    boardItems = new se.tetris.team5.items.Item[HEIGHT][WIDTH];
+    board = new int[height][width];
+    boardColors = new Color[height][width];
+    boardItems = new se.tetris.team5.items.Item[height][width];
+    bitBoard.clear();
+    stats.clear();
+    bitBoardStale = false;
+    boardVersion++;
   }
 
   /**
    * 보드 배열을 반환합니다
+   * 반환된 배열은 직접 수정될 수 있으므로 다음 충돌/줄 판정 전에 비트마스크를 다시 맞춥니다.
+   * 읽기만 한다면 {@link #getCell(int, int)}나 {@link #copyBoard(int[][])}를 사용하세요 (다시 맞추지 않음).
    * 
    * @return 보드 배열
    */
   public int[][] getBoard() {
+    bitBoardStale = true;
     return board;
   }
 
+  /**
+   * (x, y) 칸의 값을 반환합니다 (0: 빈 칸, 1: 고정된 블록, 2: 움직이는 블록)
+   */
+  public int getCell(int x, int y) {
+    return board[y][x];
+  }
+
+  /**
+   * 보드 배열을 dst에 복사해 반환합니다 (화면 표시/전송용 읽기 전용 사본)
+   *
+   * @param dst 재사용할 배열 (null이거나 크기가 다르면 새로 만듦)
+   * @return 보드 사본
+   */
+  public int[][] copyBoard(int[][] dst) {
+    if (dst == null || dst.length != height || dst[0].length != width) {
+      dst = new int[height][width];
+    }
+    for (int y = 0; y < height; y++) {
+      System.arraycopy(board[y], 0, dst[y], 0, width);
+    }
+    return dst;
+  }
+
+  /**
+   * (x, y) 칸의 값을 바꾸고 비트마스크/통계/버전을 함께 갱신합니다
+   *
+   * @param value 0: 빈 칸, 1: 고정된 블록, 2: 움직이는 블록
+   */
+  public void setCell(int x, int y, int value) {
+    BitBoard bits = bits();
+    boolean wasFixed = board[y][x] == 1;
+    board[y][x] = value;
+    if (wasFixed != (value == 1)) {
+      if (value == 1) {
+        bits.set(x, y);
+        stats.addCell(x, y);
+      } else {
+        bits.unset(x, y);
+        stats.removeCell(x, y);
+      }
+      boardVersion++;
+    }
+  }
+
+  /**
+   * y번째 줄 전체를 value로 채웁니다 ({@link #setCell(int, int, int)}과 같이 동기화)
+   */
+  public void fillRow(int y, int value) {
+    for (int x = 0; x < width; x++) {
+      setCell(x, y, value);
+    }
+  }
+
+  /**
+   * 고정된 블록의 비트마스크 보드를 반환합니다 (읽기 전용으로 사용)
+   */
+  public BitBoard getBitBoard() {
+    return bits();
+  }
+
+  /**
+   * 고정된 블록의 열 높이/줄 채움 수/구멍 수 통계를 반환합니다 (읽기 전용으로 사용)
+   */
+  public BoardStats getBoardStats() {
+    bits();
+    return stats;
+  }
+
+  /**
+   * 외부 수정 가능성이 있으면 int[][] 보드로부터 비트마스크와 통계를 다시 만든 뒤 반환합니다
+   */
+  private BitBoard bits() {
+    if (bitBoardStale) {
+      if (bitBoard.loadFrom(board)) {
+        stats.loadFrom(bitBoard);
+        boardVersion++;
+      }
+      bitBoardStale = false;
+    }
+    return bitBoard;
+  }
+
+  /**
+   * 고정된 블록 상태의 버전을 반환합니다.
+   * 고정/줄 삭제/폭발/공격 줄 추가/초기화 등으로 고정된 칸이 바뀌면 값이 달라집니다.
+   */
+  public int getBoardVersion() {
+    bits();
+    return boardVersion;
+  }
+
   /**
    * 보드 색상 배열을 반환합니다
    * 
@@ -68,7 +204,7 @@ public class BoardManager {
    * @return 테두리 포함 너비
    */
   public int getTotalWidth() {
-    return WIDTH + 2; // 좌우 테두리 포함
+    return width + 2; // 좌우 테두리 포함
   }
 
   /**
@@ -95,10 +231,16 @@ public class BoardManager {
    * 블록을 보드에 배치합니다 (움직이는 블록)
    */
   public void placeBlock(Block block, int x, int y) {
+    BitBoard bits = bits();
     for (int j = 0; j < block.height(); j++) {
       for (int i = 0; i < block.width(); i++) {
-        if (y + j >= 0 && y + j < HEIGHT && x + i >= 0 && x + i < WIDTH) {
+        if (y + j >= 0 && y + j < height && x + i >= 0 && x + i < width) {
           if (block.getShape(i, j) == 1) {
+            if (board[y + j][x + i] == 1) {
+              bits.unset(x + i, y + j); // 고정 블록을 덮어쓰면 마스크에서도 제거
+              stats.removeCell(x + i, y + j);
+              boardVersion++;
+            }
             board[y + j][x + i] = 2; // 움직이는 블록은 값 2
             boardColors[y + j][x + i] = block.getColor();
           }
@@ -114,7 +256,7 @@ public class BoardManager {
     for (int i = x; i < x + block.width(); i++) {
       for (int j = y; j < y + block.height(); j++) {
         if (block.getShape(i - x, j - y) == 1) {
-          if (j >= 0 && j < HEIGHT && i >= 0 && i < WIDTH) {
+          if (j >= 0 && j < height && i >= 0 && i < width) {
             if (board[j][i] == 2) { // 움직이는 블록만 제거
               board[j][i] = 0;
               boardColors[j][i] = null;
@@ -135,67 +277,62 @@ public class BoardManager {
    * @return 줄삭제 아이템으로 지워진 블럭 수 (점수 계산에 사용)
    */
   public int fixBlock(Block block, int x, int y, java.util.List<se.tetris.team5.items.Item> removedItems) {
-    // 고정되는 블럭의 위치 저장 (대전모드 공격 블럭 계산용)
-    lastFixedBlockPositions.clear();
-    for (int i = 0; i < block.width(); i++) {
-      for (int j = 0; j < block.height(); j++) {
-        if (block.getShape(i, j) == 1) {
-          int boardX = x + i;
-          int boardY = y + j;
-          if (boardX >= 0 && boardX < WIDTH && boardY >= 0 && boardY < HEIGHT) {
-            lastFixedBlockPositions.add(boardX + "," + boardY);
-          }
-        }
+    BitBoard bits = bits();
+    boardVersion++;
+    // 고정되는 블럭의 위치 저장 (대전모드 공격 블럭 계산용, 줄별 비트마스크)
+    java.util.Arrays.fill(lastFixedRowMasks, 0L);
+    for (int j = 0; j < block.height(); j++) {
+      int boardY = y + j;
+      if (boardY >= 0 && boardY < height) {
+        lastFixedRowMasks[boardY] = shiftRowMask(block.getRowMask(j), x);
       }
     }
     
     // 무게추 블록 특수 처리: WBlock인 경우, 해당 블록이 차지하는 열들의 고정 블록들을 모두 제거
     // 그리고 블록을 가장 아래에 고정시킨다.
     if (block instanceof se.tetris.team5.blocks.WBlock) {
-      // 대상 열 집합 수집
-      java.util.Set<Integer> colsToClear = new java.util.HashSet<>();
-      for (int i = 0; i < block.width(); i++) {
-        for (int j = 0; j < block.height(); j++) {
-          if (block.getShape(i, j) == 1) {
-            int col = x + i;
-            if (col >= 0 && col < WIDTH) {
-              colsToClear.add(col);
-            }
-          }
-        }
+      // 대상 열 집합 수집 (열 비트마스크)
+      long colsToClear = 0L;
+      for (int j = 0; j < block.height(); j++) {
+        colsToClear |= shiftRowMask(block.getRowMask(j), x);
       }
 
       // 각 열에 대해 바닥(아래)부터 위로 모든 고정 블록 및 아이템 제거
-      for (int col : colsToClear) {
-        for (int row = HEIGHT - 1; row >= 0; row--) {
+      for (long cols = colsToClear; cols != 0L; cols &= cols - 1) {
+        int col = Long.numberOfTrailingZeros(cols);
+        for (int row = height - 1; row >= 0; row--) {
           board[row][col] = 0;
           boardColors[row][col] = null;
           boardItems[row][col] = null;
         }
+        bits.clearColumn(col);
       }
 
       // 블록을 가장 아래에 고정
-      int baseY = HEIGHT - block.height();
+      int baseY = height - block.height();
       for (int i = 0; i < block.width(); i++) {
         for (int j = 0; j < block.height(); j++) {
           if (block.getShape(i, j) == 1) {
             int boardX = x + i;
             int boardY = baseY + j;
-            if (boardY >= 0 && boardY < HEIGHT && boardX >= 0 && boardX < WIDTH) {
+            if (boardY >= 0 && boardY < height && boardX >= 0 && boardX < width) {
               board[boardY][boardX] = 1;
               boardColors[boardY][boardX] = block.getColor();
               boardItems[boardY][boardX] = block.getItem(i, j);
+              bits.set(boardX, boardY);
             }
           }
         }
       }
+      // 열 전체가 바뀌므로 통계는 비트마스크로부터 다시 계산
+      stats.loadFrom(bits);
 
       return 0; // 특수 처리 후 종료 (줄삭제 아이템 없음)
     }
 
     if (block instanceof se.tetris.team5.blocks.DotBlock) {
       // 폭탄 블록(DotBlock) 특수 처리: 블록의 각 칸 위치를 중심으로 3x3 범위 폭발
-      System.out.println("[폭탄 블록] DotBlock 고정 - 폭발 시작!");
+      Log.debug("[폭탄 블록] DotBlock 고정 - 폭발 시작!");
 
       // 먼저 폭탄 블록 자체를 보드에서 제거 (움직이는 블록 상태 제거)
       for (int i = 0; i < block.width(); i++) {
@@ -203,7 +340,7 @@ public class BoardManager {
           if (block.getShape(i, j) == 1) {
             int boardX = x + i;
             int boardY = y + j;
-            if (boardX >= 0 && boardX < WIDTH && boardY >= 0 && boardY < HEIGHT) {
+            if (boardX >= 0 && boardX < width && boardY >= 0 && boardY < height) {
               if (board[boardY][boardX] == 2) { // 움직이는 블록(값 2) 제거
                 board[boardY][boardX] = 0;
                 boardColors[boardY][boardX] = null;
@@ -228,62 +365,73 @@ public class BoardManager {
         }
       }
 
-      System.out.println("[폭탄 블록] 폭발 완료! 총 " + totalExplodedBlocks + "개 블록 제거됨");
+      if (Log.isDebugEnabled()) {
+        Log.debug("[폭탄 블록] 폭발 완료! 총 " + totalExplodedBlocks + "개 블록 제거됨");
+      }
       return totalExplodedBlocks; // 폭발로 제거된 블럭 수 반환
     }
 
     // 기본 고정 처리 (기존 동작)
-    java.util.Set<Integer> lineClearRows = new java.util.HashSet<>();
+    // 줄삭제 아이템이 있는 줄 (비트 j = y + j번째 줄)
+    int lineClearRows = 0;
     for (int i = 0; i < block.width(); i++) {
       for (int j = 0; j < block.height(); j++) {
-        if (block.getShape(i, j) == 1 && y + j >= 0 && y + j < HEIGHT && x + i >= 0 && x + i < WIDTH) {
+        if (block.getShape(i, j) == 1 && y + j >= 0 && y + j < height && x + i >= 0 && x + i < width) {
+          if (board[y + j][x + i] != 1) {
+            stats.addCell(x + i, y + j);
+          }
           board[y + j][x + i] = 1; // 고정된 블록은 값 1
+          bits.set(x + i, y + j);
           boardColors[y + j][x + i] = block.getColor();
           se.tetris.team5.items.Item item = block.getItem(i, j);
           boardItems[y + j][x + i] = item;
           // 줄삭제 아이템이 있으면 해당 줄을 기록
           if (item instanceof se.tetris.team5.items.LineClearItem) {
-            lineClearRows.add(y + j);
+            lineClearRows |= 1 << j;
           }
         }
       }
     }
     // 줄삭제 아이템이 있는 줄을 즉시 삭제 (가득 차지 않아도)
     int removedBlockCount = 0; // 줄삭제로 지워진 블럭 수
-    if (!lineClearRows.isEmpty()) {
-      // 내림차순 정렬(아래줄부터 삭제해야 인덱스 꼬임 방지)
-      java.util.List<Integer> sortedRows = new java.util.ArrayList<>(lineClearRows);
-      sortedRows.sort(java.util.Collections.reverseOrder());
-      for (int row : sortedRows) {
-        // 줄에서 지워질 블럭 수 카운트 (고정된 블럭만)
-        for (int col = 0; col < WIDTH; col++) {
-          if (board[row][col] == 1) {
-            removedBlockCount++;
-          }
+    if (lineClearRows != 0) {
+      // 내림차순(아래줄부터 삭제해야 인덱스 꼬임 방지)
+      for (int j = block.height() - 1; j >= 0; j--) {
+        if ((lineClearRows & (1 << j)) == 0) {
+          continue;
         }
+        int row = y + j;
+        // 줄에서 지워질 블럭 수 카운트 (고정된 블럭만)
+        removedBlockCount += Long.bitCount(bits.getRow(row));
         // 수집: 삭제되는 줄의 아이템들을 removedItems에 추가
         if (removedItems != null) {
-          for (int col = 0; col < WIDTH; col++) {
+          for (int col = 0; col < width; col++) {
             se.tetris.team5.items.Item removed = boardItems[row][col];
             if (removed != null)
               removedItems.add(removed);
           }
         }
-        // 줄 삭제: 위의 줄을 한 칸씩 내림
+        // 줄 삭제: 위의 줄을 한 칸씩 내림 (줄 배열 참조만 이동하고, 지운 줄 배열은 맨 위에서 재사용)
+        int[] removedRow = board[row];
+        Color[] removedColorRow = boardColors[row];
+        se.tetris.team5.items.Item[] removedItemRow = boardItems[row];
         for (int moveRow = row; moveRow > 0; moveRow--) {
-          for (int col = 0; col < WIDTH; col++) {
-            board[moveRow][col] = board[moveRow - 1][col];
-            boardColors[moveRow][col] = boardColors[moveRow - 1][col];
-            boardItems[moveRow][col] = boardItems[moveRow - 1][col];
-          }
+          board[moveRow] = board[moveRow - 1];
+          boardColors[moveRow] = boardColors[moveRow - 1];
+          boardItems[moveRow] = boardItems[moveRow - 1];
+          bits.copyRow(moveRow - 1, moveRow);
         }
         // 맨 위 줄은 빈 줄로 만듦
-        for (int col = 0; col < WIDTH; col++) {
-          board[0][col] = 0;
-          boardColors[0][col] = null;
-          boardItems[0][col] = null;
-        }
+        java.util.Arrays.fill(removedRow, 0);
+        java.util.Arrays.fill(removedColorRow, null);
+        java.util.Arrays.fill(removedItemRow, null);
+        board[0] = removedRow;
+        boardColors[0] = removedColorRow;
+        boardItems[0] = removedItemRow;
+        bits.setRow(0, 0L);
       }
+      // 가득 차지 않은 줄도 지워지므로 통계는 비트마스크로부터 다시 계산 (아이템 사용 시에만)
+      stats.loadFrom(bits);
     }
     return removedBlockCount; // 줄삭제 아이템으로 지워진 블럭 수 반환
   }
@@ -300,32 +448,16 @@ public class BoardManager {
    */
   public boolean canMove(int newX, int newY, Block block) {
     // 경계 검사
-    if (newX < 0 || newX + block.width() > WIDTH || newY + block.height() > HEIGHT) {
+    if (newX < 0 || newX + block.width() > width || newY + block.height() > height) {
       return false;
     }
 
-    // 상단 경계는 허용 (블록이 위에서 시작할 수 있도록)
-    if (newY < 0) {
-      for (int i = 0; i < block.width(); i++) {
-        for (int j = 0; j < block.height(); j++) {
-          if (block.getShape(i, j) == 1 && newY + j >= 0) {
-            if (board[newY + j][newX + i] == 1) {
-              return false;
-            }
-          }
-        }
-      }
-      return true;
-    }
-
-    // 고정된 블록과의 충돌 검사
-    for (int i = 0; i < block.width(); i++) {
-      for (int j = 0; j < block.height(); j++) {
-        if (block.getShape(i, j) == 1) {
-          if (board[newY + j][newX + i] == 1) {
-            return false; // 이미 고정된 블록이 있음
-          }
-        }
+    // 고정된 블록과의 충돌 검사 (줄 단위 마스크 AND)
+    // 상단 경계(newY + j < 0)는 허용 (블록이 위에서 시작할 수 있도록)
+    BitBoard bits = bits();
+    for (int j = 0; j < block.height(); j++) {
+      if (bits.collides(block.getRowMask(j), newX, newY + j)) {
+        return false; // 이미 고정된 블록이 있음
       }
     }
     return true;
@@ -333,14 +465,28 @@ public class BoardManager {
 
   // 마지막으로 삭제된 줄에 타임스톱 아이템이 있었는지 여부
   private boolean timeStopItemCleared = false;
-  // last cleared rows from the most recent clear operation (0..HEIGHT-1)
-  private java.util.List<Integer> lastClearedRows = new java.util.ArrayList<>();
-  // 마지막으로 고정된 블럭의 위치들 (대전모드 공격 블럭 계산용)
-  private java.util.Set<String> lastFixedBlockPositions = new java.util.HashSet<>();
-  // 마지막 줄 삭제로 생성된 공격 블럭 데이터 (대전모드용)
-  private java.util.List<Color[]> lastAttackBlocksData = new java.util.ArrayList<>();
-  // 폭탄 폭발로 사라진 셀 좌표 (애니메이션용)
-  private java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> lastBombExplosionCells = new java.util.ArrayList<>();
+  // last cleared rows from the most recent clear operation (0..height-1), ascending.
+  // 고정 크기 버퍼를 재사용하므로 줄 삭제 시 새 객체를 만들지 않습니다.
+  private final int[] lastClearedRows;
+  private int lastClearedRowCount = 0;
+  // 마지막으로 고정된 블럭의 위치들 (대전모드 공격 블럭 계산용, 줄별 비트마스크)
+  private final long[] lastFixedRowMasks;
+  // 마지막 줄 삭제로 생성된 공격 블럭 데이터 (대전모드용, 재사용 버퍼)
+  // 가져갈 때(getAttackBlocksData)만 복사본을 만듭니다.
+  private final Color[][] lastAttackBlocksData;
+  private int lastAttackRowCount = 0;
+  // 폭탄 폭발로 사라진 셀 좌표 (애니메이션용, y * width + x로 압축한 값)
+  // 가져가기 전까지 누적되며, 보드 칸 수를 넘는 경우에만 버퍼를 늘립니다.
+  private int[] lastBombExplosionCells;
+  private int lastBombExplosionCellCount = 0;
+
+  /**
+   * 블록 한 줄의 마스크(0번 열 기준)를 보드 x 위치로 옮기고 보드 밖 열은 잘라냅니다
+   */
+  private long shiftRowMask(long rowMask, int x) {
+    long shifted = x >= 0 ? rowMask << x : rowMask >>> -x;
+    return shifted & bitBoard.getFullRowMask();
+  }
 
   /**
    * 마지막 줄 삭제 시 타임스톱 아이템이 있었는지 반환하고 플래그 초기화
@@ -356,11 +502,22 @@ public class BoardManager {
    * 한 번 호출하면 리스트가 비워지므로, 다시 호출하면 빈 리스트가 반환됩니다.
    */
   public java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> getLastBombExplosionCells() {
-    java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> result = new java.util.ArrayList<>(lastBombExplosionCells);
-    lastBombExplosionCells.clear();
+    java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> result = new java.util.ArrayList<>(lastBombExplosionCellCount);
+    for (int i = 0; i < lastBombExplosionCellCount; i++) {
+      int cell = lastBombExplosionCells[i];
+      result.add(new se.tetris.team5.components.game.GameBoard.CellPos(cell / width, cell % width));
+    }
+    lastBombExplosionCellCount = 0;
     return result;
   }
 
+  /**
+   * 아직 가져가지 않은 폭탄 폭발 셀이 있는지 확인합니다 (리스트를 만들지 않음)
+   */
+  public boolean hasBombExplosionCells() {
+    return lastBombExplosionCellCount > 0;
+  }
+
   /**
    * 가득 찬 줄을 제거하고 위의 줄들을 아래로 내립니다
    * 
@@ -375,85 +532,118 @@ public class BoardManager {
   public int clearLines(java.util.List<se.tetris.team5.items.Item> removedItems) {
     // reset state
     timeStopItemCleared = false;
-    lastClearedRows.clear();
-    lastAttackBlocksData.clear();
-
-    // collect full rows (fixed blocks only)
-    for (int row = 0; row < HEIGHT; row++) {
-      boolean fullLine = true;
-      for (int col = 0; col < WIDTH; col++) {
-        if (board[row][col] != 1) { fullLine = false; break; }
-      }
-      if (fullLine) {
-        lastClearedRows.add(row);
+    lastClearedRowCount = 0;
+    lastAttackRowCount = 0;
+    BitBoard bits = bits();
+
+    // collect full rows (fixed blocks only, 줄별 채움 카운터 비교)
+    for (int row = 0; row < height; row++) {
+      if (stats.isRowFull(row)) {
+        lastClearedRows[lastClearedRowCount++] = row;
         // collect removed items on that row
         if (removedItems != null) {
-          for (int col = 0; col < WIDTH; col++) {
+          for (int col = 0; col < width; col++) {
             se.tetris.team5.items.Item removed = boardItems[row][col];
             if (removed != null) removedItems.add(removed);
           }
         }
         // detect time-stop
-        for (int col = 0; col < WIDTH; col++) {
+        for (int col = 0; col < width; col++) {
           if (boardItems[row][col] instanceof se.tetris.team5.items.TimeStopItem) {
             timeStopItemCleared = true;
-            System.out.println("[타임스톱 아이템 발견] 줄 삭제로 타임스톱 충전!");
+            Log.debug("[타임스톱 아이템 발견] 줄 삭제로 타임스톱 충전!");
           }
         }
       }
     }
 
-    if (lastClearedRows.isEmpty()) return 0;
+    if (lastClearedRowCount == 0) return 0;
+    boardVersion++;
 
     // 대전모드: 2줄 이상 삭제 시 공격 블럭 데이터 계산
-    if (lastClearedRows.size() >= 2) {
+    if (lastClearedRowCount >= 2) {
       calculateAttackBlocks();
     }
 
-    // remove cleared rows by compressing into new arrays (bottom-up)
-    java.util.Set<Integer> clearedSet = new java.util.HashSet<>(lastClearedRows);
-    int[][] newBoard = new int[HEIGHT][WIDTH];
-    Color[][] newBoardColors = new Color[HEIGHT][WIDTH];
-    se.tetris.team5.items.Item[][] newBoardItems = new se.tetris.team5.items.Item[HEIGHT][WIDTH];
-
-    int writeRow = HEIGHT - 1;
-    for (int readRow = HEIGHT - 1; readRow >= 0; readRow--) {
-      if (clearedSet.contains(readRow)) continue;
-      for (int col = 0; col < WIDTH; col++) {
-        newBoard[writeRow][col] = board[readRow][col];
-        newBoardColors[writeRow][col] = boardColors[readRow][col];
-        newBoardItems[writeRow][col] = boardItems[readRow][col];
+    // remove cleared rows by compacting in place (bottom-up). Row arrays are moved by
+    // reference and the cleared row arrays are recycled as the new empty top rows.
+    int spareCount = 0;
+    int clearedIndex = lastClearedRowCount - 1; // lastClearedRows is ascending
+    int writeRow = height - 1;
+    for (int readRow = height - 1; readRow >= 0; readRow--) {
+      if (clearedIndex >= 0 && lastClearedRows[clearedIndex] == readRow) {
+        spareRows[spareCount] = board[readRow];
+        spareColorRows[spareCount] = boardColors[readRow];
+        spareItemRows[spareCount] = boardItems[readRow];
+        spareCount++;
+        clearedIndex--;
+        continue;
+      }
+      if (writeRow != readRow) {
+        board[writeRow] = board[readRow];
+        boardColors[writeRow] = boardColors[readRow];
+        boardItems[writeRow] = boardItems[readRow];
+        bits.copyRow(readRow, writeRow);
       }
       writeRow--;
     }
 
-    // fill remaining top rows with empty
+    // fill remaining top rows with empty (recycled) rows
     for (int r = writeRow; r >= 0; r--) {
-      for (int c = 0; c < WIDTH; c++) {
-        newBoard[r][c] = 0;
-        newBoardColors[r][c] = null;
-        newBoardItems[r][c] = null;
-      }
+      int[] row = spareRows[--spareCount];
+      Color[] colorRow = spareColorRows[spareCount];
+      se.tetris.team5.items.Item[] itemRow = spareItemRows[spareCount];
+      java.util.Arrays.fill(row, 0);
+      java.util.Arrays.fill(colorRow, null);
+      java.util.Arrays.fill(itemRow, null);
+      board[r] = row;
+      boardColors[r] = colorRow;
+      boardItems[r] = itemRow;
+      bits.setRow(r, 0L);
+      spareRows[spareCount] = null;
+      spareColorRows[spareCount] = null;
+      spareItemRows[spareCount] = null;
     }
+    stats.removeRows(lastClearedRows, lastClearedRowCount);
 
-    // replace original boards
-    this.board = newBoard;
-    this.boardColors = newBoardColors;
-    this.boardItems = newBoardItems;
-
-    // Sort and log cleared rows for UI
-    java.util.Collections.sort(lastClearedRows);
-    System.out.println("[BoardManager DEBUG] clearedRows=" + lastClearedRows);
-
-    return lastClearedRows.size();
+    return lastClearedRowCount;
   }
 
   /**
-   * Return the last cleared rows (0..HEIGHT-1) from the most recent clearLines call.
+   * Return the last cleared rows (0..height-1) from the most recent clearLines call.
    * The returned list is a copy to avoid external mutation.
    */
   public java.util.List<Integer> getLastClearedRows() {
-    return new java.util.ArrayList<>(lastClearedRows);
+    java.util.List<Integer> result = new java.util.ArrayList<>(lastClearedRowCount);
+    copyLastClearedRowsTo(result);
+    return result;
+  }
+
+  /**
+   * 마지막으로 삭제된 줄 수 (리스트를 만들지 않고 조회)
+   */
+  public int getLastClearedRowCount() {
+    return lastClearedRowCount;
+  }
+
+  /**
+   * 마지막으로 삭제된 줄 중 i번째 줄의 인덱스 (오름차순)
+   */
+  public int getLastClearedRow(int i) {
+    if (i < 0 || i >= lastClearedRowCount) {
+      throw new IndexOutOfBoundsException("삭제된 줄 인덱스 범위를 벗어났습니다: " + i);
+    }
+    return lastClearedRows[i];
+  }
+
+  /**
+   * 마지막으로 삭제된 줄들을 주어진 리스트 뒤에 추가합니다.
+   * 줄 번호는 Integer 캐시 범위 안이므로 재사용하는 리스트에 담으면 새 객체가 생기지 않습니다.
+   */
+  public void copyLastClearedRowsTo(java.util.List<Integer> out) {
+    for (int i = 0; i < lastClearedRowCount; i++) {
+      out.add(lastClearedRows[i]);
+    }
   }
 
   /**
@@ -461,18 +651,18 @@ public class BoardManager {
    * 2줄 이상 삭제 시에만 호출됩니다.
    */
   private void calculateAttackBlocks() {
-    for (int row : lastClearedRows) {
-      Color[] rowColors = new Color[WIDTH];
-      for (int col = 0; col < WIDTH; col++) {
-        String posKey = col + "," + row;
+    for (int i = 0; i < lastClearedRowCount; i++) {
+      int row = lastClearedRows[i];
+      long fixedMask = lastFixedRowMasks[row];
+      Color[] rowColors = lastAttackBlocksData[lastAttackRowCount++];
+      for (int col = 0; col < width; col++) {
         // 방금 고정된 블럭의 위치가 아닌 경우만 공격 블럭으로 카운트
-        if (!lastFixedBlockPositions.contains(posKey) && board[row][col] == 1) {
+        if ((fixedMask & (1L << col)) == 0 && board[row][col] == 1) {
           rowColors[col] = boardColors[row][col];
         } else {
           rowColors[col] = null; // 고정된 블럭이거나 빈 칸
         }
       }
-      lastAttackBlocksData.add(rowColors);
     }
   }
 
@@ -483,7 +673,11 @@ public class BoardManager {
    * @return 공격 블럭 데이터 리스트 (각 요소는 한 줄의 블럭 색상 배열)
    */
   public java.util.List<Color[]> getAttackBlocksData() {
-    return new java.util.ArrayList<>(lastAttackBlocksData);
+    java.util.List<Color[]> result = new java.util.ArrayList<>(lastAttackRowCount);
+    for (int i = 0; i < lastAttackRowCount; i++) {
+      result.add(lastAttackBlocksData[i].clone());
+    }
+    return result;
   }
 
   /**
@@ -499,25 +693,31 @@ public class BoardManager {
     }
 
     int numRowsToAdd = attackRows.size();
+    BitBoard bits = bits();
+    boardVersion++;
     
     // 기존 블럭들을 위로 밀어올림
-    for (int row = 0; row < HEIGHT - numRowsToAdd; row++) {
-      for (int col = 0; col < WIDTH; col++) {
+    for (int row = 0; row < height - numRowsToAdd; row++) {
+      for (int col = 0; col < width; col++) {
         board[row][col] = board[row + numRowsToAdd][col];
         boardColors[row][col] = boardColors[row + numRowsToAdd][col];
         boardItems[row][col] = boardItems[row + numRowsToAdd][col];
       }
     }
+    bits.shiftUp(numRowsToAdd);
+    stats.shiftUp(numRowsToAdd);
     
     // 맨 밑에 공격 블럭 추가 (회색으로)
     Color attackColor = new Color(85, 85, 85); // 무게추 블럭과 동일한 색상
     for (int i = 0; i < numRowsToAdd; i++) {
-      int rowIndex = HEIGHT - numRowsToAdd + i;
+      int rowIndex = height - numRowsToAdd + i;
       Color[] rowData = attackRows.get(i);
       
-      for (int col = 0; col < WIDTH; col++) {
+      for (int col = 0; col < width; col++) {
         if (rowData[col] != null) {
           board[rowIndex][col] = 1; // 고정된 블럭
+          bits.set(col, rowIndex);
+          stats.addCell(col, rowIndex);
           boardColors[rowIndex][col] = attackColor;
           boardItems[rowIndex][col] = null; // 아이템 없음
         } else {
@@ -529,16 +729,10 @@ public class BoardManager {
     }
     
     // 맨 위 줄에 블럭이 있으면 게임 오버 위험 (하지만 즉시 게임 오버는 아님)
-    boolean topRowHasBlock = false;
-    for (int col = 0; col < WIDTH; col++) {
-      if (board[0][col] == 1) {
-        topRowHasBlock = true;
-        break;
-      }
-    }
+    boolean topRowHasBlock = stats.getRowFillCount(0) > 0;
     
     if (topRowHasBlock) {
-      System.out.println("[경고] 공격 블럭 추가로 인해 맨 위까지 블럭이 쌓임");
+      Log.warn("[경고] 공격 블럭 추가로 인해 맨 위까지 블럭이 쌓임");
     }
     
     return true;
@@ -554,6 +748,7 @@ public class BoardManager {
    */
   public int explodeArea(int centerX, int centerY) {
     int explodedCells = 0;
+    BitBoard bits = bits();
 
     // 3x3 범위 계산 (중심 기준 -1 ~ +1)
     for (int dy = -1; dy <= 1; dy++) {
@@ -562,36 +757,75 @@ public class BoardManager {
         int targetY = centerY + dy;
 
         // 범위 체크
-        if (targetX >= 0 && targetX < WIDTH && targetY >= 0 && targetY < HEIGHT) {
+        if (targetX >= 0 && targetX < width && targetY >= 0 && targetY < height) {
           if (board[targetY][targetX] == 1) { // 고정된 블록만 제거
             board[targetY][targetX] = 0;
+            bits.unset(targetX, targetY);
+            stats.removeCell(targetX, targetY);
             boardColors[targetY][targetX] = null;
             boardItems[targetY][targetX] = null;
             explodedCells++;
+            boardVersion++;
             
             // 폭발한 셀 좌표 기록 (애니메이션용)
-            lastBombExplosionCells.add(new se.tetris.team5.components.game.GameBoard.CellPos(targetY, targetX));
+            if (lastBombExplosionCellCount == lastBombExplosionCells.length) {
+              lastBombExplosionCells = java.util.Arrays.copyOf(lastBombExplosionCells, lastBombExplosionCellCount * 2);
+            }
+            lastBombExplosionCells[lastBombExplosionCellCount++] = targetY * width + targetX;
           }
         }
       }
     }
 
-    System.out.println("[폭발] (" + centerX + "," + centerY + ") 중심 3x3 범위, " + explodedCells + "개 블록 제거");
+    if (Log.isDebugEnabled()) {
+      Log.debug("[폭발] (" + centerX + "," + centerY + ") 중심 3x3 범위, " + explodedCells + "개 블록 제거");
+    }
     return explodedCells;
   }
 
+  /**
+   * (x, y)에 있는 블록을 그대로 떨어뜨렸을 때 멈추는 y 위치를 반환합니다 (고스트/하드 드롭용).
+   * 블록의 각 열이 끊김 없이 이어져 있으면 열 점유 마스크로 열마다 바로 아래 장애물을 찾아 한 번에 계산하고,
+   * 그렇지 않거나 시작 위치가 유효하지 않으면 한 칸씩 내려 보는 방식으로 계산합니다.
+   */
+  public int getDropPosition(Block block, int x, int y) {
+    BoardStats boardStats = getBoardStats();
+    se.tetris.team5.blocks.RotationTable.Orientation o = block.getOrientation();
+    if (o.hasContiguousColumns() && x >= 0 && x + o.width() <= width && canMove(x, y, block)) {
+      int drop = height - y - o.height(); // 바닥까지의 거리
+      for (int i = 0; i < o.width() && drop > 0; i++) {
+        int bottom = o.getColumnBottom(i);
+        if (bottom < 0) {
+          continue;
+        }
+        // 열 마스크에서 블록 바닥 칸보다 아래에 있는 가장 높은 칸 (비트 i = 바닥에서 i번째 칸)
+        int bottomBit = height - 1 - (y + bottom);
+        int obstacleBit = boardStats.getHighestCellBelow(x + i, bottomBit);
+        if (obstacleBit >= 0) {
+          drop = Math.min(drop, bottomBit - obstacleBit - 1);
+        }
+      }
+      return y + drop;
+    }
+    int newY = y;
+    while (canMove(x, newY + 1, block)) {
+      newY++;
+    }
+    return newY;
+  }
+
   /**
    * 보드의 높이를 반환합니다
    */
   public int getHeight() {
-    return HEIGHT;
+    return height;
   }
 
   /**
    * 보드의 너비를 반환합니다
    */
   public int getWidth() {
-    return WIDTH;
+    return width;
   }
 
   /**
@@ -601,15 +835,28 @@ public class BoardManager {
    * @return 가장 높은 블록이 있는 줄 수 (1-based, 바닥부터 센 높이)
    */
   public int getHighestBlockRow() {
-    for (int y = 0; y < HEIGHT; y++) {
-      for (int x = 0; x < WIDTH; x++) {
-        if (board[y][x] == 1) {
-          // y=0이 맨 위, y=19가 맨 아래
-          // 바닥부터 센 높이는 (HEIGHT - y)
-          return HEIGHT - y;
-        }
-      }
-    }
-    return 0; // 블록이 없으면 0
+    // 증분으로 유지되는 열 높이 중 최댓값 (블록이 없으면 0)
+    return getBoardStats().getMaxHeight();
+  }
+
+  /**
+   * x번째 열의 높이를 반환합니다 (바닥부터 센 높이, 빈 열은 0)
+   */
+  public int getColumnHeight(int x) {
+    return getBoardStats().getColumnHeight(x);
+  }
+
+  /**
+   * y번째 줄의 고정된 블록 수를 반환합니다
+   */
+  public int getRowFillCount(int y) {
+    return getBoardStats().getRowFillCount(y);
+  }
+
+  /**
+   * 보드의 구멍 수를 반환합니다 (각 열에서 가장 위 블록 아래에 있는 빈 칸 수의 합)
+   */
+  public int getHoleCount() {
+    return getBoardStats().getHoleCount();
   }
 }
\ No newline at end of file
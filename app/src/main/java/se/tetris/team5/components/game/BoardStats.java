@@ -0,0 +1,358 @@
+package se.tetris.team5.components.game;
+
+/**
+ * 고정된 블록에 대한 보드 통계를 증분으로 유지하는 클래스
+ *
+ * 열별 점유 마스크와 줄별 채워진 칸 수, 구멍 수를 칸 하나가 추가되거나 제거될 때마다 갱신하므로
+ * 열 높이/채움 수/구멍 수 조회는 모두 O(1)입니다. 구멍은 각 열에서 가장 위 블록보다 아래에 있는 빈 칸이며,
+ * 열 하나의 구멍 수는 (열 높이 - 열의 채워진 칸 수)와 같습니다.
+ *
+ * 열 마스크는 열마다 (height + 63) / 64개의 long 워드로 이루어지므로 보드 높이에 제한이 없습니다.
+ * 기본 크기(20줄)처럼 64줄 이하인 보드는 열마다 워드 하나만 사용합니다.
+ */
+public class BoardStats {
+  private final int height;
+  private final int width;
+  // 열 하나의 마스크를 이루는 워드 수
+  private final int words;
+  // 열별 점유 마스크 (x번째 열은 x * words부터 words개, 비트 i = 바닥에서 i번째 칸, 즉 y = height - 1 - i)
+  private final long[] columnMasks;
+  private final int[] rowFills;
+  private int holeCount;
+  private int maxHeight;
+
+  /**
+   * BoardStats 생성자 (빈 보드)
+   *
+   * @param height 보드 높이
+   * @param width  보드 너비
+   */
+  public BoardStats(int height, int width) {
+    if (height <= 0 || width <= 0) {
+      throw new IllegalArgumentException("지원하지 않는 보드 크기입니다: " + height + "x" + width);
+    }
+    this.height = height;
+    this.width = width;
+    this.words = (height + Long.SIZE - 1) / Long.SIZE;
+    this.columnMasks = new long[width * words];
+    this.rowFills = new int[height];
+  }
+
+  /**
+   * 복사 생성자 (AI 시뮬레이션에서 보드 사본과 함께 사용)
+   */
+  public BoardStats(BoardStats other) {
+    this(other.height, other.width);
+    copyFrom(other);
+  }
+
+  /**
+   * 다른 통계의 값을 그대로 복사합니다 (크기가 같아야 함)
+   */
+  public void copyFrom(BoardStats other) {
+    System.arraycopy(other.columnMasks, 0, columnMasks, 0, columnMasks.length);
+    System.arraycopy(other.rowFills, 0, rowFills, 0, height);
+    holeCount = other.holeCount;
+    maxHeight = other.maxHeight;
+  }
+
+  /**
+   * 빈 보드 상태로 초기화합니다
+   */
+  public void clear() {
+    java.util.Arrays.fill(columnMasks, 0L);
+    java.util.Arrays.fill(rowFills, 0);
+    holeCount = 0;
+    maxHeight = 0;
+  }
+
+  /**
+   * 비트마스크 보드로부터 모든 통계를 다시 계산합니다 (채워진 칸 수에 비례)
+   */
+  public void loadFrom(BitBoard bits) {
+    clear();
+    for (int y = 0; y < height; y++) {
+      long row = bits.getRow(y);
+      rowFills[y] = Long.bitCount(row);
+      int bit = height - 1 - y;
+      int word = bit >>> 6;
+      long cellBit = 1L << bit;
+      for (long cells = row; cells != 0L; cells &= cells - 1) {
+        columnMasks[Long.numberOfTrailingZeros(cells) * words + word] |= cellBit;
+      }
+    }
+    refreshAggregates();
+  }
+
+  /**
+   * int[][] 보드에서 값이 1인 칸만으로 모든 통계를 다시 계산합니다
+   */
+  public void loadFrom(int[][] board) {
+    clear();
+    for (int y = 0; y < height; y++) {
+      int[] row = board[y];
+      int bit = height - 1 - y;
+      int word = bit >>> 6;
+      long cellBit = 1L << bit;
+      for (int x = 0; x < width; x++) {
+        if (row[x] == 1) {
+          rowFills[y]++;
+          columnMasks[x * words + word] |= cellBit;
+        }
+      }
+    }
+    refreshAggregates();
+  }
+
+  /**
+   * 빈 칸 (x, y)가 채워졌음을 반영합니다
+   */
+  public void addCell(int x, int y) {
+    int oldHeight = getColumnHeight(x);
+    int cellHeight = height - y;
+    rowFills[y]++;
+    columnMasks[x * words + ((cellHeight - 1) >>> 6)] |= 1L << (cellHeight - 1);
+    if (cellHeight > oldHeight) {
+      // 새 꼭대기: 기존 꼭대기와의 사이 빈 칸이 구멍이 됨
+      holeCount += cellHeight - oldHeight - 1;
+      if (cellHeight > maxHeight) {
+        maxHeight = cellHeight;
+      }
+    } else {
+      holeCount--; // 꼭대기 아래 빈 칸(구멍)이 채워짐
+    }
+  }
+
+  /**
+   * 채워져 있던 칸 (x, y)가 비워졌음을 반영합니다
+   */
+  public void removeCell(int x, int y) {
+    int oldHeight = getColumnHeight(x);
+    rowFills[y]--;
+    int bit = height - 1 - y;
+    columnMasks[x * words + (bit >>> 6)] &= ~(1L << bit);
+    if (height - y == oldHeight) {
+      // 꼭대기와 새 꼭대기 사이의 구멍은 더 이상 구멍이 아님
+      int newHeight = getColumnHeight(x);
+      holeCount -= oldHeight - newHeight - 1;
+      if (oldHeight == maxHeight) {
+        refreshMaxHeight();
+      }
+    } else {
+      holeCount++; // 꼭대기 아래 칸이 비면 구멍이 됨
+    }
+  }
+
+  /**
+   * 줄들이 삭제되고 위의 줄들이 내려왔음을 반영합니다.
+   * 열 마스크에서 해당 비트를 빼고 위쪽 비트를 한 칸씩 내리므로 열마다 삭제된 줄 수만큼의 연산만 필요합니다.
+   *
+   * @param rows  삭제된 줄 인덱스 (오름차순)
+   * @param count 삭제된 줄 수
+   */
+  public void removeRows(int[] rows, int count) {
+    if (count == 0) {
+      return;
+    }
+    int clearedIndex = count - 1;
+    int writeRow = height - 1;
+    for (int readRow = height - 1; readRow >= 0; readRow--) {
+      if (clearedIndex >= 0 && rows[clearedIndex] == readRow) {
+        clearedIndex--;
+        continue;
+      }
+      rowFills[writeRow--] = rowFills[readRow];
+    }
+    for (int r = writeRow; r >= 0; r--) {
+      rowFills[r] = 0;
+    }
+    // 위쪽 줄(작은 y = 높은 비트)부터 빼야 아래쪽 비트 번호가 바뀌지 않음
+    for (int x = 0; x < width; x++) {
+      int base = x * words;
+      if (words == 1) {
+        long mask = columnMasks[base];
+        for (int i = 0; i < count && mask != 0L; i++) {
+          int bit = height - 1 - rows[i];
+          long below = mask & ((1L << bit) - 1);
+          mask = below | ((mask >>> bit >>> 1) << bit);
+        }
+        columnMasks[base] = mask;
+        continue;
+      }
+      int columnHeight = getColumnHeight(x);
+      for (int i = 0; i < count; i++) {
+        int bit = height - 1 - rows[i];
+        if (bit < columnHeight) {
+          removeBit(base, bit);
+          columnHeight--;
+        }
+      }
+    }
+    refreshAggregates();
+  }
+
+  /**
+   * 모든 줄이 count만큼 위로 밀려 올라갔음을 반영합니다 (아래쪽에 빈 줄 count개 생성).
+   * 맨 위를 넘어가는 칸은 버려집니다.
+   */
+  public void shiftUp(int count) {
+    if (count <= 0) {
+      return;
+    }
+    if (count >= height) {
+      clear();
+      return;
+    }
+    System.arraycopy(rowFills, count, rowFills, 0, height - count);
+    java.util.Arrays.fill(rowFills, height - count, height, 0);
+    int wordShift = count >>> 6;
+    int bitShift = count & (Long.SIZE - 1);
+    int topBits = height - (words - 1) * Long.SIZE;
+    long keep = topBits == Long.SIZE ? -1L : (1L << topBits) - 1;
+    for (int x = 0; x < width; x++) {
+      int base = x * words;
+      for (int w = words - 1; w >= 0; w--) {
+        int src = w - wordShift;
+        long value = src >= 0 ? columnMasks[base + src] << bitShift : 0L;
+        if (bitShift != 0 && src > 0) {
+          value |= columnMasks[base + src - 1] >>> (Long.SIZE - bitShift);
+        }
+        columnMasks[base + w] = value;
+      }
+      columnMasks[base + words - 1] &= keep;
+    }
+    refreshAggregates();
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * x번째 열의 높이 (바닥부터 센 값, 빈 열은 0)
+   */
+  public int getColumnHeight(int x) {
+    int base = x * words;
+    for (int w = words - 1; w >= 0; w--) {
+      long mask = columnMasks[base + w];
+      if (mask != 0L) {
+        return (w + 1) * Long.SIZE - Long.numberOfLeadingZeros(mask);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * x번째 열에서 바닥부터 bit번째 칸보다 아래에 있는 가장 높은 채워진 칸의 번호 (바닥이 0, 없으면 -1)
+   */
+  public int getHighestCellBelow(int x, int bit) {
+    if (bit <= 0) {
+      return -1;
+    }
+    int base = x * words;
+    int w = Math.min(bit, height) - 1;
+    int word = w >>> 6;
+    // 첫 워드는 bit 아래 비트만 남김
+    long mask = columnMasks[base + word] & (-1L >>> (Long.SIZE - 1 - (w & (Long.SIZE - 1))));
+    while (true) {
+      if (mask != 0L) {
+        return (word + 1) * Long.SIZE - 1 - Long.numberOfLeadingZeros(mask);
+      }
+      if (--word < 0) {
+        return -1;
+      }
+      mask = columnMasks[base + word];
+    }
+  }
+
+  /**
+   * x번째 열의 채워진 칸 수
+   */
+  public int getColumnFillCount(int x) {
+    int base = x * words;
+    int count = 0;
+    for (int w = 0; w < words; w++) {
+      count += Long.bitCount(columnMasks[base + w]);
+    }
+    return count;
+  }
+
+  /**
+   * y번째 줄의 채워진 칸 수
+   */
+  public int getRowFillCount(int y) {
+    return rowFills[y];
+  }
+
+  /**
+   * y번째 줄이 가득 찼는지 확인합니다 (카운터 비교)
+   */
+  public boolean isRowFull(int y) {
+    return rowFills[y] == width;
+  }
+
+  /**
+   * 전체 구멍 수
+   */
+  public int getHoleCount() {
+    return holeCount;
+  }
+
+  /**
+   * 가장 높은 열의 높이 (블록이 없으면 0)
+   */
+  public int getMaxHeight() {
+    return maxHeight;
+  }
+
+  /**
+   * 블록이 있는 가장 위쪽 줄의 인덱스 (y=0이 맨 위, 없으면 -1)
+   */
+  public int getHighestRow() {
+    return maxHeight == 0 ? -1 : height - maxHeight;
+  }
+
+  // 열 마스크로부터 구멍 수와 최대 높이를 다시 계산 (O(너비))
+  private void refreshAggregates() {
+    int holes = 0;
+    int max = 0;
+    for (int x = 0; x < width; x++) {
+      int columnHeight = getColumnHeight(x);
+      holes += columnHeight - getColumnFillCount(x);
+      if (columnHeight > max) {
+        max = columnHeight;
+      }
+    }
+    holeCount = holes;
+    maxHeight = max;
+  }
+
+  // base부터 시작하는 열 마스크에서 bit번째 비트를 빼고 위쪽 비트를 한 칸씩 내림 (여러 워드에 걸친 경우)
+  private void removeBit(int base, int bit) {
+    int word = bit >>> 6;
+    int offset = bit & (Long.SIZE - 1);
+    long mask = columnMasks[base + word];
+    long below = mask & ((1L << offset) - 1);
+    columnMasks[base + word] = below | ((mask >>> offset >>> 1) << offset);
+    for (int w = word + 1; w < words; w++) {
+      long upper = columnMasks[base + w];
+      columnMasks[base + w - 1] |= (upper & 1L) << (Long.SIZE - 1);
+      columnMasks[base + w] = upper >>> 1;
+    }
+  }
+
+  private void refreshMaxHeight() {
+    int max = 0;
+    for (int x = 0; x < width; x++) {
+      int columnHeight = getColumnHeight(x);
+      if (columnHeight > max) {
+        max = columnHeight;
+      }
+    }
+    maxHeight = max;
+  }
+}
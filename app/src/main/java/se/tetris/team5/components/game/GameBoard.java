@@ -26,10 +26,15 @@ public class GameBoard extends JTextPane {
 
     private static final long serialVersionUID = 1L;
 
+    // 기본 보드 크기
     public static final int HEIGHT = 20;
     public static final int WIDTH = 10;
     public static final char BORDER_CHAR = 'X';
 
+    // 그리는 보드의 크기 (renderBoard로 받은 보드 크기를 따라감)
+    private int boardHeight;
+    private int boardWidth;
+
     private SimpleAttributeSet styleSet;
 
     // overlay state used for graphical rendering
@@ -54,6 +59,16 @@ public class GameBoard extends JTextPane {
     private BombAnimationManager bombAnimationManager;
 
     public GameBoard() {
+        this(HEIGHT, WIDTH);
+    }
+
+    /**
+     * @param height 보드 높이
+     * @param width  보드 너비
+     */
+    public GameBoard(int height, int width) {
+        this.boardHeight = height;
+        this.boardWidth = width;
         initComponents();
     }
 
@@ -76,8 +91,8 @@ public class GameBoard extends JTextPane {
         StyleConstants.setLineSpacing(styleSet, -0.4f);
 
         // initialize empty overlay
-        overlayBoard = new int[HEIGHT][WIDTH];
-        overlayColors = new Color[HEIGHT][WIDTH];
+        overlayBoard = new int[boardHeight][boardWidth];
+        overlayColors = new Color[boardHeight][boardWidth];
         drawEmptyBoard();
         
         // 폭탄 애니메이션 매니저 초기화
@@ -94,11 +109,14 @@ public class GameBoard extends JTextPane {
             // Debug logging disabled for performance
             // NOTE: previous-board diff based detection of cleared rows has been
             // disabled. Cleared-row animations are triggered explicitly by the
-            // GameEngine -> UI plumbing (game consumes engine.consumeLastClearedRows()
-            // and calls triggerClearAnimation). Keeping both detection mechanisms
+            // GameEngine -> UI plumbing (LinesCleared events from the engine's event
+            // bus call triggerClearAnimation). Keeping both detection mechanisms
             // enabled caused timing/race issues where only a subset of rows were
             // animated (esp. on hard-drop). Rely on the engine-provided list now.
 
+            // 격자 크기는 엔진 보드 크기를 따라감
+            boardHeight = board.length;
+            boardWidth = board[0].length;
             // copy minimal state reference (don't mutate)
             overlayBoard = board;
             overlayColors = colors;
@@ -142,17 +160,17 @@ public class GameBoard extends JTextPane {
         int gridW = w - pad*2;
         int gridH = h - pad*2;
         // maintain cell aspect ratio
-        int cellW = Math.max(4, gridW / WIDTH);
-        int cellH = Math.max(4, gridH / HEIGHT);
+        int cellW = Math.max(4, gridW / boardWidth);
+        int cellH = Math.max(4, gridH / boardHeight);
         int cellSize = Math.min(cellW, cellH);
-    int gridPixelW = cellSize * WIDTH;
-    int gridPixelH = cellSize * HEIGHT;
+    int gridPixelW = cellSize * boardWidth;
+    int gridPixelH = cellSize * boardHeight;
     int startX = (w - gridPixelW) / 2;
         int startY = (h - gridPixelH) / 2;
 
         // draw empty cell backgrounds
-        for (int r = 0; r < HEIGHT; r++) {
-            for (int c = 0; c < WIDTH; c++) {
+        for (int r = 0; r < boardHeight; r++) {
+            for (int c = 0; c < boardWidth; c++) {
                 int x = startX + c * cellSize;
                 int y = startY + r * cellSize;
                 g2.setColor(new Color(28, 28, 36));
@@ -162,8 +180,8 @@ public class GameBoard extends JTextPane {
 
         // draw locked cells from overlayBoard
         if (overlayBoard != null) {
-            for (int r = 0; r < Math.min(overlayBoard.length, HEIGHT); r++) {
-                for (int c = 0; c < Math.min(overlayBoard[r].length, WIDTH); c++) {
+            for (int r = 0; r < Math.min(overlayBoard.length, boardHeight); r++) {
+                for (int c = 0; c < Math.min(overlayBoard[r].length, boardWidth); c++) {
                     if (overlayBoard[r][c] == 1 || overlayBoard[r][c] == 2) {
                         Color col = Color.GRAY;
                         if (overlayColors != null && overlayColors[r][c] != null) col = overlayColors[r][c];
@@ -191,7 +209,7 @@ public class GameBoard extends JTextPane {
                     if (currentBlock.getShape(rx, ry) == 1) {
                         int boardX = currentX + rx;
                         int boardY = ghostY + ry;
-                        if (boardX >= 0 && boardX < WIDTH && boardY >= 0 && boardY < HEIGHT) {
+                        if (boardX >= 0 && boardX < boardWidth && boardY >= 0 && boardY < boardHeight) {
                             int x = startX + boardX * cellSize;
                             int y = startY + boardY * cellSize;
                             Color col = currentBlock.getColor();
@@ -234,7 +252,7 @@ public class GameBoard extends JTextPane {
                     if (currentBlock.getShape(rx, ry) == 1) {
                         int boardX = currentX + rx;
                         int boardY = currentY + ry;
-                        if (boardX >= 0 && boardX < WIDTH && boardY >= 0 && boardY < HEIGHT) {
+                        if (boardX >= 0 && boardX < boardWidth && boardY >= 0 && boardY < boardHeight) {
                             int x = startX + boardX * cellSize;
                             int y = startY + boardY * cellSize;
                             Color col = currentBlock.getColor();
@@ -395,15 +413,15 @@ public class GameBoard extends JTextPane {
         int pad = 20;
         int gridW = w - pad*2;
         int gridH = h - pad*2;
-        int cellW = Math.max(4, gridW / WIDTH);
-        int cellH = Math.max(4, gridH / HEIGHT);
+        int cellW = Math.max(4, gridW / boardWidth);
+        int cellH = Math.max(4, gridH / boardHeight);
         int cellSize = Math.min(cellW, cellH);
     java.util.Random rand = new java.util.Random();
 
         for (Integer row : rows) {
             if (row == null) continue;
             java.util.List<Particle> pls = new java.util.ArrayList<>();
-            for (int c = 0; c < WIDTH; c++) {
+            for (int c = 0; c < boardWidth; c++) {
                 // spawn more fragments per cell for a stronger visible effect
                 int fragments = 6;
                 for (int f = 0; f < fragments; f++) {
@@ -595,15 +613,15 @@ public class GameBoard extends JTextPane {
         StringBuilder sb = new StringBuilder();
 
         // 위쪽 테두리
-        for (int t = 0; t < WIDTH + 2; t++) {
+        for (int t = 0; t < boardWidth + 2; t++) {
             sb.append(BORDER_CHAR);
         }
         sb.append("\n");
 
         // 게임 보드 내부 (빈 공간)
-        for (int i = 0; i < HEIGHT; i++) {
+        for (int i = 0; i < boardHeight; i++) {
             sb.append(BORDER_CHAR);
-            for (int j = 0; j < WIDTH; j++) {
+            for (int j = 0; j < boardWidth; j++) {
                 sb.append(" ");
             }
             sb.append(BORDER_CHAR);
@@ -611,7 +629,7 @@ public class GameBoard extends JTextPane {
         }
 
         // 아래쪽 테두리
-        for (int t = 0; t < WIDTH + 2; t++) {
+        for (int t = 0; t < boardWidth + 2; t++) {
             sb.append(BORDER_CHAR);
         }
 
@@ -622,18 +640,18 @@ public class GameBoard extends JTextPane {
 
     public String createBorderLine() {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < WIDTH + 2; i++) {
+        for (int i = 0; i < boardWidth + 2; i++) {
             sb.append(BORDER_CHAR);
         }
         return sb.toString();
     }
 
     public int getBoardHeight() {
-        return HEIGHT;
+        return boardHeight;
     }
 
     public int getBoardWidth() {
-        return WIDTH;
+        return boardWidth;
     }
 
     public char getBorderChar() {
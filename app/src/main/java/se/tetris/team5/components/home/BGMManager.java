@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import se.tetris.team5.utils.setting.GameSettings;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * BGM을 관리하는 클래스
@@ -76,7 +77,7 @@ public class BGMManager {
             currentClip = null;
         }
         currentBGM = "";
-        System.out.println("BGM stopped");
+        Log.info("BGM stopped");
     }
     
     /**
@@ -90,7 +91,7 @@ public class BGMManager {
                 return; // 성공적으로 재생되면 종료
             }
         }
-        System.out.println("Failed to play BGM for type: " + bgmType);
+        Log.warn("Failed to play BGM for type: " + bgmType);
     }
     
     /**
@@ -141,25 +142,25 @@ public class BGMManager {
                 currentClip.start();
                 
                 currentBGM = bgmType;
-                System.out.println("BGM started: " + bgmFile + " (" + bgmType + ")");
+                Log.info("BGM started: " + bgmFile + " (" + bgmType + ")");
                 return true; // 성공
                 
             } else {
-                System.out.println("BGM file not found: " + bgmFile);
+                Log.warn("BGM file not found: " + bgmFile);
                 return false; // 파일 없음
             }
             
         } catch (UnsupportedAudioFileException e) {
-            System.out.println("Unsupported audio format: " + bgmFile + " - " + e.getMessage());
+            Log.warn("Unsupported audio format: " + bgmFile + " - " + e.getMessage());
             return false; // 지원되지 않는 형식
         } catch (IOException e) {
-            System.out.println("Error loading BGM file: " + bgmFile + " - " + e.getMessage());
+            Log.warn("Error loading BGM file: " + bgmFile + " - " + e.getMessage());
             return false; // IO 오류
         } catch (LineUnavailableException e) {
-            System.out.println("Audio line unavailable: " + bgmFile + " - " + e.getMessage());
+            Log.warn("Audio line unavailable: " + bgmFile + " - " + e.getMessage());
             return false; // 오디오 라인 오류
         } catch (Exception e) {
-            System.out.println("Unexpected error playing BGM: " + bgmFile + " - " + e.getMessage());
+            Log.warn("Unexpected error playing BGM: " + bgmFile + " - " + e.getMessage());
             return false; // 기타 오류
         } finally {
             try {
@@ -209,10 +210,10 @@ public class BGMManager {
                 // (GameSettings에 볼륨 설정이 있다면 여기서 사용)
                 
                 gainControl.setValue(volume);
-                System.out.println("Volume adjusted to: " + volume + "dB");
+                Log.debug("Volume adjusted to: " + volume + "dB");
                 
             } catch (Exception e) {
-                System.out.println("Failed to adjust volume: " + e.getMessage());
+                Log.warn("Failed to adjust volume: " + e.getMessage());
             }
         }
     }
@@ -237,7 +238,7 @@ public class BGMManager {
     public void pauseBGM() {
         if (currentClip != null && currentClip.isRunning()) {
             currentClip.stop();
-            System.out.println("BGM paused");
+            Log.info("BGM paused");
         }
     }
     
@@ -248,7 +249,7 @@ public class BGMManager {
         if (currentClip != null && !currentClip.isRunning() && !currentBGM.isEmpty()) {
             if (gameSettings.isSoundEnabled()) {
                 currentClip.start();
-                System.out.println("BGM resumed");
+                Log.info("BGM resumed");
             }
         }
     }
@@ -260,7 +261,7 @@ public class BGMManager {
         if (!gameSettings.isSoundEnabled() && isPlaying()) {
             // 사운드가 비활성화되면 현재 재생 중인 BGM 정지
             stopBGM();
-            System.out.println("Sound disabled - BGM stopped");
+            Log.info("Sound disabled - BGM stopped");
         }
         // 사운드가 활성화되면 각 화면에서 적절한 BGM을 다시 재생하도록 함
     }
@@ -0,0 +1,27 @@
+package se.tetris.team5.gamelogic;
+
+/**
+ * 게임 엔진이 사용하는 시간 공급원
+ *
+ * 점수 2배 만료, 경과 시간, 게임 시작 시각이 모두 이 인터페이스를 통해 읽힙니다.
+ * 화면이 있는 게임은 {@link #SYSTEM}을, 헤드리스 시뮬레이션은 {@link ManualClock}을 사용합니다.
+ */
+public interface GameClock {
+  /**
+   * 실제 시스템 시계 (기본값)
+   */
+  GameClock SYSTEM = System::currentTimeMillis;
+
+  /**
+   * 현재 시각 (밀리초)
+   */
+  long currentTimeMillis();
+
+  /**
+   * 시간을 millis만큼 진행합니다.
+   * 스스로 흐르는 시계(시스템 시계)에서는 아무 일도 하지 않습니다.
+   */
+  default void advance(long millis) {
+    // 기본 구현 없음
+  }
+}
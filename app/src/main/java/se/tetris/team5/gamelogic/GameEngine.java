@@ -2,14 +2,15 @@
 package se.tetris.team5.gamelogic;
 
 import se.tetris.team5.blocks.Block;
-import java.util.ArrayList;
-import java.util.List;
 import se.tetris.team5.gamelogic.block.BlockFactory;
 import se.tetris.team5.gamelogic.block.BlockRotationManager;
 import se.tetris.team5.components.game.BoardManager;
+import se.tetris.team5.gamelogic.event.GameEvent;
+import se.tetris.team5.gamelogic.event.GameEventBus;
 import se.tetris.team5.gamelogic.movement.MovementManager;
 import se.tetris.team5.gamelogic.scoring.GameScoring;
 import se.tetris.team5.items.ItemGrantPolicy;
+import se.tetris.team5.utils.log.Log;
 
 public class GameEngine {
   // 게임 모드 (NORMAL: 아이템 없음, ITEM: 10줄마다 아이템)
@@ -21,7 +22,8 @@ public class GameEngine {
   // 점수 2배 아이템 관련
   private boolean doubleScoreActive = false;
   private long doubleScoreEndTime = 0L;
-  private static final int START_X = 3;
+  // 블록 등장 위치 (x는 보드 너비에 맞춰 가운데 정렬, 기본 10칸 보드에서 3)
+  private final int startX;
   private static final int START_Y = 0;
   // 아이템 관련: 총 삭제 줄 수 추적
   private int totalClearedLines = 0;
@@ -40,20 +42,41 @@ public class GameEngine {
   private boolean paused = false;
   private long gameStartTime;
 
-  // listeners to notify UI or other observers about state changes (e.g., next
-  // block spawned)
-  private List<Runnable> listeners = new ArrayList<>();
+  // 시간 공급원 (기본: 시스템 시계, 헤드리스 모드: 직접 진행시키는 시계)
+  private GameClock clock = GameClock.SYSTEM;
+  // 헤드리스 모드: Swing/EDT 없이 호출한 스레드에서 리스너를 바로 실행
+  private boolean headless = false;
+
+  // 게임 이벤트 큐 (블록 등장/고정, 줄 삭제, 폭발, 아이템 획득, 게임 오버)
+  // 구독자가 있을 때만 이벤트 객체를 만들고, 고정 한 번에 쌓인 이벤트는 한 번의 drain으로 전달됨
+  // 가득 차면 버려지므로 표시용 알림 전용 (공격 전송 등은 onBlockFixedCallback에서 동기적으로 처리)
+  private static final int EVENT_QUEUE_CAPACITY = 256;
+  private final GameEventBus eventBus = new GameEventBus(EVENT_QUEUE_CAPACITY);
+  private final java.util.concurrent.atomic.AtomicBoolean eventDrainScheduled = new java.util.concurrent.atomic.AtomicBoolean();
 
   // 대전모드: 블럭 고정 후 콜백 (공격 블럭 적용용)
   private Runnable onBlockFixedCallback = null;
 
   // Last cleared rows (for UI to consume and animate). Cleared row indices are
   // 0..HEIGHT-1
-  private java.util.List<Integer> lastClearedRows = new java.util.ArrayList<>();
+  private final java.util.List<Integer> lastClearedRows = new java.util.ArrayList<>();
 
   // Last bomb explosion cells (for UI to consume and animate)
   private java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> lastBombExplosionCells = new java.util.ArrayList<>();
 
+  // 고스트 블록 착지 위치 캐시: 같은 블록/회전/x, 같은 보드 버전이고
+  // y가 [ghostFromY, ghostY] 안에 있으면 다시 계산하지 않음 (UI가 매 프레임 조회)
+  private Block ghostBlock;
+  private BoardManager ghostBoard;
+  private int ghostRotation;
+  private int ghostX;
+  private int ghostFromY;
+  private int ghostY;
+  private int ghostBoardVersion;
+
+  // 블록 고정 시 줄 삭제로 제거된 아이템을 모으는 재사용 버퍼
+  private final java.util.List<se.tetris.team5.items.Item> removedItemsBuffer = new java.util.ArrayList<>();
+
   // 플레이어가 획득한 아이템 (1개만 보유, 큐로 확장 가능)
   private se.tetris.team5.items.Item acquiredItem = null;
   private se.tetris.team5.items.ItemFactory itemFactory;
@@ -82,7 +105,8 @@ public class GameEngine {
    * @param autoStart true면 자동으로 startNewGame() 호출, false면 수동 호출 필요
    */
   public GameEngine(int height, int width, boolean autoStart) {
-    boardManager = new BoardManager();
+    boardManager = new BoardManager(height, width);
+    startX = (width - 4) / 2;
     movementManager = new MovementManager(boardManager);
     rotationManager = new BlockRotationManager();
     blockFactory = new BlockFactory(difficulty);
@@ -95,6 +119,42 @@ public class GameEngine {
     }
   }
 
+  /**
+   * 화면 없이 시뮬레이션용으로 사용할 엔진을 생성합니다.
+   * 시간은 {@link ManualClock}으로 직접 진행되며, 중력과 시간 효과는
+   * {@link #step()} / {@link #tick(int)} 호출로만 진행됩니다.
+   *
+   * @param height 보드 높이
+   * @param width  보드 너비
+   */
+  public static GameEngine createHeadless(int height, int width) {
+    return startHeadless(new GameEngine(height, width, false));
+  }
+
+  /**
+   * 블록 순서 시드를 고정한 시뮬레이션용 엔진을 일반 모드로 생성합니다.
+   * 같은 시드로 만든 엔진들은 같은 블록 순서로 시작하므로 AI 대전, 학습, 테스트에서 게임을 재현할 수 있습니다.
+   *
+   * @param height 보드 높이
+   * @param width  보드 너비
+   * @param seed   블록 순서 시드 ({@link BlockFactory#setRandomSeed(long)})
+   */
+  public static GameEngine createHeadless(int height, int width, long seed) {
+    GameEngine engine = new GameEngine(height, width, false);
+    engine.setGameMode(GameMode.NORMAL);
+    engine.blockFactory.setRandomSeed(seed);
+    return startHeadless(engine);
+  }
+
+  private static GameEngine startHeadless(GameEngine engine) {
+    engine.setHeadless(true);
+    engine.setClock(new ManualClock());
+    engine.startNewGame();
+    engine.gameStartTime = engine.clock.currentTimeMillis();
+    engine.gameRunning = true;
+    return engine;
+  }
+
   public void startNewGame() {
     boardManager.reset();
     gameScoring.reset();
@@ -116,13 +176,19 @@ public class GameEngine {
     currentBlock = blockFactory.createRandomBlock();
     nextBlock = blockFactory.createRandomBlock();
     // debug: log initial blocks
-    System.out.println("[GameEngine DEBUG] startNewGame current=" + currentBlock.getClass().getSimpleName()
-        + " next=" + nextBlock.getClass().getSimpleName());
-    x = START_X;
+    if (Log.isDebugEnabled()) {
+      Log.debug("[GameEngine DEBUG] startNewGame current=" + currentBlock.getClass().getSimpleName()
+          + " next=" + nextBlock.getClass().getSimpleName());
+    }
+    x = startX;
     y = START_Y;
 
     // 블록을 보드에 배치하지 않음 - renderBoard에서 동적으로 그려짐
     // boardManager.placeBlock(currentBlock, x, y);
+    if (eventBus.hasSubscribers()) {
+      eventBus.publish(new GameEvent.PieceSpawned(clock.currentTimeMillis(), currentBlock, nextBlock, x, y));
+      flushEvents();
+    }
   }
 
   /**
@@ -165,67 +231,7 @@ public class GameEngine {
       boardManager.placeBlock(currentBlock, x, y);
       return true;
     } else {
-      boardManager.placeBlock(currentBlock, x, y);
-      java.util.List<se.tetris.team5.items.Item> removedItems = new java.util.ArrayList<>();
-      int lineClearRemovedBlocks = boardManager.fixBlock(currentBlock, x, y, removedItems);
-
-      // 폭탄 블록 폭발 애니메이션 체크 (fixBlock 직후)
-      java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> bombCells = boardManager
-          .getLastBombExplosionCells();
-      if (bombCells != null && !bombCells.isEmpty()) {
-        // UI로 전달하기 위해 저장 (별도 리스너 또는 consumeLastBombExplosionCells로 가져갈 수 있음)
-        lastBombExplosionCells = bombCells;
-        notifyListenersImmediate();
-      }
-
-      // 줄삭제 아이템으로 지워진 블럭 수만큼 점수 추가 (30점/블럭)
-      if (lineClearRemovedBlocks > 0) {
-        gameScoring.addPoints(applyDoubleScore(lineClearRemovedBlocks * 30));
-      }
-      int clearedLines = boardManager.clearLines(removedItems);
-      // capture cleared rows for UI animation and notify listeners before we continue
-      try {
-        lastClearedRows = boardManager.getLastClearedRows();
-        // notify UI immediately so it can start animations before we spawn the next
-        // block
-        notifyListenersImmediate();
-      } catch (Exception ex) {
-        // swallow - non-fatal
-      }
-
-      // 타임스톱 아이템이 줄 삭제로 제거되었는지 확인
-      if (!removedItems.isEmpty()) {
-        for (se.tetris.team5.items.Item it : removedItems) {
-          if (it instanceof se.tetris.team5.items.TimeStopItem) {
-            hasTimeStopCharge = true;
-            System.out.println("[타임스톱 충전 완료] Shift 키를 눌러 5초간 게임을 멈출 수 있습니다!");
-          }
-          // 아이템 효과 적용
-          try {
-            it.applyEffect(this);
-          } catch (Exception e) {
-            System.err.println("[아이템 적용 오류] " + e.getMessage());
-          }
-        }
-      }
-
-      gameScoring.addLinesCleared(applyDoubleScoreToLines(clearedLines));
-
-      handleItemSpawnAndCollect(clearedLines);
-
-      // 블록 높이 패널티 체크
-      checkHeightPenalty();
-
-      // 대전모드: 블럭 고정 후 콜백 호출
-      if (onBlockFixedCallback != null) {
-        try {
-          onBlockFixedCallback.run();
-        } catch (Exception e) {
-          System.err.println("[GameEngine] 콜백 실행 중 오류: " + e.getMessage());
-        }
-      }
-
-      spawnNextBlock();
+      lockCurrentBlock();
       return false;
     }
   }
@@ -266,7 +272,7 @@ public class GameEngine {
 
     boardManager.eraseBlock(currentBlock, x, y);
     se.tetris.team5.gamelogic.block.BlockRotationManager.WallKickResult result = rotationManager
-        .rotateBlockWithWallKick(currentBlock, x, y, boardManager.getBoard());
+        .rotateBlockWithWallKick(currentBlock, x, y, boardManager);
 
     if (result.success) {
       // Wall Kick 성공: 오프셋 적용
@@ -294,16 +300,31 @@ public class GameEngine {
       gameScoring.addHardDropPoints(applyDoubleScore(dropDistance));
     }
 
+    lockCurrentBlock();
+    return true;
+  }
+
+  /**
+   * 현재 블록을 고정하고 줄 삭제, 아이템 효과, 패널티, 대전 콜백, 다음 블록 생성까지 처리합니다.
+   * 고정 때마다 새 컬렉션을 만들지 않도록 버퍼를 재사용합니다.
+   */
+  private void lockCurrentBlock() {
     boardManager.placeBlock(currentBlock, x, y);
-    java.util.List<se.tetris.team5.items.Item> removedItems = new java.util.ArrayList<>();
+    java.util.List<se.tetris.team5.items.Item> removedItems = removedItemsBuffer;
+    removedItems.clear();
     int lineClearRemovedBlocks = boardManager.fixBlock(currentBlock, x, y, removedItems);
+    boolean publishEvents = eventBus.hasSubscribers();
+    if (publishEvents) {
+      eventBus.publish(new GameEvent.PieceLocked(clock.currentTimeMillis(), currentBlock, x, y));
+    }
 
-    // 폭탄 블록 폭발 애니메이션 체크 (hardDrop에서 fixBlock 직후)
-    java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> bombCells = boardManager
-        .getLastBombExplosionCells();
-    if (bombCells != null && !bombCells.isEmpty()) {
-      lastBombExplosionCells = bombCells;
-      notifyListenersImmediate();
+    // 폭탄 블록 폭발 애니메이션 체크 (fixBlock 직후, 폭발이 있을 때만 리스트 생성)
+    if (boardManager.hasBombExplosionCells()) {
+      // UI로 전달하기 위해 저장 (이벤트 또는 consumeLastBombExplosionCells로 가져갈 수 있음)
+      lastBombExplosionCells = boardManager.getLastBombExplosionCells();
+      if (publishEvents) {
+        eventBus.publish(new GameEvent.BombExploded(clock.currentTimeMillis(), lastBombExplosionCells));
+      }
     }
 
     // 줄삭제 아이템으로 지워진 블럭 수만큼 점수 추가 (30점/블럭)
@@ -311,26 +332,34 @@ public class GameEngine {
       gameScoring.addPoints(applyDoubleScore(lineClearRemovedBlocks * 30));
     }
     int clearedLines = boardManager.clearLines(removedItems);
-    // capture cleared rows for UI animation and notify listeners before we continue
-    try {
-      lastClearedRows = boardManager.getLastClearedRows();
-      notifyListenersImmediate();
-    } catch (Exception ex) {
-      // ignore
+    // capture cleared rows for UI animation (consumeLastClearedRows 호환용)
+    lastClearedRows.clear();
+    boardManager.copyLastClearedRowsTo(lastClearedRows);
+    if (publishEvents) {
+      if (clearedLines > 0) {
+        int[] rows = new int[clearedLines];
+        for (int i = 0; i < clearedLines; i++) {
+          rows[i] = boardManager.getLastClearedRow(i);
+        }
+        // 공격 블럭은 다음 고정에서 덮어써지므로 발행 시점에 복사해 이벤트에 담음
+        java.util.List<java.awt.Color[]> attackRows = clearedLines >= 2 ? boardManager.getAttackBlocksData() : null;
+        eventBus.publish(new GameEvent.LinesCleared(clock.currentTimeMillis(), rows, attackRows));
+      }
+      // 다음 블록을 만들기 전에 UI가 줄 삭제/폭발 애니메이션을 시작할 수 있도록 전달 요청
+      flushEvents();
     }
 
     // 타임스톱 아이템이 줄 삭제로 제거되었는지 확인 및 아이템 효과 적용
-    if (!removedItems.isEmpty()) {
-      for (se.tetris.team5.items.Item it : removedItems) {
-        if (it instanceof se.tetris.team5.items.TimeStopItem) {
-          hasTimeStopCharge = true;
-          System.out.println("[타임스톱 충전 완료] Shift 키를 눌러 5초간 게임을 멈출 수 있습니다!");
-        }
-        try {
-          it.applyEffect(this);
-        } catch (Exception e) {
-          System.err.println("[아이템 적용 오류] " + e.getMessage());
-        }
+    for (int i = 0; i < removedItems.size(); i++) {
+      se.tetris.team5.items.Item it = removedItems.get(i);
+      if (it instanceof se.tetris.team5.items.TimeStopItem) {
+        hasTimeStopCharge = true;
+        Log.debug("[타임스톱 충전 완료] Shift 키를 눌러 5초간 게임을 멈출 수 있습니다!");
+      }
+      try {
+        it.applyEffect(this);
+      } catch (Exception e) {
+        Log.error("[아이템 적용 오류] " + e.getMessage());
       }
     }
 
@@ -346,12 +375,11 @@ public class GameEngine {
       try {
         onBlockFixedCallback.run();
       } catch (Exception e) {
-        System.err.println("[GameEngine] 콜백 실행 중 오류: " + e.getMessage());
+        Log.error("[GameEngine] 콜백 실행 중 오류: " + e.getMessage());
       }
     }
 
     spawnNextBlock();
-    return true;
   }
 
   /**
@@ -359,8 +387,10 @@ public class GameEngine {
    */
   public void activateDoubleScore(int durationMillis) {
     doubleScoreActive = true;
-    doubleScoreEndTime = System.currentTimeMillis() + durationMillis;
-    System.out.println("[아이템 효과] 20초간 점수 2배 시작! (" + new java.util.Date(doubleScoreEndTime) + "까지)");
+    doubleScoreEndTime = clock.currentTimeMillis() + durationMillis;
+    if (Log.isDebugEnabled()) {
+      Log.debug("[아이템 효과] 20초간 점수 2배 시작! (" + new java.util.Date(doubleScoreEndTime) + "까지)");
+    }
     doubleScoreEndLogged = false;
   }
 
@@ -371,10 +401,10 @@ public class GameEngine {
   private boolean doubleScoreEndLogged = false;
 
   public boolean isDoubleScoreActive() {
-    if (doubleScoreActive && System.currentTimeMillis() > doubleScoreEndTime) {
+    if (doubleScoreActive && clock.currentTimeMillis() > doubleScoreEndTime) {
       doubleScoreActive = false;
       if (!doubleScoreEndLogged) {
-        System.out.println("[아이템 효과 종료] 점수 2배 효과가 종료되었습니다. (" + new java.util.Date() + ")");
+        Log.debug("[아이템 효과 종료] 점수 2배 효과가 종료되었습니다. (" + new java.util.Date(clock.currentTimeMillis()) + ")");
         doubleScoreEndLogged = true;
       }
     }
@@ -387,7 +417,7 @@ public class GameEngine {
   public long getDoubleScoreRemainingMillis() {
     if (!doubleScoreActive)
       return 0L;
-    long rem = doubleScoreEndTime - System.currentTimeMillis();
+    long rem = doubleScoreEndTime - clock.currentTimeMillis();
     return rem > 0 ? rem : 0L;
   }
 
@@ -427,8 +457,8 @@ public class GameEngine {
     }
 
     // 아이템 모드: 정책을 통해 아이템 부여 조건 확인 (10줄 체크는 정책 내부에서 처리)
-    // 임시 블록을 만들어서 아이템 부여 조건을 확인
-    Block tempBlock = blockFactory.createRandomBlock();
+    // 임시 블록으로 아이템 부여 조건을 확인 (블럭 순서를 소비하지 않도록 다음 블럭 타입으로 만듦)
+    Block tempBlock = blockFactory.createPreviewBlock(0);
     se.tetris.team5.items.Item grantedItem = itemGrantPolicy.grantItem(
         tempBlock,
         new ItemGrantPolicy.ItemGrantContext(totalClearedLines, itemFactory));
@@ -436,7 +466,9 @@ public class GameEngine {
     if (grantedItem != null) {
       // 아이템이 부여되었다면, 다음다음 블록에 적용하기 위해 pendingItem에 저장
       pendingItem = grantedItem;
-      System.out.println("[아이템 예약] " + grantedItem.getName() + " - 다음 블록 이후에 나타납니다!");
+      if (Log.isDebugEnabled()) {
+        Log.debug("[아이템 예약] " + grantedItem.getName() + " - 다음 블록 이후에 나타납니다!");
+      }
     }
   }
 
@@ -448,7 +480,7 @@ public class GameEngine {
   // 아이템 사용(사용 후 null 처리)
   public void useAcquiredItem() {
     if (acquiredItem != null) {
-      System.out.println("[아이템 사용] " + acquiredItem.getName());
+      Log.debug("[아이템 사용] " + acquiredItem.getName());
       acquiredItem = null;
     }
   }
@@ -481,7 +513,9 @@ public class GameEngine {
       // 10줄 이하로 내려가면 패널티 플래그 리셋
       if (penaltyApplied) {
         penaltyApplied = false;
-        System.out.println("[패널티 해제] 블록 높이가 10줄 이하로 내려갔습니다 (현재 높이: " + highestRow + "줄)");
+        if (Log.isDebugEnabled()) {
+          Log.debug("[패널티 해제] 블록 높이가 10줄 이하로 내려갔습니다 (현재 높이: " + highestRow + "줄)");
+        }
       }
     }
   }
@@ -495,7 +529,7 @@ public class GameEngine {
   public void useTimeStop() {
     if (hasTimeStopCharge) {
       hasTimeStopCharge = false;
-      System.out.println("[타임스톱 사용] 게임이 5초간 멈춥니다!");
+      Log.debug("[타임스톱 사용] 게임이 5초간 멈춥니다!");
     }
   }
 
@@ -507,11 +541,11 @@ public class GameEngine {
       if (pendingItem instanceof se.tetris.team5.items.WeightBlockItem) {
         // WeightBlockItem인 경우: 무게추 블록으로 교체
         nextBlock = blockFactory.createWeightBlock();
-        System.out.println("[특수 블록] 무게추 블록(WBlock) 생성!");
+        Log.debug("[특수 블록] 무게추 블록(WBlock) 생성!");
       } else if (pendingItem instanceof se.tetris.team5.items.BombItem) {
         // BombItem인 경우: DotBlock으로 교체
         nextBlock = new se.tetris.team5.blocks.DotBlock();
-        System.out.println("[특수 블록] 도트 블록(DotBlock) 생성!");
+        Log.debug("[특수 블록] 도트 블록(DotBlock) 생성!");
       } else {
         // 일반 블록 + 아이템 (LineClearItem, TimeStopItem 등)
         nextBlock = blockFactory.createRandomBlock();
@@ -528,11 +562,11 @@ public class GameEngine {
 
         // 유효한 위치가 있으면 랜덤하게 선택하여 아이템 설정
         if (!validPositions.isEmpty()) {
-          java.util.Random rand = new java.util.Random();
-          int[] chosen = validPositions.get(rand.nextInt(validPositions.size()));
+          int[] chosen = validPositions.get(blockFactory.nextItemCell(validPositions.size()));
           nextBlock.setItem(chosen[0], chosen[1], pendingItem);
-          System.out
-              .println("[특수 블록] " + pendingItem.getName() + " 아이템 블록 생성! (위치: " + chosen[0] + ", " + chosen[1] + ")");
+          if (Log.isDebugEnabled()) {
+            Log.debug("[특수 블록] " + pendingItem.getName() + " 아이템 블록 생성! (위치: " + chosen[0] + ", " + chosen[1] + ")");
+          }
         }
       }
 
@@ -544,10 +578,15 @@ public class GameEngine {
             // TimeStopItem은 줄 삭제 시에만 충전되므로 acquiredItem에 저장하지 않음
             if (!(item instanceof se.tetris.team5.items.TimeStopItem)) {
               acquiredItem = item;
-              System.out.println("[아이템 획득 대기] " + item);
+              if (eventBus.hasSubscribers()) {
+                eventBus.publish(new GameEvent.ItemAcquired(clock.currentTimeMillis(), item));
+              }
+              if (Log.isDebugEnabled()) {
+                Log.debug("[아이템 획득 대기] " + item);
+              }
             } else {
               // TimeStopItem이 블록에 포함되어 있음을 알림
-              System.out.println("[타임스톱 블록] 이 블록을 줄 삭제하면 타임스톱이 충전됩니다!");
+              Log.debug("[타임스톱 블록] 이 블록을 줄 삭제하면 타임스톱이 충전됩니다!");
             }
             break;
           }
@@ -560,15 +599,23 @@ public class GameEngine {
       nextBlock = blockFactory.createRandomBlock();
     }
 
-    x = START_X;
+    x = startX;
     y = START_Y;
 
     if (!boardManager.canMove(x, y, currentBlock)) {
       gameOver = true;
+      if (eventBus.hasSubscribers()) {
+        eventBus.publish(new GameEvent.GameOver(clock.currentTimeMillis(), gameScoring.getCurrentScore()));
+        flushEvents();
+      }
       return;
     }
 
     boardManager.placeBlock(currentBlock, x, y);
+    if (eventBus.hasSubscribers()) {
+      eventBus.publish(new GameEvent.PieceSpawned(clock.currentTimeMillis(), currentBlock, nextBlock, x, y));
+      flushEvents();
+    }
   }
 
   // Getter methods
@@ -600,6 +647,13 @@ public class GameEngine {
     return y;
   }
 
+  /**
+   * 새 블럭이 나타나는 x 위치
+   */
+  public int getStartX() {
+    return startX;
+  }
+
   /**
    * 현재 블럭이 착지할 Y 위치를 계산하여 반환합니다 (고스트 블럭용)
    */
@@ -607,7 +661,19 @@ public class GameEngine {
     if (currentBlock == null || gameOver) {
       return -1;
     }
-    return movementManager.getDropPosition(currentBlock, x, y);
+    int boardVersion = boardManager.getBoardVersion();
+    if (ghostBlock == currentBlock && ghostBoard == boardManager && ghostRotation == currentBlock.getRotation()
+        && ghostX == x && ghostBoardVersion == boardVersion && y >= ghostFromY && y <= ghostY) {
+      return ghostY;
+    }
+    ghostY = movementManager.getDropPosition(currentBlock, x, y);
+    ghostBlock = currentBlock;
+    ghostBoard = boardManager;
+    ghostRotation = currentBlock.getRotation();
+    ghostX = x;
+    ghostFromY = y;
+    ghostBoardVersion = boardVersion;
+    return ghostY;
   }
 
   public boolean isGameOver() {
@@ -667,11 +733,13 @@ public class GameEngine {
    * 게임을 초기 상태로 리셋합니다
    */
   public void resetGame() {
-    boardManager = new BoardManager(); // 기본 크기
+    boardManager = new BoardManager(boardManager.getHeight(), boardManager.getWidth()); // 같은 크기로 새로 생성
     movementManager = new MovementManager(boardManager);
     gameScoring = new GameScoring();
     gameScoring.setDifficulty(difficulty);
-    blockFactory = new BlockFactory(difficulty);
+    // 같은 시드/생성 방식으로 블럭 순서를 처음부터 (새 순서가 필요하면 호출 전에 시드를 바꿈)
+    blockFactory.setDifficulty(difficulty);
+    blockFactory.reset();
     rotationManager = new BlockRotationManager();
 
     // 정책 리셋 (10줄 카운터 초기화)
@@ -681,12 +749,12 @@ public class GameEngine {
 
     currentBlock = blockFactory.createRandomBlock();
     nextBlock = blockFactory.createRandomBlock();
-    x = 3;
-    y = 0;
+    x = startX;
+    y = START_Y;
     gameRunning = true;
     gameOver = false;
     paused = false;
-    gameStartTime = System.currentTimeMillis();
+    gameStartTime = clock.currentTimeMillis();
     totalClearedLines = 0;
     hasTimeStopCharge = false; // 타임스톱 충전 초기화
     pendingItem = null; // 펜딩 아이템 초기화
@@ -694,33 +762,45 @@ public class GameEngine {
   }
 
   /**
-   * Register a listener to be notified when engine state changes (e.g., next
-   * block spawned).
+   * 게임 이벤트 버스를 반환합니다.
+   * 구독자는 {@link GameEventBus#subscribe}로 등록하며, 이벤트는 EDT(헤드리스 모드는 엔진 호출 스레드)에서
+   * 한 번에 모아 전달됩니다.
+   */
+  public GameEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * 블록이 고정될 때마다 실행할 리스너를 등록합니다 (이벤트 버스 위의 호환용 어댑터).
    * Listener will be invoked on the EDT.
    */
   public void addStateChangeListener(Runnable r) {
     if (r == null)
       return;
-    listeners.add(r);
+    eventBus.subscribe(event -> {
+      if (event.getType() == GameEvent.Type.PIECE_LOCKED) {
+        r.run();
+      }
+    });
   }
 
   /**
-   * Invoke registered listeners immediately on the current thread.
-   * Used to notify UI to update right after important state changes (like line
-   * clears)
-   * so the UI can render the cleared rows before the engine continues mutating
-   * the board.
+   * 쌓인 이벤트 전달을 요청합니다.
+   * 헤드리스 모드: EDT가 없으므로 현재 스레드에서 바로 전달.
+   * 그 외: EDT에 한 번만 예약하여, 다음 화면 갱신 전에 그동안 쌓인 이벤트를 한꺼번에 전달.
    */
-  private void notifyListenersImmediate() {
-    if (listeners == null || listeners.isEmpty())
+  private void flushEvents() {
+    if (eventBus.size() == 0)
       return;
-    // Ensure listeners run on the Swing EDT so UI updates are safe and consistent.
-    for (Runnable r : listeners) {
-      try {
-        javax.swing.SwingUtilities.invokeLater(r);
-      } catch (Exception ex) {
-        // ignore listener exceptions to avoid breaking engine flow
-      }
+    if (headless) {
+      eventBus.drain();
+      return;
+    }
+    if (eventDrainScheduled.compareAndSet(false, true)) {
+      javax.swing.SwingUtilities.invokeLater(() -> {
+        eventDrainScheduled.set(false);
+        eventBus.drain();
+      });
     }
   }
 
@@ -732,13 +812,66 @@ public class GameEngine {
   }
 
   public long getElapsedTime() {
-    if (gameStartTime == 0)
+    if (gameStartTime == 0 && !headless)
       return 0;
-    return System.currentTimeMillis() - gameStartTime;
+    return clock.currentTimeMillis() - gameStartTime;
+  }
+
+  /**
+   * 중력 한 단계를 진행합니다 (헤드리스 시뮬레이션용).
+   * 현재 레벨의 낙하 간격만큼 시계를 진행시킨 뒤 블록을 한 칸 내립니다.
+   * 시계가 진행되므로 점수 2배 같은 시간 효과도 같은 기준으로 만료됩니다.
+   *
+   * @return 블록이 한 칸 내려갔으면 true, 고정되었거나 진행할 수 없으면 false
+   */
+  public boolean step() {
+    if (gameOver || paused || currentBlock == null)
+      return false;
+    clock.advance(gameScoring.getTimerInterval());
+    return moveBlockDown();
+  }
+
+  /**
+   * 중력을 n 단계 진행합니다. 게임 오버가 되면 그 자리에서 멈춥니다.
+   *
+   * @param n 진행할 단계 수
+   * @return 실제로 진행한 단계 수
+   */
+  public int tick(int n) {
+    int steps = 0;
+    while (steps < n && !gameOver && !paused && currentBlock != null) {
+      step();
+      steps++;
+    }
+    return steps;
+  }
+
+  /**
+   * 엔진이 사용할 시계를 설정합니다 (null이면 시스템 시계)
+   */
+  public void setClock(GameClock clock) {
+    this.clock = clock != null ? clock : GameClock.SYSTEM;
+  }
+
+  public GameClock getClock() {
+    return clock;
+  }
+
+  /**
+   * 헤드리스 모드 설정. true면 상태 변경 리스너를 EDT가 아닌 호출 스레드에서 바로 실행합니다.
+   */
+  public void setHeadless(boolean headless) {
+    this.headless = headless;
+  }
+
+  public boolean isHeadless() {
+    return headless;
   }
 
   /**
    * 대전모드: 블럭 고정 후 콜백 설정
+   * 줄 삭제와 아이템 효과가 끝나고 다음 블럭을 만들기 전에 엔진을 호출한 스레드에서 실행되므로,
+   * 공격 블럭 적용/전송처럼 놓치면 안 되는 처리는 이벤트 버스가 아니라 여기서 합니다.
    * 
    * @param callback 블럭이 고정된 직후 호출될 콜백
    */
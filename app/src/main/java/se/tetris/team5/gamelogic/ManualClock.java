@@ -0,0 +1,42 @@
+package se.tetris.team5.gamelogic;
+
+/**
+ * 직접 진행시키는 시계 (헤드리스 시뮬레이션/테스트용)
+ *
+ * {@link #advance(long)}를 호출할 때만 시간이 흐르므로 실제 시간보다 빠르게,
+ * 그리고 매번 같은 결과로 게임을 진행할 수 있습니다.
+ */
+public class ManualClock implements GameClock {
+  private long now;
+
+  public ManualClock() {
+    this(0L);
+  }
+
+  /**
+   * @param startMillis 시작 시각 (밀리초)
+   */
+  public ManualClock(long startMillis) {
+    this.now = startMillis;
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    return now;
+  }
+
+  @Override
+  public void advance(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("시간을 되돌릴 수 없습니다: " + millis);
+    }
+    now += millis;
+  }
+
+  /**
+   * 시각을 직접 지정합니다
+   */
+  public void setTime(long millis) {
+    this.now = millis;
+  }
+}
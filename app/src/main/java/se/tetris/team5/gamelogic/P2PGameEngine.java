@@ -4,6 +4,7 @@ import se.tetris.team5.blocks.Block;
 import se.tetris.team5.gamelogic.block.BlockFactory;
 import se.tetris.team5.components.game.BoardManager;
 import se.tetris.team5.gamelogic.scoring.GameScoring;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * P2P 대전용 게임 엔진
@@ -48,7 +49,7 @@ public class P2PGameEngine extends GameEngine {
         isRemoteGameOver = false;
         remoteElapsedTime = 0;
         
-        System.out.println("[P2PGameEngine] P2P 전용 엔진 초기화 완료");
+        Log.debug("[P2PGameEngine] P2P 전용 엔진 초기화 완료");
     }
     
     /**
@@ -125,7 +126,7 @@ public class P2PGameEngine extends GameEngine {
             case "W": return new se.tetris.team5.blocks.WBlock();
             case "DOT": return new se.tetris.team5.blocks.DotBlock();
             default: 
-                System.out.println("[P2PGameEngine] 알 수 없는 블록 타입: " + type);
+                Log.warn("[P2PGameEngine] 알 수 없는 블록 타입: " + type);
                 return null;
         }
     }
@@ -284,8 +285,8 @@ public class P2PGameEngine extends GameEngine {
     public void startP2PGame() {
         initializeP2P();
         setGameRunning(true);
-        setGameStartTime(System.currentTimeMillis());
-        System.out.println("[P2PGameEngine] P2P 게임 시작");
+        setGameStartTime(getClock().currentTimeMillis());
+        Log.debug("[P2PGameEngine] P2P 게임 시작");
     }
     
     /**
@@ -293,7 +294,7 @@ public class P2PGameEngine extends GameEngine {
      */
     public void stopP2PGame() {
         setGameRunning(false);
-        System.out.println("[P2PGameEngine] P2P 게임 중지");
+        Log.debug("[P2PGameEngine] P2P 게임 중지");
     }
     
     /**
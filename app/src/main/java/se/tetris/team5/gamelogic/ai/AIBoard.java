@@ -0,0 +1,447 @@
+package se.tetris.team5.gamelogic.ai;
+
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.components.game.BitBoard;
+
+/**
+ * AI 시뮬레이션 전용 비트보드
+ *
+ * 고정된 칸만 줄 단위 비트마스크(x번째 열 = 1L &lt;&lt; x)로 보관하고, 열 높이와 칸 수를 함께 유지합니다.
+ * 블록 배치는 줄 마스크 OR, 착지 위치는 열 높이, 줄 삭제는 마스크 압축으로 처리하므로
+ * int[][] 보드 복사나 칸 단위 충돌 검사 없이 후보 수 하나를 수십 번의 워드 연산으로 시뮬레이션합니다.
+ * 평가 특징(가로/세로 전환, 구멍, Well)도 마스크에서 바로 계산합니다.
+ *
+ * 고정된 칸의 Zobrist 해시(칸마다 정해진 64비트 키의 XOR)도 함께 유지하므로, 서로 다른 수로 같은 보드가
+ * 만들어지면 같은 해시를 가집니다 ({@link TranspositionTable} 키로 사용).
+ *
+ * 좌표계는 BoardManager와 같습니다 (y=0이 맨 위).
+ */
+public class AIBoard {
+
+  /** {@link #extractFeatures(int[])} 결과 인덱스: 가로 전환 */
+  public static final int FEATURE_ROW_TRANSITIONS = 0;
+  /** {@link #extractFeatures(int[])} 결과 인덱스: 세로 전환 */
+  public static final int FEATURE_COLUMN_TRANSITIONS = 1;
+  /** {@link #extractFeatures(int[])} 결과 인덱스: 구멍 수 */
+  public static final int FEATURE_HOLES = 2;
+  /** {@link #extractFeatures(int[])} 결과 인덱스: Well 합 */
+  public static final int FEATURE_WELL_SUMS = 3;
+  /** 보드 특징 수 */
+  public static final int FEATURE_COUNT = 4;
+
+  private final int height;
+  private final int width;
+  private final long fullRowMask;
+  private final long[] rows;
+  // 열 높이 (바닥부터 센 값, 빈 열은 0)
+  private final int[] heights;
+  // Well 깊이 계산용 작업 배열
+  private final int[] wellDepths;
+  private int cellCount;
+  private int maxHeight;
+  private long hash;
+
+  // 마지막 place() 결과
+  private int linesCleared;
+  private int usefulCells;
+  private int landingHeight;
+
+  /**
+   * 빈 보드 생성자
+   *
+   * @param height 보드 높이
+   * @param width  보드 너비 (최대 {@link BitBoard#MAX_WIDTH})
+   */
+  public AIBoard(int height, int width) {
+    if (height <= 0 || width <= 0 || width > BitBoard.MAX_WIDTH) {
+      throw new IllegalArgumentException("지원하지 않는 보드 크기입니다: " + height + "x" + width);
+    }
+    this.height = height;
+    this.width = width;
+    this.fullRowMask = width == BitBoard.MAX_WIDTH ? -1L : (1L << width) - 1;
+    this.rows = new long[height];
+    this.heights = new int[width];
+    this.wellDepths = new int[width];
+  }
+
+  /**
+   * 복사 생성자
+   */
+  public AIBoard(AIBoard other) {
+    this(other.height, other.width);
+    copyFrom(other);
+  }
+
+  /**
+   * 게임 보드의 고정된 칸으로 AI 보드를 만듭니다
+   */
+  public static AIBoard fromBitBoard(BitBoard bits) {
+    AIBoard board = new AIBoard(bits.getHeight(), bits.getWidth());
+    for (int y = 0; y < board.height; y++) {
+      board.rows[y] = bits.getRow(y);
+      board.cellCount += Long.bitCount(board.rows[y]);
+      board.hash ^= rowHash(y, board.rows[y]);
+    }
+    board.refreshHeights(0);
+    return board;
+  }
+
+  /**
+   * 다른 보드의 상태를 그대로 복사합니다 (크기가 같아야 함)
+   */
+  public void copyFrom(AIBoard other) {
+    System.arraycopy(other.rows, 0, rows, 0, height);
+    System.arraycopy(other.heights, 0, heights, 0, width);
+    cellCount = other.cellCount;
+    maxHeight = other.maxHeight;
+    hash = other.hash;
+    linesCleared = other.linesCleared;
+    usefulCells = other.usefulCells;
+    landingHeight = other.landingHeight;
+  }
+
+  /**
+   * 블록을 x 열에서 위(y=0)부터 떨어뜨렸을 때 멈추는 y 위치를 반환합니다.
+   * 블록 열마다 가장 아래 칸과 보드 열 높이만 비교하므로 블록 크기에 비례하는 시간이 듭니다.
+   *
+   * @return 착지 y (시작 위치 y=0에 놓을 수 없거나 보드 밖이면 -1)
+   */
+  public int dropY(RotationTable.Orientation o, int x) {
+    if (x < 0 || x + o.width() > width || o.height() > height) {
+      return -1;
+    }
+    int y = height - o.height();
+    for (int i = 0; i < o.width(); i++) {
+      int bottom = o.getColumnBottom(i);
+      if (bottom >= 0) {
+        // 블록 바닥 칸은 열 꼭대기 바로 위 줄(height - 열 높이 - 1)까지 내려갈 수 있음
+        int limit = height - heights[x + i] - 1 - bottom;
+        if (limit < y) {
+          y = limit;
+        }
+      }
+    }
+    return y < 0 ? -1 : y;
+  }
+
+  /**
+   * 블록을 (x, y)에 고정하고 가득 찬 줄을 삭제합니다.
+   * 삭제된 줄 수, 삭제된 줄에 들어간 블록 칸 수, 착지 높이는 이후 getter로 조회합니다.
+   *
+   * @return 맨 위 줄에 블록이 남으면(게임 오버) false
+   */
+  public boolean place(RotationTable.Orientation o, int x, int y) {
+    int lowestRow = 0;
+    long seen = 0L;
+    for (int j = 0; j < o.height(); j++) {
+      long mask = o.getRowMask(j);
+      if (mask == 0L) {
+        continue;
+      }
+      lowestRow = j;
+      rows[y + j] |= mask << x;
+      hash ^= rowHash(y + j, mask << x);
+      // 블록 열의 가장 위 칸이 열 높이를 결정
+      for (long newColumns = mask & ~seen; newColumns != 0L; newColumns &= newColumns - 1) {
+        int column = x + Long.numberOfTrailingZeros(newColumns);
+        int columnHeight = height - (y + j);
+        if (columnHeight > heights[column]) {
+          heights[column] = columnHeight;
+          if (columnHeight > maxHeight) {
+            maxHeight = columnHeight;
+          }
+        }
+      }
+      seen |= mask;
+    }
+    cellCount += o.getCellCount();
+    landingHeight = height - (y + lowestRow);
+    linesCleared = 0;
+    usefulCells = 0;
+
+    if (rows[0] != 0L) {
+      return false;
+    }
+
+    // 블록이 걸친 줄만 가득 찰 수 있음
+    for (int j = 0; j < o.height(); j++) {
+      if (rows[y + j] == fullRowMask) {
+        linesCleared++;
+        usefulCells += Long.bitCount(o.getRowMask(j));
+      }
+    }
+    if (linesCleared > 0) {
+      int oldHighestRow = height - maxHeight;
+      int writeRow = y + o.height() - 1;
+      // 이동하는 줄(삭제된 줄 포함)의 키를 빼고, 압축 후 새 위치의 키를 다시 더함
+      for (int r = oldHighestRow; r <= writeRow; r++) {
+        hash ^= rowHash(r, rows[r]);
+      }
+      int bottomRow = writeRow;
+      for (int readRow = writeRow; readRow >= oldHighestRow; readRow--) {
+        if (rows[readRow] != fullRowMask) {
+          rows[writeRow--] = rows[readRow];
+        }
+      }
+      for (int r = writeRow; r >= oldHighestRow; r--) {
+        rows[r] = 0L;
+      }
+      for (int r = writeRow + 1; r <= bottomRow; r++) {
+        hash ^= rowHash(r, rows[r]);
+      }
+      cellCount -= linesCleared * width;
+      // 구멍이 있던 열은 삭제된 줄 수보다 더 낮아질 수 있으므로 위에서부터 다시 계산
+      refreshHeights(oldHighestRow + linesCleared);
+      return rows[0] == 0L;
+    }
+    return true;
+  }
+
+  /**
+   * 줄 y의 마스크
+   */
+  public long getRow(int y) {
+    return rows[y];
+  }
+
+  /**
+   * 모든 줄 마스크를 dst[offset..offset+height)에 복사합니다 (배치 평가용)
+   */
+  void copyRowsTo(long[] dst, int offset) {
+    System.arraycopy(rows, 0, dst, offset, height);
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getColumnHeight(int x) {
+    return heights[x];
+  }
+
+  public int getMaxHeight() {
+    return maxHeight;
+  }
+
+  /**
+   * 고정된 칸의 Zobrist 해시 (빈 보드는 0)
+   */
+  public long getZobristHash() {
+    return hash;
+  }
+
+  /**
+   * 블록이 있는 가장 위쪽 줄의 인덱스 (없으면 -1)
+   */
+  public int getHighestRow() {
+    return maxHeight == 0 ? -1 : height - maxHeight;
+  }
+
+  /**
+   * 구멍 수 (열마다 열 높이 - 채워진 칸 수의 합)
+   */
+  public int getHoleCount() {
+    int total = 0;
+    for (int x = 0; x < width; x++) {
+      total += heights[x];
+    }
+    return total - cellCount;
+  }
+
+  /**
+   * 마지막 place()로 삭제된 줄 수
+   */
+  public int getLinesCleared() {
+    return linesCleared;
+  }
+
+  /**
+   * 마지막 place()에서 삭제된 줄에 들어간 블록 칸 수 (El-Tetris EPCM용)
+   */
+  public int getUsefulCells() {
+    return usefulCells;
+  }
+
+  /**
+   * 마지막 place()의 착지 높이 (블록 가장 아래 칸의 높이, 바닥 줄이 1)
+   */
+  public int getLandingHeight() {
+    return landingHeight;
+  }
+
+  /**
+   * 보드에만 의존하는 평가 특징을 한 번의 줄 순회로 모두 계산합니다.
+   * 결과는 각각 {@link #countRowTransitions()}, {@link #countColumnTransitions()}, {@link #getHoleCount()},
+   * {@link #calculateWellSums()}와 같습니다 (개별 메서드는 줄을 특징마다 따로 순회함).
+   *
+   * @param out FEATURE_* 인덱스에 결과를 기록할 배열 (길이 {@link #FEATURE_COUNT} 이상)
+   */
+  public void extractFeatures(int[] out) {
+    int highestRow = getHighestRow();
+    int rowTransitions = 0;
+    int columnTransitions = 0;
+    int wellSums = 0;
+    if (highestRow >= 0) {
+      long innerPairs = fullRowMask >>> 1;
+      long rightWall = 1L << (width - 1);
+      long previous = fullRowMask; // 위쪽 경계는 채워진 것으로 봄
+      long active = 0L;
+      for (int y = 0; y <= highestRow; y++) {
+        long row = rows[y];
+
+        // 가로 전환: 이웃한 칸 쌍 + 좌우 벽
+        rowTransitions += Long.bitCount((row ^ (row >>> 1)) & innerPairs);
+        if ((row & 1L) == 0L) {
+          rowTransitions++;
+        }
+        if ((row & rightWall) == 0L) {
+          rowTransitions++;
+        }
+
+        // 세로 전환: 윗줄과 다른 칸
+        columnTransitions += Long.bitCount(previous ^ row);
+        previous = row;
+
+        // Well: 양옆이 채워진 빈 칸이 끊기면 그때까지의 깊이를 더함
+        long wells = ~row & ((row << 1) | 1L) & ((row >>> 1) | rightWall) & fullRowMask;
+        for (long ended = active & ~wells; ended != 0L; ended &= ended - 1) {
+          int x = Long.numberOfTrailingZeros(ended);
+          wellSums += wellDepths[x] * (wellDepths[x] + 1) / 2;
+          wellDepths[x] = 0;
+        }
+        for (long cells = wells; cells != 0L; cells &= cells - 1) {
+          wellDepths[Long.numberOfTrailingZeros(cells)]++;
+        }
+        active = wells;
+      }
+      columnTransitions += Long.bitCount(~previous & fullRowMask);
+      for (long cells = active; cells != 0L; cells &= cells - 1) {
+        int x = Long.numberOfTrailingZeros(cells);
+        wellSums += wellDepths[x] * (wellDepths[x] + 1) / 2;
+        wellDepths[x] = 0;
+      }
+    }
+    out[FEATURE_ROW_TRANSITIONS] = rowTransitions;
+    out[FEATURE_COLUMN_TRANSITIONS] = columnTransitions;
+    out[FEATURE_HOLES] = getHoleCount();
+    out[FEATURE_WELL_SUMS] = wellSums;
+  }
+
+  /**
+   * 가로 전환 횟수 (좌우 벽은 채워진 것으로 보고, 0번 줄부터 가장 높은 블록 줄까지)
+   */
+  public int countRowTransitions() {
+    int highestRow = getHighestRow();
+    if (highestRow < 0) {
+      return 0;
+    }
+    long innerPairs = fullRowMask >>> 1;
+    long rightWall = 1L << (width - 1);
+    int transitions = 0;
+    for (int y = 0; y <= highestRow; y++) {
+      long row = rows[y];
+      transitions += Long.bitCount((row ^ (row >>> 1)) & innerPairs);
+      if ((row & 1L) == 0L) {
+        transitions++; // 왼쪽 벽
+      }
+      if ((row & rightWall) == 0L) {
+        transitions++; // 오른쪽 벽
+      }
+    }
+    return transitions;
+  }
+
+  /**
+   * 세로 전환 횟수 (위쪽 경계는 채워진 것으로 보고, 0번 줄부터 가장 높은 블록 줄까지)
+   */
+  public int countColumnTransitions() {
+    int highestRow = getHighestRow();
+    if (highestRow < 0) {
+      return 0;
+    }
+    long previous = fullRowMask;
+    int transitions = 0;
+    for (int y = 0; y <= highestRow; y++) {
+      transitions += Long.bitCount(previous ^ rows[y]);
+      previous = rows[y];
+    }
+    // 마지막 줄이 빈 칸이면 아래쪽 경계 전환
+    return transitions + Long.bitCount(~previous & fullRowMask);
+  }
+
+  /**
+   * Well 깊이 합 (양옆이 채워진 빈 칸이 세로로 이어진 길이 d마다 1+2+...+d, 0번 줄부터 가장 높은 블록 줄까지)
+   */
+  public int calculateWellSums() {
+    int highestRow = getHighestRow();
+    if (highestRow < 0) {
+      return 0;
+    }
+    long rightWall = 1L << (width - 1);
+    long active = 0L;
+    int wellSums = 0;
+    for (int y = 0; y <= highestRow; y++) {
+      long row = rows[y];
+      long wells = ~row & ((row << 1) | 1L) & ((row >>> 1) | rightWall) & fullRowMask;
+      for (long ended = active & ~wells; ended != 0L; ended &= ended - 1) {
+        int x = Long.numberOfTrailingZeros(ended);
+        wellSums += wellDepths[x] * (wellDepths[x] + 1) / 2;
+        wellDepths[x] = 0;
+      }
+      for (long cells = wells; cells != 0L; cells &= cells - 1) {
+        wellDepths[Long.numberOfTrailingZeros(cells)]++;
+      }
+      active = wells;
+    }
+    for (long cells = active; cells != 0L; cells &= cells - 1) {
+      int x = Long.numberOfTrailingZeros(cells);
+      wellSums += wellDepths[x] * (wellDepths[x] + 1) / 2;
+      wellDepths[x] = 0;
+    }
+    return wellSums;
+  }
+
+  // 줄 y의 칸들에 해당하는 Zobrist 키의 XOR
+  private static long rowHash(int y, long mask) {
+    long h = 0L;
+    for (long cells = mask; cells != 0L; cells &= cells - 1) {
+      h ^= zobristKey(y, Long.numberOfTrailingZeros(cells));
+    }
+    return h;
+  }
+
+  /**
+   * 칸 (x, y)의 Zobrist 키
+   * 난수표 대신 칸 번호를 SplitMix64로 섞어 만들므로 보드 크기에 상관없이 항상 같은 키가 나옵니다.
+   */
+  static long zobristKey(int y, int x) {
+    long z = (((long) y << 6) | x) * 0x9E3779B97F4A7C15L + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  // fromRow 줄부터 아래로 내려가며 열마다 처음 만나는 칸으로 높이를 다시 계산
+  private void refreshHeights(int fromRow) {
+    java.util.Arrays.fill(heights, 0);
+    maxHeight = 0;
+    long seen = 0L;
+    for (int y = Math.max(0, fromRow); y < height && seen != fullRowMask; y++) {
+      long newColumns = rows[y] & ~seen;
+      if (newColumns == 0L) {
+        continue;
+      }
+      if (maxHeight == 0) {
+        maxHeight = height - y;
+      }
+      for (long cells = newColumns; cells != 0L; cells &= cells - 1) {
+        heights[Long.numberOfTrailingZeros(cells)] = height - y;
+      }
+      seen |= newColumns;
+    }
+  }
+}
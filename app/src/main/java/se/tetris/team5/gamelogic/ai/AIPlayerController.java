@@ -4,10 +4,20 @@ import se.tetris.team5.gamelogic.GameEngine;
 import javax.swing.Timer;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * AI 플레이어 컨트롤러
  * AI의 생명주기와 행동을 관리하는 클래스
+ *
+ * 탐색은 EDT가 아닌 전용 계획 스레드에서 실행합니다. 블록이 나타나면 EDT에서 보드를 스냅샷으로 복사해
+ * 계획 스레드에 넘기고, 완성된 {@link MovePlan}을 타이머 틱마다 입력 하나씩 실행합니다.
+ * 계획 중이나 실행 중에 블록이 바뀌거나 고정된 보드가 바뀌면(공격 줄 추가 등) 계획을 버리고 다시 계획합니다.
+ * 버린 계획의 탐색은 {@link TetrisAI#cancelPlans()}로 중단하고, 정지 후 다시 시작하면 이전 계획 스레드가
+ * 끝난 뒤에 탐색하므로 같은 AI에서 탐색 두 개가 동시에 돌지 않습니다.
  */
 public class AIPlayerController {
 
@@ -19,35 +29,73 @@ public class AIPlayerController {
   private Runnable onGameOverCallback;
   private Runnable onMoveCallback; // AI가 행동할 때마다 호출되는 콜백 (UI 업데이트용)
 
+  /** 탐색 전용 스레드 (start()에서 생성, stop()에서 종료) */
+  private ExecutorService planner;
+  /** stop()으로 종료 중인 이전 탐색 스레드 (끝나기 전에는 새로 탐색하지 않음) */
+  private ExecutorService retiredPlanner;
+  /** 계산 중인 계획 */
+  private CompletableFuture<MovePlan> pendingPlan;
+  /** 실행 중인 계획 */
+  private MovePlan currentPlan;
+  /** 계산 중인 계획을 요청할 때의 블록과 고정된 보드 버전 */
+  private se.tetris.team5.blocks.Block pendingPiece;
+  private int pendingBoardVersion;
+
   /**
    * AI 난이도 설정
-   * 난이도는 AI의 사고 시간(thinkDelay)으로만 조절됩니다.
+   * 난이도는 세 값으로 조절됩니다.
+   * - thinkDelay: AI 입력 사이의 최소 간격 (이동/회전/드롭 하나마다). 사람처럼 보이게 입력 속도만 늦추며 탐색과는 관계없습니다.
+   * - 탐색 시간 예산: 블록 하나의 배치를 정하는 데 쓰는 시간. 계획 스레드에서 블록마다 한 번 쓰고, 입력 간격과 따로 흐릅니다.
+   * - 도달 가능성 탐색: 턱 밑으로 밀어 넣기, 회전 끼워 넣기처럼 입력으로 실제로 갈 수 있는 자리까지 후보로 쓸지
    */
   public enum AIDifficulty {
-    /** 보통 난이도: 500ms 사고 시간 */
-    NORMAL(500),
-    /** 어려움 난이도: 200ms 사고 시간 */
-    HARD(200);
+    /** 보통 난이도: 입력 간격 500ms, 탐색 1ms, 도달 가능성 탐색 */
+    NORMAL(500, 1_000, true),
+    /** 어려움 난이도: 입력 간격 200ms, 탐색 8ms, 도달 가능성 탐색 */
+    HARD(200, 8_000, true);
 
     private final int thinkDelayMs;
+    private final long searchBudgetMicros;
+    private final boolean reachabilitySearch;
 
-    AIDifficulty(int thinkDelayMs) {
+    AIDifficulty(int thinkDelayMs, long searchBudgetMicros, boolean reachabilitySearch) {
       this.thinkDelayMs = thinkDelayMs;
+      this.searchBudgetMicros = searchBudgetMicros;
+      this.reachabilitySearch = reachabilitySearch;
     }
 
     /**
-     * 난이도에 해당하는 사고 시간 반환
+     * 블록 하나의 배치를 정할 때 쓸 탐색 시간 예산 반환
+     * 예산 안에서 미리보기 블록까지 탐색을 깊게 하므로, 빠른 컴퓨터일수록 더 깊이 내다봅니다.
      *
-     * @return 사고 시간 (밀리초)
+     * @return 탐색 시간 예산 (마이크로초)
+     */
+    public long getSearchBudgetMicros() {
+      return searchBudgetMicros;
+    }
+
+    /**
+     * 난이도에 해당하는 입력 간격 반환
+     * AI는 이 간격마다 입력을 하나씩 실행합니다. 탐색 시간은 {@link #getSearchBudgetMicros()}로 따로 정해지며
+     * 이 간격에 더해지지 않습니다.
+     *
+     * @return 입력 간격 (밀리초)
      */
     public int getThinkDelayMs() {
       return thinkDelayMs;
     }
+
+    /**
+     * 도달 가능성 탐색 사용 여부 ({@link TetrisAI#setReachabilitySearch(boolean)})
+     */
+    public boolean isReachabilitySearch() {
+      return reachabilitySearch;
+    }
   }
 
   private AIDifficulty difficulty = AIDifficulty.NORMAL;
 
-  /** AI 행동 주기 (밀리초) - 고정값 (난이도는 사고 시간으로만 조절) */
+  /** AI 행동 주기 (밀리초) - 고정값 (입력 속도는 난이도의 입력 간격으로 조절) */
   private static final int AI_ACTION_INTERVAL_MS = 200;
 
   /**
@@ -62,7 +110,7 @@ public class AIPlayerController {
 
   /**
    * AI 난이도 설정
-   * 난이도는 사고 시간으로만 조절됩니다. 행동 주기는 고정입니다.
+   * 난이도는 입력 간격, 탐색 시간 예산, 도달 가능성 탐색으로 조절됩니다. 타이머 주기는 고정입니다.
    *
    * @param difficulty AI 난이도 (NORMAL: 보통, HARD: 어려움)
    */
@@ -73,7 +121,7 @@ public class AIPlayerController {
 
     this.difficulty = difficulty;
 
-    // AI에 난이도 적용 (사고 시간만 조절)
+    // AI에 난이도 적용 (입력 간격, 탐색 시간 예산, 도달 가능성 탐색)
     if (ai != null) {
       ai.setDifficulty(difficulty);
     }
@@ -89,9 +137,9 @@ public class AIPlayerController {
   }
 
   /**
-   * AI 사고 시간 직접 설정 (AI vs AI 모드 등 특수한 경우용)
+   * AI 입력 간격 직접 설정 (AI vs AI 모드 등 특수한 경우용)
    *
-   * @param thinkDelayMs 사고 시간 (밀리초)
+   * @param thinkDelayMs 입력 간격 (밀리초)
    */
   public void setThinkDelay(int thinkDelayMs) {
     if (ai != null) {
@@ -99,6 +147,29 @@ public class AIPlayerController {
     }
   }
 
+  /**
+   * AI 탐색에 사용할 최대 작업 스레드 수 설정 (1이면 순차 탐색)
+   * 작업 수는 AI가 고르는 수에 영향을 주지 않고 탐색 시간만 줄입니다.
+   * 설정하지 않으면 -Dtetris.ai.workers 값(없으면 1)을 씁니다.
+   *
+   * @param maxWorkers 1 이상
+   */
+  public void setMaxWorkers(int maxWorkers) {
+    if (ai != null) {
+      ai.setMaxWorkers(maxWorkers);
+    }
+  }
+
+  /**
+   * AI 탐색 계측 값 (평가 보드 수, 초당 노드 수, 탐색 시간 백분위, 캐시 적중률)
+   *
+   * @return 정리된 뒤에는 null
+   */
+  public AISearchStats.Snapshot getSearchStats() {
+    TetrisAI current = ai;
+    return current == null ? null : current.getSearchStats();
+  }
+
   /**
    * AI 시작
    */
@@ -115,6 +186,14 @@ public class AIPlayerController {
       aiTimer.stop();
     }
 
+    if (planner == null) {
+      planner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "AI-Planner");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
     aiTimer = new Timer(AI_ACTION_INTERVAL_MS, createAIActionListener());
 
     aiTimer.start();
@@ -150,6 +229,14 @@ public class AIPlayerController {
       aiTimer.stop();
       aiTimer = null;
     }
+    cancelPendingPlan();
+    currentPlan = null;
+    if (planner != null) {
+      // 실행 중인 탐색은 cancelPendingPlan()에서 취소했으므로 곧 끝남
+      planner.shutdown();
+      retiredPlanner = planner;
+      planner = null;
+    }
   }
 
   /**
@@ -221,7 +308,9 @@ public class AIPlayerController {
     }
 
     // AI 행동 실행
-    ai.makeMove();
+    if (!stepPlan()) {
+      return;
+    }
 
     // UI 업데이트 콜백 호출
     if (onMoveCallback != null) {
@@ -229,6 +318,92 @@ public class AIPlayerController {
     }
   }
 
+  /**
+   * 유효한 계획이 있으면 입력 하나를 실행하고, 없으면 계획 스레드에 새 계획을 요청합니다 (EDT에서 호출)
+   *
+   * @return 입력을 실행했으면 true
+   */
+  private boolean stepPlan() {
+    if (!isRetiredPlannerDone()) {
+      // 정지 전에 취소한 탐색이 아직 돌고 있으면 끝날 때까지 다음 틱으로 미룸 (탐색은 후보마다 취소를 확인하므로 곧 끝남)
+      return false;
+    }
+    if (planner == null) {
+      // 계획 스레드가 없으면 (정지 후 직접 호출 등) 기존처럼 EDT에서 탐색
+      return ai.makeMove();
+    }
+
+    // 완성된 계획 받기 (그 사이 보드가 바뀌었으면 버림)
+    if (pendingPlan != null && pendingPlan.isDone()) {
+      MovePlan plan = pendingPlan.isCompletedExceptionally() || pendingPlan.isCancelled() ? null : pendingPlan.join();
+      pendingPlan = null;
+      if (plan == null) {
+        // 탐색 실패 시 이번 블록은 EDT에서 직접 탐색
+        return ai.makeMove();
+      }
+      currentPlan = ai.isPlanCurrent(plan) ? plan : null;
+    }
+
+    if (currentPlan != null) {
+      if (ai.isPlanCurrent(currentPlan)) {
+        return ai.followPlan(currentPlan);
+      }
+      // 블록이 고정되었거나 공격 줄이 들어옴 -> 다시 계획
+      currentPlan = null;
+    }
+
+    if (pendingPlan != null) {
+      // 계획 중에 보드가 바뀌었으면 취소하고 다시 요청 (결과는 위에서 버려짐)
+      if (!isPendingPlanCurrent()) {
+        cancelPendingPlan();
+      } else {
+        return false;
+      }
+    }
+
+    Supplier<MovePlan> task = ai.preparePlan();
+    if (task != null) {
+      pendingPiece = gameEngine.getCurrentBlock();
+      pendingBoardVersion = gameEngine.getBoardManager().getBoardVersion();
+      pendingPlan = CompletableFuture.supplyAsync(task, planner);
+      // 다음 타이머 틱까지 기다리지 않고 계획이 나오는 대로 첫 입력을 EDT에서 실행
+      CompletableFuture<MovePlan> requested = pendingPlan;
+      requested.thenRun(() -> javax.swing.SwingUtilities.invokeLater(() -> {
+        if (pendingPlan == requested && isActive && !isPaused) {
+          handleAIAction();
+        }
+      }));
+    }
+    return false;
+  }
+
+  // 계산 중인 계획이 요청 당시의 블록/보드에 대한 것인지
+  private boolean isPendingPlanCurrent() {
+    return pendingPiece == gameEngine.getCurrentBlock()
+        && pendingBoardVersion == gameEngine.getBoardManager().getBoardVersion();
+  }
+
+  private void cancelPendingPlan() {
+    if (pendingPlan != null) {
+      // future 취소만으로는 실행 중인 탐색이 멈추지 않으므로 AI에도 알림
+      pendingPlan.cancel(false);
+      pendingPlan = null;
+      if (ai != null) {
+        ai.cancelPlans();
+      }
+    }
+    pendingPiece = null;
+  }
+
+  // 정지한 계획 스레드의 작업이 모두 끝났는지 (끝났으면 더 기다리지 않도록 잊음)
+  private boolean isRetiredPlannerDone() {
+    if (retiredPlanner != null && !retiredPlanner.isTerminated()) {
+      return false;
+    }
+    retiredPlanner = null;
+    return true;
+  }
+
   /**
    * 리소스 정리
    */
@@ -0,0 +1,236 @@
+package se.tetris.team5.gamelogic.ai;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 탐색 계측 (결정 수, 평가한 보드 수, 가지치기 수, 사고 시간 분포)
+ *
+ * 평가/가지치기 수는 fork/join 작업들이 동시에 세므로 LongAdder로, 사고 시간은 로그 간격 히스토그램으로 기록합니다.
+ * 히스토그램은 2의 거듭제곱 구간마다 8칸으로 나눠 백분위 오차가 12.5% 이내이고, 기록할 때 객체를 만들지 않습니다.
+ * 어느 스레드에서든 {@link #snapshot(double, double)}으로 그 순간의 값을 읽을 수 있습니다.
+ */
+public final class AISearchStats {
+
+  // 16µs 미만은 1µs 단위, 그 위는 2의 거듭제곱 구간마다 8칸
+  private static final int LINEAR_BUCKETS = 16;
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = LINEAR_BUCKETS + (Long.SIZE - 4) * SUB_BUCKETS;
+
+  private final LongAdder evaluations = new LongAdder();
+  private final LongAdder pruned = new LongAdder();
+  private final LongAdder decisions = new LongAdder();
+  private final LongAdder thinkNanos = new LongAdder();
+  private final AtomicLong maxThinkMicros = new AtomicLong();
+  private final AtomicLongArray thinkHistogram = new AtomicLongArray(BUCKET_COUNT);
+  private volatile long lastPositions;
+  private volatile long lastThinkMicros;
+
+  void countEvaluation() {
+    evaluations.increment();
+  }
+
+  void countEvaluations(int count) {
+    evaluations.add(count);
+  }
+
+  void countPruned(int count) {
+    if (count > 0) {
+      pruned.add(count);
+    }
+  }
+
+  long getEvaluationCount() {
+    return evaluations.sum();
+  }
+
+  /**
+   * 결정 하나(블록 하나의 탐색)를 기록합니다
+   *
+   * @param elapsedNanos 탐색에 걸린 시간
+   * @param positions    이번 탐색에서 평가한 보드 수
+   */
+  void recordDecision(long elapsedNanos, long positions) {
+    long micros = Math.max(0L, elapsedNanos / 1000L);
+    decisions.increment();
+    thinkNanos.add(Math.max(0L, elapsedNanos));
+    thinkHistogram.incrementAndGet(bucketOf(micros));
+    maxThinkMicros.accumulateAndGet(micros, Math::max);
+    lastPositions = positions;
+    lastThinkMicros = micros;
+  }
+
+  /**
+   * 모든 값을 0으로 되돌립니다 (탐색 중에 호출하면 그 탐색의 일부만 남을 수 있음)
+   */
+  public void reset() {
+    evaluations.reset();
+    pruned.reset();
+    decisions.reset();
+    thinkNanos.reset();
+    maxThinkMicros.set(0L);
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      thinkHistogram.set(i, 0L);
+    }
+    lastPositions = 0L;
+    lastThinkMicros = 0L;
+  }
+
+  /**
+   * 지금까지의 값을 복사합니다
+   *
+   * @param transpositionHitRate 전치표 적중률 (사용하지 않으면 음수)
+   * @param placementHitRate     배치 캐시 적중률 (사용하지 않으면 음수)
+   */
+  public Snapshot snapshot(double transpositionHitRate, double placementHitRate) {
+    long[] counts = new long[BUCKET_COUNT];
+    long total = 0L;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = thinkHistogram.get(i);
+      total += counts[i];
+    }
+    long max = maxThinkMicros.get();
+    return new Snapshot(decisions.sum(), evaluations.sum(), pruned.sum(), thinkNanos.sum(), lastPositions,
+        lastThinkMicros, percentile(counts, total, 0.50, max), percentile(counts, total, 0.99, max), max,
+        transpositionHitRate, placementHitRate);
+  }
+
+  static int bucketOf(long micros) {
+    if (micros < LINEAR_BUCKETS) {
+      return (int) micros;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + sub;
+  }
+
+  // 칸에 들어가는 가장 큰 값
+  static long bucketUpperBound(int bucket) {
+    if (bucket < LINEAR_BUCKETS) {
+      return bucket;
+    }
+    int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+    int sub = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+    long low = (1L << exponent) + ((long) sub << (exponent - SUB_BUCKET_BITS));
+    return low + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+
+  // q 백분위가 들어 있는 칸의 상한 (최댓값보다 크게 보고하지 않음)
+  private static long percentile(long[] counts, long total, double q, long max) {
+    if (total == 0) {
+      return 0L;
+    }
+    long rank = (long) Math.ceil(q * total);
+    long seen = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(bucketUpperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * 한 순간의 계측 값 (불변)
+   */
+  public static final class Snapshot {
+    private final long decisions;
+    private final long positionsEvaluated;
+    private final long prunedCandidates;
+    private final long totalThinkNanos;
+    private final long lastPositions;
+    private final long lastThinkMicros;
+    private final long thinkP50Micros;
+    private final long thinkP99Micros;
+    private final long thinkMaxMicros;
+    private final double transpositionHitRate;
+    private final double placementHitRate;
+
+    Snapshot(long decisions, long positionsEvaluated, long prunedCandidates, long totalThinkNanos,
+        long lastPositions, long lastThinkMicros, long thinkP50Micros, long thinkP99Micros, long thinkMaxMicros,
+        double transpositionHitRate, double placementHitRate) {
+      this.decisions = decisions;
+      this.positionsEvaluated = positionsEvaluated;
+      this.prunedCandidates = prunedCandidates;
+      this.totalThinkNanos = totalThinkNanos;
+      this.lastPositions = lastPositions;
+      this.lastThinkMicros = lastThinkMicros;
+      this.thinkP50Micros = thinkP50Micros;
+      this.thinkP99Micros = thinkP99Micros;
+      this.thinkMaxMicros = thinkMaxMicros;
+      this.transpositionHitRate = transpositionHitRate;
+      this.placementHitRate = placementHitRate;
+    }
+
+    /** 탐색한 블록 수 */
+    public long getDecisions() {
+      return decisions;
+    }
+
+    /** 평가한 보드 수 (전체) */
+    public long getPositionsEvaluated() {
+      return positionsEvaluated;
+    }
+
+    /** 마지막 결정에서 평가한 보드 수 */
+    public long getLastPositions() {
+      return lastPositions;
+    }
+
+    /** 결정 하나당 평균 평가 보드 수 */
+    public double getPositionsPerDecision() {
+      return decisions == 0 ? 0.0 : (double) positionsEvaluated / decisions;
+    }
+
+    /** 초당 평가 보드 수 (탐색 시간만 셈) */
+    public double getNodesPerSecond() {
+      return totalThinkNanos == 0 ? 0.0 : positionsEvaluated * 1e9 / totalThinkNanos;
+    }
+
+    /** 빔에서 잘려 더 확장하지 않은 후보 수 (전체) */
+    public long getPrunedCandidates() {
+      return prunedCandidates;
+    }
+
+    /** 마지막 결정의 탐색 시간 (마이크로초) */
+    public long getLastThinkMicros() {
+      return lastThinkMicros;
+    }
+
+    /** 탐색 시간 중앙값 (마이크로초, 12.5% 이내 오차) */
+    public long getThinkP50Micros() {
+      return thinkP50Micros;
+    }
+
+    /** 탐색 시간 99 백분위 (마이크로초, 12.5% 이내 오차) */
+    public long getThinkP99Micros() {
+      return thinkP99Micros;
+    }
+
+    /** 가장 오래 걸린 탐색 시간 (마이크로초) */
+    public long getThinkMaxMicros() {
+      return thinkMaxMicros;
+    }
+
+    /** 평가 특징 전치표 적중률 (사용하지 않으면 음수) */
+    public double getTranspositionHitRate() {
+      return transpositionHitRate;
+    }
+
+    /** 도달 가능한 배치 캐시 적중률 (사용하지 않으면 음수) */
+    public double getPlacementHitRate() {
+      return placementHitRate;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("decisions=%d positions=%d (%.0f/decision) nodes/s=%.0f pruned=%d"
+          + " think p50=%dus p99=%dus max=%dus tt=%.2f placement=%.2f",
+          decisions, positionsEvaluated, getPositionsPerDecision(), getNodesPerSecond(), prunedCandidates,
+          thinkP50Micros, thinkP99Micros, thinkMaxMicros, transpositionHitRate, placementHitRate);
+    }
+  }
+}
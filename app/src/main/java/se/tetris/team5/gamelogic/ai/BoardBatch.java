@@ -0,0 +1,228 @@
+package se.tetris.team5.gamelogic.ai;
+
+import se.tetris.team5.components.game.BitBoard;
+
+/**
+ * 여러 보드를 한 번에 평가하는 배치 (struct-of-arrays)
+ *
+ * 보드 N개의 줄 마스크를 long 배열 하나에 이어 붙이고, 착지 높이/삭제 줄 수/유용한 칸 수는 보드별 int 배열에 둡니다.
+ * 평가는 이어 붙인 배열을 순서대로 훑는 분기 없는 반복문이라 보드 객체를 따라 메모리를 건너다니지 않고,
+ * 한 줄이 long 하나이므로 모든 열을 비트 연산 한 번에 처리합니다 (Well 깊이도 열별 카운터를 비트 평면으로 두어 한꺼번에 셈).
+ *
+ * 점수는 {@link TetrisAI}의 보드 평가와 같은 식({@link #score})으로 계산하므로 결과가 비트 단위까지 같습니다.
+ * 같은 배치를 여러 스레드에서 동시에 쓰면 안 됩니다 (작업마다 하나씩 사용).
+ */
+public final class BoardBatch {
+
+  private final int height;
+  private final int width;
+  private final long fullRowMask;
+  private final int capacity;
+
+  // 보드 i의 y번 줄 = rows[i * height + y]
+  private final long[] rows;
+  private final int[] highestRows;
+  private final int[] landingHeights;
+  private final int[] linesCleared;
+  private final int[] usefulCells;
+
+  // 특징 (구멍 수는 add가, 나머지는 evaluate가 채움)
+  private final int[] rowTransitions;
+  private final int[] columnTransitions;
+  private final int[] holes;
+  private final int[] wellSums;
+  // Well 깊이를 열마다 세는 비트 평면 카운터 (k번 평면 = 깊이의 k번째 비트)
+  private final long[] depthPlanes;
+
+  private int size;
+
+  /**
+   * @param height   보드 높이
+   * @param width    보드 너비 (최대 {@link BitBoard#MAX_WIDTH})
+   * @param capacity 담을 수 있는 보드 수
+   */
+  public BoardBatch(int height, int width, int capacity) {
+    if (height <= 0 || width <= 0 || width > BitBoard.MAX_WIDTH || capacity < 0) {
+      throw new IllegalArgumentException("지원하지 않는 배치 크기입니다: " + height + "x" + width + " x" + capacity);
+    }
+    this.height = height;
+    this.width = width;
+    this.fullRowMask = width == BitBoard.MAX_WIDTH ? -1L : (1L << width) - 1;
+    this.capacity = capacity;
+    this.rows = new long[capacity * height];
+    this.highestRows = new int[capacity];
+    this.landingHeights = new int[capacity];
+    this.linesCleared = new int[capacity];
+    this.usefulCells = new int[capacity];
+    this.rowTransitions = new int[capacity];
+    this.columnTransitions = new int[capacity];
+    this.holes = new int[capacity];
+    this.wellSums = new int[capacity];
+    this.depthPlanes = new long[32 - Integer.numberOfLeadingZeros(height)];
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 담은 보드를 모두 비웁니다 (배열은 재사용)
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * 보드의 현재 상태(고정된 칸과 마지막 place() 결과)를 복사해 담습니다
+   *
+   * @return 담은 위치 (evaluate 결과 배열의 인덱스)
+   */
+  public int add(AIBoard board) {
+    if (board.getHeight() != height || board.getWidth() != width) {
+      throw new IllegalArgumentException("배치와 보드 크기가 다릅니다");
+    }
+    if (size == capacity) {
+      throw new IllegalStateException("배치가 가득 찼습니다: " + capacity);
+    }
+    int i = size++;
+    board.copyRowsTo(rows, i * height);
+    highestRows[i] = board.getHighestRow();
+    // 구멍 수는 보드가 열 높이로 바로 계산 (줄을 다시 훑지 않음)
+    holes[i] = board.getHoleCount();
+    landingHeights[i] = board.getLandingHeight();
+    linesCleared[i] = board.getLinesCleared();
+    usefulCells[i] = board.getUsefulCells();
+    return i;
+  }
+
+  /**
+   * 담은 보드를 모두 평가합니다
+   *
+   * @param weights 평가 가중치
+   * @param scores  결과 점수 (길이 {@link #size()} 이상, i번째 보드 점수는 scores[i])
+   */
+  public void evaluate(WeightSet weights, double[] scores) {
+    extractFeatures();
+    for (int i = 0; i < size; i++) {
+      scores[i] = score(weights, landingHeights[i], linesCleared[i], usefulCells[i], rowTransitions[i],
+          columnTransitions[i], holes[i], wellSums[i]);
+    }
+  }
+
+  /**
+   * 평가 함수: El-Tetris 알고리즘 기반 + 대전 모드 공격 규칙 (AI의 모든 보드 평가가 이 식을 씀)
+   * 1. Landing Height: 블록이 착지한 높이
+   * 2. Eroded Piece Cells Metric: 삭제된 줄 수 × 유용한 블록 수
+   * 3. Row Transitions: 가로 전환 횟수
+   * 4. Column Transitions: 세로 전환 횟수
+   * 5. Number of Holes: 구멍 개수
+   * 6. Well Sums: Well의 깊이 합
+   * + 2줄 이상 삭제 시 공격 보너스
+   */
+  static double score(WeightSet weights, int landingHeight, int linesCleared, int usefulCells,
+      int rowTransitions, int columnTransitions, int holes, int wellSums) {
+    double score = 0.0;
+    score += landingHeight * weights.weightLandingHeight;
+    int epcm = linesCleared * usefulCells;
+    score += epcm * weights.weightEPCM;
+    score += rowTransitions * weights.weightRowTransitions;
+    score += columnTransitions * weights.weightColumnTransitions;
+    score += holes * weights.weightHoles;
+    score += wellSums * weights.weightWellSums;
+
+    // 대전 모드 공격 규칙: 줄별 가중치 적용
+    if (linesCleared == 2) {
+      score += weights.weightAttack2Lines;
+    } else if (linesCleared == 3) {
+      score += weights.weightAttack3Lines;
+    } else if (linesCleared == 4) {
+      score += weights.weightAttack4Lines; // Tetris 보너스
+    }
+    return score;
+  }
+
+  /**
+   * i번째 보드의 특징 ({@link AIBoard#FEATURE_ROW_TRANSITIONS} 등, {@link #evaluate}를 호출한 뒤에 유효)
+   */
+  public int getFeature(int i, int feature) {
+    switch (feature) {
+      case AIBoard.FEATURE_ROW_TRANSITIONS:
+        return rowTransitions[i];
+      case AIBoard.FEATURE_COLUMN_TRANSITIONS:
+        return columnTransitions[i];
+      case AIBoard.FEATURE_HOLES:
+        return holes[i];
+      case AIBoard.FEATURE_WELL_SUMS:
+        return wellSums[i];
+      default:
+        throw new IllegalArgumentException("알 수 없는 특징입니다: " + feature);
+    }
+  }
+
+  // 보드마다 이어 붙인 줄을 한 번 훑으며 네 특징을 함께 계산 (AIBoard.extractFeatures와 같은 정의)
+  private void extractFeatures() {
+    long innerPairs = fullRowMask >>> 1;
+    long rightWall = 1L << (width - 1);
+    int rightShift = width - 1;
+    long[] planes = depthPlanes;
+    int planeCount = planes.length;
+
+    for (int i = 0; i < size; i++) {
+      int base = i * height;
+      int end = base + highestRows[i];
+      int horizontal = 0;
+      int vertical = 0;
+      int wells = 0;
+      long previous = fullRowMask; // 위쪽 경계는 채워진 것으로 봄
+      int usedPlanes = 0; // 0이 아닐 수 있는 평면 수 (깊이가 작으면 앞쪽 평면만 다룸)
+      for (int k = base; k <= end; k++) {
+        long row = rows[k];
+        long empty = ~row;
+
+        // 가로 전환: 이웃한 칸 쌍 + 좌우 벽 (분기 없이)
+        horizontal += Long.bitCount((row ^ (row >>> 1)) & innerPairs) + (int) (empty & 1L)
+            + (int) ((empty & rightWall) >>> rightShift);
+
+        // 세로 전환: 윗줄과 다른 칸
+        vertical += Long.bitCount(previous ^ row);
+        previous = row;
+
+        // Well: 깊이 d인 Well의 1 + 2 + ... + d = Well 칸마다 그 칸까지 이어진 깊이의 합.
+        // 열별 깊이를 비트 평면으로 두고 한 줄의 모든 열을 자리 올림 더하기로 한꺼번에 늘리며,
+        // Well이 끊긴 열은 마스크로 0이 됩니다.
+        long wellCells = empty & ((row << 1) | 1L) & ((row >>> 1) | rightWall) & fullRowMask;
+        long carry = wellCells;
+        int p = 0;
+        for (; p < usedPlanes; p++) {
+          long plane = planes[p];
+          long next = (plane ^ carry) & wellCells;
+          carry &= plane;
+          planes[p] = next;
+          wells += Long.bitCount(next) << p;
+        }
+        if (carry != 0L && p < planeCount) {
+          // 자리 올림이 새 평면으로 넘어감
+          planes[p] = carry;
+          wells += Long.bitCount(carry) << p;
+          usedPlanes++;
+        }
+      }
+      rowTransitions[i] = horizontal;
+      // 바닥 아래는 채워진 것으로 봄 (빈 보드는 0)
+      columnTransitions[i] = highestRows[i] < 0 ? 0 : vertical + Long.bitCount(~previous & fullRowMask);
+      wellSums[i] = wells;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package se.tetris.team5.gamelogic.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import se.tetris.team5.blocks.RotationTable;
+
+/**
+ * 곧바로 떨어뜨린 블록의 착지 캐시 (발밑 열 높이 + 블록 모양 → 착지 y, 착지 후 열 높이, LRU)
+ *
+ * 위(y=0)에서 곧바로 떨어뜨린 블록이 멈추는 줄은 블록이 걸친 열들의 높이와 블록 모양(열마다 가장 아래/위 칸)만으로
+ * 정해집니다. 그래서 보드 전체가 아니라 이 값들만 키로 쓰며, 키를 long 하나에 그대로 담으므로 해시 충돌 없이 정확합니다.
+ * 같은 모양과 발밑 높이는 x가 달라도 같은 결과이므로 x는 키에 넣지 않습니다.
+ * 턱 밑으로 밀어 넣거나 회전으로 끼워 넣는 자리는 열 높이만으로 정해지지 않으므로 이 캐시를 쓰지 않습니다 ({@link PlacementGenerator}).
+ *
+ * 같은 JVM의 모든 AI가 {@link #shared()}를 함께 쓰고, fork/join 작업들이 동시에 조회할 수 있도록
+ * 키를 여러 구역으로 나눠 구역마다 접근 순서 LinkedHashMap을 따로 잠급니다. 구역마다 가장 오래 쓰이지 않은 항목부터 버립니다.
+ */
+public final class LandingCache {
+
+  /** 공유 캐시 기본 크기 (항목 수) */
+  public static final int DEFAULT_CAPACITY = 1 << 14;
+  private static final int SEGMENT_COUNT = 16;
+
+  // 키에 담을 수 있는 블록 크기와 보드 높이 (넘으면 캐시 없이 계산)
+  private static final int MAX_ORIENTATION_SIZE = 4;
+  private static final int MAX_BOARD_HEIGHT = 63;
+
+  /** 보드 밖이거나 맨 위에서부터 놓을 수 없는 자리 */
+  public static final Landing NOT_PLACEABLE = new Landing(-1, new int[0]);
+
+  private static final LandingCache SHARED = new LandingCache(DEFAULT_CAPACITY);
+
+  private final Segment[] segments;
+  private final int capacity;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param capacity 최대 항목 수 (구역 수의 배수로 올림)
+   */
+  public LandingCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("착지 캐시 크기가 올바르지 않습니다: " + capacity);
+    }
+    int perSegment = (capacity + SEGMENT_COUNT - 1) / SEGMENT_COUNT;
+    this.segments = new Segment[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(perSegment);
+    }
+    this.capacity = perSegment * SEGMENT_COUNT;
+  }
+
+  /**
+   * 같은 JVM의 AI들이 함께 쓰는 캐시
+   */
+  public static LandingCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * 블록을 x 열에서 위(y=0)부터 떨어뜨렸을 때의 착지 결과 ({@link AIBoard#dropY}와 같은 y)
+   *
+   * @return 착지 결과 (보드 밖이거나 놓을 수 없으면 {@link #NOT_PLACEABLE})
+   */
+  public Landing drop(AIBoard board, RotationTable.Orientation o, int x) {
+    if (x < 0 || x + o.width() > board.getWidth()) {
+      return NOT_PLACEABLE;
+    }
+    long key = keyOf(board, o, x);
+    if (key < 0L) {
+      return compute(board, o, x);
+    }
+    Segment segment = segmentFor(key);
+    Landing landing;
+    synchronized (segment) {
+      landing = segment.get(key);
+    }
+    if (landing != null) {
+      hits.increment();
+      return landing;
+    }
+    misses.increment();
+    landing = compute(board, o, x);
+    synchronized (segment) {
+      segment.put(key, landing);
+    }
+    return landing;
+  }
+
+  // 보드 높이, 블록 크기, 열마다 (보드 열 높이, 블록 아래 칸, 블록 위 칸)을 비트로 이어 붙인 키 (담을 수 없으면 -1)
+  static long keyOf(AIBoard board, RotationTable.Orientation o, int x) {
+    if (o.width() > MAX_ORIENTATION_SIZE || o.height() > MAX_ORIENTATION_SIZE
+        || board.getHeight() > MAX_BOARD_HEIGHT) {
+      return -1L;
+    }
+    long key = board.getHeight();
+    key = key << 3 | o.width();
+    key = key << 3 | o.height();
+    for (int i = 0; i < o.width(); i++) {
+      key = key << 6 | board.getColumnHeight(x + i);
+      key = key << 3 | (o.getColumnBottom(i) + 1);
+      key = key << 3 | (o.getColumnTop(i) + 1);
+    }
+    return key;
+  }
+
+  private static Landing compute(AIBoard board, RotationTable.Orientation o, int x) {
+    int y = board.dropY(o, x);
+    if (y < 0) {
+      return NOT_PLACEABLE;
+    }
+    int[] topHeights = new int[o.width()];
+    for (int i = 0; i < o.width(); i++) {
+      int top = o.getColumnTop(i);
+      topHeights[i] = top >= 0 ? board.getHeight() - (y + top) : board.getColumnHeight(x + i);
+    }
+    return new Landing(y, topHeights);
+  }
+
+  /**
+   * 모든 항목과 통계를 비웁니다
+   */
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  /**
+   * 현재 항목 수
+   */
+  public int size() {
+    int total = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        total += segment.size();
+      }
+    }
+    return total;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * 크기 제한으로 버린 항목 수
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * 적중률 (조회가 없으면 0)
+   */
+  public double getHitRate() {
+    long h = hits.sum();
+    long total = h + misses.sum();
+    return total == 0 ? 0.0 : (double) h / total;
+  }
+
+  // 키는 하위 비트부터 채워지므로 섞은 뒤 상위 비트로 구역 선택
+  private Segment segmentFor(long key) {
+    return segments[(int) ((key * 0x9E3779B97F4A7C15L) >>> 60) & (SEGMENT_COUNT - 1)];
+  }
+
+  /**
+   * 착지 결과 (불변, 여러 스레드에서 공유 가능)
+   */
+  public static final class Landing {
+    private final int y;
+    private final int[] topHeights;
+
+    private Landing(int y, int[] topHeights) {
+      this.y = y;
+      this.topHeights = topHeights;
+    }
+
+    /** 착지 y (놓을 수 없으면 -1) */
+    public int getY() {
+      return y;
+    }
+
+    /**
+     * 블록이 걸친 i번째 열(x + i)의 착지 후 높이 (줄 삭제 전)
+     */
+    public int getTopHeight(int i) {
+      return topHeights[i];
+    }
+  }
+
+  /**
+   * 접근 순서로 정렬되는 한 구역 (잠금은 호출하는 쪽에서)
+   */
+  private final class Segment extends LinkedHashMap<Long, Landing> {
+    private static final long serialVersionUID = 1L;
+    private final int limit;
+
+    Segment(int limit) {
+      super(16, 0.75f, true);
+      this.limit = limit;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, Landing> eldest) {
+      if (size() > limit) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
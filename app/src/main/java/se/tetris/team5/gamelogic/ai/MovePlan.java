@@ -0,0 +1,149 @@
+package se.tetris.team5.gamelogic.ai;
+
+import se.tetris.team5.blocks.Block;
+
+/**
+ * AI가 계산한 현재 블록의 목표 배치 (불변)
+ *
+ * 백그라운드 스레드에서 만들어져 EDT로 전달되며, EDT는 이 계획을 회전/좌우 이동/하드 드롭 입력으로 나눠 실행합니다.
+ * 계획은 만들 때의 블록과 고정된 보드 버전에만 유효하고, 둘 중 하나가 바뀌면(블록 고정, 공격 줄 추가 등) 버려야 합니다.
+ *
+ * 도달 가능성 탐색으로 만든 계획은 입력 순서({@link #getStepAction(int)}/{@link #getStepArg(int)})를 함께 가지며,
+ * 턱 밑으로 밀어 넣는 배치처럼 중간에 아래로 내린 뒤 좌우 이동/회전하는 경로도 표현할 수 있습니다.
+ */
+public final class MovePlan {
+  /** 입력: 시계 방향 회전 */
+  public static final int ROTATE = 0;
+  /** 입력: 왼쪽 한 칸 */
+  public static final int LEFT = 1;
+  /** 입력: 오른쪽 한 칸 */
+  public static final int RIGHT = 2;
+  /** 입력: 블록의 y가 인자 값이 될 때까지 아래로 이동 */
+  public static final int DROP_TO = 3;
+  /** 입력: 하드 드롭 (항상 마지막 입력) */
+  public static final int HARD_DROP = 4;
+
+  // 입력 하나 = (인자 << 3) | 종류
+  private static final int ACTION_BITS = 3;
+  private static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+
+  // 계획 대상 블록 (같은 블록인지 비교하는 용도로만 사용, 읽거나 수정하지 않음)
+  private final Block piece;
+  private final int boardVersion;
+  private final int rotations;
+  private final int targetX;
+  private final int targetY;
+  // 입력 순서 (null이면 회전 → 좌우 이동 → 하드 드롭을 실행 시점의 x 기준으로 만듦)
+  private final int[] steps;
+
+  MovePlan(Block piece, int boardVersion, int rotations, int targetX) {
+    this(piece, boardVersion, rotations, targetX, -1, null);
+  }
+
+  MovePlan(Block piece, int boardVersion, int rotations, int targetX, int targetY, int[] steps) {
+    this.piece = piece;
+    this.boardVersion = boardVersion;
+    this.rotations = rotations;
+    this.targetX = targetX;
+    this.targetY = targetY;
+    this.steps = steps;
+  }
+
+  static int step(int action, int arg) {
+    return (arg << ACTION_BITS) | action;
+  }
+
+  static int actionOf(int step) {
+    return step & ACTION_MASK;
+  }
+
+  static int argOf(int step) {
+    return step >> ACTION_BITS;
+  }
+
+  /**
+   * 실행할 입력 순서 (입력 순서가 없는 계획은 지금 x 위치 기준으로 만듦, 반환 배열은 수정하지 말 것)
+   */
+  int[] stepsFrom(int currentX) {
+    return steps != null ? steps : straightDropSteps(rotations, targetX - currentX);
+  }
+
+  /**
+   * 회전 rotations번 → 좌우 이동 |shift|칸(음수: 왼쪽) → 하드 드롭 입력 순서
+   */
+  static int[] straightDropSteps(int rotations, int shift) {
+    int[] result = new int[rotations + Math.abs(shift) + 1];
+    int n = 0;
+    for (int i = 0; i < rotations; i++) {
+      result[n++] = step(ROTATE, 0);
+    }
+    for (int i = 0; i < Math.abs(shift); i++) {
+      result[n++] = step(shift < 0 ? LEFT : RIGHT, 0);
+    }
+    result[n] = step(HARD_DROP, 0);
+    return result;
+  }
+
+  /**
+   * 계획 대상 블록
+   */
+  public Block getPiece() {
+    return piece;
+  }
+
+  /**
+   * 계획을 만들 때의 고정된 보드 버전 ({@link se.tetris.team5.components.game.BoardManager#getBoardVersion()})
+   */
+  public int getBoardVersion() {
+    return boardVersion;
+  }
+
+  /**
+   * 계획을 만들 때의 블록 방향에서 시계 방향으로 회전할 횟수
+   */
+  public int getRotations() {
+    return rotations;
+  }
+
+  /**
+   * 하드 드롭할 x 위치
+   */
+  public int getTargetX() {
+    return targetX;
+  }
+
+  /**
+   * 착지할 y 위치 (입력 순서가 없는 계획은 -1)
+   */
+  public int getTargetY() {
+    return targetY;
+  }
+
+  /**
+   * 입력 순서가 있는지 (없으면 회전 → 좌우 이동 → 하드 드롭)
+   */
+  public boolean hasSteps() {
+    return steps != null;
+  }
+
+  /**
+   * 입력 수 (입력 순서가 없으면 0)
+   */
+  public int getStepCount() {
+    return steps == null ? 0 : steps.length;
+  }
+
+  /**
+   * i번째 입력 종류 ({@link #ROTATE}, {@link #LEFT}, {@link #RIGHT}, {@link #DROP_TO}, {@link #HARD_DROP})
+   */
+  public int getStepAction(int i) {
+    return actionOf(steps[i]);
+  }
+
+  /**
+   * i번째 입력 인자 ({@link #DROP_TO}의 목표 y, 나머지는 0)
+   */
+  public int getStepArg(int i) {
+    return argOf(steps[i]);
+  }
+}
@@ -0,0 +1,151 @@
+package se.tetris.team5.gamelogic.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도달 가능한 배치 캐시 (보드 → 배치 목록, LRU)
+ *
+ * AI마다 하나씩 가집니다. 키는 {@link PlacementGenerator}가 보드 전체의 Zobrist 해시와 블록, 시작 위치로 만들고,
+ * 꺼낸 항목이 정말 같은 보드/조건의 결과인지는 생성기가 저장된 보드 줄과 비교해 다시 확인합니다.
+ * 턱 밑이나 동굴 속 자리는 열 높이만으로 정해지지 않으므로 보드 전체가 같아야 재사용할 수 있고, 서로 다른 게임의
+ * 보드가 통째로 같아지는 일은 거의 없어 여러 AI가 함께 써도 적중률이 오르지 않습니다. 곧바로 떨어뜨리는 자리는
+ * 열 높이만으로 정해지므로 AI들이 함께 쓰는 {@link LandingCache}에 따로 둡니다.
+ *
+ * 키 범위를 여러 구역으로 나누고 구역마다 접근 순서 LinkedHashMap을 따로 잠가, 한 AI의 fork/join 작업들이 동시에 조회해도
+ * 잠금 경합이 한 구역으로 몰리지 않게 합니다. 구역마다 가장 오래 쓰이지 않은 항목부터 버립니다.
+ */
+public final class PlacementCache {
+
+  /** AI 하나의 캐시 기본 크기 (항목 수) */
+  public static final int DEFAULT_CAPACITY = 1 << 8;
+  private static final int SEGMENT_COUNT = 16;
+
+  private final Segment[] segments;
+  private final int capacity;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param capacity 최대 항목 수 (구역 수의 배수로 올림)
+   */
+  public PlacementCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("배치 캐시 크기가 올바르지 않습니다: " + capacity);
+    }
+    int perSegment = (capacity + SEGMENT_COUNT - 1) / SEGMENT_COUNT;
+    this.segments = new Segment[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(perSegment);
+    }
+    this.capacity = perSegment * SEGMENT_COUNT;
+  }
+
+  // 키에 해당하는 항목 (없으면 null, 조회 통계는 생성기가 확인한 뒤 기록)
+  PlacementGenerator.Placements get(long key) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      return segment.get(key);
+    }
+  }
+
+  void put(long key, PlacementGenerator.Placements placements) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      segment.put(key, placements);
+    }
+  }
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  /**
+   * 모든 항목과 통계를 비웁니다
+   */
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  /**
+   * 현재 항목 수
+   */
+  public int size() {
+    int total = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        total += segment.size();
+      }
+    }
+    return total;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * 크기 제한으로 버린 항목 수
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * 적중률 (조회가 없으면 0)
+   */
+  public double getHitRate() {
+    long h = hits.sum();
+    long total = h + misses.sum();
+    return total == 0 ? 0.0 : (double) h / total;
+  }
+
+  // 키 상위 비트로 구역 선택 (LinkedHashMap은 하위 비트를 쓰므로 겹치지 않게)
+  private Segment segmentFor(long key) {
+    return segments[(int) (key >>> 60) & (SEGMENT_COUNT - 1)];
+  }
+
+  /**
+   * 접근 순서로 정렬되는 한 구역 (잠금은 호출하는 쪽에서)
+   */
+  private final class Segment extends LinkedHashMap<Long, PlacementGenerator.Placements> {
+    private static final long serialVersionUID = 1L;
+    private final int limit;
+
+    Segment(int limit) {
+      super(16, 0.75f, true);
+      this.limit = limit;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, PlacementGenerator.Placements> eldest) {
+      if (size() > limit) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,354 @@
+package se.tetris.team5.gamelogic.ai;
+
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.gamelogic.block.BlockRotationManager;
+
+/**
+ * 도달 가능한 블록 배치 생성기
+ *
+ * 블록이 나타난 위치에서 회전(Wall Kick 포함)/좌/우/아래 입력으로 갈 수 있는 (회전, x, y) 상태를 너비 우선 탐색하고,
+ * 더 내려갈 수 없는 상태를 배치로 모읍니다. 위에서 곧바로 떨어뜨려서는 닿지 않는 자리(턱 밑으로 밀어 넣기, 회전 끼워 넣기)도
+ * 찾을 수 있습니다. 방문한 상태는 비트셋으로 한 번만 확장하고, 배치마다 입력 경로를 복원할 수 있도록 부모 상태를 기록합니다.
+ *
+ * 회전 규칙은 게임과 같습니다 ({@link BlockRotationManager}의 Wall Kick 오프셋을 순서대로 시도해 처음 들어맞는 위치).
+ *
+ * 결과는 보드 전체의 Zobrist 해시와 블록, 시작 위치를 키로 AI마다 가진 {@link PlacementCache}에 저장해 둡니다.
+ * 턱 밑으로 밀어 넣거나 Wall Kick으로 들어가는 자리는 가장 낮은 열 꼭대기보다 깊을 수 있으므로 일부 줄만으로는 키를 만들지 않습니다.
+ * 해시 충돌로 다른 보드의 결과를 쓰지 않도록, 꺼낸 항목은 저장해 둔 보드 줄과 모두 같을 때만 씁니다.
+ * 캐시 항목이 작도록 탐색이 끝나면 배치마다 입력 경로를 미리 복원해 두고 탐색용 배열은 버립니다.
+ * 구멍이 없고 시작 위치 주변이 비어 있는 보드에서는 모든 배치가 곧바로 떨어뜨린 자리와 같으므로 탐색 없이 열 높이로 계산하고,
+ * 이 착지 위치는 발밑 열 높이를 키로 하는 {@link LandingCache}에서 꺼내 씁니다.
+ */
+final class PlacementGenerator {
+
+  /** 보드 위쪽으로 허용하는 y (Wall Kick으로 위로 올라가는 경우) */
+  private static final int Y_OFFSET = 4;
+
+  private final int height;
+  private final int width;
+  private final int ySpan;
+  private final PlacementCache cache;
+  private final LandingCache landingCache;
+
+  PlacementGenerator(int height, int width) {
+    this(height, width, new PlacementCache(PlacementCache.DEFAULT_CAPACITY));
+  }
+
+  PlacementGenerator(int height, int width, PlacementCache cache) {
+    this(height, width, cache, LandingCache.shared());
+  }
+
+  PlacementGenerator(int height, int width, PlacementCache cache, LandingCache landingCache) {
+    this.height = height;
+    this.width = width;
+    this.ySpan = height + Y_OFFSET;
+    this.cache = cache;
+    this.landingCache = landingCache;
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  PlacementCache getCache() {
+    return cache;
+  }
+
+  /**
+   * 블록이 (spawnX, spawnY)에 baseRotation 방향으로 있을 때 도달할 수 있는 모든 배치를 반환합니다
+   *
+   * @param rotations 회전 상태 수 (회전하지 않는 블록은 1, 나머지는 4)
+   */
+  Placements generate(AIBoard board, RotationTable table, int baseRotation, int rotations, int spawnX, int spawnY) {
+    if (isOpenSurface(board, table, baseRotation, rotations, spawnX, spawnY)) {
+      return straightDrops(board, table, baseRotation, rotations, spawnX, spawnY);
+    }
+
+    long key = cacheKey(board, table, baseRotation, rotations, spawnX, spawnY);
+    Placements cached = cache.get(key);
+    // 키가 우연히 같은 다른 조건(보드 크기, 보드 내용 포함)의 결과면 미스로 보고 덮어씀
+    if (cached != null && cached.matches(key, width, ySpan, table, baseRotation, rotations, spawnX, spawnY, board)) {
+      cache.recordHit();
+      return cached;
+    }
+    cache.recordMiss();
+    Placements result = search(board, table, baseRotation, rotations, spawnX, spawnY, key);
+    cache.put(key, result);
+    return result;
+  }
+
+  // 캐시 키: 보드 전체의 Zobrist 해시와 블록, 시작 위치, 보드 높이
+  long cacheKey(AIBoard board, RotationTable table, int baseRotation, int rotations, int spawnX, int spawnY) {
+    return board.getZobristHash() ^ mix(System.identityHashCode(table), baseRotation, rotations,
+        spawnX, spawnY, height);
+  }
+
+  // 구멍(막힌 빈 칸)이 없고, 시작 위치에서 회전/좌우 이동하는 줄이 비어 있으며, 모든 회전이 제자리에서 들어맞는지
+  private boolean isOpenSurface(AIBoard board, RotationTable table, int baseRotation, int rotations,
+      int spawnX, int spawnY) {
+    if (spawnY != 0 || board.getHoleCount() != 0) {
+      return false;
+    }
+    int clearRows = 0;
+    for (int r = 0; r < rotations; r++) {
+      RotationTable.Orientation o = table.get(baseRotation + r);
+      if (spawnX < 0 || spawnX + o.width() > width) {
+        return false;
+      }
+      clearRows = Math.max(clearRows, o.height());
+    }
+    // 회전할 때 Wall Kick(위/아래 한 칸)이 필요 없도록 한 줄 더 비어 있어야 함
+    return board.getMaxHeight() <= height - clearRows - 1;
+  }
+
+  // 구멍이 없는 보드: (회전, x)마다 곧바로 떨어뜨린 자리가 모든 배치
+  private Placements straightDrops(AIBoard board, RotationTable table, int baseRotation, int rotations,
+      int spawnX, int spawnY) {
+    int[] states = new int[rotations * width];
+    int count = 0;
+    for (int r = 0; r < rotations; r++) {
+      RotationTable.Orientation o = table.get(baseRotation + r);
+      for (int x = 0; x + o.width() <= width; x++) {
+        int y = landingCache.drop(board, o, x).getY();
+        if (y >= 0) {
+          states[count++] = encode(r, x, y);
+        }
+      }
+    }
+    return new Placements(width, ySpan, table, baseRotation, rotations, spawnX, spawnY, 0L, null,
+        java.util.Arrays.copyOf(states, count), null);
+  }
+
+  // 너비 우선 탐색
+  private Placements search(AIBoard board, RotationTable table, int baseRotation, int rotations,
+      int spawnX, int spawnY, long key) {
+    int stateCount = rotations * ySpan * width;
+    long[] visited = new long[(stateCount + 63) >>> 6];
+    int[] parents = new int[stateCount];
+    byte[] actions = new byte[stateCount];
+    int[] queue = new int[stateCount];
+    int[] placements = new int[stateCount];
+    int placementCount = 0;
+
+    RotationTable.Orientation start = table.get(baseRotation);
+    long[] rows = new long[height];
+    board.copyRowsTo(rows, 0);
+    if (spawnY < -Y_OFFSET || !fits(board, start, spawnX, spawnY)) {
+      return new Placements(width, ySpan, table, baseRotation, rotations, spawnX, spawnY, key, rows,
+          new int[0], new int[0][]);
+    }
+    int head = 0;
+    int tail = 0;
+    int startState = encode(0, spawnX, spawnY);
+    visited[startState >>> 6] |= 1L << startState;
+    parents[startState] = -1;
+    queue[tail++] = startState;
+
+    int kicks = BlockRotationManager.getWallKickCount();
+    while (head < tail) {
+      int state = queue[head++];
+      int x = state % width;
+      int rest = state / width;
+      int y = rest % ySpan - Y_OFFSET;
+      int r = rest / ySpan;
+      RotationTable.Orientation o = table.get(baseRotation + r);
+
+      // 회전: Wall Kick 오프셋을 순서대로 시도해 처음 들어맞는 위치 (게임과 같은 규칙)
+      if (rotations > 1) {
+        int nextR = (r + 1) % rotations;
+        RotationTable.Orientation rotated = table.get(baseRotation + nextR);
+        for (int k = 0; k < kicks; k++) {
+          int kx = x + BlockRotationManager.getWallKickOffsetX(k);
+          int ky = y + BlockRotationManager.getWallKickOffsetY(k);
+          if (fits(board, rotated, kx, ky)) {
+            if (ky >= -Y_OFFSET) {
+              tail = visit(encode(nextR, kx, ky), state, MovePlan.ROTATE, visited, parents, actions, queue, tail);
+            }
+            break;
+          }
+        }
+      }
+      if (fits(board, o, x - 1, y)) {
+        tail = visit(state - 1, state, MovePlan.LEFT, visited, parents, actions, queue, tail);
+      }
+      if (fits(board, o, x + 1, y)) {
+        tail = visit(state + 1, state, MovePlan.RIGHT, visited, parents, actions, queue, tail);
+      }
+      if (fits(board, o, x, y + 1)) {
+        tail = visit(state + width, state, MovePlan.DROP_TO, visited, parents, actions, queue, tail);
+      } else {
+        placements[placementCount++] = state; // 더 내려갈 수 없음 -> 배치
+      }
+    }
+    int[][] paths = new int[placementCount][];
+    for (int i = 0; i < placementCount; i++) {
+      paths[i] = buildPath(placements[i], parents, actions);
+    }
+    return new Placements(width, ySpan, table, baseRotation, rotations, spawnX, spawnY, key, rows,
+        java.util.Arrays.copyOf(placements, placementCount), paths);
+  }
+
+  /**
+   * 시작 상태에서 state까지의 입력 경로 ({@link MovePlan} 입력 형식)
+   * 연속된 아래 이동은 DROP_TO 하나로 묶고, 마지막은 항상 하드 드롭입니다.
+   */
+  private int[] buildPath(int state, int[] parents, byte[] actions) {
+    int length = 0;
+    for (int s = state; parents[s] >= 0; s = parents[s]) {
+      length++;
+    }
+    int[] reversed = new int[length];
+    int n = 0;
+    for (int s = state; parents[s] >= 0; s = parents[s]) {
+      reversed[n++] = s;
+    }
+
+    int[] steps = new int[length + 1];
+    int count = 0;
+    for (int k = length - 1; k >= 0; k--) {
+      int s = reversed[k];
+      int action = actions[s];
+      if (action == MovePlan.DROP_TO) {
+        // 이어지는 아래 이동을 모아 마지막 y까지 한 번에
+        int last = s;
+        while (k > 0 && actions[reversed[k - 1]] == MovePlan.DROP_TO) {
+          last = reversed[--k];
+        }
+        if (k == 0) {
+          break; // 마지막 아래 이동들은 하드 드롭으로 대체
+        }
+        steps[count++] = MovePlan.step(MovePlan.DROP_TO, last / width % ySpan - Y_OFFSET);
+      } else {
+        steps[count++] = MovePlan.step(action, 0);
+      }
+    }
+    steps[count++] = MovePlan.step(MovePlan.HARD_DROP, 0);
+    return java.util.Arrays.copyOf(steps, count);
+  }
+
+  private static int visit(int next, int from, int action, long[] visited, int[] parents, byte[] actions,
+      int[] queue, int tail) {
+    long bit = 1L << next;
+    if ((visited[next >>> 6] & bit) != 0L) {
+      return tail;
+    }
+    visited[next >>> 6] |= bit;
+    parents[next] = from;
+    actions[next] = (byte) action;
+    queue[tail] = next;
+    return tail + 1;
+  }
+
+  // BoardManager.canMove와 같은 규칙 (보드 위쪽은 비어 있는 것으로 봄)
+  private boolean fits(AIBoard board, RotationTable.Orientation o, int x, int y) {
+    if (x < 0 || x + o.width() > width || y + o.height() > height) {
+      return false;
+    }
+    for (int j = Math.max(0, -y); j < o.height(); j++) {
+      if ((board.getRow(y + j) & (o.getRowMask(j) << x)) != 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int encode(int r, int x, int y) {
+    return (r * ySpan + y + Y_OFFSET) * width + x;
+  }
+
+  private static long mix(long a, int b, int c, int d, int e, int f) {
+    long z = a;
+    z = z * 31 + b;
+    z = z * 31 + c;
+    z = z * 31 + d;
+    z = z * 31 + e;
+    z = z * 31 + f;
+    z *= 0x9E3779B97F4A7C15L;
+    return z ^ (z >>> 29);
+  }
+
+  /**
+   * 한 번의 생성 결과 (불변, 여러 스레드에서 공유 가능)
+   */
+  static final class Placements {
+    private final int width;
+    private final int ySpan;
+    private final RotationTable table;
+    private final int baseRotation;
+    private final int rotations;
+    private final int spawnX;
+    private final int spawnY;
+    private final int[] states;
+    // 배치별 입력 경로 (곧바로 떨어뜨린 결과는 null, 경로는 회전/이동/하드 드롭으로 만듦)
+    private final int[][] paths;
+    // 캐시 키 (곧바로 떨어뜨린 결과는 캐시하지 않으므로 0)
+    private final long key;
+    // 탐색한 보드의 줄 마스크 (캐시 확인용, 곧바로 떨어뜨린 결과는 null)
+    private final long[] rows;
+
+    Placements(int width, int ySpan, RotationTable table, int baseRotation, int rotations, int spawnX, int spawnY,
+        long key, long[] rows, int[] states, int[][] paths) {
+      this.width = width;
+      this.ySpan = ySpan;
+      this.table = table;
+      this.baseRotation = baseRotation;
+      this.rotations = rotations;
+      this.spawnX = spawnX;
+      this.spawnY = spawnY;
+      this.states = states;
+      this.paths = paths;
+      this.key = key;
+      this.rows = rows;
+    }
+
+    private boolean matches(long key, int width, int ySpan, RotationTable table, int baseRotation, int rotations,
+        int spawnX, int spawnY, AIBoard board) {
+      return this.key == key && this.width == width && this.ySpan == ySpan && this.table == table && this.baseRotation == baseRotation
+          && this.rotations == rotations && this.spawnX == spawnX && this.spawnY == spawnY && sameRows(board);
+    }
+
+    private boolean sameRows(AIBoard board) {
+      if (rows == null || rows.length != board.getHeight()) {
+        return false;
+      }
+      for (int y = 0; y < rows.length; y++) {
+        if (rows[y] != board.getRow(y)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    int size() {
+      return states.length;
+    }
+
+    /** i번째 배치의 회전 횟수 (시작 방향 기준 시계 방향) */
+    int getRotation(int i) {
+      return states[i] / width / ySpan;
+    }
+
+    int getX(int i) {
+      return states[i] % width;
+    }
+
+    int getY(int i) {
+      return states[i] / width % ySpan - Y_OFFSET;
+    }
+
+    /**
+     * i번째 배치까지의 입력 경로 ({@link MovePlan} 입력 형식, 마지막은 항상 하드 드롭)
+     * 캐시된 결과끼리 공유하는 배열이므로 수정하면 안 됩니다.
+     */
+    int[] pathTo(int i) {
+      if (paths == null) {
+        return MovePlan.straightDropSteps(getRotation(i), getX(i) - spawnX);
+      }
+      return paths[i];
+    }
+  }
+}
@@ -1,42 +1,107 @@
 package se.tetris.team5.gamelogic.ai;
 
 import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.RotationTable;
 import se.tetris.team5.gamelogic.GameEngine;
-import se.tetris.team5.gamelogic.block.BlockRotationManager;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Comparator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * 테트리스 AI 플레이어
  * Beam Search 기반 2-Piece Lookahead 알고리즘
+ *
+ * 후보 수 시뮬레이션과 평가는 fork/join 풀에서 나눠 실행할 수 있습니다 ({@link #setMaxWorkers(int)}).
+ * 각 작업은 후보 인덱스별 칸에 결과만 기록하고, 빔 선택과 최종 선택은 항상 후보 순서대로
+ * 호출 스레드에서 수행하므로 작업 수와 관계없이 같은 보드에서는 같은 수를 고릅니다.
+ *
+ * 보드에만 의존하는 평가 특징(가로/세로 전환, 구멍, Well)은 Zobrist 해시를 키로 전치표에 저장해 두고,
+ * 다른 수나 다음 탐색에서 같은 보드가 다시 나오면 계산하지 않고 재사용합니다.
+ *
+ * 탐색 시간 예산({@link #setSearchBudgetMicros(long)})을 주면 고정된 2-Piece 탐색 대신, 현재 블록 → 다음 블록 →
+ * 미리보기 블록 순으로 깊이를 늘리고 그 다음에는 빔을 넓혀 가며 예산이 끝날 때까지 탐색하고, 마지막으로 끝까지
+ * 마친 단계의 최선 수를 사용합니다 (anytime search).
+ *
+ * 도달 가능성 탐색({@link #setReachabilitySearch(boolean)})을 켜면 위에서 곧바로 떨어뜨리는 자리 대신
+ * {@link PlacementGenerator}가 회전(Wall Kick 포함)/좌우/아래 입력으로 실제로 갈 수 있는 자리를 후보로 만들고,
+ * 계획에는 그 자리까지의 입력 순서를 담습니다.
  */
 public class TetrisAI {
 
   private final GameEngine gameEngine;
-  private final BlockRotationManager rotationManager;
 
-  /** AI 사고 시간 (밀리초) */
+  /** AI 입력 간격 (밀리초, 입력 하나마다 기다리는 시간이며 탐색 시간과는 별개) */
   private int thinkDelayMs = AIPlayerController.AIDifficulty.NORMAL.getThinkDelayMs();
-  private long lastThinkTime = 0;
+  /** 마지막으로 행동한 시각 (게임 엔진 시계 기준, 처음에는 바로 행동) */
+  private long lastThinkTime = Long.MIN_VALUE;
 
-  /** AI 상태: 회전 횟수 */
-  private int rotate = 0;
-  /** AI 상태: 좌우 이동 횟수 (양수: 왼쪽, 음수: 오른쪽) */
-  private int shift = 0;
+  /** AI 상태: 실행할 입력 순서 ({@link MovePlan} 입력 형식) */
+  private int[] steps;
+  /** AI 상태: 다음에 실행할 입력 위치 */
+  private int stepIndex = 0;
   /** AI 초기화 필요 여부 */
   private boolean isInitial = true;
+  /** 현재 실행 중인 계획 */
+  private MovePlan activePlan;
+  /** 실행 중에 블록 위치가 경로에서 벗어나 버린 계획 (다시 계획해야 함) */
+  private MovePlan abandonedPlan;
 
-  /** 보드 너비 */
-  private static final int BOARD_WIDTH = 10;
-  /** 보드 높이 */
-  private static final int BOARD_HEIGHT = 20;
+  /** 보드 너비 (탐색 시작 시 게임 엔진 보드에서 읽음) */
+  private int boardWidth;
+  /** 보드 높이 (탐색 시작 시 게임 엔진 보드에서 읽음) */
+  private int boardHeight;
 
   /** Beam Search에서 유지할 상위 후보 수 */
   private static final int BEAM_WIDTH = 3;
   /** Beam Search에서 초기 생성할 후보 수 (필터링 전) */
   private static final int BEAM_CANDIDATE_MULTIPLIER = 10;
+  /** fork/join 작업을 더 나누지 않는 후보 수 */
+  private static final int SPLIT_THRESHOLD = 8;
+
+  /** 시간 예산 탐색에서 다음 블록 뒤로 더 내다볼 미리보기 블록 수 */
+  public static final int MAX_PREVIEW_PIECES = 3;
+  /** 시간 예산 탐색에서 넓힐 수 있는 최대 빔 너비 */
+  private static final int MAX_ANYTIME_BEAM_WIDTH = 64;
+
+  /** 평가 특징 전치표 기본 크기 (칸 수) */
+  public static final int DEFAULT_TRANSPOSITION_CAPACITY = 1 << 12;
+  // 전치표 값 한 칸에 압축하는 특징별 비트 수 (가로 전환, 세로 전환, 구멍, Well 합 순)
+  private static final int FEATURE_BITS = 15;
+  private static final int WELL_BITS = 17;
+
+  /** 작업 수별 공유 fork/join 풀 (작업 스레드는 데몬 스레드) */
+  private static final ConcurrentHashMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+  /** Beam Search에서 유지할 상위 후보 수 (기본값 BEAM_WIDTH) */
+  private int beamWidth = BEAM_WIDTH;
+  /** 탐색에 사용할 최대 작업 스레드 수 (1이면 호출 스레드에서 순차 실행) */
+  private int maxWorkers = defaultMaxWorkers();
+  /** 블록 하나당 탐색 시간 예산 (마이크로초, 0이면 고정된 2-Piece 탐색) */
+  private long searchBudgetMicros = 0;
+  /** 마지막 시간 예산 탐색에서 끝까지 마친 깊이와 빔 너비 */
+  private volatile int lastSearchDepth;
+  private volatile int lastSearchWidth;
+  /** 평가 특징 전치표 (null이면 사용하지 않음) */
+  private TranspositionTable transpositionTable = new TranspositionTable(DEFAULT_TRANSPOSITION_CAPACITY);
+  /** 도달 가능성 탐색 사용 여부 */
+  private boolean reachabilitySearch = false;
+  /** 도달 가능한 배치 생성기 (도달 가능성 탐색을 처음 쓸 때 보드 크기에 맞춰 생성) */
+  private PlacementGenerator placementGenerator;
+  /** 도달 가능한 배치 캐시 (AI마다 따로 가짐) */
+  private PlacementCache placementCache = new PlacementCache(PlacementCache.DEFAULT_CAPACITY);
+  /** 곧바로 떨어뜨린 블록의 착지 캐시 (기본값은 같은 JVM의 AI들이 함께 쓰는 캐시) */
+  private LandingCache landingCache = LandingCache.shared();
+  /** 탐색 계측 (평가 보드 수, 가지치기 수, 탐색 시간 분포) */
+  private final AISearchStats searchStats = new AISearchStats();
+  /** 계획 세대 ({@link #cancelPlans()}마다 증가, 탐색 중에 바뀌면 그 탐색은 중단) */
+  private final AtomicInteger planGeneration = new AtomicInteger();
 
   /** AI 난이도 */
   private AIPlayerController.AIDifficulty difficulty = AIPlayerController.AIDifficulty.NORMAL;
@@ -46,7 +111,8 @@ public class TetrisAI {
 
   public TetrisAI(GameEngine gameEngine) {
     this.gameEngine = gameEngine;
-    this.rotationManager = new BlockRotationManager();
+    this.boardWidth = gameEngine.getBoardManager().getWidth();
+    this.boardHeight = gameEngine.getBoardManager().getHeight();
     // 기본 가중치 설정
     this.weights = new WeightSet();
   }
@@ -60,7 +126,8 @@ public class TetrisAI {
 
   /**
    * AI 난이도 설정
-   * 난이도에 따라 사고 시간만 조절합니다. 가중치는 항상 기본값을 사용합니다.
+   * 난이도 표의 입력 간격, 탐색 시간 예산, 도달 가능성 탐색을 그대로 적용합니다. 가중치는 항상 기본값을 사용합니다.
+   * 입력 간격은 입력 속도만 늦추며, 탐색은 블록마다 예산만큼 따로 씁니다 (간격에 예산이 더해지지 않음).
    *
    * @param difficulty AI 난이도 (NORMAL: 보통, HARD: 어려움)
    */
@@ -71,17 +138,180 @@ public class TetrisAI {
 
     this.difficulty = difficulty;
     this.thinkDelayMs = difficulty.getThinkDelayMs();
+    this.searchBudgetMicros = difficulty.getSearchBudgetMicros();
+    this.reachabilitySearch = difficulty.isReachabilitySearch();
   }
 
   /**
-   * AI 사고 시간 직접 설정 (AI vs AI 모드 등 특수한 경우용)
+   * 도달 가능성 탐색 설정
+   * true면 블록이 지금 위치에서 회전(Wall Kick 포함)/좌우/아래 입력으로 갈 수 있는 모든 자리(턱 밑으로 밀어 넣기,
+   * 회전 끼워 넣기 포함)를 후보로 쓰고, false면 위에서 곧바로 떨어뜨리는 자리만 씁니다 (기본값, 학습용).
+   * 난이도를 설정하면 난이도 표의 값({@link AIPlayerController.AIDifficulty#isReachabilitySearch()})으로 바뀝니다.
+   */
+  public void setReachabilitySearch(boolean reachabilitySearch) {
+    this.reachabilitySearch = reachabilitySearch;
+  }
+
+  public boolean isReachabilitySearch() {
+    return reachabilitySearch;
+  }
+
+  /**
+   * 도달 가능한 배치 캐시 설정 (기본값은 이 AI만 쓰는 {@link PlacementCache#DEFAULT_CAPACITY} 크기의 캐시)
+   *
+   * @param placementCache null일 수 없음
+   */
+  public void setPlacementCache(PlacementCache placementCache) {
+    if (placementCache == null) {
+      throw new IllegalArgumentException("배치 캐시는 null일 수 없습니다.");
+    }
+    this.placementCache = placementCache;
+    this.placementGenerator = null;
+  }
+
+  /**
+   * 도달 가능한 배치 캐시 (적중/미스 통계 조회용)
+   */
+  public PlacementCache getPlacementCache() {
+    return placementCache;
+  }
+
+  /**
+   * 곧바로 떨어뜨린 블록의 착지 캐시 설정 (기본값은 {@link LandingCache#shared()})
+   *
+   * @param landingCache null일 수 없음
+   */
+  public void setLandingCache(LandingCache landingCache) {
+    if (landingCache == null) {
+      throw new IllegalArgumentException("착지 캐시는 null일 수 없습니다.");
+    }
+    this.landingCache = landingCache;
+    this.placementGenerator = null;
+  }
+
+  /**
+   * 곧바로 떨어뜨린 블록의 착지 캐시 (적중/미스 통계 조회용)
+   */
+  public LandingCache getLandingCache() {
+    return landingCache;
+  }
+
+  /**
+   * 블록 하나당 탐색 시간 예산 설정
+   * 0보다 크면 예산 안에서 깊이와 빔 너비를 늘려 가는 탐색을 사용하고 (결과는 컴퓨터 속도에 따라 달라짐),
+   * 0이면 항상 같은 결과를 내는 고정된 2-Piece 탐색을 사용합니다 (기본값, 학습용).
    *
-   * @param thinkDelayMs 사고 시간 (밀리초)
+   * @param searchBudgetMicros 탐색 시간 예산 (마이크로초, 0 이상)
+   */
+  public void setSearchBudgetMicros(long searchBudgetMicros) {
+    if (searchBudgetMicros < 0) {
+      throw new IllegalArgumentException("탐색 시간 예산은 0 이상이어야 합니다: " + searchBudgetMicros);
+    }
+    this.searchBudgetMicros = searchBudgetMicros;
+  }
+
+  public long getSearchBudgetMicros() {
+    return searchBudgetMicros;
+  }
+
+  /**
+   * 마지막 시간 예산 탐색에서 끝까지 마친 깊이 (내다본 블록 수)
+   */
+  public int getLastSearchDepth() {
+    return lastSearchDepth;
+  }
+
+  /**
+   * 마지막 시간 예산 탐색에서 끝까지 마친 단계의 빔 너비
+   */
+  public int getLastSearchWidth() {
+    return lastSearchWidth;
+  }
+
+  /**
+   * AI 입력 간격 직접 설정 (AI vs AI 모드 등 특수한 경우용)
+   *
+   * @param thinkDelayMs 입력 간격 (밀리초)
    */
   public void setThinkDelay(int thinkDelayMs) {
     this.thinkDelayMs = thinkDelayMs;
   }
 
+  /**
+   * Beam Search에서 다음 블록까지 확장할 상위 후보 수 설정
+   *
+   * @param beamWidth 1 이상
+   */
+  public void setBeamWidth(int beamWidth) {
+    if (beamWidth < 1) {
+      throw new IllegalArgumentException("빔 너비는 1 이상이어야 합니다: " + beamWidth);
+    }
+    this.beamWidth = beamWidth;
+  }
+
+  public int getBeamWidth() {
+    return beamWidth;
+  }
+
+  /**
+   * 탐색에 사용할 최대 작업 스레드 수 설정
+   * 1이면 호출 스레드에서 순차 실행하고, 2 이상이면 같은 작업 수를 쓰는 AI끼리 공유하는 fork/join 풀을 사용합니다.
+   * 작업 수는 결과에 영향을 주지 않습니다. 기본값은 {@link #defaultMaxWorkers()}입니다.
+   *
+   * @param maxWorkers 1 이상
+   */
+  public void setMaxWorkers(int maxWorkers) {
+    if (maxWorkers < 1) {
+      throw new IllegalArgumentException("작업 스레드 수는 1 이상이어야 합니다: " + maxWorkers);
+    }
+    this.maxWorkers = maxWorkers;
+  }
+
+  public int getMaxWorkers() {
+    return maxWorkers;
+  }
+
+  /**
+   * 기본 작업 스레드 수: -Dtetris.ai.workers 값, 없으면 1 (순차 탐색)
+   * 유전 알고리즘 학습이나 AI 대전처럼 AI 여러 개가 동시에 탐색하면 코어를 나눠 써야 하므로 병렬 탐색은 직접 켤 때만 씁니다.
+   */
+  static int defaultMaxWorkers() {
+    return Math.max(1, Integer.getInteger("tetris.ai.workers", 1));
+  }
+
+  /**
+   * 평가 특징 전치표 크기 설정 (기존 내용과 통계는 버림)
+   *
+   * @param capacity 칸 수 (2의 거듭제곱으로 올림), 0이면 전치표를 사용하지 않음
+   */
+  public void setTranspositionCapacity(int capacity) {
+    this.transpositionTable = capacity == 0 ? null : new TranspositionTable(capacity);
+  }
+
+  /**
+   * 평가 특징 전치표 (적중/미스 통계 조회용, 사용하지 않으면 null)
+   */
+  public TranspositionTable getTranspositionTable() {
+    return transpositionTable;
+  }
+
+  /**
+   * 탐색 계측 값 (전치표/배치 캐시 적중률 포함)
+   * 어느 스레드에서든 호출할 수 있습니다.
+   */
+  public AISearchStats.Snapshot getSearchStats() {
+    TranspositionTable table = transpositionTable;
+    return searchStats.snapshot(table == null ? -1.0 : table.getHitRate(),
+        reachabilitySearch ? placementCache.getHitRate() : -1.0);
+  }
+
+  /**
+   * 탐색 계측 값을 0으로 되돌립니다 (전치표/배치 캐시 통계는 그대로)
+   */
+  public void resetSearchStats() {
+    searchStats.reset();
+  }
+
   /**
    * 현재 가중치 반환
    */
@@ -91,82 +321,214 @@ public class TetrisAI {
 
   /**
    * AI가 다음 행동을 결정하고 실행
+   * 블록마다 처음 호출될 때 호출 스레드에서 바로 탐색합니다 (탐색을 백그라운드로 옮기려면 {@link #preparePlan()} 사용).
    *
    * @return true if action was taken, false otherwise
    */
   public boolean makeMove() {
-    long currentTime = System.currentTimeMillis();
-    if (currentTime - lastThinkTime < thinkDelayMs) {
+    if (!isReadyToAct()) {
       return false;
     }
 
-    if (gameEngine.isGameOver()) {
-      return false;
+    // 새 블록이거나, 실행 중에 공격 줄 추가 등으로 보드가 바뀌었으면 지금 위치에서 다시 계획
+    if (isInitial || !isPlanCurrent(activePlan)) {
+      adoptPlan(preparePlan().get());
     }
 
-    if (gameEngine.getCurrentBlock() == null) {
-      return false;
-    }
-
-    lastThinkTime = currentTime;
+    return executeStep();
+  }
 
-    // 초기 상태인지 확인
-    if (isInitial) {
-      initializeAI();
+  /**
+   * 현재 블록과 보드를 스냅샷으로 복사하고, 그 스냅샷으로 목표 배치를 계산하는 작업을 반환합니다.
+   * 스냅샷은 호출 스레드(EDT)에서 만들고, 반환된 작업은 게임 엔진에 접근하지 않으므로 다른 스레드에서 실행할 수 있습니다.
+   * 반환된 작업들은 전치표와 캐시를 함께 쓰므로 한 번에 하나씩 실행해야 합니다.
+   * 실행 중이거나 아직 시작하지 않은 작업은 {@link #cancelPlans()}로 중단할 수 있습니다
+   * (중단되면 {@link CancellationException}을 던집니다).
+   *
+   * @return 계획 계산 작업 (현재 블록이 없으면 null)
+   */
+  public Supplier<MovePlan> preparePlan() {
+    Block currentBlock = gameEngine.getCurrentBlock();
+    if (currentBlock == null) {
+      return null;
     }
-
-    // 이동 실행
-    if (rotate > 0) {
-      rotate--;
-      gameEngine.rotateBlock();
-      return true;
+    // 게임 보드의 고정된 칸 비트마스크로 AI 전용 비트보드를 만들어 시작점으로 사용
+    AIBoard board = AIBoard.fromBitBoard(gameEngine.getBoardManager().getBitBoard());
+    // 보드 크기가 바뀌면 해시가 같아도 특징 값이 다를 수 있으므로 전치표를 비움
+    // (앞선 계획이 계획 스레드에서 전치표를 읽고 있을 수 있으므로 비우는 것도 반환된 작업에서)
+    TranspositionTable staleTable = board.getWidth() != boardWidth || board.getHeight() != boardHeight
+        ? transpositionTable : null;
+    boardWidth = board.getWidth();
+    boardHeight = board.getHeight();
+    PlacementGenerator generator = null;
+    if (reachabilitySearch) {
+      if (placementGenerator == null || placementGenerator.getWidth() != boardWidth
+          || placementGenerator.getHeight() != boardHeight) {
+        placementGenerator = new PlacementGenerator(boardHeight, boardWidth, placementCache, landingCache);
+      }
+      generator = placementGenerator;
     }
-
-    if (shift != 0) {
-      if (shift > 0) {
-        shift--;
-        gameEngine.moveBlockLeft();
+    int boardVersion = gameEngine.getBoardManager().getBoardVersion();
+    int currentX = gameEngine.getX();
+    // 현재 블록은 지금 위치에서, 다음 블록부터는 새 블록이 나타나는 위치에서 출발
+    PieceSnapshot current = new PieceSnapshot(currentBlock, currentX, gameEngine.getY(), generator);
+    PieceSnapshot next = new PieceSnapshot(gameEngine.getNextBlock(), gameEngine.getStartX(), 0, generator);
+    long budgetMicros = searchBudgetMicros;
+    PieceSnapshot[] pieces = budgetMicros > 0 ? capturePieces(current, next) : null;
+    int generation = planGeneration.get();
+
+    return () -> {
+      checkCancelled(generation);
+      if (staleTable != null) {
+        staleTable.clear();
+      }
+      long startNanos = System.nanoTime();
+      long evaluatedBefore = searchStats.getEvaluationCount();
+      Move bestMove;
+      if (pieces != null) {
+        // 시간 예산 탐색 (예산은 탐색을 시작할 때부터 셈)
+        bestMove = anytimeSearch(board, pieces, System.nanoTime() + budgetMicros * 1000L, generation);
       } else {
-        shift++;
-        gameEngine.moveBlockRight();
+        // Beam Search: 2-Piece Lookahead
+        bestMove = beamSearch(board, current, next, generation);
+      }
+      searchStats.recordDecision(System.nanoTime() - startNanos,
+          searchStats.getEvaluationCount() - evaluatedBefore);
+      if (bestMove == null) {
+        // 최적 수를 찾지 못한 경우 기본 동작 (그 자리에서 하드 드롭)
+        return new MovePlan(currentBlock, boardVersion, 0, currentX);
       }
-      return true;
+      if (bestMove.placements != null) {
+        return new MovePlan(currentBlock, boardVersion, bestMove.rotation, bestMove.x, bestMove.y,
+            bestMove.placements.pathTo(bestMove.index));
+      }
+      return new MovePlan(currentBlock, boardVersion, bestMove.rotation, bestMove.x);
+    };
+  }
+
+  /**
+   * 지금까지 {@link #preparePlan()}으로 만든 작업을 모두 중단시킵니다.
+   * 실행 중인 탐색은 다음 후보를 볼 때 멈추고 {@link CancellationException}을 던집니다. 이후에 만든 작업은 영향을 받지 않습니다.
+   */
+  public void cancelPlans() {
+    planGeneration.incrementAndGet();
+  }
+
+  // 작업을 만든 뒤 cancelPlans()가 호출되었으면 탐색 중단
+  private void checkCancelled(int generation) {
+    if (planGeneration.get() != generation) {
+      throw new CancellationException("AI 계획이 취소되었습니다.");
     }
+  }
 
-    // 하드 드롭
-    gameEngine.hardDrop();
-    isInitial = true; // 다음 블록을 위해 초기화
-    return true;
+  /**
+   * 계획이 지금의 블록과 고정된 보드에 여전히 유효한지 확인합니다
+   * (블록이 고정되었거나 공격 줄 추가 등으로 보드가 바뀌면 false)
+   */
+  public boolean isPlanCurrent(MovePlan plan) {
+    return plan != null && plan != abandonedPlan && plan.getPiece() == gameEngine.getCurrentBlock()
+        && plan.getBoardVersion() == gameEngine.getBoardManager().getBoardVersion();
   }
 
   /**
-   * AI 초기화 - Beam Search로 최적 위치 계산
+   * 미리 계산된 계획의 다음 입력 하나를 실행합니다 (EDT에서 호출)
+   * 입력 간격은 {@link #makeMove()}와 같습니다.
+   *
+   * @return 입력을 실행했으면 true, 대기 중이거나 계획이 더 이상 유효하지 않으면 false
    */
-  private void initializeAI() {
-    int[][] board = gameEngine.getBoardManager().getBoard();
-    Block currentBlock = gameEngine.getCurrentBlock();
-    Block nextBlock = gameEngine.getNextBlock();
-    int currentX = gameEngine.getX();
+  public boolean followPlan(MovePlan plan) {
+    if (!isPlanCurrent(plan) || !isReadyToAct()) {
+      return false;
+    }
+    if (plan != activePlan) {
+      adoptPlan(plan);
+    }
+    return executeStep();
+  }
+
+  // 입력 간격이 지났고 움직일 블록이 있으면 행동 시각을 기록하고 true
+  // (엔진 시계로 재므로 헤드리스 엔진에서는 시뮬레이션 시간 기준)
+  private boolean isReadyToAct() {
+    long currentTime = gameEngine.getClock().currentTimeMillis();
+    if (currentTime - thinkDelayMs < lastThinkTime) {
+      return false;
+    }
 
-    // Beam Search: 2-Piece Lookahead
-    Move bestMove = beamSearch(board, currentBlock, nextBlock);
+    if (gameEngine.isGameOver()) {
+      return false;
+    }
 
-    if (bestMove != null) {
-      rotate = bestMove.rotation;
-      shift = currentX - bestMove.x;
-      isInitial = false;
-    } else {
-      // 최적 수를 찾지 못한 경우 기본 동작
-      rotate = 0;
-      shift = 0;
-      isInitial = false;
+    if (gameEngine.getCurrentBlock() == null) {
+      return false;
     }
+
+    lastThinkTime = currentTime;
+    return true;
+  }
+
+  // 계획을 실행할 입력 순서로 바꿔 둠 (입력 순서가 없는 계획의 이동 횟수는 지금 위치 기준)
+  private void adoptPlan(MovePlan plan) {
+    activePlan = plan;
+    steps = plan.stepsFrom(gameEngine.getX());
+    stepIndex = 0;
+    isInitial = false;
+  }
+
+  // 남은 입력 하나를 실행 (마지막 입력은 항상 하드 드롭)
+  private boolean executeStep() {
+    int step = steps[stepIndex++];
+    // 입력 순서가 있는 계획은 경로대로 움직여야 하므로, 입력이 실패하면 계획을 버리고 지금 위치에서 다시 계획
+    boolean exact = activePlan.hasSteps();
+    switch (MovePlan.actionOf(step)) {
+      case MovePlan.ROTATE:
+        if (!gameEngine.rotateBlock() && exact) {
+          abandonPlan();
+        }
+        return true;
+      case MovePlan.LEFT:
+        if (!gameEngine.moveBlockLeft() && exact) {
+          abandonPlan();
+        }
+        return true;
+      case MovePlan.RIGHT:
+        if (!gameEngine.moveBlockRight() && exact) {
+          abandonPlan();
+        }
+        return true;
+      case MovePlan.DROP_TO:
+        Block block = gameEngine.getCurrentBlock();
+        int targetY = MovePlan.argOf(step);
+        while (gameEngine.getY() < targetY && gameEngine.moveBlockDown()) {
+          // 목표 줄까지 한 칸씩 내림
+        }
+        if (gameEngine.getCurrentBlock() != block) {
+          // 내려가지 못하고 고정됨
+          isInitial = true;
+          activePlan = null;
+        } else if (gameEngine.getY() != targetY) {
+          // 중력으로 이미 목표 줄보다 내려와 있음
+          abandonPlan();
+        }
+        return true;
+      default:
+        // 하드 드롭
+        gameEngine.hardDrop();
+        isInitial = true; // 다음 블록을 위해 초기화
+        activePlan = null;
+        return true;
+    }
+  }
+
+  private void abandonPlan() {
+    abandonedPlan = activePlan;
+    activePlan = null;
+    isInitial = true;
   }
 
   /**
    * Beam Search 알고리즘: 2-Piece Lookahead
    */
-  private Move beamSearch(int[][] board, Block currentPiece, Block nextPiece) {
+  private Move beamSearch(AIBoard board, PieceSnapshot currentPiece, PieceSnapshot nextPiece, int generation) {
     // Step 1: 현재 블록으로 가능한 모든 수 생성
     List<Move> currentMoves = generateMoves(board, currentPiece);
 
@@ -178,21 +540,35 @@ public class TetrisAI {
     PriorityQueue<MoveScore> beam = new PriorityQueue<>(
         Comparator.comparingDouble((MoveScore ms) -> ms.score).reversed());
 
-    for (Move move : currentMoves) {
-      SimulationResult result = simulateMove(board, currentPiece, move.x, move.rotation);
-      if (result == null) {
+    // 시뮬레이션과 평가는 후보별로 독립적이므로 나눠서 실행하고, 결과는 후보 인덱스 칸에 기록
+    int moveCount = currentMoves.size();
+    AIBoard[] results = new AIBoard[moveCount];
+    double[] scores = new double[moveCount];
+    forEachRange(moveCount, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        checkCancelled(generation);
+        Move move = currentMoves.get(i);
+        AIBoard result = new AIBoard(boardHeight, boardWidth);
+        if (simulateMove(board, currentPiece, move, result)) {
+          results[i] = result;
+          scores[i] = evaluateBoard(result);
+        }
+      }
+    });
+
+    // 빔 선택은 후보 순서대로 (작업 수와 관계없이 같은 결과)
+    for (int i = 0; i < moveCount; i++) {
+      if (results[i] == null) {
         continue;
       }
 
-      double score = evaluateBoard(result.board, result.linesCleared, result.landingHeight, result.usefulBlocks,
-          currentPiece);
-      beam.offer(new MoveScore(move, result.board, score));
+      beam.offer(new MoveScore(currentMoves.get(i), results[i], scores[i]));
 
       // Beam Width 제한
-      if (beam.size() > BEAM_WIDTH * BEAM_CANDIDATE_MULTIPLIER) {
+      if (beam.size() > beamWidth * BEAM_CANDIDATE_MULTIPLIER) {
         PriorityQueue<MoveScore> temp = new PriorityQueue<>(
             Comparator.comparingDouble((MoveScore ms) -> ms.score).reversed());
-        for (int i = 0; i < BEAM_WIDTH && !beam.isEmpty(); i++) {
+        for (int k = 0; k < beamWidth && !beam.isEmpty(); k++) {
           temp.offer(beam.poll());
         }
         beam = temp;
@@ -205,27 +581,75 @@ public class TetrisAI {
 
     List<MoveScore> topMoves = new ArrayList<>();
     int count = 0;
-    while (!beam.isEmpty() && count < BEAM_WIDTH) {
+    while (!beam.isEmpty() && count < beamWidth) {
       MoveScore ms = beam.poll();
       topMoves.add(ms);
       count++;
     }
-
-    for (MoveScore currentMoveScore : topMoves) {
-      // 다음 블록으로 가능한 모든 수 생성
-      List<Move> nextMoves = generateMoves(currentMoveScore.board, nextPiece);
-
-      double bestNextScore = Double.NEGATIVE_INFINITY;
-      for (Move nextMove : nextMoves) {
-        SimulationResult nextResult = simulateMove(currentMoveScore.board, nextPiece, nextMove.x, nextMove.rotation);
-        if (nextResult == null) {
+    int validCount = 0;
+    for (AIBoard result : results) {
+      if (result != null) {
+        validCount++;
+      }
+    }
+    searchStats.countPruned(validCount - topMoves.size());
+
+    // 상위 후보마다 다음 블록으로 가능한 모든 수를 생성하고, (상위 후보, 다음 수) 쌍을 한 줄로 펼쳐 나눠 실행
+    int topCount = topMoves.size();
+    List<List<Move>> nextMoveLists = new ArrayList<>(topCount);
+    int[] offsets = new int[topCount + 1];
+    for (int t = 0; t < topCount; t++) {
+      List<Move> nextMoves = generateMoves(topMoves.get(t).board, nextPiece);
+      nextMoveLists.add(nextMoves);
+      offsets[t + 1] = offsets[t] + nextMoves.size();
+    }
+    double[] nextScores = new double[offsets[topCount]];
+    forEachRange(nextScores.length, (from, to) -> {
+      // 다음 블록 결과는 점수만 필요하므로 작업용 보드 하나로 시뮬레이션하고, 전치표에 없는 보드는 배치에 모아 한 번에 평가
+      AIBoard scratch = new AIBoard(boardHeight, boardWidth);
+      BoardBatch batch = new BoardBatch(boardHeight, boardWidth, to - from);
+      int[] targets = new int[to - from];
+      long[] hashes = new long[to - from];
+      int evaluated = 0;
+      int t = 0;
+      for (int i = from; i < to; i++) {
+        checkCancelled(generation);
+        while (i >= offsets[t + 1]) {
+          t++;
+        }
+        Move nextMove = nextMoveLists.get(t).get(i - offsets[t]);
+        if (!simulateMove(topMoves.get(t).board, nextPiece, nextMove, scratch)) {
+          nextScores[i] = Double.NEGATIVE_INFINITY;
           continue;
         }
+        evaluated++;
+        long packed = transpositionTable == null ? TranspositionTable.MISS
+            : transpositionTable.get(scratch.getZobristHash());
+        if (packed != TranspositionTable.MISS) {
+          nextScores[i] = scoreFromPacked(scratch, packed);
+        } else {
+          int slot = batch.add(scratch);
+          targets[slot] = i;
+          hashes[slot] = scratch.getZobristHash();
+        }
+      }
+      searchStats.countEvaluations(evaluated);
+      double[] batchScores = new double[batch.size()];
+      batch.evaluate(weights, batchScores);
+      for (int slot = 0; slot < batch.size(); slot++) {
+        nextScores[targets[slot]] = batchScores[slot];
+        storeFeatures(hashes[slot], batch.getFeature(slot, AIBoard.FEATURE_ROW_TRANSITIONS),
+            batch.getFeature(slot, AIBoard.FEATURE_COLUMN_TRANSITIONS), batch.getFeature(slot, AIBoard.FEATURE_HOLES),
+            batch.getFeature(slot, AIBoard.FEATURE_WELL_SUMS));
+      }
+    });
 
-        double nextScore = evaluateBoard(nextResult.board, nextResult.linesCleared, nextResult.landingHeight,
-            nextResult.usefulBlocks, nextPiece);
-        if (nextScore > bestNextScore) {
-          bestNextScore = nextScore;
+    for (int t = 0; t < topCount; t++) {
+      MoveScore currentMoveScore = topMoves.get(t);
+      double bestNextScore = Double.NEGATIVE_INFINITY;
+      for (int i = offsets[t]; i < offsets[t + 1]; i++) {
+        if (nextScores[i] > bestNextScore) {
+          bestNextScore = nextScores[i];
         }
       }
 
@@ -240,549 +664,340 @@ public class TetrisAI {
     }
 
     // Fallback: Greedy (1-Piece Lookahead)
-    return greedySearch(board, currentPiece);
+    return greedySearch(board, currentPiece, generation);
   }
 
   /**
-   * Greedy Search: 1-Piece Lookahead (Fallback)
+   * [0, count) 구간을 body로 실행합니다.
+   * 작업 스레드가 1개이거나 구간이 작으면 호출 스레드에서 바로 실행하고,
+   * 아니면 공유 fork/join 풀에서 구간을 반씩 나눠 실행한 뒤 모두 끝날 때까지 기다립니다.
    */
-  private Move greedySearch(int[][] board, Block piece) {
-    List<Move> moves = generateMoves(board, piece);
-    Move bestMove = null;
-    double bestScore = Double.NEGATIVE_INFINITY;
-
-    for (Move move : moves) {
-      SimulationResult result = simulateMove(board, piece, move.x, move.rotation);
-      if (result == null) {
-        continue;
-      }
-
-      double score = evaluateBoard(result.board, result.linesCleared, result.landingHeight, result.usefulBlocks, piece);
-      if (score > bestScore) {
-        bestScore = score;
-        bestMove = move;
-      }
+  private void forEachRange(int count, RangeBody body) {
+    if (maxWorkers <= 1 || count < SPLIT_THRESHOLD * 2) {
+      body.run(0, count);
+      return;
     }
-
-    return bestMove;
+    POOLS.computeIfAbsent(maxWorkers, ForkJoinPool::new).invoke(new RangeTask(body, 0, count));
   }
 
-  /**
-   * 무브 제너레이터: 현재 블록으로 가능한 모든 위치 찾기
-   */
-  private List<Move> generateMoves(int[][] board, Block piece) {
-    List<Move> moves = new ArrayList<>();
-
-    // 원본 블록 복사
-    Block originalBlock = rotationManager.copyBlock(piece);
-    if (originalBlock == null) {
-      return moves;
+  // 현재 블록, 다음 블록, 블록 생성기의 미리보기 블록 순서로 복사
+  private PieceSnapshot[] capturePieces(PieceSnapshot current, PieceSnapshot next) {
+    PieceSnapshot[] pieces = new PieceSnapshot[2 + MAX_PREVIEW_PIECES];
+    pieces[0] = current;
+    pieces[1] = next;
+    for (int i = 0; i < MAX_PREVIEW_PIECES; i++) {
+      pieces[2 + i] = new PieceSnapshot(gameEngine.getBlockFactory().createPreviewBlock(i), next.spawnX, next.spawnY,
+          next.generator);
     }
-
-    // O블록은 회전이 의미 없음
-    boolean isOBlock = originalBlock instanceof se.tetris.team5.blocks.OBlock;
-
-    // 최대 회전 횟수 (O블록은 1회, 나머지는 4회)
-    int maxRotations = isOBlock ? 1 : 4;
-
-    for (int rotation = 0; rotation < maxRotations; rotation++) {
-      Block rotatedBlock = rotationManager.copyBlock(originalBlock);
-      if (rotatedBlock == null) {
-        continue;
-      }
-
-      // 회전 적용
-      for (int r = 0; r < rotation; r++) {
-        rotatedBlock.rotate();
-      }
-
-      // 모든 가능한 X 위치 시도
-      for (int x = -2; x <= BOARD_WIDTH - 2; x++) {
-        // 블록을 위에서부터 떨어뜨리기 (y는 작을수록 위쪽)
-        int y = 0;
-        int lastValidY = -1;
-
-        // 아래로 내려가면서 유효한 위치 찾기
-        while (y < BOARD_HEIGHT) {
-          if (canPlaceBlock(rotatedBlock, x, y, board)) {
-            lastValidY = y;
-            y++;
-          } else {
-            break;
-          }
-        }
-
-        // 유효한 위치가 있으면 추가
-        if (lastValidY >= 0) {
-          moves.add(new Move(x, rotation));
-        }
-      }
-    }
-
-    return moves;
+    return pieces;
   }
 
   /**
-   * 블록을 특정 위치에 놓았을 때의 결과 보드 상태를 반환
-   *
-   * @return SimulationResult (보드 상태와 줄 삭제 개수)
+   * 시간 예산 탐색 (Iterative Deepening Beam Search)
+   * 1-Piece 탐색을 먼저 마친 뒤, 내다볼 블록 수를 하나씩 늘리고 모든 블록을 쓰면 빔 너비를 두 배씩 늘립니다.
+   * 마감 시각을 넘기면 진행 중인 단계는 버리고 마지막으로 끝까지 마친 단계의 최선 수를 반환합니다.
    */
-  private SimulationResult simulateMove(int[][] board, Block piece, int x, int rotation) {
-    // 보드 복사
-    int[][] newBoard = copyBoard(board);
-
-    // 블록 복사 및 회전
-    Block rotatedBlock = rotationManager.copyBlock(piece);
-    if (rotatedBlock == null) {
+  private Move anytimeSearch(AIBoard board, PieceSnapshot[] pieces, long deadlineNanos, int generation) {
+    // 1-Piece 탐색은 예산과 관계없이 항상 마침 (최소한의 수 보장)
+    Move best = greedySearch(board, pieces[0], generation);
+    if (best == null) {
       return null;
     }
-
-    for (int r = 0; r < rotation; r++) {
-      rotatedBlock.rotate();
-    }
-
-    // 블록을 위에서부터 떨어뜨리기 (y는 작을수록 위쪽)
-    int y = 0;
-    int lastValidY = -1;
-
-    // 아래로 내려가면서 유효한 위치 찾기
-    while (y < BOARD_HEIGHT) {
-      if (canPlaceBlock(rotatedBlock, x, y, newBoard)) {
-        lastValidY = y;
-        y++;
+    int completedDepth = 1;
+    int completedWidth = beamWidth;
+
+    int depth = 2;
+    int width = beamWidth;
+    while (System.nanoTime() < deadlineNanos) {
+      Move found = deepeningSearch(board, pieces, depth, width, deadlineNanos, generation);
+      if (found == null) {
+        break; // 시간 초과
+      }
+      best = found;
+      completedDepth = depth;
+      completedWidth = width;
+      if (depth < pieces.length) {
+        depth++;
+      } else if (width < MAX_ANYTIME_BEAM_WIDTH) {
+        width = Math.min(width * 2, MAX_ANYTIME_BEAM_WIDTH);
       } else {
-        break;
+        break; // 더 탐색할 것이 없음
       }
     }
-
-    // 유효한 위치가 없으면 null 반환
-    if (lastValidY < 0) {
-      return null;
-    }
-
-    y = lastValidY;
-
-    // 블록 배치
-    placeBlockOnBoard(rotatedBlock, x, y, newBoard);
-
-    // 게임 오버 체크 (맨 위 줄에 블록이 있으면 게임 오버)
-    if (isGameOver(newBoard)) {
-      return null; // 게임 오버면 무효한 수
-    }
-
-    // El-Tetris: Landing Height 계산 (블록이 착지한 높이)
-    // y는 작을수록 위쪽이므로, 블록의 중심 높이를 계산
-    int landingHeight = calculateLandingHeight(rotatedBlock, x, y);
-
-    // 줄 삭제 시뮬레이션
-    int linesCleared = countFullRows(newBoard);
-
-    // El-Tetris: Eroded Piece Cells Metric 계산 (유용한 블록 셀 수)
-    int usefulBlocks = calculateUsefulBlocks(rotatedBlock, x, y, newBoard, linesCleared);
-
-    newBoard = simulateLineClear(newBoard);
-
-    // 줄 삭제 후에도 게임 오버 체크
-    if (isGameOver(newBoard)) {
-      return null; // 게임 오버면 무효한 수
-    }
-
-    return new SimulationResult(newBoard, linesCleared, landingHeight, usefulBlocks);
+    lastSearchDepth = completedDepth;
+    lastSearchWidth = completedWidth;
+    return best;
   }
 
   /**
-   * 평가 함수: El-Tetris 알고리즘 기반 + 대전 모드 공격 규칙
-   * El-Tetris 특징:
-   * 1. Landing Height: 블록이 착지한 높이
-   * 2. Eroded Piece Cells Metric: 삭제된 줄 수 × 유용한 블록 수
-   * 3. Row Transitions: 가로 전환 횟수
-   * 4. Column Transitions: 세로 전환 횟수
-   * 5. Number of Holes: 구멍 개수
-   * 6. Well Sums: Well의 깊이 합
+   * depth개 블록을 내다보는 Beam Search 한 단계
+   * 단계마다 모든 빔 보드에 그 단계의 블록을 놓아 보고, 누적 점수(k번째 블록 점수 × 0.5^k의 합) 상위 width개만 남깁니다.
+   * 누적 점수가 같으면 후보 순서가 빠른 쪽을 남기므로 작업 수와 관계없이 결과가 같습니다.
    *
-   * 대전 모드 추가:
-   * - 2줄 이상 삭제 시 공격 보너스
+   * @return 최선 경로의 첫 수, 마감 시각을 넘기면 null
    */
-  private double evaluateBoard(int[][] board, int linesCleared, int landingHeight, int usefulBlocks,
-      @SuppressWarnings("unused") Block piece) {
-    double score = 0.0;
-
-    // El-Tetris 특징 계산
-    // 1. Landing Height (블록이 착지한 높이)
-    score += landingHeight * weights.weightLandingHeight;
-
-    // 2. Eroded Piece Cells Metric (EPCM) = 삭제된 줄 수 × 유용한 블록 수
-    int epcm = linesCleared * usefulBlocks;
-    score += epcm * weights.weightEPCM;
-
-    // 3. Row Transitions (가로 전환 횟수)
-    int rowTransitions = countRowTransitions(board);
-    score += rowTransitions * weights.weightRowTransitions;
-
-    // 4. Column Transitions (세로 전환 횟수)
-    int columnTransitions = countColumnTransitions(board);
-    score += columnTransitions * weights.weightColumnTransitions;
-
-    // 5. Number of Holes (구멍 개수)
-    int holes = countHoles(board);
-    score += holes * weights.weightHoles;
-
-    // 6. Well Sums (Well의 깊이 합)
-    int wellSums = calculateWellSums(board);
-    score += wellSums * weights.weightWellSums;
-
-    // 대전 모드 공격 규칙: 줄별 가중치 적용
-    if (linesCleared == 2) {
-      score += weights.weightAttack2Lines;
-    } else if (linesCleared == 3) {
-      score += weights.weightAttack3Lines;
-    } else if (linesCleared == 4) {
-      score += weights.weightAttack4Lines; // Tetris 보너스
-    }
-
-    return score;
-  }
-
-  /**
-   * 구멍 개수 계산
-   */
-  private int countHoles(int[][] board) {
-    int holes = 0;
-    for (int x = 0; x < BOARD_WIDTH; x++) {
-      boolean foundBlock = false;
-      for (int y = 0; y < BOARD_HEIGHT; y++) {
-        if (board[y][x] == 1) { // == 1로 통일: 고정된 블록만 체크
-          foundBlock = true;
-        } else if (foundBlock) {
-          holes++; // 블록 위에 빈칸이 있으면 구멍
-        }
+  private Move deepeningSearch(AIBoard board, PieceSnapshot[] pieces, int depth, int width, long deadlineNanos,
+      int generation) {
+    List<SearchNode> beam = new ArrayList<>();
+    beam.add(new SearchNode(null, board, 0.0));
+    double factor = 1.0;
+    for (int ply = 0; ply < depth; ply++) {
+      PieceSnapshot piece = pieces[ply];
+      List<SearchNode> parents = beam;
+      int parentCount = parents.size();
+      List<List<Move>> moveLists = new ArrayList<>(parentCount);
+      int[] offsets = new int[parentCount + 1];
+      for (int p = 0; p < parentCount; p++) {
+        List<Move> moves = generateMoves(parents.get(p).board, piece);
+        moveLists.add(moves);
+        offsets[p + 1] = offsets[p] + moves.size();
       }
-    }
-    return holes;
-  }
 
-  /**
-   * 가로 끊김 (Row Transitions) 계산
-   */
-  private int countRowTransitions(int[][] board) {
-    int transitions = 0;
-    int highestRow = findHighestRow(board);
-
-    if (highestRow < 0) {
-      return 0;
-    }
-
-    for (int y = 0; y <= highestRow; y++) {
-      boolean last = true; // 왼쪽 경계는 채워져 있다고 가정
-      for (int x = 0; x < BOARD_WIDTH; x++) {
-        boolean now = (board[y][x] == 1); // == 1로 통일: 고정된 블록만 체크
-        if (last != now) {
-          transitions++;
+      SearchNode[] children = new SearchNode[offsets[parentCount]];
+      boolean[] timedOut = new boolean[1];
+      double plyFactor = factor;
+      boolean firstPly = ply == 0;
+      forEachRange(children.length, (from, to) -> {
+        int p = 0;
+        for (int i = from; i < to; i++) {
+          checkCancelled(generation);
+          if (System.nanoTime() > deadlineNanos) {
+            timedOut[0] = true;
+            return;
+          }
+          while (i >= offsets[p + 1]) {
+            p++;
+          }
+          SearchNode parent = parents.get(p);
+          Move move = moveLists.get(p).get(i - offsets[p]);
+          AIBoard result = new AIBoard(boardHeight, boardWidth);
+          if (simulateMove(parent.board, piece, move, result)) {
+            children[i] = new SearchNode(firstPly ? move : parent.rootMove, result,
+                parent.score + evaluateBoard(result) * plyFactor);
+          }
         }
-        last = now;
-      }
-      if (!last) { // 오른쪽 경계 전환
-        transitions++;
+      });
+      if (timedOut[0]) {
+        return null;
       }
-    }
-
-    return transitions;
-  }
 
-  /**
-   * El-Tetris: Landing Height 계산 (블록이 착지한 높이)
-   * 블록의 중심 높이를 계산 (y는 작을수록 위쪽)
-   */
-  private int calculateLandingHeight(Block block, int x, int y) {
-    // 블록의 가장 아래쪽 셀의 y 좌표를 찾음
-    int maxY = y;
-    for (int bx = 0; bx < block.width(); bx++) {
-      for (int by = 0; by < block.height(); by++) {
-        if (block.getShape(bx, by) == 1) {
-          int blockY = y + by;
-          if (blockY > maxY) {
-            maxY = blockY;
-          }
+      List<SearchNode> next = new ArrayList<>();
+      for (SearchNode child : children) {
+        if (child != null) {
+          next.add(child);
         }
       }
+      if (next.isEmpty()) {
+        break; // 이 블록을 놓을 곳이 없으면 이전 단계까지의 결과로 선택
+      }
+      // 안정 정렬이므로 점수가 같으면 후보 순서 유지
+      next.sort(Comparator.comparingDouble((SearchNode node) -> node.score).reversed());
+      searchStats.countPruned(next.size() - width);
+      beam = next.size() > width ? new ArrayList<>(next.subList(0, width)) : next;
+      factor *= 0.5; // 먼 미래의 점수일수록 가중치 감소
     }
-    // Landing Height = BOARD_HEIGHT - maxY (높이로 변환, 높을수록 큰 값)
-    return BOARD_HEIGHT - maxY;
+    return beam.get(0).rootMove;
   }
 
   /**
-   * El-Tetris: Eroded Piece Cells Metric (EPCM) 계산
-   * 삭제된 줄에 기여한 블록 셀 수를 계산
+   * Greedy Search: 1-Piece Lookahead (Fallback)
    */
-  private int calculateUsefulBlocks(Block block, int x, int y, int[][] boardBeforeClear, int linesCleared) {
-    if (linesCleared == 0) {
-      return 0;
-    }
+  private Move greedySearch(AIBoard board, PieceSnapshot piece, int generation) {
+    List<Move> moves = generateMoves(board, piece);
+    Move bestMove = null;
+    double bestScore = Double.NEGATIVE_INFINITY;
+    AIBoard scratch = new AIBoard(boardHeight, boardWidth);
 
-    // 삭제될 줄 찾기
-    List<Integer> fullRows = new ArrayList<>();
-    for (int row = 0; row < BOARD_HEIGHT; row++) {
-      boolean full = true;
-      for (int col = 0; col < BOARD_WIDTH; col++) {
-        if (boardBeforeClear[row][col] != 1) {
-          full = false;
-          break;
-        }
-      }
-      if (full) {
-        fullRows.add(row);
+    for (Move move : moves) {
+      checkCancelled(generation);
+      if (!simulateMove(board, piece, move, scratch)) {
+        continue;
       }
-    }
 
-    // 블록의 셀 중 삭제된 줄에 있는 셀 수 계산
-    int usefulBlocks = 0;
-    for (int bx = 0; bx < block.width(); bx++) {
-      for (int by = 0; by < block.height(); by++) {
-        if (block.getShape(bx, by) == 1) {
-          int blockY = y + by;
-          if (fullRows.contains(blockY)) {
-            usefulBlocks++;
-          }
-        }
+      double score = evaluateBoard(scratch);
+      if (score > bestScore) {
+        bestScore = score;
+        bestMove = move;
       }
     }
 
-    return usefulBlocks;
+    return bestMove;
   }
 
   /**
-   * El-Tetris: Column Transitions 계산
-   * 세로 방향으로 빈칸↔채움 전환 횟수
+   * 무브 제너레이터: 현재 블록으로 가능한 모든 위치 찾기
+   * 위(y=0)에서 떨어뜨려 놓을 수 있는 (x, 회전) 조합과 착지 y를 열 높이로 판정합니다 ({@link LandingCache}).
+   * 도달 가능성 탐색 중이면 블록의 출발 위치에서 입력으로 갈 수 있는 자리를 배치 생성기로 찾습니다.
    */
-  private int countColumnTransitions(int[][] board) {
-    int transitions = 0;
-    int highestRow = findHighestRow(board);
-
-    if (highestRow < 0) {
-      return 0;
-    }
+  private List<Move> generateMoves(AIBoard board, PieceSnapshot piece) {
+    List<Move> moves = new ArrayList<>();
 
-    for (int x = 0; x < BOARD_WIDTH; x++) {
-      boolean last = true; // 위쪽 경계는 채워져 있다고 가정
-      for (int y = 0; y <= highestRow; y++) {
-        boolean now = (board[y][x] == 1);
-        if (last != now) {
-          transitions++;
+    if (piece.generator != null) {
+      PlacementGenerator.Placements placements = piece.generator.generate(board, piece.table, piece.baseRotation,
+          piece.rotations, piece.spawnX, piece.spawnY);
+      for (int i = 0; i < placements.size(); i++) {
+        int y = placements.getY(i);
+        if (y >= 0) { // 보드 위로 삐져나온 자리는 게임 오버
+          moves.add(new Move(placements.getX(i), placements.getRotation(i), y, placements, i));
         }
-        last = now;
-      }
-      if (!last) { // 아래쪽 경계 전환
-        transitions++;
       }
+      return moves;
     }
 
-    return transitions;
-  }
-
-  /**
-   * El-Tetris: Well Sums 계산
-   * Well은 양쪽이 채워져 있고 가운데가 비어있는 연속된 빈칸
-   * Well의 깊이 합을 계산
-   */
-  private int calculateWellSums(int[][] board) {
-    int wellSums = 0;
-    int highestRow = findHighestRow(board);
-
-    if (highestRow < 0) {
-      return 0;
-    }
-
-    for (int x = 0; x < BOARD_WIDTH; x++) {
-      int wellDepth = 0;
-      for (int y = 0; y <= highestRow; y++) {
-        // Well 조건: 현재 칸이 비어있고, 양쪽이 채워져 있음
-        boolean isEmpty = (board[y][x] != 1);
-        boolean leftFilled = (x == 0) || (board[y][x - 1] == 1);
-        boolean rightFilled = (x == BOARD_WIDTH - 1) || (board[y][x + 1] == 1);
+    // 최대 회전 횟수 (O블록은 1회, 나머지는 4회)
+    int maxRotations = piece.isOBlock ? 1 : 4;
 
-        if (isEmpty && leftFilled && rightFilled) {
-          wellDepth++;
-        } else {
-          // Well이 끊기면 깊이를 합산하고 리셋
-          if (wellDepth > 0) {
-            wellSums += wellDepth * (wellDepth + 1) / 2; // Well 깊이의 합 (1+2+3+...)
-            wellDepth = 0;
-          }
+    for (int rotation = 0; rotation < maxRotations; rotation++) {
+      // 회전 적용 (미리 계산된 회전 테이블 참조)
+      RotationTable.Orientation o = piece.table.get(piece.baseRotation + rotation);
+
+      // 모든 가능한 X 위치 시도 (보드 밖 위치는 착지 y가 -1)
+      for (int x = -2; x <= boardWidth - 2; x++) {
+        int y = landingCache.drop(board, o, x).getY();
+        if (y >= 0) {
+          moves.add(new Move(x, rotation, y, null, 0));
         }
       }
-      // 마지막 Well 처리
-      if (wellDepth > 0) {
-        wellSums += wellDepth * (wellDepth + 1) / 2;
-      }
     }
 
-    return wellSums;
+    return moves;
   }
 
   /**
-   * 완성된 줄 개수 계산
-   * BoardManager.clearLines()와 동일한 로직 사용
+   * 블록을 특정 위치에 놓았을 때의 결과 보드 상태를 out에 만듭니다
+   *
+   * @return 놓을 수 없거나 게임 오버가 되는 수면 false
    */
-  private int countFullRows(int[][] board) {
-    int count = 0;
-    for (int y = 0; y < BOARD_HEIGHT; y++) {
-      boolean full = true;
-      for (int x = 0; x < BOARD_WIDTH; x++) {
-        if (board[y][x] != 1) { // BoardManager와 동일: != 1 체크 (고정된 블록만)
-          full = false;
-          break;
-        }
-      }
-      if (full) {
-        count++;
-      }
-    }
-    return count;
-  }
+  private boolean simulateMove(AIBoard board, PieceSnapshot piece, Move move, AIBoard out) {
+    RotationTable.Orientation o = piece.table.get(piece.baseRotation + move.rotation);
 
-  /**
-   * 가장 높은 행 찾기
-   */
-  private int findHighestRow(int[][] board) {
-    for (int y = 0; y < BOARD_HEIGHT; y++) {
-      for (int x = 0; x < BOARD_WIDTH; x++) {
-        if (board[y][x] == 1) { // == 1로 통일: 고정된 블록만 체크
-          return y;
-        }
-      }
+    int y = move.y;
+    if (y < 0) {
+      return false;
     }
-    return -1;
+
+    // 블록 배치 + 줄 삭제 (맨 위 줄에 블록이 남으면 게임 오버로 무효한 수)
+    out.copyFrom(board);
+    return out.place(o, move.x, y);
   }
 
   /**
-   * 게임 오버 체크
-   * 맨 위 줄(y=0)에 고정된 블록이 있으면 게임 오버
-   * BoardManager의 게임 오버 로직과 동일
+   * 평가 함수: El-Tetris 알고리즘 기반 + 대전 모드 공격 규칙
+   * El-Tetris 특징:
+   * 1. Landing Height: 블록이 착지한 높이
+   * 2. Eroded Piece Cells Metric: 삭제된 줄 수 × 유용한 블록 수
+   * 3. Row Transitions: 가로 전환 횟수
+   * 4. Column Transitions: 세로 전환 횟수
+   * 5. Number of Holes: 구멍 개수
+   * 6. Well Sums: Well의 깊이 합
+   *
+   * 대전 모드 추가:
+   * - 2줄 이상 삭제 시 공격 보너스
    */
-  private boolean isGameOver(int[][] board) {
-    for (int x = 0; x < BOARD_WIDTH; x++) {
-      if (board[0][x] == 1) { // 맨 위 줄에 고정된 블록이 있으면 게임 오버
-        return true;
-      }
+  private double evaluateBoard(AIBoard board) {
+    searchStats.countEvaluation();
+
+    // 보드에만 의존하는 특징은 전치표에서 찾고, 없으면 계산해서 저장
+    long packed = transpositionTable == null ? TranspositionTable.MISS
+        : transpositionTable.get(board.getZobristHash());
+    if (packed == TranspositionTable.MISS) {
+      // 전치표에 없으면 줄 한 번 순회로 네 특징을 함께 계산
+      int[] features = new int[AIBoard.FEATURE_COUNT];
+      board.extractFeatures(features);
+      return storeAndScore(board, features[AIBoard.FEATURE_ROW_TRANSITIONS],
+          features[AIBoard.FEATURE_COLUMN_TRANSITIONS], features[AIBoard.FEATURE_HOLES],
+          features[AIBoard.FEATURE_WELL_SUMS], board.getZobristHash());
     }
-    return false;
+    return scoreFromPacked(board, packed);
   }
 
-  /**
-   * 블록을 보드에 배치할 수 있는지 확인
-   * BoardManager.canMove()와 동일한 로직 사용
-   */
-  private boolean canPlaceBlock(Block block, int x, int y, int[][] board) {
-    // 경계 검사
-    if (x < 0 || x + block.width() > BOARD_WIDTH || y + block.height() > BOARD_HEIGHT) {
-      return false;
-    }
+  // 전치표에서 찾은 특징으로 점수 계산
+  private double scoreFromPacked(AIBoard board, long packed) {
+    return BoardBatch.score(weights, board.getLandingHeight(), board.getLinesCleared(), board.getUsefulCells(),
+        (int) (packed & ((1L << FEATURE_BITS) - 1)),
+        (int) ((packed >>> FEATURE_BITS) & ((1L << FEATURE_BITS) - 1)),
+        (int) ((packed >>> (2 * FEATURE_BITS)) & ((1L << FEATURE_BITS) - 1)),
+        (int) (packed >>> (3 * FEATURE_BITS)));
+  }
 
-    // 상단 경계는 허용 (블록이 위에서 시작할 수 있도록)
-    if (y < 0) {
-      for (int bx = 0; bx < block.width(); bx++) {
-        for (int by = 0; by < block.height(); by++) {
-          if (block.getShape(bx, by) == 1 && y + by >= 0) {
-            if (board[y + by][x + bx] == 1) { // == 1로 통일: 고정된 블록만 체크
-              return false;
-            }
-          }
-        }
-      }
-      return true;
-    }
+  // 계산한 특징을 전치표에 저장하고 점수 계산
+  private double storeAndScore(AIBoard board, int rowTransitions, int columnTransitions, int holes, int wellSums,
+      long hash) {
+    storeFeatures(hash, rowTransitions, columnTransitions, holes, wellSums);
+    return BoardBatch.score(weights, board.getLandingHeight(), board.getLinesCleared(), board.getUsefulCells(),
+        rowTransitions, columnTransitions, holes, wellSums);
+  }
 
-    // 고정된 블록과의 충돌 검사 (BoardManager와 동일)
-    for (int bx = 0; bx < block.width(); bx++) {
-      for (int by = 0; by < block.height(); by++) {
-        if (block.getShape(bx, by) == 1) {
-          int boardX = x + bx;
-          int boardY = y + by;
-          if (board[boardY][boardX] == 1) { // == 1로 통일: 고정된 블록만 체크
-            return false; // 이미 고정된 블록이 있음
-          }
-        }
-      }
+  private void storeFeatures(long hash, int rowTransitions, int columnTransitions, int holes, int wellSums) {
+    // 칸에 들어가지 않는 값(아주 큰 보드)은 저장하지 않음
+    if (transpositionTable != null && rowTransitions < (1 << FEATURE_BITS)
+        && columnTransitions < (1 << FEATURE_BITS) && holes < (1 << FEATURE_BITS) && wellSums < (1 << WELL_BITS)) {
+      transpositionTable.put(hash, rowTransitions
+          | ((long) columnTransitions << FEATURE_BITS)
+          | ((long) holes << (2 * FEATURE_BITS))
+          | ((long) wellSums << (3 * FEATURE_BITS)));
     }
-    return true;
   }
 
   /**
-   * 블록을 보드에 배치
+   * 후보 인덱스 구간 [from, to)를 처리하는 작업
+   * 구간마다 서로 다른 인덱스 칸에만 기록해야 합니다.
    */
-  private void placeBlockOnBoard(Block block, int x, int y, int[][] board) {
-    for (int bx = 0; bx < block.width(); bx++) {
-      for (int by = 0; by < block.height(); by++) {
-        if (block.getShape(bx, by) == 1) {
-          int boardX = x + bx;
-          int boardY = y + by;
-          if (boardY >= 0 && boardY < BOARD_HEIGHT && boardX >= 0 && boardX < BOARD_WIDTH) {
-            board[boardY][boardX] = 1;
-          }
-        }
-      }
-    }
+  private interface RangeBody {
+    void run(int from, int to);
   }
 
   /**
-   * 줄 삭제 시뮬레이션
-   * BoardManager.clearLines()와 동일한 로직 사용
-   * y=0이 위쪽, y=BOARD_HEIGHT-1이 아래쪽 (BoardManager와 동일한 좌표계)
+   * 구간을 SPLIT_THRESHOLD 이하가 될 때까지 반으로 나누는 fork/join 작업
    */
-  private int[][] simulateLineClear(int[][] board) {
-    // 완성된 줄 찾기 (BoardManager와 동일: 전체 보드 체크)
-    List<Integer> fullRows = new ArrayList<>();
-    for (int y = 0; y < BOARD_HEIGHT; y++) {
-      boolean full = true;
-      for (int x = 0; x < BOARD_WIDTH; x++) {
-        if (board[y][x] != 1) { // BoardManager와 동일: != 1 체크 (고정된 블록만)
-          full = false;
-          break;
-        }
-      }
-      if (full) {
-        fullRows.add(y);
-      }
+  private static class RangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final RangeBody body;
+    private final int from;
+    private final int to;
+
+    RangeTask(RangeBody body, int from, int to) {
+      this.body = body;
+      this.from = from;
+      this.to = to;
     }
 
-    // 완성된 줄이 없으면 원본 보드 반환
-    if (fullRows.isEmpty()) {
-      return board;
-    }
-
-    // 줄 삭제 시뮬레이션 (BoardManager와 동일한 로직)
-    // 아래에서 위로 읽으면서, 삭제되지 않은 줄을 아래에서 위로 채움
-    int[][] newBoard = new int[board.length][board[0].length];
-    int writeRow = BOARD_HEIGHT - 1; // 아래쪽부터 채움
-
-    // 아래에서 위로 읽기 (BOARD_HEIGHT-1부터 0까지)
-    for (int readRow = BOARD_HEIGHT - 1; readRow >= 0; readRow--) {
-      if (!fullRows.contains(readRow)) {
-        // 삭제되지 않은 줄을 아래에서 위로 복사
-        System.arraycopy(board[readRow], 0, newBoard[writeRow], 0, BOARD_WIDTH);
-        writeRow--;
+    @Override
+    protected void compute() {
+      if (to - from <= SPLIT_THRESHOLD) {
+        body.run(from, to);
+        return;
       }
+      int mid = (from + to) >>> 1;
+      invokeAll(new RangeTask(body, from, mid), new RangeTask(body, mid, to));
     }
-
-    // 남은 위쪽 공간을 빈 공간(0)으로 채움 (BoardManager와 동일)
-    for (int r = writeRow; r >= 0; r--) {
-      for (int c = 0; c < BOARD_WIDTH; c++) {
-        newBoard[r][c] = 0;
-      }
-    }
-
-    return newBoard;
   }
 
   /**
-   * 보드 복사
+   * 탐색에 필요한 블록 정보의 복사본
+   * 탐색이 다른 스레드에서 실행되는 동안 EDT가 블록을 회전시켜도 영향을 받지 않도록 계획을 만들 때 복사합니다.
    */
-  private int[][] copyBoard(int[][] board) {
-    int[][] newBoard = new int[board.length][];
-    for (int i = 0; i < board.length; i++) {
-      newBoard[i] = board[i].clone();
+  private static class PieceSnapshot {
+    final RotationTable table;
+    final int baseRotation;
+    // O블록은 회전이 의미 없음
+    final boolean isOBlock;
+    // 도달 가능성 탐색에서 쓰는 회전 상태 수 (O블록과 회전할 수 없는 무게추 블록은 1)
+    final int rotations;
+    // 도달 가능성 탐색의 출발 위치와 배치 생성기 (생성기가 null이면 위에서 곧바로 떨어뜨리는 자리만 씀)
+    final int spawnX;
+    final int spawnY;
+    final PlacementGenerator generator;
+
+    PieceSnapshot(Block block, int spawnX, int spawnY, PlacementGenerator generator) {
+      this.table = block.getRotationTable();
+      this.baseRotation = block.getRotation();
+      this.isOBlock = block instanceof se.tetris.team5.blocks.OBlock;
+      this.rotations = isOBlock || block instanceof se.tetris.team5.blocks.WBlock ? 1 : 4;
+      this.spawnX = spawnX;
+      this.spawnY = spawnY;
+      this.generator = generator;
     }
-    return newBoard;
   }
 
   /**
@@ -791,42 +1006,48 @@ public class TetrisAI {
   private static class Move {
     int x;
     int rotation;
+    // 착지 y
+    int y;
+    // 도달 가능성 탐색으로 찾은 수의 경로 (위에서 떨어뜨리는 수는 null)
+    PlacementGenerator.Placements placements;
+    int index;
 
-    Move(int x, int rotation) {
+    Move(int x, int rotation, int y, PlacementGenerator.Placements placements, int index) {
       this.x = x;
       this.rotation = rotation;
+      this.y = y;
+      this.placements = placements;
+      this.index = index;
     }
   }
 
   /**
-   * 무브와 점수를 담는 클래스
+   * 시간 예산 탐색의 빔 항목 (첫 수, 결과 보드, 누적 점수)
    */
-  private static class MoveScore {
-    Move move;
-    int[][] board;
-    double score;
+  private static class SearchNode {
+    final Move rootMove;
+    final AIBoard board;
+    final double score;
 
-    MoveScore(Move move, int[][] board, double score) {
-      this.move = move;
+    SearchNode(Move rootMove, AIBoard board, double score) {
+      this.rootMove = rootMove;
       this.board = board;
       this.score = score;
     }
   }
 
   /**
-   * 시뮬레이션 결과를 담는 클래스
+   * 무브와 점수를 담는 클래스
    */
-  private static class SimulationResult {
-    int[][] board;
-    int linesCleared;
-    int landingHeight; // El-Tetris: 블록이 착지한 높이
-    int usefulBlocks; // El-Tetris: 삭제된 줄에 기여한 블록 셀 수
+  private static class MoveScore {
+    Move move;
+    AIBoard board;
+    double score;
 
-    SimulationResult(int[][] board, int linesCleared, int landingHeight, int usefulBlocks) {
+    MoveScore(Move move, AIBoard board, double score) {
+      this.move = move;
       this.board = board;
-      this.linesCleared = linesCleared;
-      this.landingHeight = landingHeight;
-      this.usefulBlocks = usefulBlocks;
+      this.score = score;
     }
   }
 }
@@ -0,0 +1,112 @@
+package se.tetris.team5.gamelogic.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 보드 평가 특징 전치표 (Zobrist 해시 → 압축된 특징 값)
+ *
+ * 크기가 고정된 long 배열 두 개로 구성된 직접 사상(direct-mapped) 표입니다. 해시의 하위 비트로 칸을 고르고,
+ * 같은 칸에 다른 보드가 들어오면 항상 새 값으로 교체합니다 (평가 특징은 탐색 깊이와 무관하므로 최근 보드가 더 유용함).
+ *
+ * fork/join 작업들이 동시에 읽고 쓸 수 있도록 키 칸에는 (해시 ^ 값)을 저장하고, 읽을 때 (키 ^ 값)이 해시와
+ * 같은지 확인합니다. 다른 스레드가 쓰는 중인 칸을 읽으면 불일치로 처리되어 미스가 될 뿐 잘못된 값을 돌려주지 않습니다.
+ */
+public class TranspositionTable {
+
+  /** 찾는 보드가 없을 때 {@link #get(long)}의 반환값 */
+  public static final long MISS = -1L;
+
+  // 값의 최상위 비트는 0, 그 다음 비트는 사용 중 표시 (빈 칸의 값 0과 구분)
+  private static final long VALID_BIT = 1L << 62;
+  private static final long VALUE_MASK = VALID_BIT - 1;
+
+  private final long[] keys;
+  private final long[] values;
+  private final int indexMask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param capacity 칸 수 (2의 거듭제곱으로 올림)
+   */
+  public TranspositionTable(int capacity) {
+    if (capacity < 1 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("전치표 크기가 올바르지 않습니다: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.keys = new long[size];
+    this.values = new long[size];
+    this.indexMask = size - 1;
+  }
+
+  /**
+   * 해시에 해당하는 값을 찾습니다
+   *
+   * @return 저장된 값 (0 이상 2^62 미만), 없으면 {@link #MISS}
+   */
+  public long get(long hash) {
+    int index = index(hash);
+    long value = values[index];
+    if ((value & VALID_BIT) != 0L && (keys[index] ^ value) == hash) {
+      hits.increment();
+      return value & VALUE_MASK;
+    }
+    misses.increment();
+    return MISS;
+  }
+
+  /**
+   * 값을 저장합니다 (같은 칸의 기존 값은 교체)
+   *
+   * @param value 0 이상 2^62 미만
+   */
+  public void put(long hash, long value) {
+    if (value < 0L || value > VALUE_MASK) {
+      throw new IllegalArgumentException("저장할 수 없는 값입니다: " + value);
+    }
+    int index = index(hash);
+    long stored = value | VALID_BIT;
+    values[index] = stored;
+    keys[index] = hash ^ stored;
+  }
+
+  /**
+   * 모든 칸과 통계를 비웁니다
+   */
+  public void clear() {
+    java.util.Arrays.fill(keys, 0L);
+    java.util.Arrays.fill(values, 0L);
+    hits.reset();
+    misses.reset();
+  }
+
+  public int getCapacity() {
+    return keys.length;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * 적중률 (조회가 없으면 0)
+   */
+  public double getHitRate() {
+    long h = hits.sum();
+    long total = h + misses.sum();
+    return total == 0 ? 0.0 : (double) h / total;
+  }
+
+  // 해시 상위 비트도 칸 선택에 반영
+  private int index(long hash) {
+    return (int) (hash ^ (hash >>> 32)) & indexMask;
+  }
+}
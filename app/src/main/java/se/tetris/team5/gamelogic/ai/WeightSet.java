@@ -51,7 +51,13 @@ public class WeightSet {
    * El-Tetris 특징에 맞는 가중치 범위 설정
    */
   public static WeightSet random() {
-    java.util.Random rand = new java.util.Random();
+    return random(new java.util.Random());
+  }
+
+  /**
+   * 주어진 난수 생성기로 랜덤 가중치 생성 (학습을 재현/재개할 때 사용)
+   */
+  public static WeightSet random(java.util.Random rand) {
     return new WeightSet(
         -(rand.nextDouble() * 10.0 + 1.0), // Landing Height: -11 ~ -1 (항상 음수)
         rand.nextDouble() * 10.0 + 1.0, // EPCM: 1 ~ 11 (항상 양수)
@@ -69,7 +75,13 @@ public class WeightSet {
    * 교차 (Crossover): 두 부모의 가중치를 섞어 자식 생성
    */
   public static WeightSet crossover(WeightSet parent1, WeightSet parent2) {
-    java.util.Random rand = new java.util.Random();
+    return crossover(parent1, parent2, new java.util.Random());
+  }
+
+  /**
+   * 주어진 난수 생성기로 교차
+   */
+  public static WeightSet crossover(WeightSet parent1, WeightSet parent2, java.util.Random rand) {
     return new WeightSet(
         rand.nextBoolean() ? parent1.weightLandingHeight : parent2.weightLandingHeight,
         rand.nextBoolean() ? parent1.weightEPCM : parent2.weightEPCM,
@@ -87,7 +99,13 @@ public class WeightSet {
    * El-Tetris 특징에 맞는 가중치 제약을 유지하면서 변경
    */
   public void mutate(double mutationRate) {
-    java.util.Random rand = new java.util.Random();
+    mutate(mutationRate, new java.util.Random());
+  }
+
+  /**
+   * 주어진 난수 생성기로 돌연변이
+   */
+  public void mutate(double mutationRate, java.util.Random rand) {
     if (rand.nextDouble() < mutationRate) {
       weightLandingHeight += (rand.nextDouble() - 0.5) * 2.0;
       weightLandingHeight = Math.max(-15.0, Math.min(-0.1, weightLandingHeight)); // -15 ~ -0.1로 제한 (항상 음수)
@@ -178,7 +196,13 @@ public class WeightSet {
    * 생존 가중치만 랜덤 생성 (하이브리드 학습용)
    */
   public static WeightSet randomSurvivalWeights() {
-    java.util.Random rand = new java.util.Random();
+    return randomSurvivalWeights(new java.util.Random());
+  }
+
+  /**
+   * 주어진 난수 생성기로 생존 가중치만 랜덤 생성
+   */
+  public static WeightSet randomSurvivalWeights(java.util.Random rand) {
     WeightSet weights = new WeightSet();
     weights.weightLandingHeight = -(rand.nextDouble() * 10.0 + 1.0);
     weights.weightEPCM = rand.nextDouble() * 10.0 + 1.0;
@@ -194,7 +218,13 @@ public class WeightSet {
    * 공격 가중치만 랜덤 생성 (하이브리드 학습용)
    */
   public static WeightSet randomAttackWeights() {
-    java.util.Random rand = new java.util.Random();
+    return randomAttackWeights(new java.util.Random());
+  }
+
+  /**
+   * 주어진 난수 생성기로 공격 가중치만 랜덤 생성
+   */
+  public static WeightSet randomAttackWeights(java.util.Random rand) {
     WeightSet weights = new WeightSet();
     // 생존 가중치는 기본값 유지
     weights.weightAttack2Lines = rand.nextDouble() * 20.0 + 5.0;
@@ -203,6 +233,32 @@ public class WeightSet {
     return weights;
   }
 
+  /**
+   * 가중치 값으로 정한 64비트 해시 (같은 값이면 객체가 달라도 같은 해시, 적합도 캐시 키용)
+   * -0.0은 0.0과, 모든 NaN은 하나의 NaN과 같게 봅니다.
+   */
+  public long canonicalHash() {
+    long hash = 0x9E3779B97F4A7C15L;
+    hash = mixWeight(hash, weightLandingHeight);
+    hash = mixWeight(hash, weightEPCM);
+    hash = mixWeight(hash, weightRowTransitions);
+    hash = mixWeight(hash, weightColumnTransitions);
+    hash = mixWeight(hash, weightHoles);
+    hash = mixWeight(hash, weightWellSums);
+    hash = mixWeight(hash, weightAttack2Lines);
+    hash = mixWeight(hash, weightAttack3Lines);
+    hash = mixWeight(hash, weightAttack4Lines);
+    return hash;
+  }
+
+  // 값 하나를 해시에 섞음 (SplitMix64 마무리 함수)
+  private static long mixWeight(long hash, double weight) {
+    long bits = Double.doubleToLongBits(weight == 0.0 ? 0.0 : weight);
+    long z = (hash ^ bits) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
   @Override
   public String toString() {
     return String.format(
@@ -0,0 +1,167 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 개체 평가 결과 캐시
+ *
+ * 엘리트처럼 가중치가 그대로 다음 세대로 넘어간 개체나 같은 가중치를 가진 개체는 게임을 다시 하지 않고 결과를 재사용합니다.
+ * 키는 평가 방식, 가중치, 상대 가중치, 게임 시드를 값으로 섞은 해시이므로 이 중 하나라도 다르면 다시 평가합니다.
+ *
+ * 시드가 없으면 게임마다 블록 순서가 무작위라 결과는 표본 하나일 뿐입니다. 운 좋은 점수가 계속 남지 않도록
+ * 재평가 주기가 N이면 결과를 N - 1번까지 재사용하고 그다음 조회에서 버려 다시 평가하게 합니다 (0이면 계속 재사용).
+ * 세대마다 한 번씩 조회하므로 엘리트는 N세대마다 새로 평가됩니다.
+ * 가장 오래 쓰지 않은 결과부터 용량을 넘는 만큼 버립니다.
+ * 세대 평가를 시작하고 마치는 스레드에서만 사용합니다 (동기화하지 않음).
+ */
+public class FitnessCache {
+
+  /** 기본 용량 (결과 수) */
+  public static final int DEFAULT_CAPACITY = 4096;
+  /** 기본 재평가 주기: 결과를 두 번 재사용한 뒤 다시 평가 */
+  public static final int DEFAULT_RESAMPLE_INTERVAL = 3;
+
+  private final int capacity;
+  private int resampleInterval;
+  private final LinkedHashMap<Long, Entry> entries;
+
+  private long hits;
+  private long misses;
+  private long resamples;
+
+  private static final class Entry {
+    final Individual result;
+    int uses; // 결과를 재사용한 횟수
+
+    Entry(Individual result) {
+      this.result = result;
+    }
+  }
+
+  public FitnessCache() {
+    this(DEFAULT_CAPACITY, DEFAULT_RESAMPLE_INTERVAL);
+  }
+
+  /**
+   * @param capacity         저장할 최대 결과 수
+   * @param resampleInterval 재평가 주기 (0이면 계속 재사용)
+   */
+  public FitnessCache(int capacity, int resampleInterval) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("캐시 용량은 1 이상이어야 합니다: " + capacity);
+    }
+    this.capacity = capacity;
+    setResampleInterval(resampleInterval);
+    this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+        return size() > FitnessCache.this.capacity;
+      }
+    };
+  }
+
+  /**
+   * 평가 결과의 키
+   *
+   * @param evaluation 평가 방식 이름 (예: "quick", "survival")
+   * @param weights    평가할 가중치
+   * @param opponent   상대 가중치 (null이면 기본 가중치와 대전하거나 솔로 평가)
+   * @param seeds      게임별 시드 (null이면 무작위 순서)
+   */
+  public static long key(String evaluation, WeightSet weights, WeightSet opponent, long[] seeds) {
+    long hash = evaluation.hashCode();
+    hash = mix(hash ^ weights.canonicalHash());
+    hash = mix(hash ^ (opponent == null ? 0L : opponent.canonicalHash()));
+    if (seeds == null) {
+      hash = mix(hash ^ 0x5EEDL);
+    } else {
+      for (long seed : seeds) {
+        hash = mix(hash ^ seed);
+      }
+      hash = mix(hash ^ seeds.length);
+    }
+    return hash;
+  }
+
+  // SplitMix64 마무리 함수
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * 저장된 결과가 있으면 개체에 복사합니다
+   * 재사용 횟수가 재평가 주기에 닿은 결과는 버리고 false를 반환합니다 (다시 평가해야 함).
+   *
+   * @return 결과를 복사했으면 true
+   */
+  public boolean restore(long key, Individual target) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      misses++;
+      return false;
+    }
+    if (resampleInterval > 0 && entry.uses + 1 >= resampleInterval) {
+      entries.remove(key);
+      resamples++;
+      misses++;
+      return false;
+    }
+    entry.uses++;
+    target.copyResultsFrom(entry.result);
+    hits++;
+    return true;
+  }
+
+  /**
+   * 평가를 마친 개체의 결과를 저장합니다 (같은 키의 이전 결과는 대체)
+   */
+  public void store(long key, Individual evaluated) {
+    Individual result = new Individual(evaluated.weights);
+    result.copyResultsFrom(evaluated);
+    entries.put(key, new Entry(result));
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int getResampleInterval() {
+    return resampleInterval;
+  }
+
+  /**
+   * @param resampleInterval 재평가 주기 (결과를 이 값 - 1번까지 재사용, 0이면 계속 재사용)
+   */
+  public void setResampleInterval(int resampleInterval) {
+    if (resampleInterval < 0) {
+      throw new IllegalArgumentException("재평가 주기는 0 이상이어야 합니다: " + resampleInterval);
+    }
+    this.resampleInterval = resampleInterval;
+  }
+
+  public long getHits() {
+    return hits;
+  }
+
+  public long getMisses() {
+    return misses;
+  }
+
+  /** 재평가 주기에 닿아 버린 결과 수 */
+  public long getResamples() {
+    return resamples;
+  }
+}
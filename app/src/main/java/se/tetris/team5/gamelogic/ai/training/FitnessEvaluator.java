@@ -2,17 +2,24 @@ package se.tetris.team5.gamelogic.ai.training;
 
 import se.tetris.team5.gamelogic.GameEngine;
 import se.tetris.team5.gamelogic.GameMode;
+import se.tetris.team5.gamelogic.ManualClock;
 import se.tetris.team5.gamelogic.ai.TetrisAI;
 import se.tetris.team5.gamelogic.ai.WeightSet;
 import javax.swing.Timer;
-import java.awt.event.ActionListener;
-import java.awt.event.ActionEvent;
 import java.util.List;
 import java.awt.Color;
 
 /**
  * AI의 적합도를 평가하는 클래스
  * AI끼리 대전 모드로 평가하여 실제 사용 환경과 동일하게 테스트
+ *
+ * 기본은 lockstep 모드입니다. 타이머와 대기 없이 시뮬레이션 시간을 직접 진행시키며,
+ * 낙하 타이머와 AI 타이머가 울릴 시각 순서대로 한 칸 낙하와 AI 행동을 번갈아 실행합니다.
+ * 타이머 간격의 비율(낙하:AI)은 타이머 모드와 같고, 게임 시간도 시뮬레이션 시간으로 셉니다.
+ * 두 모드 모두 AI는 AI 타이머가 울릴 때 설정된 사고 시간이 지났으면 행동합니다 (lockstep이면 시뮬레이션 시계로 잼).
+ * 따라서 CPU가 허락하는 만큼 빠르게, 매번 같은 순서로 진행됩니다.
+ * {@link #setZeroThinkDelay(boolean) setZeroThinkDelay(true)}이면 사고 시간 없이 AI 타이머가 울릴 때마다 행동합니다.
+ * {@link #setLockstep(boolean) setLockstep(false)}이면 예전처럼 Swing 타이머로 실제 시간 동안 진행합니다.
  */
 public class FitnessEvaluator {
   // 빠른 학습을 위한 타이머 설정 (게임 로직에는 영향 없음)
@@ -41,6 +48,69 @@ public class FitnessEvaluator {
   // 이전 세대 최고 개체 (상대 AI로 사용)
   private Individual previousBestOpponent = null;
 
+  // true면 시뮬레이션 시간으로 진행 (타이머 없음)
+  private boolean lockstep = true;
+
+  // true면 AI 사고 시간을 0으로 두고 AI 타이머마다 행동
+  private boolean zeroThinkDelay = false;
+
+  // 게임별 블록 순서 시드 (null이면 무작위)
+  private long[] gameSeeds;
+
+  /**
+   * 평가 방식 설정
+   *
+   * @param lockstep true면 시뮬레이션 시간으로 최대 속도로 진행, false면 Swing 타이머로 실제 시간 동안 진행
+   */
+  public void setLockstep(boolean lockstep) {
+    this.lockstep = lockstep;
+  }
+
+  public boolean isLockstep() {
+    return lockstep;
+  }
+
+  /**
+   * AI 사고 시간 설정
+   *
+   * @param zeroThinkDelay true면 사고 시간 없이 AI 타이머마다 행동, false면 AI에 설정된 사고 시간을 지킴 (기본값)
+   */
+  public void setZeroThinkDelay(boolean zeroThinkDelay) {
+    this.zeroThinkDelay = zeroThinkDelay;
+  }
+
+  public boolean isZeroThinkDelay() {
+    return zeroThinkDelay;
+  }
+
+  /**
+   * 게임별 블록 순서 시드 설정
+   * i번째 게임은 seeds[i]로 블록 순서를 정하고, 대전이면 두 엔진이 같은 순서를 받습니다.
+   *
+   * @param seeds 게임 수 이상의 시드 (null이면 게임마다 무작위 순서)
+   */
+  public void setGameSeeds(long[] seeds) {
+    this.gameSeeds = copyGameSeeds(seeds);
+  }
+
+  // 시드 수를 확인하고 복사 (null은 그대로)
+  static long[] copyGameSeeds(long[] seeds) {
+    if (seeds == null) {
+      return null;
+    }
+    if (seeds.length < Math.max(GAMES_PER_INDIVIDUAL, QUICK_GAMES_PER_INDIVIDUAL)) {
+      throw new IllegalArgumentException("게임 수보다 시드가 적습니다: " + seeds.length);
+    }
+    return seeds.clone();
+  }
+
+  /**
+   * @return 게임별 시드 (설정하지 않았으면 null)
+   */
+  public long[] getGameSeeds() {
+    return gameSeeds == null ? null : gameSeeds.clone();
+  }
+
   /**
    * 상대 AI 설정 (이전 세대 최고 개체)
    */
@@ -67,118 +137,239 @@ public class FitnessEvaluator {
     }
 
     for (int game = 0; game < GAMES_PER_INDIVIDUAL; game++) {
-      // 두 개의 게임 엔진 생성 (AI 대전 모드)
-      GameEngine engine1 = new GameEngine(20, 10, false);
-      GameEngine engine2 = new GameEngine(20, 10, false);
-
-      engine1.setGameMode(GameMode.NORMAL);
-      engine2.setGameMode(GameMode.NORMAL);
-
-      engine1.startNewGame();
-      engine2.startNewGame();
-
-      // 평가 대상 AI와 상대 AI 생성
-      TetrisAI ai1 = new TetrisAI(engine1);
-      TetrisAI ai2 = new TetrisAI(engine2);
-
-      ai1.setWeights(individual.weights); // 평가 대상
-      ai2.setWeights(opponentWeights); // 상대 (기본 가중치)
-
-      // 공격 로직: 블록 고정 후 콜백으로 처리
-      engine1.setOnBlockFixedCallback(() -> handleAttack(engine1, engine2));
-      engine2.setOnBlockFixedCallback(() -> handleAttack(engine2, engine1));
-
-      final int[] moves = { 0 };
-      final boolean[] gameFinished = { false };
-      final int[] winner = { 0 }; // 0: 무승부, 1: ai1 승리, 2: ai2 승리
-
-      // 게임 진행 타이머 (실제 대전 모드와 동일한 간격)
-      Timer gameTimer = new Timer(GAME_TIMER_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine1.isGameOver() && !engine2.isGameOver()) {
-            engine1.moveBlockDown();
-            engine2.moveBlockDown();
-          } else {
-            // 게임 오버 체크
-            if (engine1.isGameOver() && !engine2.isGameOver()) {
-              winner[0] = 2; // ai2 승리
-            } else if (!engine1.isGameOver() && engine2.isGameOver()) {
-              winner[0] = 1; // ai1 승리
-            } else {
-              winner[0] = 0; // 동시 게임 오버 (무승부)
-            }
-            gameFinished[0] = true;
-          }
-        }
-      });
-
-      // AI1 행동 타이머
-      Timer ai1Timer = new Timer(AI_ACTION_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine1.isGameOver() && moves[0] < MAX_MOVES_PER_GAME) {
-            ai1.makeMove();
-          }
-        }
-      });
-
-      // AI2 행동 타이머
-      Timer ai2Timer = new Timer(AI_ACTION_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine2.isGameOver() && moves[0] < MAX_MOVES_PER_GAME) {
-            ai2.makeMove();
-          }
-          moves[0]++;
-        }
-      });
-
-      gameTimer.start();
-      ai1Timer.start();
-      ai2Timer.start();
-
-      // 게임이 끝날 때까지 대기
-      long gameStartTime = System.currentTimeMillis();
-      while (!gameFinished[0] && moves[0] < MAX_MOVES_PER_GAME
-          && (System.currentTimeMillis() - gameStartTime) < MAX_GAME_TIME_MS) {
-        try {
-          Thread.sleep(1); // 빠른 학습을 위한 매우 짧은 간격 (10ms -> 1ms)
-        } catch (InterruptedException e) {
-          break;
-        }
-      }
-
-      gameTimer.stop();
-      ai1Timer.stop();
-      ai2Timer.stop();
-
-      // 게임 시간 계산
-      long gameTimeMs = System.currentTimeMillis() - gameStartTime;
+      // 실제 대전 모드와 같은 비율의 간격으로 한 게임 진행
+      DuelResult result = playDuel(game, individual.weights, opponentWeights, GAME_TIMER_INTERVAL,
+          AI_ACTION_INTERVAL, MAX_MOVES_PER_GAME, MAX_GAME_TIME_MS);
 
       // 결과 기록 (대전 모드: 승리/패배 기반)
-      int linesCleared = engine1.getGameScoring().getLinesCleared();
-      int score = engine1.getGameScoring().getCurrentScore();
+      int linesCleared = result.linesCleared;
+      int score = result.score;
 
       // 승리/패배 정보 전달
       Boolean isWin = null;
-      if (winner[0] == 1) {
+      if (result.winner == 1) {
         // 승리: 큰 보너스
         score += 10000;
         linesCleared += 20; // 승리 보너스
         isWin = true;
-      } else if (winner[0] == 2) {
+      } else if (result.winner == 2) {
         // 패배: 패널티
         score = Math.max(0, score - 5000);
         isWin = false;
       }
 
-      individual.addGameResult(linesCleared, score, isWin, gameTimeMs);
+      individual.addGameResult(linesCleared, score, isWin, result.gameTimeMs);
     }
 
     return individual.fitness;
   }
 
+  /**
+   * 대전 한 게임의 결과 (평가 대상 AI 기준)
+   */
+  private static class DuelResult {
+    int winner; // 0: 무승부, 1: ai1 승리, 2: ai2 승리
+    int linesCleared;
+    int score;
+    long gameTimeMs;
+  }
+
+  /**
+   * 생존 평가 한 게임의 보드 상태 통계
+   */
+  private static class SurvivalResult {
+    int maxHeight;
+    int sumHeight;
+    int heightCount;
+    int sumHoles;
+    int linesCleared;
+    long gameTimeMs;
+  }
+
+  /**
+   * AI 대전 한 게임 진행
+   *
+   * @param game          게임 번호 (시드 선택용)
+   * @param weights1      평가 대상 AI 가중치
+   * @param weights2      상대 AI 가중치
+   * @param gameInterval  블록 자동 낙하 간격 (밀리초)
+   * @param aiInterval    AI 행동 주기 (밀리초)
+   * @param maxMoves      최대 AI 행동 주기 수
+   * @param maxGameTimeMs 최대 게임 시간 (밀리초)
+   */
+  private DuelResult playDuel(int game, WeightSet weights1, WeightSet weights2, int gameInterval, int aiInterval,
+      int maxMoves, int maxGameTimeMs) {
+    // 두 개의 게임 엔진 생성 (AI 대전 모드, lockstep이면 같은 시뮬레이션 시계를 공유)
+    ManualClock clock = lockstep ? new ManualClock() : null;
+    GameEngine engine1 = createEngine(clock, game);
+    GameEngine engine2 = createEngine(clock, game);
+
+    // 평가 대상 AI와 상대 AI 생성
+    TetrisAI ai1 = createAI(engine1, weights1); // 평가 대상
+    TetrisAI ai2 = createAI(engine2, weights2); // 상대
+
+    // 공격 로직: 블록 고정 후 콜백으로 처리
+    engine1.setOnBlockFixedCallback(() -> handleAttack(engine1, engine2));
+    engine2.setOnBlockFixedCallback(() -> handleAttack(engine2, engine1));
+
+    final int[] moves = { 0 };
+    final boolean[] gameFinished = { false };
+    final int[] winner = { 0 }; // 0: 무승부, 1: ai1 승리, 2: ai2 승리
+
+    // 게임 진행 (낙하 한 번)
+    Runnable gravityTick = () -> {
+      if (!engine1.isGameOver() && !engine2.isGameOver()) {
+        engine1.moveBlockDown();
+        engine2.moveBlockDown();
+      } else {
+        // 게임 오버 체크
+        if (engine1.isGameOver() && !engine2.isGameOver()) {
+          winner[0] = 2; // ai2 승리
+        } else if (!engine1.isGameOver() && engine2.isGameOver()) {
+          winner[0] = 1; // ai1 승리
+        } else {
+          winner[0] = 0; // 동시 게임 오버 (무승부)
+        }
+        gameFinished[0] = true;
+      }
+    };
+    // AI1 행동
+    Runnable ai1Tick = () -> {
+      if (!engine1.isGameOver() && moves[0] < maxMoves) {
+        ai1.makeMove();
+      }
+    };
+    // AI2 행동
+    Runnable ai2Tick = () -> {
+      if (!engine2.isGameOver() && moves[0] < maxMoves) {
+        ai2.makeMove();
+      }
+      moves[0]++;
+    };
+
+    DuelResult result = new DuelResult();
+    if (lockstep) {
+      result.gameTimeMs = runLockstep(clock, gameInterval, aiInterval, maxMoves, maxGameTimeMs, moves, gameFinished,
+          gravityTick, ai1Tick, ai2Tick);
+    } else {
+      result.gameTimeMs = runWithTimers(gameInterval, aiInterval, maxMoves, maxGameTimeMs, moves, gameFinished,
+          gravityTick, ai1Tick, ai2Tick);
+    }
+    result.winner = winner[0];
+    result.linesCleared = engine1.getGameScoring().getLinesCleared();
+    result.score = engine1.getGameScoring().getCurrentScore();
+    return result;
+  }
+
+  // 평가용 엔진 생성 (clock이 있으면 그 시계로 진행하는 헤드리스 엔진, 시드가 있으면 그 블록 순서로 시작)
+  private GameEngine createEngine(ManualClock clock, int game) {
+    GameEngine engine;
+    if (clock != null) {
+      engine = GameEngine.createHeadless(20, 10);
+      engine.setClock(clock);
+      engine.setGameMode(GameMode.NORMAL);
+      if (gameSeeds != null) {
+        engine.getBlockFactory().setRandomSeed(gameSeeds[game]);
+        engine.startNewGame();
+      }
+    } else {
+      engine = new GameEngine(20, 10, false);
+      engine.setGameMode(GameMode.NORMAL);
+      if (gameSeeds != null) {
+        engine.getBlockFactory().setRandomSeed(gameSeeds[game]);
+      }
+      engine.startNewGame();
+    }
+    return engine;
+  }
+
+  // 평가용 AI 생성 (사고 시간은 zeroThinkDelay일 때만 0으로 바꿈)
+  TetrisAI createAI(GameEngine engine, WeightSet weights) {
+    TetrisAI ai = new TetrisAI(engine);
+    ai.setWeights(weights);
+    if (zeroThinkDelay) {
+      ai.setThinkDelay(0);
+    }
+    return ai;
+  }
+
+  /**
+   * Swing 타이머로 게임 진행 (실제 시간)
+   * 낙하 타이머 하나와 AI 타이머들을 시작하고 게임이 끝나거나 제한에 걸릴 때까지 기다립니다.
+   *
+   * @return 게임 시간 (밀리초)
+   */
+  private static long runWithTimers(int gameInterval, int aiInterval, int maxMoves, int maxGameTimeMs, int[] moves,
+      boolean[] gameFinished, Runnable gravityTick, Runnable... aiTicks) {
+    Timer gameTimer = new Timer(gameInterval, e -> gravityTick.run());
+    Timer[] aiTimers = new Timer[aiTicks.length];
+    for (int i = 0; i < aiTicks.length; i++) {
+      Runnable aiTick = aiTicks[i];
+      aiTimers[i] = new Timer(aiInterval, e -> aiTick.run());
+    }
+
+    gameTimer.start();
+    for (Timer timer : aiTimers) {
+      timer.start();
+    }
+
+    // 게임이 끝날 때까지 대기
+    long gameStartTime = System.currentTimeMillis();
+    while (!gameFinished[0] && moves[0] < maxMoves
+        && (System.currentTimeMillis() - gameStartTime) < maxGameTimeMs) {
+      try {
+        Thread.sleep(1); // 빠른 학습을 위한 매우 짧은 간격 (10ms -> 1ms)
+      } catch (InterruptedException e) {
+        break;
+      }
+    }
+
+    gameTimer.stop();
+    for (Timer timer : aiTimers) {
+      timer.stop();
+    }
+
+    // 게임 시간 계산
+    return System.currentTimeMillis() - gameStartTime;
+  }
+
+  /**
+   * 시뮬레이션 시간으로 게임 진행 (lockstep)
+   * 타이머가 울릴 시각 중 가장 이른 것으로 시계를 옮기고 그 타이머의 행동을 실행합니다.
+   * 같은 시각이면 타이머 모드의 시작 순서대로 낙하를 먼저, 그다음 AI를 순서대로 실행합니다.
+   *
+   * @return 게임 시간 (시뮬레이션 밀리초)
+   */
+  static long runLockstep(ManualClock clock, int gameInterval, int aiInterval, int maxMoves, int maxGameTimeMs,
+      int[] moves, boolean[] gameFinished, Runnable gravityTick, Runnable... aiTicks) {
+    long start = clock.currentTimeMillis();
+    long nextGravity = start + gameInterval;
+    long nextAI = start + aiInterval;
+    long now = start;
+    while (!gameFinished[0] && moves[0] < maxMoves) {
+      long next = Math.min(nextGravity, nextAI);
+      if (next - start >= maxGameTimeMs) {
+        // 제한 시간까지 진행한 것으로 봄
+        now = start + maxGameTimeMs;
+        break;
+      }
+      now = next;
+      clock.setTime(now);
+      if (nextGravity == now) {
+        gravityTick.run();
+        nextGravity += gameInterval;
+      }
+      if (nextAI == now && !gameFinished[0]) {
+        for (Runnable aiTick : aiTicks) {
+          aiTick.run();
+        }
+        nextAI += aiInterval;
+      }
+    }
+    clock.setTime(now);
+    return now - start;
+  }
+
   /**
    * 공격 로직: 한 AI가 2줄 이상 삭제하면 상대방에게 공격 블록 전송
    * 실제 대전 모드와 동일한 로직 (PlayerGamePanel.updateGameUI 참고)
@@ -213,78 +404,15 @@ public class FitnessEvaluator {
     individual.resetFitness();
 
     for (int game = 0; game < QUICK_GAMES_PER_INDIVIDUAL; game++) {
-      GameEngine engine = new GameEngine(20, 10, false);
-      engine.setGameMode(GameMode.NORMAL);
-      engine.startNewGame();
+      SurvivalResult result = playSurvival(game, individual.weights);
 
-      TetrisAI ai = new TetrisAI(engine);
-      ai.setWeights(individual.weights);
-
-      final int[] moves = { 0 };
-      final boolean[] gameFinished = { false };
-
-      // 보드 상태 추적
-      final int[] maxHeight = { 0 };
-      final int[] sumHeight = { 0 };
-      final int[] heightCount = { 0 };
-      final int[] sumHoles = { 0 };
-
-      Timer gameTimer = new Timer(QUICK_GAME_TIMER_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine.isGameOver()) {
-            engine.moveBlockDown();
-
-            // 보드 상태 측정
-            int[][] board = engine.getBoardManager().getBoard();
-            int currentMaxHeight = engine.getBoardManager().getHighestBlockRow();
-            int currentAvgHeight = calculateAverageHeight(board);
-            int currentHoles = countHoles(board);
-
-            maxHeight[0] = Math.max(maxHeight[0], currentMaxHeight);
-            sumHeight[0] += currentAvgHeight;
-            heightCount[0]++;
-            sumHoles[0] += currentHoles;
-          } else {
-            gameFinished[0] = true;
-          }
-        }
-      });
-
-      Timer aiTimer = new Timer(QUICK_AI_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine.isGameOver() && moves[0] < QUICK_MAX_MOVES) {
-            ai.makeMove();
-          }
-          moves[0]++;
-        }
-      });
-
-      gameTimer.start();
-      aiTimer.start();
-
-      long gameStartTime = System.currentTimeMillis();
-      while (!gameFinished[0] && moves[0] < QUICK_MAX_MOVES
-          && (System.currentTimeMillis() - gameStartTime) < QUICK_MAX_TIME) {
-        try {
-          Thread.sleep(1);
-        } catch (InterruptedException e) {
-          break;
-        }
-      }
-
-      gameTimer.stop();
-      aiTimer.stop();
-
-      long gameTimeMs = System.currentTimeMillis() - gameStartTime;
-      int linesCleared = engine.getGameScoring().getLinesCleared();
-      int score = engine.getGameScoring().getCurrentScore();
+      long gameTimeMs = result.gameTimeMs;
+      int linesCleared = result.linesCleared;
 
       // 생존 능력 기반 적합도 계산
-      double avgMaxHeight = maxHeight[0];
-      double avgHeight = (heightCount[0] > 0) ? (double) sumHeight[0] / heightCount[0] : 0.0;
-      double avgHoles = (heightCount[0] > 0) ? (double) sumHoles[0] / heightCount[0] : 0.0;
+      double avgMaxHeight = result.maxHeight;
+      double avgHeight = (result.heightCount > 0) ? (double) result.sumHeight / result.heightCount : 0.0;
+      double avgHoles = (result.heightCount > 0) ? (double) result.sumHoles / result.heightCount : 0.0;
 
       // 생존 적합도: 보드 상태 기반
       double survivalFitness = 0.0;
@@ -304,16 +432,70 @@ public class FitnessEvaluator {
     return individual.fitness;
   }
 
+  /**
+   * 솔로 플레이 한 게임 진행 (빠른 평가 간격)
+   */
+  private SurvivalResult playSurvival(int game, WeightSet weights) {
+    ManualClock clock = lockstep ? new ManualClock() : null;
+    GameEngine engine = createEngine(clock, game);
+
+    TetrisAI ai = createAI(engine, weights);
+
+    final int[] moves = { 0 };
+    final boolean[] gameFinished = { false };
+
+    // 보드 상태 추적 (보드 사본은 틱마다 재사용)
+    SurvivalResult result = new SurvivalResult();
+    final int[][] boardBuffer = engine.getBoardManager().copyBoard(null);
+
+    Runnable gravityTick = () -> {
+      if (!engine.isGameOver()) {
+        engine.moveBlockDown();
+
+        // 보드 상태 측정
+        int[][] board = engine.getBoardManager().copyBoard(boardBuffer);
+        int currentMaxHeight = engine.getBoardManager().getHighestBlockRow();
+        int currentAvgHeight = calculateAverageHeight(board);
+        int currentHoles = countHoles(board);
+
+        result.maxHeight = Math.max(result.maxHeight, currentMaxHeight);
+        result.sumHeight += currentAvgHeight;
+        result.heightCount++;
+        result.sumHoles += currentHoles;
+      } else {
+        gameFinished[0] = true;
+      }
+    };
+
+    Runnable aiTick = () -> {
+      if (!engine.isGameOver() && moves[0] < QUICK_MAX_MOVES) {
+        ai.makeMove();
+      }
+      moves[0]++;
+    };
+
+    if (lockstep) {
+      result.gameTimeMs = runLockstep(clock, QUICK_GAME_TIMER_INTERVAL, QUICK_AI_INTERVAL, QUICK_MAX_MOVES,
+          QUICK_MAX_TIME, moves, gameFinished, gravityTick, aiTick);
+    } else {
+      result.gameTimeMs = runWithTimers(QUICK_GAME_TIMER_INTERVAL, QUICK_AI_INTERVAL, QUICK_MAX_MOVES,
+          QUICK_MAX_TIME, moves, gameFinished, gravityTick, aiTick);
+    }
+    result.linesCleared = engine.getGameScoring().getLinesCleared();
+    return result;
+  }
+
   /**
    * 평균 보드 높이 계산
    */
-  private int calculateAverageHeight(int[][] board) {
+  private static int calculateAverageHeight(int[][] board) {
     int sum = 0;
     int count = 0;
-    for (int x = 0; x < 10; x++) {
-      for (int y = 0; y < 20; y++) {
+    int height = board.length;
+    for (int x = 0; x < board[0].length; x++) {
+      for (int y = 0; y < height; y++) {
         if (board[y][x] == 1) {
-          sum += (20 - y);
+          sum += (height - y);
           count++;
           break;
         }
@@ -325,11 +507,11 @@ public class FitnessEvaluator {
   /**
    * 구멍 개수 계산
    */
-  private int countHoles(int[][] board) {
+  private static int countHoles(int[][] board) {
     int holes = 0;
-    for (int x = 0; x < 10; x++) {
+    for (int x = 0; x < board[0].length; x++) {
       boolean foundBlock = false;
-      for (int y = 0; y < 20; y++) {
+      for (int y = 0; y < board.length; y++) {
         if (board[y][x] == 1) {
           foundBlock = true;
         } else if (foundBlock) {
@@ -357,106 +539,25 @@ public class FitnessEvaluator {
 
     // 빠른 평가: 3게임 플레이
     for (int game = 0; game < QUICK_GAMES_PER_INDIVIDUAL; game++) {
-      // 두 개의 게임 엔진 생성
-      GameEngine engine1 = new GameEngine(20, 10, false);
-      GameEngine engine2 = new GameEngine(20, 10, false);
-
-      engine1.setGameMode(GameMode.NORMAL);
-      engine2.setGameMode(GameMode.NORMAL);
-
-      engine1.startNewGame();
-      engine2.startNewGame();
-
-      // 평가 대상 AI와 상대 AI 생성
-      TetrisAI ai1 = new TetrisAI(engine1);
-      TetrisAI ai2 = new TetrisAI(engine2);
-
-      ai1.setWeights(individual.weights); // 평가 대상
-      ai2.setWeights(opponentWeights); // 상대
-
-      // 공격 로직: 블록 고정 후 콜백으로 처리
-      engine1.setOnBlockFixedCallback(() -> handleAttack(engine1, engine2));
-      engine2.setOnBlockFixedCallback(() -> handleAttack(engine2, engine1));
-
-      final int[] moves = { 0 };
-      final boolean[] gameFinished = { false };
-      final int[] winner = { 0 };
-
       // 빠른 평가: 더 짧은 타이머 간격
-      Timer gameTimer = new Timer(QUICK_GAME_TIMER_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine1.isGameOver() && !engine2.isGameOver()) {
-            engine1.moveBlockDown();
-            engine2.moveBlockDown();
-          } else {
-            if (engine1.isGameOver() && !engine2.isGameOver()) {
-              winner[0] = 2;
-            } else if (!engine1.isGameOver() && engine2.isGameOver()) {
-              winner[0] = 1;
-            } else {
-              winner[0] = 0;
-            }
-            gameFinished[0] = true;
-          }
-        }
-      });
-
-      Timer ai1Timer = new Timer(QUICK_AI_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine1.isGameOver() && moves[0] < QUICK_MAX_MOVES) {
-            ai1.makeMove();
-          }
-        }
-      });
-
-      Timer ai2Timer = new Timer(QUICK_AI_INTERVAL, new ActionListener() {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-          if (!engine2.isGameOver() && moves[0] < QUICK_MAX_MOVES) {
-            ai2.makeMove();
-          }
-          moves[0]++;
-        }
-      });
-
-      gameTimer.start();
-      ai1Timer.start();
-      ai2Timer.start();
-
-      long gameStartTime = System.currentTimeMillis();
-      while (!gameFinished[0] && moves[0] < QUICK_MAX_MOVES
-          && (System.currentTimeMillis() - gameStartTime) < QUICK_MAX_TIME) {
-        try {
-          Thread.sleep(1); // 빠른 평가를 위한 매우 짧은 간격 (5ms -> 1ms)
-        } catch (InterruptedException e) {
-          break;
-        }
-      }
-
-      gameTimer.stop();
-      ai1Timer.stop();
-      ai2Timer.stop();
-
-      // 게임 시간 계산
-      long gameTimeMs = System.currentTimeMillis() - gameStartTime;
+      DuelResult result = playDuel(game, individual.weights, opponentWeights, QUICK_GAME_TIMER_INTERVAL,
+          QUICK_AI_INTERVAL, QUICK_MAX_MOVES, QUICK_MAX_TIME);
 
-      int linesCleared = engine1.getGameScoring().getLinesCleared();
-      int score = engine1.getGameScoring().getCurrentScore();
+      int linesCleared = result.linesCleared;
+      int score = result.score;
 
       // 승리/패배 정보 전달
       Boolean isWin = null;
-      if (winner[0] == 1) {
+      if (result.winner == 1) {
         score += 10000;
         linesCleared += 20;
         isWin = true;
-      } else if (winner[0] == 2) {
+      } else if (result.winner == 2) {
         score = Math.max(0, score - 5000);
         isWin = false;
       }
 
-      individual.addGameResult(linesCleared, score, isWin, gameTimeMs);
+      individual.addGameResult(linesCleared, score, isWin, result.gameTimeMs);
     }
 
     return individual.fitness;
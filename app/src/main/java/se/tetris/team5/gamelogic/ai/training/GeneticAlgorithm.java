@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 유전 알고리즘으로 AI 가중치 최적화
@@ -19,13 +20,23 @@ public class GeneticAlgorithm {
 
   private List<Individual> population;
   private final FitnessEvaluator evaluator;
+  private final PopulationEvaluator populationEvaluator; // 세대 평가용 (작업 스레드마다 평가기 따로 사용)
+  private final FitnessCache fitnessCache = new FitnessCache(); // 엘리트/중복 가중치 결과 재사용
   private final Random random;
   private int currentGeneration;
   private final List<GenerationResult> generationResults; // 세대별 결과 저장
 
   public GeneticAlgorithm() {
+    this(PopulationEvaluator.defaultWorkers());
+  }
+
+  /**
+   * @param workers 세대 평가에 쓸 작업 스레드 수 (1이면 순서대로 평가)
+   */
+  public GeneticAlgorithm(int workers) {
     this.population = new ArrayList<>();
     this.evaluator = new FitnessEvaluator();
+    this.populationEvaluator = new PopulationEvaluator(workers);
     this.random = new Random();
     this.currentGeneration = 0;
     this.generationResults = new ArrayList<>();
@@ -41,39 +52,40 @@ public class GeneticAlgorithm {
       population.add(new Individual(weights));
     }
     currentGeneration = 0;
-    System.out.println("초기 집단 생성 완료: " + POPULATION_SIZE + "개 개체");
+    Log.info("초기 집단 생성 완료: " + POPULATION_SIZE + "개 개체");
   }
 
   /**
    * 한 세대 평가
    */
   public void evaluateGeneration() {
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== 세대 " + currentGeneration + " 평가 시작 ===");
-    System.out.println("=".repeat(80));
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== 세대 " + currentGeneration + " 평가 시작 ===");
+    Log.info("=".repeat(80));
     long generationStartTime = System.currentTimeMillis();
 
     // 이전 세대 최고 개체를 상대 AI로 설정 (첫 세대 제외)
+    Individual previousBest = null;
     if (currentGeneration > 0 && !generationResults.isEmpty()) {
-      Individual previousBest = new Individual(
+      previousBest = new Individual(
           copyWeights(generationResults.get(generationResults.size() - 1).bestWeights));
-      evaluator.setOpponent(previousBest);
-      System.out.println("상대 AI: 이전 세대 최고 개체 사용");
+      Log.info("상대 AI: 이전 세대 최고 개체 사용");
     } else {
-      evaluator.setOpponent(null);
-      System.out.println("상대 AI: 기본 가중치 사용");
+      Log.info("상대 AI: 기본 가중치 사용");
     }
+    evaluator.setOpponent(previousBest);
 
+    // 빠른 평가 사용 (시간 절약), 작업 스레드에 나눠 평가
+    long[] elapsed = populationEvaluator.evaluate(population, previousBest, "quick", FitnessEvaluator::quickEvaluate,
+        fitnessCache);
     for (int i = 0; i < population.size(); i++) {
-      Individual individual = population.get(i);
-      long startTime = System.currentTimeMillis();
-
-      // 빠른 평가 사용 (시간 절약)
-      double fitness = evaluator.quickEvaluate(individual);
-
-      long elapsed = System.currentTimeMillis() - startTime;
-      System.out.println(String.format("개체 %d/%d 평가 완료 (%.2f초) - 적합도: %.2f",
-          i + 1, population.size(), elapsed / 1000.0, fitness));
+      if (elapsed[i] == PopulationEvaluator.NOT_EVALUATED) {
+        Log.info(String.format("개체 %d/%d 평가 결과 재사용 - 적합도: %.2f",
+            i + 1, population.size(), population.get(i).fitness));
+      } else {
+        Log.info(String.format("개체 %d/%d 평가 완료 (%.2f초) - 적합도: %.2f",
+            i + 1, population.size(), elapsed[i] / 1000.0, population.get(i).fitness));
+      }
     }
 
     long generationTime = System.currentTimeMillis() - generationStartTime;
@@ -92,21 +104,23 @@ public class GeneticAlgorithm {
     result.evaluationTimeMs = generationTime;
 
     // 실시간 세대별 결과 출력 (빠른 평가)
-    System.out.println("\n" + "-".repeat(80));
-    System.out.println("세대 " + currentGeneration + " 결과 요약 (빠른 평가):");
-    System.out.println(String.format("  최고 적합도: %.2f (평균 줄: %.1f, 평균 점수: %.0f)",
+    Log.info("\n" + "-".repeat(80));
+    Log.info("세대 " + currentGeneration + " 결과 요약 (빠른 평가):");
+    Log.info(String.format("  최고 적합도: %.2f (평균 줄: %.1f, 평균 점수: %.0f)",
         result.bestFitness, result.bestLinesPerGame, result.bestScorePerGame));
-    System.out.println(String.format("  평균 적합도: %.2f", result.avgFitness));
-    System.out.println(String.format("  최저 적합도: %.2f", result.worstFitness));
-    System.out.println(String.format("  소요 시간: %.1f초", generationTime / 1000.0));
-    System.out.println("  최고 가중치: " + result.bestWeights.toString());
-    System.out.println("-".repeat(80));
+    Log.info(String.format("  평균 적합도: %.2f", result.avgFitness));
+    Log.info(String.format("  최저 적합도: %.2f", result.worstFitness));
+    Log.info(String.format("  소요 시간: %.1f초", generationTime / 1000.0));
+    Log.info(String.format("  결과 캐시: 재사용 %d, 평가 %d, 재평가 %d",
+        fitnessCache.getHits(), fitnessCache.getMisses(), fitnessCache.getResamples()));
+    Log.info("  최고 가중치: " + result.bestWeights.toString());
+    Log.info("-".repeat(80));
 
     // 빠른 평가 평균 적합도로 최적 개체 선택 후 정밀 평가
-    System.out.println("\n=== 세대 " + currentGeneration + " 최고 개체 정밀 평가 시작 ===");
-    System.out.println("선택된 최적 개체 (빠른 평가 평균 적합도 기준):");
-    System.out.println("  적합도: " + String.format("%.2f", result.bestFitness));
-    System.out.println("  가중치: " + result.bestWeights.toString());
+    Log.info("\n=== 세대 " + currentGeneration + " 최고 개체 정밀 평가 시작 ===");
+    Log.info("선택된 최적 개체 (빠른 평가 평균 적합도 기준):");
+    Log.info("  적합도: " + String.format("%.2f", result.bestFitness));
+    Log.info("  가중치: " + result.bestWeights.toString());
 
     Individual bestIndividual = new Individual(copyWeights(population.get(0).weights));
     long accurateStartTime = System.currentTimeMillis();
@@ -122,13 +136,13 @@ public class GeneticAlgorithm {
     // 정밀 평가 후 가중치 업데이트 (정밀 평가 결과 반영)
     result.bestWeights = copyWeights(bestIndividual.weights);
 
-    System.out.println(String.format("정밀 평가 결과: 적합도=%.2f, 평균 줄=%.1f, 평균 점수=%.0f (소요 시간: %.1f초)",
+    Log.info(String.format("정밀 평가 결과: 적합도=%.2f, 평균 줄=%.1f, 평균 점수=%.0f (소요 시간: %.1f초)",
         result.accurateFitness, result.accurateLinesPerGame, result.accurateScorePerGame, accurateTime / 1000.0));
-    System.out.println("-".repeat(80));
+    Log.info("-".repeat(80));
 
     generationResults.add(result);
 
-    System.out.println(String.format("\n세대 %d 평가 완료 - 소요 시간: %.1f초 (빠른: %.1f초, 정확한: %.1f초)",
+    Log.info(String.format("\n세대 %d 평가 완료 - 소요 시간: %.1f초 (빠른: %.1f초, 정확한: %.1f초)",
         currentGeneration, (generationTime + accurateTime) / 1000.0, generationTime / 1000.0, accurateTime / 1000.0));
   }
 
@@ -141,7 +155,7 @@ public class GeneticAlgorithm {
 
     // 최고 개체 출력
     Individual best = population.get(0);
-    System.out.println("\n최고 개체: " + best.toString());
+    Log.info("\n최고 개체: " + best.toString());
 
     // 다음 세대 생성
     List<Individual> nextGeneration = new ArrayList<>();
@@ -212,15 +226,16 @@ public class GeneticAlgorithm {
    * 유전 알고리즘 실행
    */
   public Individual run() {
-    System.out.println("=== 유전 알고리즘 시작 ===");
-    System.out.println("집단 크기: " + POPULATION_SIZE);
-    System.out.println("엘리트 개체 수: " + ELITE_SIZE);
-    System.out.println("최대 세대 수: " + MAX_GENERATIONS);
-    System.out.println("기본 돌연변이 확률: " + BASE_MUTATION_RATE + " (적응적)");
-    System.out.println("교차 확률: " + CROSSOVER_RATE);
-    System.out.println("\n※ 게임은 메모리 상에서만 실행되며 UI는 없습니다.");
-    System.out.println("※ 빠른 평가 모드: 게임당 최대 5초, 최대 1000회 이동");
-    System.out.println("※ 일반 평가 모드: 각 세대 최고 개체에 대해 정확한 평가 수행\n");
+    Log.info("=== 유전 알고리즘 시작 ===");
+    Log.info("집단 크기: " + POPULATION_SIZE);
+    Log.info("엘리트 개체 수: " + ELITE_SIZE);
+    Log.info("최대 세대 수: " + MAX_GENERATIONS);
+    Log.info("기본 돌연변이 확률: " + BASE_MUTATION_RATE + " (적응적)");
+    Log.info("교차 확률: " + CROSSOVER_RATE);
+    Log.info("평가 작업 스레드 수: " + populationEvaluator.getWorkers());
+    Log.info("\n※ 게임은 메모리 상에서만 실행되며 UI는 없습니다.");
+    Log.info("※ 빠른 평가 모드: 게임당 최대 5초, 최대 1000회 이동");
+    Log.info("※ 일반 평가 모드: 각 세대 최고 개체에 대해 정확한 평가 수행\n");
 
     long totalStartTime = System.currentTimeMillis();
     initializePopulation();
@@ -238,30 +253,30 @@ public class GeneticAlgorithm {
         double avgTimePerGen = elapsed / (double) (gen + 1);
         double remainingGens = MAX_GENERATIONS - gen - 1;
         double estimatedRemaining = avgTimePerGen * remainingGens;
-        System.out.println(String.format("예상 남은 시간: 약 %.1f분 (%.1f초)",
+        Log.info(String.format("예상 남은 시간: 약 %.1f분 (%.1f초)",
             estimatedRemaining / 60000.0, estimatedRemaining / 1000.0));
       }
     }
 
     // 최종 평가 (더 정확한 평가) - 선택적
-    System.out.println("\n=== 최종 평가 (정확한 평가) ===");
+    Log.info("\n=== 최종 평가 (정확한 평가) ===");
     Collections.sort(population);
     Individual best = population.get(0);
-    System.out.println("최종 평가 중... (5게임 플레이)");
+    Log.info("최종 평가 중... (5게임 플레이)");
     try {
       evaluator.evaluate(best); // 정확한 평가
-      System.out.println("최종 최고 개체: " + best.toString());
+      Log.info("최종 최고 개체: " + best.toString());
     } catch (Exception e) {
-      System.err.println("최종 평가 중 오류 발생: " + e.getMessage());
-      System.out.println("99세대 최고 개체 사용: " + best.toString());
-      System.out.println("  적합도: " + best.fitness);
-      System.out.println("  평균 줄 수: " + best.averageLinesPerGame);
-      System.out.println("  평균 점수: " + best.averageScorePerGame);
+      Log.error("최종 평가 중 오류 발생: " + e.getMessage());
+      Log.info("99세대 최고 개체 사용: " + best.toString());
+      Log.info("  적합도: " + best.fitness);
+      Log.info("  평균 줄 수: " + best.averageLinesPerGame);
+      Log.info("  평균 점수: " + best.averageScorePerGame);
     }
 
     long totalTime = System.currentTimeMillis() - totalStartTime;
-    System.out.println(String.format("\n=== 최적화 완료 ==="));
-    System.out.println(String.format("총 소요 시간: %.1f분 (%.0f초)",
+    Log.info(String.format("\n=== 최적화 완료 ==="));
+    Log.info(String.format("총 소요 시간: %.1f분 (%.0f초)",
         totalTime / 60000.0, totalTime / 1000.0));
 
     return best;
@@ -279,7 +294,7 @@ public class GeneticAlgorithm {
     double maxFitness = population.get(0).fitness;
     double minFitness = population.get(population.size() - 1).fitness;
 
-    System.out.println(String.format(
+    Log.info(String.format(
         "세대 %d - 평균: %.2f, 최고: %.2f, 최저: %.2f",
         currentGeneration, avgFitness, maxFitness, minFitness));
   }
@@ -292,6 +307,21 @@ public class GeneticAlgorithm {
     return population.get(0);
   }
 
+  /**
+   * 평가 결과 캐시 (재평가 주기 설정, 적중 통계용)
+   */
+  public FitnessCache getFitnessCache() {
+    return fitnessCache;
+  }
+
+  /**
+   * 평가 게임별 블록 순서 시드 설정 (null이면 게임마다 무작위, 캐시 키에도 들어감)
+   */
+  public void setGameSeeds(long[] seeds) {
+    populationEvaluator.setGameSeeds(seeds);
+    evaluator.setGameSeeds(seeds);
+  }
+
   /**
    * 세대별 결과 반환
    */
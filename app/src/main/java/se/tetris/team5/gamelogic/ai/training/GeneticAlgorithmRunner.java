@@ -6,15 +6,32 @@ import java.util.Date;
 import java.io.PrintStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 유전 알고리즘 실행 클래스
  * 메인 메서드로 실행 가능
+ *
+ * 세대마다 체크포인트를 저장하며, 중단된 학습은 --resume으로 이어서 실행합니다.
+ * (--checkpoint=경로 로 체크포인트 파일 지정, 기본값 docs/reports/ga_checkpoint.bin)
  */
 public class GeneticAlgorithmRunner {
   private static final int NUM_RUNS = 1; // 다중 실행 횟수 (1회로 변경)
+  private static final String DEFAULT_CHECKPOINT = "docs/reports/ga_checkpoint.bin";
 
   public static void main(String[] args) {
+    boolean resume = false;
+    Path checkpointFile = Paths.get(DEFAULT_CHECKPOINT);
+    for (String arg : args) {
+      if (arg.equals("--resume")) {
+        resume = true;
+      } else if (arg.startsWith("--checkpoint=")) {
+        checkpointFile = Paths.get(arg.substring("--checkpoint=".length()));
+      }
+    }
+
     // 터미널 로그 저장을 위한 PrintStream 설정
     SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd_HHmmss");
     String timestamp = dateFormat.format(new Date());
@@ -36,9 +53,10 @@ public class GeneticAlgorithmRunner {
 
       originalOut.println("터미널 로그가 저장됩니다: " + logFilename);
 
-      runGeneticAlgorithm();
+      runGeneticAlgorithm(checkpointFile, resume);
 
-      // 원래 PrintStream으로 복원
+      // 비동기 로그가 파일에 모두 기록된 뒤 원래 PrintStream으로 복원
+      Log.flush();
       System.setOut(originalOut);
       System.setErr(originalErr);
 
@@ -49,21 +67,32 @@ public class GeneticAlgorithmRunner {
       originalErr.println("로그 파일 생성 실패: " + e.getMessage());
       e.printStackTrace();
       // 실패해도 계속 진행
-      runGeneticAlgorithm();
+      runGeneticAlgorithm(checkpointFile, resume);
     }
   }
 
-  private static void runGeneticAlgorithm() {
-    System.out.println("=== 테트리스 AI 가중치 최적화 (하이브리드 유전 알고리즘) ===\n");
-    System.out.println("하이브리드 접근 방법:");
-    System.out.println("  Step 1: 솔로 플레이로 생존 가중치 학습 (공격 가중치 고정)");
-    System.out.println("  Step 2: 대전 플레이로 공격 가중치 학습 (생존 가중치 고정)");
-    System.out.println("  Step 3: 통합 검증 (대전 모드)\n");
+  private static void runGeneticAlgorithm(Path checkpointFile, boolean resume) {
+    Log.info("=== 테트리스 AI 가중치 최적화 (하이브리드 유전 알고리즘) ===\n");
+    Log.info("하이브리드 접근 방법:");
+    Log.info("  Step 1: 솔로 플레이로 생존 가중치 학습 (공격 가중치 고정)");
+    Log.info("  Step 2: 대전 플레이로 공격 가중치 학습 (생존 가중치 고정)");
+    Log.info("  Step 3: 통합 검증 (대전 모드)\n");
 
     long totalStartTime = System.currentTimeMillis();
 
     // 하이브리드 유전 알고리즘 실행
     HybridGeneticAlgorithm hybridGA = new HybridGeneticAlgorithm();
+    hybridGA.setCheckpointFile(checkpointFile);
+    if (resume) {
+      try {
+        hybridGA.restore(TrainingCheckpoint.load(checkpointFile));
+        Log.info("체크포인트를 불러왔습니다: " + checkpointFile);
+      } catch (IOException e) {
+        // 처음부터 학습하면 기존 체크포인트를 덮어쓰므로 중단
+        Log.error("체크포인트를 불러오지 못했습니다: " + e.getMessage());
+        return;
+      }
+    }
 
     // Step 1: 생존 가중치 학습
     WeightSet bestSurvivalWeights = hybridGA.learnSurvivalWeights();
@@ -72,28 +101,28 @@ public class GeneticAlgorithmRunner {
     WeightSet finalWeights = hybridGA.learnAttackWeights(bestSurvivalWeights);
 
     // Step 3: 통합 검증 (대전 모드로 최종 평가)
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== Step 3: 통합 검증 (대전 모드) ===");
-    System.out.println("=".repeat(80));
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== Step 3: 통합 검증 (대전 모드) ===");
+    Log.info("=".repeat(80));
 
     Individual finalBest = new Individual(finalWeights);
     FitnessEvaluator evaluator = new FitnessEvaluator();
     evaluator.setOpponent(null); // 기본 가중치와 대전
 
-    System.out.println("최종 가중치로 대전 모드 평가 중...");
+    Log.info("최종 가중치로 대전 모드 평가 중...");
     evaluator.evaluate(finalBest);
 
     long totalTime = System.currentTimeMillis() - totalStartTime;
 
-    System.out.println("\n=== 최종 결과 ===");
-    System.out.println("적합도: " + String.format("%.2f", finalBest.fitness));
-    System.out.println("평균 줄 수: " + String.format("%.1f", finalBest.averageLinesPerGame));
-    System.out.println("평균 점수: " + String.format("%.0f", finalBest.averageScorePerGame));
-    System.out.println("총 소요 시간: " + String.format("%.1f분", totalTime / 60000.0));
+    Log.info("\n=== 최종 결과 ===");
+    Log.info("적합도: " + String.format("%.2f", finalBest.fitness));
+    Log.info("평균 줄 수: " + String.format("%.1f", finalBest.averageLinesPerGame));
+    Log.info("평균 점수: " + String.format("%.0f", finalBest.averageScorePerGame));
+    Log.info("총 소요 시간: " + String.format("%.1f분", totalTime / 60000.0));
 
     // 코드로 사용할 수 있도록 출력
-    System.out.println("\n=== 코드에 사용할 가중치 ===");
-    System.out.println(String.format(
+    Log.info("\n=== 코드에 사용할 가중치 ===");
+    Log.info(String.format(
         "new WeightSet(%.2f, %.2f, %.2f, %.2f, %.2f, %.2f, %.2f, %.2f, %.2f)",
         finalBest.weights.weightLandingHeight,
         finalBest.weights.weightEPCM,
@@ -106,9 +135,9 @@ public class GeneticAlgorithmRunner {
         finalBest.weights.weightAttack4Lines));
 
     // 보고서 생성
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== 결과 보고서 생성 ===");
-    System.out.println("=".repeat(80));
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== 결과 보고서 생성 ===");
+    Log.info("=".repeat(80));
 
     String report = ReportGenerator.generateHybridReport(
         hybridGA.getGenerationResults(),
@@ -117,7 +146,7 @@ public class GeneticAlgorithmRunner {
         totalTime);
 
     // 콘솔에 출력
-    System.out.println(report);
+    Log.info(report);
 
     // 파일로 저장
     SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd_HHmmss");
@@ -125,7 +154,7 @@ public class GeneticAlgorithmRunner {
     String reportFilename = "report_" + timestamp + "_hybrid_approach.txt";
     ReportGenerator.saveReportToFile(report, reportFilename);
 
-    System.out.println("\n보고서가 콘솔에 출력되었고 파일로도 저장되었습니다: docs/reports/" + reportFilename);
+    Log.info("\n보고서가 콘솔에 출력되었고 파일로도 저장되었습니다: docs/reports/" + reportFilename);
   }
 
   /**
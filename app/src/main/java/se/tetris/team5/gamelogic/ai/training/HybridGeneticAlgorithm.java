@@ -1,10 +1,12 @@
 package se.tetris.team5.gamelogic.ai.training;
 
 import se.tetris.team5.gamelogic.ai.WeightSet;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 하이브리드 유전 알고리즘: 생존 가중치와 공격 가중치를 분리하여 학습
@@ -12,26 +14,57 @@ import java.util.Random;
  * Step 2: 대전 플레이로 공격 가중치 학습 (생존 가중치 고정)
  */
 public class HybridGeneticAlgorithm {
-  private static final int POPULATION_SIZE = 30;
-  private static final int ELITE_SIZE = 6; // 집단 크기의 20%
+  private static final int DEFAULT_POPULATION_SIZE = 30;
   private static final int MAX_GENERATIONS_SURVIVAL = 10; // 생존 가중치 학습 세대 수
   private static final int MAX_GENERATIONS_ATTACK = 10; // 공격 가중치 학습 세대 수
   private static final double BASE_MUTATION_RATE = 0.15;
   private static final double CROSSOVER_RATE = 0.7;
 
+  private final int populationSize;
+  private final int eliteSize; // 집단 크기의 20%
   private List<Individual> population;
-  private final FitnessEvaluator evaluator;
-  private final Random random;
+  private final PopulationEvaluator populationEvaluator; // 세대 평가용 (작업 스레드마다 평가기 따로 사용)
+  private final FitnessCache fitnessCache = new FitnessCache(); // 엘리트/중복 가중치 결과 재사용
+  private final TrainingRandom random; // 집단 생성/선택/교차/돌연변이 (체크포인트에 상태 저장)
   private int currentGeneration;
   private final List<GenerationResult> generationResults;
   
   // Step 1 결과 (생존 가중치)
   private WeightSet bestSurvivalWeights = null;
 
+  // 체크포인트 (null이면 저장하지 않음)
+  private Path checkpointFile = null;
+  private TrainingCheckpoint resumeCheckpoint = null;
+
+  // 섬 모델 (null이면 혼자 학습)
+  private IslandChannel island = null;
+  private int migrationInterval;
+  private int migrantCount;
+
   public HybridGeneticAlgorithm() {
+    this(PopulationEvaluator.defaultWorkers());
+  }
+
+  /**
+   * @param workers 세대 평가에 쓸 작업 스레드 수 (1이면 순서대로 평가)
+   */
+  public HybridGeneticAlgorithm(int workers) {
+    this(workers, DEFAULT_POPULATION_SIZE);
+  }
+
+  /**
+   * @param workers        세대 평가에 쓸 작업 스레드 수 (1이면 순서대로 평가)
+   * @param populationSize 집단 크기 (섬 모델에서는 섬 하나의 집단 크기)
+   */
+  public HybridGeneticAlgorithm(int workers, int populationSize) {
+    if (populationSize < 2) {
+      throw new IllegalArgumentException("집단 크기는 2 이상이어야 합니다: " + populationSize);
+    }
+    this.populationSize = populationSize;
+    this.eliteSize = eliteSize(populationSize);
     this.population = new ArrayList<>();
-    this.evaluator = new FitnessEvaluator();
-    this.random = new Random();
+    this.populationEvaluator = new PopulationEvaluator(workers);
+    this.random = new TrainingRandom();
     this.currentGeneration = 0;
     this.generationResults = new ArrayList<>();
   }
@@ -40,25 +73,41 @@ public class HybridGeneticAlgorithm {
    * Step 1: 생존 가중치 학습 (솔로 플레이)
    */
   public WeightSet learnSurvivalWeights() {
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== Step 1: 생존 가중치 학습 (솔로 플레이) ===");
-    System.out.println("=".repeat(80));
-    System.out.println("공격 가중치는 기본값으로 고정하고 생존 가중치만 학습합니다.");
-    System.out.println("평가 방식: 솔로 플레이 (보드 상태 기반 생존 능력 평가)");
-    System.out.println("집단 크기: " + POPULATION_SIZE);
-    System.out.println("최대 세대 수: " + MAX_GENERATIONS_SURVIVAL + "\n");
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== Step 1: 생존 가중치 학습 (솔로 플레이) ===");
+    Log.info("=".repeat(80));
+    Log.info("공격 가중치는 기본값으로 고정하고 생존 가중치만 학습합니다.");
+    Log.info("평가 방식: 솔로 플레이 (보드 상태 기반 생존 능력 평가)");
+    Log.info("집단 크기: " + populationSize);
+    Log.info("평가 작업 스레드 수: " + populationEvaluator.getWorkers());
+    Log.info("최대 세대 수: " + MAX_GENERATIONS_SURVIVAL + "\n");
+
+    // Step 2 체크포인트에서 이어가면 Step 1은 이미 끝남
+    if (resumeCheckpoint != null && resumeCheckpoint.phase == TrainingCheckpoint.PHASE_ATTACK) {
+      Log.info("체크포인트의 Step 1 결과를 사용합니다:");
+      Log.info(bestSurvivalWeights.toString());
+      return bestSurvivalWeights;
+    }
 
     long startTime = System.currentTimeMillis();
     
-    // 초기 집단 생성 (생존 가중치만 랜덤)
-    initializeSurvivalPopulation();
+    int firstGeneration = 0;
+    if (resumeCheckpoint != null) {
+      firstGeneration = resumePopulation();
+    } else {
+      // 초기 집단 생성 (생존 가중치만 랜덤)
+      initializeSurvivalPopulation();
+    }
 
-    for (int gen = 0; gen < MAX_GENERATIONS_SURVIVAL; gen++) {
+    for (int gen = firstGeneration; gen < MAX_GENERATIONS_SURVIVAL; gen++) {
       currentGeneration = gen;
+      saveCheckpoint(TrainingCheckpoint.PHASE_SURVIVAL);
       evaluateSurvivalGeneration();
       
       if (gen < MAX_GENERATIONS_SURVIVAL - 1) {
+        List<WeightSet> immigrants = migrate(TrainingCheckpoint.PHASE_SURVIVAL);
         evolveSurvivalGeneration();
+        addImmigrants(immigrants, null);
       }
     }
 
@@ -67,10 +116,10 @@ public class HybridGeneticAlgorithm {
     bestSurvivalWeights = copyWeights(population.get(0).weights);
     
     long totalTime = System.currentTimeMillis() - startTime;
-    System.out.println("\n=== Step 1 완료 ===");
-    System.out.println("최고 생존 가중치:");
-    System.out.println(bestSurvivalWeights.toString());
-    System.out.println(String.format("소요 시간: %.1f분", totalTime / 60000.0));
+    Log.info("\n=== Step 1 완료 ===");
+    Log.info("최고 생존 가중치:");
+    Log.info(bestSurvivalWeights.toString());
+    Log.info(String.format("소요 시간: %.1f분", totalTime / 60000.0));
     
     return bestSurvivalWeights;
   }
@@ -79,26 +128,34 @@ public class HybridGeneticAlgorithm {
    * Step 2: 공격 가중치 학습 (대전 플레이, 생존 가중치 고정)
    */
   public WeightSet learnAttackWeights(WeightSet survivalWeights) {
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== Step 2: 공격 가중치 학습 (대전 플레이) ===");
-    System.out.println("=".repeat(80));
-    System.out.println("생존 가중치는 Step 1 결과로 고정하고 공격 가중치만 학습합니다.");
-    System.out.println("평가 방식: AI vs AI 대전 모드");
-    System.out.println("집단 크기: " + POPULATION_SIZE);
-    System.out.println("최대 세대 수: " + MAX_GENERATIONS_ATTACK + "\n");
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== Step 2: 공격 가중치 학습 (대전 플레이) ===");
+    Log.info("=".repeat(80));
+    Log.info("생존 가중치는 Step 1 결과로 고정하고 공격 가중치만 학습합니다.");
+    Log.info("평가 방식: AI vs AI 대전 모드");
+    Log.info("집단 크기: " + populationSize);
+    Log.info("최대 세대 수: " + MAX_GENERATIONS_ATTACK + "\n");
 
     this.bestSurvivalWeights = survivalWeights;
     long startTime = System.currentTimeMillis();
     
-    // 초기 집단 생성 (공격 가중치만 랜덤, 생존 가중치는 고정)
-    initializeAttackPopulation(survivalWeights);
+    int firstGeneration = 0;
+    if (resumeCheckpoint != null && resumeCheckpoint.phase == TrainingCheckpoint.PHASE_ATTACK) {
+      firstGeneration = resumePopulation();
+    } else {
+      // 초기 집단 생성 (공격 가중치만 랜덤, 생존 가중치는 고정)
+      initializeAttackPopulation(survivalWeights);
+    }
 
-    for (int gen = 0; gen < MAX_GENERATIONS_ATTACK; gen++) {
+    for (int gen = firstGeneration; gen < MAX_GENERATIONS_ATTACK; gen++) {
       currentGeneration = gen;
+      saveCheckpoint(TrainingCheckpoint.PHASE_ATTACK);
       evaluateAttackGeneration();
       
       if (gen < MAX_GENERATIONS_ATTACK - 1) {
+        List<WeightSet> immigrants = migrate(TrainingCheckpoint.PHASE_ATTACK);
         evolveAttackGeneration(survivalWeights);
+        addImmigrants(immigrants, survivalWeights);
       }
     }
 
@@ -108,10 +165,10 @@ public class HybridGeneticAlgorithm {
     bestAttackWeights.updateSurvivalWeights(survivalWeights);
     
     long totalTime = System.currentTimeMillis() - startTime;
-    System.out.println("\n=== Step 2 완료 ===");
-    System.out.println("최종 가중치 (생존 + 공격):");
-    System.out.println(bestAttackWeights.toString());
-    System.out.println(String.format("소요 시간: %.1f분", totalTime / 60000.0));
+    Log.info("\n=== Step 2 완료 ===");
+    Log.info("최종 가중치 (생존 + 공격):");
+    Log.info(bestAttackWeights.toString());
+    Log.info(String.format("소요 시간: %.1f분", totalTime / 60000.0));
     
     return bestAttackWeights;
   }
@@ -121,12 +178,12 @@ public class HybridGeneticAlgorithm {
    */
   private void initializeSurvivalPopulation() {
     population.clear();
-    for (int i = 0; i < POPULATION_SIZE; i++) {
-      WeightSet weights = WeightSet.randomSurvivalWeights();
+    for (int i = 0; i < populationSize; i++) {
+      WeightSet weights = WeightSet.randomSurvivalWeights(random);
       population.add(new Individual(weights));
     }
     currentGeneration = 0;
-    System.out.println("생존 가중치 초기 집단 생성 완료: " + POPULATION_SIZE + "개 개체");
+    Log.info("생존 가중치 초기 집단 생성 완료: " + populationSize + "개 개체");
   }
 
   /**
@@ -134,34 +191,35 @@ public class HybridGeneticAlgorithm {
    */
   private void initializeAttackPopulation(WeightSet survivalWeights) {
     population.clear();
-    for (int i = 0; i < POPULATION_SIZE; i++) {
-      WeightSet weights = WeightSet.randomAttackWeights();
+    for (int i = 0; i < populationSize; i++) {
+      WeightSet weights = WeightSet.randomAttackWeights(random);
       weights.updateSurvivalWeights(survivalWeights); // 생존 가중치 고정
       population.add(new Individual(weights));
     }
     currentGeneration = 0;
-    System.out.println("공격 가중치 초기 집단 생성 완료: " + POPULATION_SIZE + "개 개체");
+    Log.info("공격 가중치 초기 집단 생성 완료: " + populationSize + "개 개체");
   }
 
   /**
    * 생존 세대 평가
    */
   private void evaluateSurvivalGeneration() {
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== 생존 가중치 세대 " + currentGeneration + " 평가 시작 ===");
-    System.out.println("=".repeat(80));
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== 생존 가중치 세대 " + currentGeneration + " 평가 시작 ===");
+    Log.info("=".repeat(80));
     long generationStartTime = System.currentTimeMillis();
 
+    // 솔로 평가 (생존 능력), 작업 스레드에 나눠 평가
+    long[] elapsed = populationEvaluator.evaluate(population, null, "survival", FitnessEvaluator::evaluateSurvival,
+        fitnessCache);
     for (int i = 0; i < population.size(); i++) {
-      Individual individual = population.get(i);
-      long startTime = System.currentTimeMillis();
-
-      // 솔로 평가 (생존 능력)
-      double fitness = evaluator.evaluateSurvival(individual);
-
-      long elapsed = System.currentTimeMillis() - startTime;
-      System.out.println(String.format("개체 %d/%d 평가 완료 (%.2f초) - 적합도: %.2f",
-          i + 1, population.size(), elapsed / 1000.0, fitness));
+      if (elapsed[i] == PopulationEvaluator.NOT_EVALUATED) {
+        Log.info(String.format("개체 %d/%d 평가 결과 재사용 - 적합도: %.2f",
+            i + 1, population.size(), population.get(i).fitness));
+      } else {
+        Log.info(String.format("개체 %d/%d 평가 완료 (%.2f초) - 적합도: %.2f",
+            i + 1, population.size(), elapsed[i] / 1000.0, population.get(i).fitness));
+      }
     }
 
     long generationTime = System.currentTimeMillis() - generationStartTime;
@@ -176,47 +234,52 @@ public class HybridGeneticAlgorithm {
     result.bestScorePerGame = population.get(0).averageScorePerGame;
     result.evaluationTimeMs = generationTime;
 
-    System.out.println("\n" + "-".repeat(80));
-    System.out.println("생존 가중치 세대 " + currentGeneration + " 결과:");
-    System.out.println(String.format("  최고 적합도: %.2f", result.bestFitness));
-    System.out.println(String.format("  평균 적합도: %.2f", result.avgFitness));
-    System.out.println(String.format("  최저 적합도: %.2f", result.worstFitness));
-    System.out.println(String.format("  소요 시간: %.1f초", generationTime / 1000.0));
-    System.out.println("-".repeat(80));
+    Log.info("\n" + "-".repeat(80));
+    Log.info("생존 가중치 세대 " + currentGeneration + " 결과:");
+    Log.info(String.format("  최고 적합도: %.2f", result.bestFitness));
+    Log.info(String.format("  평균 적합도: %.2f", result.avgFitness));
+    Log.info(String.format("  최저 적합도: %.2f", result.worstFitness));
+    Log.info(String.format("  소요 시간: %.1f초", generationTime / 1000.0));
+    Log.info(String.format("  결과 캐시: 재사용 %d, 평가 %d, 재평가 %d",
+        fitnessCache.getHits(), fitnessCache.getMisses(), fitnessCache.getResamples()));
+    Log.info("-".repeat(80));
 
     generationResults.add(result);
+    if (island != null) {
+      island.reportResult(TrainingCheckpoint.PHASE_SURVIVAL, result);
+    }
   }
 
   /**
    * 공격 세대 평가
    */
   private void evaluateAttackGeneration() {
-    System.out.println("\n" + "=".repeat(80));
-    System.out.println("=== 공격 가중치 세대 " + currentGeneration + " 평가 시작 ===");
-    System.out.println("=".repeat(80));
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== 공격 가중치 세대 " + currentGeneration + " 평가 시작 ===");
+    Log.info("=".repeat(80));
     long generationStartTime = System.currentTimeMillis();
 
     // 이전 세대 최고 개체를 상대 AI로 설정
+    Individual previousBest = null;
     if (currentGeneration > 0 && !generationResults.isEmpty()) {
-      Individual previousBest = new Individual(
+      previousBest = new Individual(
           copyWeights(generationResults.get(generationResults.size() - 1).bestWeights));
-      evaluator.setOpponent(previousBest);
-      System.out.println("상대 AI: 이전 세대 최고 개체 사용");
+      Log.info("상대 AI: 이전 세대 최고 개체 사용");
     } else {
-      evaluator.setOpponent(null);
-      System.out.println("상대 AI: 기본 가중치 사용");
+      Log.info("상대 AI: 기본 가중치 사용");
     }
 
+    // 대전 평가 (공격 능력), 작업 스레드에 나눠 평가
+    long[] elapsed = populationEvaluator.evaluate(population, previousBest, "quick", FitnessEvaluator::quickEvaluate,
+        fitnessCache);
     for (int i = 0; i < population.size(); i++) {
-      Individual individual = population.get(i);
-      long startTime = System.currentTimeMillis();
-
-      // 대전 평가 (공격 능력)
-      double fitness = evaluator.quickEvaluate(individual);
-
-      long elapsed = System.currentTimeMillis() - startTime;
-      System.out.println(String.format("개체 %d/%d 평가 완료 (%.2f초) - 적합도: %.2f",
-          i + 1, population.size(), elapsed / 1000.0, fitness));
+      if (elapsed[i] == PopulationEvaluator.NOT_EVALUATED) {
+        Log.info(String.format("개체 %d/%d 평가 결과 재사용 - 적합도: %.2f",
+            i + 1, population.size(), population.get(i).fitness));
+      } else {
+        Log.info(String.format("개체 %d/%d 평가 완료 (%.2f초) - 적합도: %.2f",
+            i + 1, population.size(), elapsed[i] / 1000.0, population.get(i).fitness));
+      }
     }
 
     long generationTime = System.currentTimeMillis() - generationStartTime;
@@ -231,16 +294,21 @@ public class HybridGeneticAlgorithm {
     result.bestScorePerGame = population.get(0).averageScorePerGame;
     result.evaluationTimeMs = generationTime;
 
-    System.out.println("\n" + "-".repeat(80));
-    System.out.println("공격 가중치 세대 " + currentGeneration + " 결과:");
-    System.out.println(String.format("  최고 적합도: %.2f (평균 줄: %.1f, 평균 점수: %.0f)",
+    Log.info("\n" + "-".repeat(80));
+    Log.info("공격 가중치 세대 " + currentGeneration + " 결과:");
+    Log.info(String.format("  최고 적합도: %.2f (평균 줄: %.1f, 평균 점수: %.0f)",
         result.bestFitness, result.bestLinesPerGame, result.bestScorePerGame));
-    System.out.println(String.format("  평균 적합도: %.2f", result.avgFitness));
-    System.out.println(String.format("  최저 적합도: %.2f", result.worstFitness));
-    System.out.println(String.format("  소요 시간: %.1f초", generationTime / 1000.0));
-    System.out.println("-".repeat(80));
+    Log.info(String.format("  평균 적합도: %.2f", result.avgFitness));
+    Log.info(String.format("  최저 적합도: %.2f", result.worstFitness));
+    Log.info(String.format("  소요 시간: %.1f초", generationTime / 1000.0));
+    Log.info(String.format("  결과 캐시: 재사용 %d, 평가 %d, 재평가 %d",
+        fitnessCache.getHits(), fitnessCache.getMisses(), fitnessCache.getResamples()));
+    Log.info("-".repeat(80));
 
     generationResults.add(result);
+    if (island != null) {
+      island.reportResult(TrainingCheckpoint.PHASE_ATTACK, result);
+    }
   }
 
   /**
@@ -251,18 +319,18 @@ public class HybridGeneticAlgorithm {
     List<Individual> nextGeneration = new ArrayList<>();
 
     // 엘리트 보존
-    for (int i = 0; i < ELITE_SIZE; i++) {
+    for (int i = 0; i < eliteSize; i++) {
       nextGeneration.add(new Individual(copyWeights(population.get(i).weights)));
     }
 
     // 교차와 돌연변이
-    while (nextGeneration.size() < POPULATION_SIZE) {
+    while (nextGeneration.size() < populationSize) {
       Individual parent1 = selectParent();
       Individual parent2 = selectParent();
 
       WeightSet childWeights;
       if (random.nextDouble() < CROSSOVER_RATE) {
-        childWeights = WeightSet.crossover(parent1.weights, parent2.weights);
+        childWeights = WeightSet.crossover(parent1.weights, parent2.weights, random);
       } else {
         childWeights = random.nextBoolean()
             ? copyWeights(parent1.weights)
@@ -270,7 +338,7 @@ public class HybridGeneticAlgorithm {
       }
 
       double adaptiveMutationRate = getAdaptiveMutationRate(currentGeneration);
-      childWeights.mutate(adaptiveMutationRate);
+      childWeights.mutate(adaptiveMutationRate, random);
 
       nextGeneration.add(new Individual(childWeights));
     }
@@ -286,20 +354,20 @@ public class HybridGeneticAlgorithm {
     List<Individual> nextGeneration = new ArrayList<>();
 
     // 엘리트 보존
-    for (int i = 0; i < ELITE_SIZE; i++) {
+    for (int i = 0; i < eliteSize; i++) {
       WeightSet eliteWeights = copyWeights(population.get(i).weights);
       eliteWeights.updateSurvivalWeights(survivalWeights); // 생존 가중치 고정
       nextGeneration.add(new Individual(eliteWeights));
     }
 
     // 교차와 돌연변이
-    while (nextGeneration.size() < POPULATION_SIZE) {
+    while (nextGeneration.size() < populationSize) {
       Individual parent1 = selectParent();
       Individual parent2 = selectParent();
 
       WeightSet childWeights;
       if (random.nextDouble() < CROSSOVER_RATE) {
-        childWeights = WeightSet.crossover(parent1.weights, parent2.weights);
+        childWeights = WeightSet.crossover(parent1.weights, parent2.weights, random);
       } else {
         childWeights = random.nextBoolean()
             ? copyWeights(parent1.weights)
@@ -310,7 +378,7 @@ public class HybridGeneticAlgorithm {
       childWeights.updateSurvivalWeights(survivalWeights);
 
       double adaptiveMutationRate = getAdaptiveMutationRate(currentGeneration);
-      childWeights.mutate(adaptiveMutationRate);
+      childWeights.mutate(adaptiveMutationRate, random);
       
       // 돌연변이 후에도 생존 가중치 고정 유지
       childWeights.updateSurvivalWeights(survivalWeights);
@@ -321,6 +389,98 @@ public class HybridGeneticAlgorithm {
     population = nextGeneration;
   }
 
+  /**
+   * 이주 세대이면 평가가 끝난 (정렬된) 집단의 상위 개체를 보내고 이웃 섬의 개체를 받습니다
+   *
+   * @return 받은 개체의 가중치 (이주 세대가 아니면 빈 목록)
+   */
+  private List<WeightSet> migrate(int phase) {
+    if (island == null || (currentGeneration + 1) % migrationInterval != 0) {
+      return Collections.emptyList();
+    }
+    List<WeightSet> emigrants = new ArrayList<>();
+    for (int i = 0; i < migrantCount && i < population.size(); i++) {
+      emigrants.add(copyWeights(population.get(i).weights));
+    }
+    List<WeightSet> immigrants = island.exchange(phase, currentGeneration, emigrants);
+    Log.info(String.format("이주: 상위 %d개 개체를 보내고 %d개 개체를 받음", emigrants.size(), immigrants.size()));
+    return immigrants;
+  }
+
+  /**
+   * 받은 개체로 다음 세대의 마지막 자식들을 바꿉니다 (엘리트는 유지, 다음 세대에서 이 섬의 상대로 다시 평가)
+   *
+   * @param survivalWeights 고정할 생존 가중치 (Step 1이면 null)
+   */
+  private void addImmigrants(List<WeightSet> immigrants, WeightSet survivalWeights) {
+    int count = Math.min(immigrants.size(), population.size() - eliteSize);
+    for (int i = 0; i < count; i++) {
+      WeightSet weights = copyWeights(immigrants.get(i));
+      if (survivalWeights != null) {
+        weights.updateSurvivalWeights(survivalWeights); // 섬마다 Step 1 결과가 다르므로 공격 가중치만 받음
+      }
+      population.set(population.size() - 1 - i, new Individual(weights));
+    }
+  }
+
+  /**
+   * 현재 세대를 평가하기 전 상태를 체크포인트로 저장합니다 (실패해도 학습은 계속)
+   */
+  private void saveCheckpoint(int phase) {
+    if (checkpointFile == null) {
+      return;
+    }
+    TrainingCheckpoint checkpoint = new TrainingCheckpoint();
+    checkpoint.phase = phase;
+    checkpoint.generation = currentGeneration;
+    checkpoint.randomState = random.getState();
+    checkpoint.bestSurvivalWeights = phase == TrainingCheckpoint.PHASE_ATTACK ? bestSurvivalWeights : null;
+    for (Individual individual : population) {
+      checkpoint.population.add(copyWeights(individual.weights));
+    }
+    checkpoint.generationResults.addAll(generationResults);
+    try {
+      checkpoint.save(checkpointFile);
+    } catch (IOException e) {
+      Log.error("체크포인트 저장 실패: " + checkpointFile, e);
+    }
+  }
+
+  /**
+   * 체크포인트의 집단과 난수 상태로 되돌리고 이어서 평가할 세대를 반환합니다
+   */
+  private int resumePopulation() {
+    TrainingCheckpoint checkpoint = resumeCheckpoint;
+    resumeCheckpoint = null;
+    population.clear();
+    for (WeightSet weights : checkpoint.population) {
+      population.add(new Individual(weights));
+    }
+    random.setState(checkpoint.randomState);
+    currentGeneration = checkpoint.generation;
+    Log.info("체크포인트에서 이어서 학습: 세대 " + checkpoint.generation + "부터 (" + population.size() + "개 개체)");
+    return checkpoint.generation;
+  }
+
+  /**
+   * 집단 크기에 따른 엘리트 개체 수 (집단 크기의 20%, 최소 1)
+   */
+  static int eliteSize(int populationSize) {
+    return Math.max(1, populationSize / 5);
+  }
+
+  /**
+   * 이주 설정 확인 (받은 개체는 엘리트가 아닌 자식 자리에만 들어감)
+   */
+  static void checkMigration(int populationSize, int migrationInterval, int migrantCount) {
+    int eliteSize = eliteSize(populationSize);
+    if (migrationInterval < 1 || migrantCount < 0 || migrantCount > populationSize - eliteSize) {
+      throw new IllegalArgumentException(String.format(
+          "잘못된 이주 설정: 주기 %d, 개체 수 %d (집단 %d, 엘리트 %d)",
+          migrationInterval, migrantCount, populationSize, eliteSize));
+    }
+  }
+
   private Individual selectParent() {
     int tournamentSize = 3;
     Individual best = null;
@@ -351,6 +511,56 @@ public class HybridGeneticAlgorithm {
     return BASE_MUTATION_RATE * Math.pow(decay, generation);
   }
 
+  /**
+   * 평가 결과 캐시 (재평가 주기 설정, 적중 통계용)
+   */
+  public FitnessCache getFitnessCache() {
+    return fitnessCache;
+  }
+
+  /**
+   * 평가 게임별 블록 순서 시드 설정 (null이면 게임마다 무작위, 캐시 키에도 들어감)
+   */
+  public void setGameSeeds(long[] seeds) {
+    populationEvaluator.setGameSeeds(seeds);
+  }
+
+  /**
+   * 세대마다 평가 전에 체크포인트를 저장할 파일 (null이면 저장하지 않음)
+   */
+  public void setCheckpointFile(Path file) {
+    this.checkpointFile = file;
+  }
+
+  /**
+   * 섬 모델로 학습하도록 설정합니다
+   * 세대 결과를 채널로 보고하고, migrationInterval 세대마다 상위 migrantCount개 개체를 이웃 섬과 교환합니다.
+   */
+  void setIsland(IslandChannel channel, int migrationInterval, int migrantCount) {
+    checkMigration(populationSize, migrationInterval, migrantCount);
+    this.island = channel;
+    this.migrationInterval = migrationInterval;
+    this.migrantCount = migrantCount;
+  }
+
+  /**
+   * 체크포인트에서 이어서 학습하도록 설정합니다
+   * 이후 {@link #learnSurvivalWeights()}와 {@link #learnAttackWeights(WeightSet)}가 저장된 단계/세대부터 진행합니다.
+   * 평가 결과 캐시는 저장하지 않으므로 이어서 시작한 첫 세대는 엘리트도 다시 평가합니다.
+   */
+  public void restore(TrainingCheckpoint checkpoint) {
+    if (checkpoint.phase == TrainingCheckpoint.PHASE_ATTACK && checkpoint.bestSurvivalWeights == null) {
+      throw new IllegalArgumentException("Step 2 체크포인트에 생존 가중치가 없습니다");
+    }
+    if (checkpoint.population.isEmpty()) {
+      throw new IllegalArgumentException("체크포인트 집단이 비어 있습니다");
+    }
+    generationResults.clear();
+    generationResults.addAll(checkpoint.generationResults);
+    bestSurvivalWeights = checkpoint.bestSurvivalWeights;
+    resumeCheckpoint = checkpoint;
+  }
+
   public List<GenerationResult> getGenerationResults() {
     return generationResults;
   }
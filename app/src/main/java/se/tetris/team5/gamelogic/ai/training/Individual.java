@@ -134,6 +134,23 @@ public class Individual implements Comparable<Individual> {
     averageGameTimeMs = 0.0;
   }
 
+  /**
+   * 다른 개체의 평가 결과(적합도와 게임 통계)를 복사 (가중치는 그대로)
+   */
+  void copyResultsFrom(Individual source) {
+    fitness = source.fitness;
+    gamesPlayed = source.gamesPlayed;
+    totalLinesCleared = source.totalLinesCleared;
+    totalScore = source.totalScore;
+    totalGames = source.totalGames;
+    wins = source.wins;
+    losses = source.losses;
+    totalGameTimeMs = source.totalGameTimeMs;
+    averageLinesPerGame = source.averageLinesPerGame;
+    averageScorePerGame = source.averageScorePerGame;
+    averageGameTimeMs = source.averageGameTimeMs;
+  }
+
   @Override
   public int compareTo(Individual other) {
     return Double.compare(other.fitness, this.fitness); // 내림차순 정렬
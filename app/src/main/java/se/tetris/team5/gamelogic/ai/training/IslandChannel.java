@@ -0,0 +1,25 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.util.List;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 섬 모델에서 한 섬이 다른 섬/조정자와 통신하는 통로
+ * ({@link HybridGeneticAlgorithm}이 학습하는 스레드에서 호출)
+ */
+interface IslandChannel {
+
+  /**
+   * 세대 평가 결과를 조정자에 보고합니다
+   *
+   * @param phase {@link TrainingCheckpoint#PHASE_SURVIVAL} 또는 {@link TrainingCheckpoint#PHASE_ATTACK}
+   */
+  void reportResult(int phase, GenerationResult result);
+
+  /**
+   * 상위 개체를 보내고 이웃 섬의 상위 개체를 받습니다 (모든 섬이 같은 세대에 도착할 때까지 대기)
+   * 통신에 실패하면 빈 목록을 반환하고 섬은 혼자 학습을 계속합니다.
+   */
+  List<WeightSet> exchange(int phase, int generation, List<WeightSet> emigrants);
+}
@@ -0,0 +1,499 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+import se.tetris.team5.utils.log.Log;
+
+/**
+ * 섬 모델 유전 알고리즘 조정자
+ *
+ * 섬({@link IslandWorker}) 프로세스들의 접속을 받아 설정을 나눠 주고, 섬들이 보고한 세대 결과를 모읍니다.
+ * 이주는 고리 모양으로, 같은 단계/세대의 이주 개체가 모든 섬에서 도착하면 각 섬에 바로 앞 섬의 개체를 보냅니다.
+ * 도중에 연결이 끊긴 섬은 고리에서 빠지고 나머지 섬끼리 이주를 계속합니다.
+ * 이주 개체는 섬마다 따로 있는 전송 스레드가 보내므로, 받기를 멈춘 섬 하나가 다른 섬의 이주를 막지 않습니다.
+ * 섬은 같은 컴퓨터(localhost)의 여러 프로세스로 띄우거나(--spawn) 다른 컴퓨터에서 --coordinator=host:port로 접속합니다.
+ *
+ * 실행: java ... IslandCoordinator [--islands=4] [--port=15600] [--population=30] [--interval=2] [--migrants=2] [--spawn]
+ */
+public class IslandCoordinator {
+
+  private static final int ACCEPT_TIMEOUT = 10 * 60 * 1000; // 섬 접속 대기 10분
+  private static final int HANDSHAKE_TIMEOUT = 10000;
+  private static final long SPAWN_EXIT_TIMEOUT = 60; // 학습이 끝난 섬 프로세스 종료 대기 (초)
+
+  private final int islandCount;
+  private final int populationSize;
+  private final int migrationInterval;
+  private final int migrantCount;
+
+  private ServerSocket serverSocket;
+  private final List<Island> islands = new ArrayList<>();
+  // 단계/세대별로 섬들이 보낸 이주 개체 (this로 동기화)
+  private final Map<Long, List<List<WeightSet>>> pendingMigrations = new TreeMap<>();
+
+  /**
+   * 접속한 섬 하나의 연결과 보고된 결과
+   */
+  private static class Island {
+    final int id;
+    final Socket socket;
+    final DataInputStream in;
+    final DataOutputStream out;
+    final ExecutorService sender; // 이 섬에 보내는 메시지를 순서대로 씀 (조정자 잠금 밖에서)
+    final List<List<GenerationResult>> results = new ArrayList<>(); // 단계별 세대 결과
+    boolean alive = true;
+    boolean done = false;
+    WeightSet finalWeights;
+    WeightSet survivalWeights;
+
+    Island(int id, Socket socket) throws IOException {
+      this.id = id;
+      this.socket = socket;
+      this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      this.sender = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "GA-Island-Sender-" + id);
+        thread.setDaemon(true);
+        return thread;
+      });
+      results.add(new ArrayList<>());
+      results.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * @param islandCount       섬 수
+   * @param populationSize    섬 하나의 집단 크기
+   * @param migrationInterval 이주 주기 (세대)
+   * @param migrantCount      한 번에 보내는 상위 개체 수
+   */
+  public IslandCoordinator(int islandCount, int populationSize, int migrationInterval, int migrantCount) {
+    if (islandCount < 1) {
+      throw new IllegalArgumentException("섬 수는 1 이상이어야 합니다: " + islandCount);
+    }
+    HybridGeneticAlgorithm.checkMigration(populationSize, migrationInterval, migrantCount);
+    this.islandCount = islandCount;
+    this.populationSize = populationSize;
+    this.migrationInterval = migrationInterval;
+    this.migrantCount = migrantCount;
+  }
+
+  /**
+   * 섬 접속을 받을 포트를 엽니다
+   *
+   * @param port 포트 (0이면 빈 포트)
+   * @return 실제로 연 포트
+   */
+  public int bind(int port) throws IOException {
+    serverSocket = new ServerSocket(port);
+    serverSocket.setSoTimeout(ACCEPT_TIMEOUT);
+    Log.info("[조정자] 섬 " + islandCount + "개의 접속 대기 - 포트: " + serverSocket.getLocalPort());
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * 모든 섬의 접속을 받고, 모든 섬이 학습을 마치거나 연결이 끊길 때까지 결과를 모읍니다
+   *
+   * @throws IOException 섬이 모두 접속하지 않은 경우
+   */
+  public void run() throws IOException {
+    try {
+      while (islands.size() < islandCount) {
+        Socket socket = serverSocket.accept();
+        Island island;
+        try {
+          socket.setTcpNoDelay(true);
+          socket.setSoTimeout(HANDSHAKE_TIMEOUT);
+          island = new Island(islands.size(), socket);
+          if (island.in.readInt() != IslandProtocol.MAGIC || island.in.readInt() != IslandProtocol.VERSION) {
+            throw new IOException("매직 넘버/버전 불일치");
+          }
+          socket.setSoTimeout(0); // 이주는 가장 느린 섬을 기다리므로 시간 제한 없음
+        } catch (IOException e) {
+          Log.warn("[조정자] 섬이 아닌 접속을 닫습니다: " + socket.getRemoteSocketAddress() + " (" + e.getMessage() + ")");
+          socket.close();
+          continue;
+        }
+        islands.add(island);
+        Log.info(String.format("[조정자] 섬 %d/%d 접속: %s", island.id, islandCount, socket.getRemoteSocketAddress()));
+      }
+    } catch (SocketTimeoutException e) {
+      closeAll();
+      throw new IOException("섬 접속 대기 시간 초과 (" + islands.size() + "/" + islandCount + ")", e);
+    } finally {
+      serverSocket.close();
+    }
+
+    // 모든 섬이 접속한 뒤에 설정을 보내 같은 고리로 학습을 시작
+    for (Island island : islands) {
+      try {
+        island.out.writeByte(IslandProtocol.MSG_CONFIG);
+        island.out.writeInt(island.id);
+        island.out.writeInt(islandCount);
+        island.out.writeInt(populationSize);
+        island.out.writeInt(migrationInterval);
+        island.out.writeInt(migrantCount);
+        island.out.flush();
+      } catch (IOException e) {
+        drop(island, e);
+      }
+    }
+
+    List<Thread> readers = new ArrayList<>();
+    for (Island island : islands) {
+      Thread reader = new Thread(() -> receiveLoop(island), "GA-Island-" + island.id);
+      reader.setDaemon(true);
+      reader.start();
+      readers.add(reader);
+    }
+    for (Thread reader : readers) {
+      try {
+        reader.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        closeAll();
+        throw new IOException("섬 결과 수집이 중단되었습니다", e);
+      }
+    }
+    for (Island island : islands) {
+      island.sender.shutdown();
+    }
+  }
+
+  /**
+   * 섬 하나의 메시지 수신 루프 (DONE을 받거나 연결이 끊기면 종료)
+   */
+  private void receiveLoop(Island island) {
+    try {
+      while (true) {
+        byte type = island.in.readByte();
+        if (type == IslandProtocol.MSG_RESULT) {
+          int phase = island.in.readByte();
+          GenerationResult result = TrainingCheckpoint.readResult(island.in);
+          addResult(island, phase, result);
+        } else if (type == IslandProtocol.MSG_MIGRANTS) {
+          int phase = island.in.readByte();
+          int generation = island.in.readInt();
+          deposit(island, phase, generation, IslandProtocol.readWeightList(island.in));
+        } else if (type == IslandProtocol.MSG_DONE) {
+          WeightSet finalWeights = TrainingCheckpoint.readWeights(island.in);
+          WeightSet survivalWeights = TrainingCheckpoint.readWeights(island.in);
+          finish(island, finalWeights, survivalWeights);
+          return;
+        } else {
+          throw new IOException("알 수 없는 메시지 종류: " + type);
+        }
+      }
+    } catch (IOException e) {
+      drop(island, e);
+    } finally {
+      try {
+        island.socket.close();
+      } catch (IOException e) {
+        // 이미 닫힘
+      }
+    }
+  }
+
+  private synchronized void addResult(Island island, int phase, GenerationResult result) throws IOException {
+    if (phase != TrainingCheckpoint.PHASE_SURVIVAL && phase != TrainingCheckpoint.PHASE_ATTACK) {
+      throw new IOException("알 수 없는 학습 단계: " + phase);
+    }
+    island.results.get(phase).add(result);
+    Log.info(String.format("[섬 %d] %s %s", island.id,
+        phase == TrainingCheckpoint.PHASE_SURVIVAL ? "생존" : "공격", result));
+  }
+
+  private synchronized void deposit(Island island, int phase, int generation, List<WeightSet> migrants) {
+    long key = ((long) phase << 32) | generation;
+    pendingMigrations.computeIfAbsent(key, k -> new ArrayList<>(Collections.nCopies(islands.size(), null)))
+        .set(island.id, migrants);
+    completeMigrations();
+  }
+
+  private synchronized void finish(Island island, WeightSet finalWeights, WeightSet survivalWeights) {
+    island.finalWeights = finalWeights;
+    island.survivalWeights = survivalWeights;
+    island.done = true;
+    Log.info("[조정자] 섬 " + island.id + " 학습 완료");
+    completeMigrations();
+  }
+
+  private synchronized void drop(Island island, IOException cause) {
+    if (!island.alive || island.done) {
+      return;
+    }
+    island.alive = false;
+    Log.warn("[조정자] 섬 " + island.id + " 연결 끊김, 고리에서 제외합니다: " + cause.getMessage());
+    try {
+      island.socket.close();
+    } catch (IOException e) {
+      // 이미 닫힘
+    }
+    completeMigrations(); // 끊긴 섬을 기다리던 이주를 마저 처리
+  }
+
+  /**
+   * 학습 중인 모든 섬이 이주 개체를 보낸 단계/세대마다 각 섬에 고리의 앞 섬이 보낸 개체를 전달합니다
+   * (실제 전송은 섬별 전송 스레드에 맡기고 바로 돌아옴)
+   */
+  private synchronized void completeMigrations() {
+    Iterator<Map.Entry<Long, List<List<WeightSet>>>> it = pendingMigrations.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, List<List<WeightSet>>> entry = it.next();
+      List<List<WeightSet>> deposits = entry.getValue();
+      List<Island> ring = new ArrayList<>();
+      boolean ready = true;
+      for (Island island : islands) {
+        if (island.alive && !island.done) {
+          ring.add(island);
+          ready &= deposits.get(island.id) != null;
+        }
+      }
+      if (!ready) {
+        continue;
+      }
+      it.remove();
+
+      int phase = (int) (entry.getKey() >>> 32);
+      int generation = (int) (long) entry.getKey();
+      for (int i = 0; i < ring.size(); i++) {
+        Island island = ring.get(i);
+        Island previous = ring.get((i + ring.size() - 1) % ring.size());
+        List<WeightSet> migrants = previous == island ? Collections.emptyList() : deposits.get(previous.id);
+        island.sender.execute(() -> sendMigrants(island, phase, generation, migrants));
+      }
+    }
+  }
+
+  // 섬의 전송 스레드에서 실행 (조정자 잠금을 잡지 않음)
+  private static void sendMigrants(Island island, int phase, int generation, List<WeightSet> migrants) {
+    try {
+      IslandProtocol.writeMigrants(island.out, phase, generation, migrants);
+    } catch (IOException e) {
+      // 수신 스레드가 연결 끊김을 처리함
+      Log.warn("[조정자] 섬 " + island.id + "에 이주 개체 전송 실패: " + e.getMessage());
+    }
+  }
+
+  private synchronized void closeAll() {
+    for (Island island : islands) {
+      island.sender.shutdownNow();
+      try {
+        island.socket.close();
+      } catch (IOException e) {
+        // 이미 닫힘
+      }
+    }
+  }
+
+  /**
+   * 섬 하나가 보고한 세대 결과 (Step 1 결과 뒤에 Step 2 결과)
+   */
+  public synchronized List<GenerationResult> getIslandResults(int islandId) {
+    List<GenerationResult> results = new ArrayList<>();
+    for (List<GenerationResult> phaseResults : islands.get(islandId).results) {
+      results.addAll(phaseResults);
+    }
+    return results;
+  }
+
+  /**
+   * 섬 전체의 세대 결과 (단계/세대마다 최고 적합도는 가장 좋은 섬, 평균은 섬 평균의 평균, 최저는 가장 나쁜 섬,
+   * 소요 시간은 가장 느린 섬 기준)
+   */
+  public synchronized List<GenerationResult> getAggregatedResults() {
+    List<GenerationResult> aggregated = new ArrayList<>();
+    for (int phase = TrainingCheckpoint.PHASE_SURVIVAL; phase <= TrainingCheckpoint.PHASE_ATTACK; phase++) {
+      int generations = 0;
+      for (Island island : islands) {
+        generations = Math.max(generations, island.results.get(phase).size());
+      }
+      for (int g = 0; g < generations; g++) {
+        GenerationResult combined = null;
+        double avgSum = 0.0;
+        int count = 0;
+        for (Island island : islands) {
+          List<GenerationResult> phaseResults = island.results.get(phase);
+          if (g >= phaseResults.size()) {
+            continue;
+          }
+          GenerationResult result = phaseResults.get(g);
+          if (combined == null) {
+            combined = new GenerationResult(result.generation);
+            combined.bestFitness = Double.NEGATIVE_INFINITY;
+            combined.worstFitness = Double.POSITIVE_INFINITY;
+          }
+          if (result.bestFitness > combined.bestFitness) {
+            combined.bestFitness = result.bestFitness;
+            combined.bestWeights = result.bestWeights;
+            combined.bestLinesPerGame = result.bestLinesPerGame;
+            combined.bestScorePerGame = result.bestScorePerGame;
+          }
+          combined.worstFitness = Math.min(combined.worstFitness, result.worstFitness);
+          combined.evaluationTimeMs = Math.max(combined.evaluationTimeMs, result.evaluationTimeMs);
+          avgSum += result.avgFitness;
+          count++;
+        }
+        combined.avgFitness = avgSum / count;
+        aggregated.add(combined);
+      }
+    }
+    return aggregated;
+  }
+
+  /**
+   * 학습을 마친 섬들의 최종 가중치 (섬 번호 순서)
+   */
+  public synchronized List<WeightSet> getFinalWeights() {
+    List<WeightSet> weights = new ArrayList<>();
+    for (Island island : islands) {
+      if (island.done) {
+        weights.add(island.finalWeights);
+      }
+    }
+    return weights;
+  }
+
+  /**
+   * 학습을 마친 섬들의 Step 1 생존 가중치 ({@link #getFinalWeights()}와 같은 순서)
+   */
+  public synchronized List<WeightSet> getSurvivalWeights() {
+    List<WeightSet> weights = new ArrayList<>();
+    for (Island island : islands) {
+      if (island.done) {
+        weights.add(island.survivalWeights);
+      }
+    }
+    return weights;
+  }
+
+  /**
+   * 같은 컴퓨터에 섬 프로세스를 띄웁니다 (출력은 docs/reports/island_n.log)
+   */
+  private static List<Process> spawnIslands(int count, int port) throws IOException {
+    String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    int workers = Math.max(1, PopulationEvaluator.defaultWorkers() / count); // 코어를 섬끼리 나눔
+    Files.createDirectories(Paths.get("docs/reports"));
+    List<Process> processes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ProcessBuilder builder = new ProcessBuilder(java, "-Dfile.encoding=UTF-8",
+          "-cp", System.getProperty("java.class.path"),
+          IslandWorker.class.getName(), "--coordinator=localhost:" + port, "--workers=" + workers);
+      builder.redirectErrorStream(true);
+      builder.redirectOutput(new File("docs/reports/island_" + i + ".log"));
+      processes.add(builder.start());
+    }
+    Log.info("[조정자] 섬 프로세스 " + count + "개 실행 (섬마다 작업 스레드 " + workers + "개)");
+    return processes;
+  }
+
+  public static void main(String[] args) {
+    int islands = 4;
+    int port = IslandProtocol.DEFAULT_PORT;
+    int population = 30;
+    int interval = 2;
+    int migrants = 2;
+    boolean spawn = false;
+    for (String arg : args) {
+      if (arg.startsWith("--islands=")) {
+        islands = Integer.parseInt(arg.substring("--islands=".length()));
+      } else if (arg.startsWith("--port=")) {
+        port = Integer.parseInt(arg.substring("--port=".length()));
+      } else if (arg.startsWith("--population=")) {
+        population = Integer.parseInt(arg.substring("--population=".length()));
+      } else if (arg.startsWith("--interval=")) {
+        interval = Integer.parseInt(arg.substring("--interval=".length()));
+      } else if (arg.startsWith("--migrants=")) {
+        migrants = Integer.parseInt(arg.substring("--migrants=".length()));
+      } else if (arg.equals("--spawn")) {
+        spawn = true;
+      }
+    }
+
+    long totalStartTime = System.currentTimeMillis();
+    IslandCoordinator coordinator = new IslandCoordinator(islands, population, interval, migrants);
+    List<Process> processes = Collections.emptyList();
+    try {
+      int boundPort = coordinator.bind(port);
+      if (spawn) {
+        processes = spawnIslands(islands, boundPort);
+      }
+      coordinator.run();
+    } catch (IOException e) {
+      Log.error("[조정자] 섬 모델 학습 실패", e);
+      for (Process process : processes) {
+        process.destroy();
+      }
+      Log.flush();
+      System.exit(1);
+    }
+    for (Process process : processes) {
+      try {
+        if (!process.waitFor(SPAWN_EXIT_TIMEOUT, TimeUnit.SECONDS)) {
+          process.destroy();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        process.destroy();
+      }
+    }
+
+    List<WeightSet> finalWeights = coordinator.getFinalWeights();
+    if (finalWeights.isEmpty()) {
+      Log.error("[조정자] 학습을 마친 섬이 없습니다");
+      Log.flush();
+      System.exit(1);
+    }
+
+    // Step 3: 섬마다 최종 가중치를 대전 모드로 평가해 가장 좋은 가중치 선택
+    Log.info("\n" + "=".repeat(80));
+    Log.info("=== Step 3: 섬별 최종 가중치 통합 검증 (대전 모드) ===");
+    Log.info("=".repeat(80));
+    List<Individual> finalists = new ArrayList<>();
+    for (WeightSet weights : finalWeights) {
+      finalists.add(new Individual(weights));
+    }
+    new PopulationEvaluator(PopulationEvaluator.defaultWorkers())
+        .evaluate(finalists, null, FitnessEvaluator::evaluate);
+    int bestIndex = 0;
+    for (int i = 0; i < finalists.size(); i++) {
+      Log.info(String.format("섬 최종 가중치 %d: 적합도 %.2f", i, finalists.get(i).fitness));
+      if (finalists.get(i).fitness > finalists.get(bestIndex).fitness) {
+        bestIndex = i;
+      }
+    }
+    Individual finalBest = finalists.get(bestIndex);
+    long totalTime = System.currentTimeMillis() - totalStartTime;
+
+    String report = ReportGenerator.generateHybridReport(coordinator.getAggregatedResults(), finalBest,
+        coordinator.getSurvivalWeights().get(bestIndex), totalTime);
+    Log.info(report);
+    String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+    String reportFilename = "report_" + timestamp + "_island_model.txt";
+    ReportGenerator.saveReportToFile(report, reportFilename);
+    Log.flush();
+  }
+}
@@ -0,0 +1,73 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 섬 모델 조정자와 섬 사이의 TCP 메시지 형식
+ *
+ * 섬이 접속하면 매직 넘버와 버전을 보내고, 조정자는 모든 섬이 접속한 뒤 각 섬에 CONFIG를 보냅니다.
+ * 이후 메시지는 종류(1바이트)와 본문으로 이루어지며 가중치와 세대 결과는 체크포인트와 같은 형식으로 씁니다.
+ * <pre>
+ * CONFIG   조정자 → 섬  : 섬 번호, 섬 수, 집단 크기, 이주 주기, 이주 개체 수
+ * RESULT   섬 → 조정자  : 단계, 세대 결과
+ * MIGRANTS 섬 ↔ 조정자  : 단계, 세대, 가중치 목록 (섬이 보내면 조정자가 이웃 섬의 목록으로 답함)
+ * DONE     섬 → 조정자  : 최종 가중치, 생존 가중치
+ * </pre>
+ */
+final class IslandProtocol {
+
+  static final int MAGIC = 0x54474149; // "TGAI"
+  static final int VERSION = 1;
+  static final int DEFAULT_PORT = 15600;
+
+  static final byte MSG_CONFIG = 1;
+  static final byte MSG_RESULT = 2;
+  static final byte MSG_MIGRANTS = 3;
+  static final byte MSG_DONE = 4;
+
+  private IslandProtocol() {
+  }
+
+  static void writeMigrants(DataOutputStream out, int phase, int generation, List<WeightSet> migrants)
+      throws IOException {
+    out.writeByte(MSG_MIGRANTS);
+    out.writeByte(phase);
+    out.writeInt(generation);
+    out.writeInt(migrants.size());
+    for (WeightSet weights : migrants) {
+      TrainingCheckpoint.writeWeights(out, weights);
+    }
+    out.flush();
+  }
+
+  /**
+   * MIGRANTS 메시지의 가중치 목록을 읽습니다 (종류, 단계, 세대는 이미 읽은 상태)
+   */
+  static List<WeightSet> readWeightList(DataInputStream in) throws IOException {
+    int count = TrainingCheckpoint.readCount(in);
+    List<WeightSet> weights = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      weights.add(TrainingCheckpoint.readWeights(in));
+    }
+    return weights;
+  }
+
+  /**
+   * "host:port" 또는 "host" 형식의 주소에서 포트를 읽습니다 (없으면 기본 포트)
+   */
+  static int parsePort(String address) {
+    int colon = address.lastIndexOf(':');
+    return colon < 0 ? DEFAULT_PORT : Integer.parseInt(address.substring(colon + 1));
+  }
+
+  static String parseHost(String address) {
+    int colon = address.lastIndexOf(':');
+    return colon < 0 ? address : address.substring(0, colon);
+  }
+}
@@ -0,0 +1,235 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.List;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+import se.tetris.team5.utils.log.Log;
+
+/**
+ * 섬 모델의 섬 (작업 프로세스)
+ *
+ * 조정자({@link IslandCoordinator})에 접속해 설정을 받은 뒤 자기 집단으로 {@link HybridGeneticAlgorithm} 학습을 진행합니다.
+ * 세대 결과는 조정자에 보고하고, 이주 주기마다 상위 개체를 보내 이웃 섬의 상위 개체를 받습니다.
+ * 조정자와의 연결이 끊기거나 이주 개체를 기다리다 시간이 초과되면(조정자가 멈춘 경우) 이주 없이 혼자 학습을 마칩니다.
+ *
+ * 실행: java ... IslandWorker --coordinator=host:port [--workers=n]
+ */
+public class IslandWorker implements IslandChannel {
+
+  private static final int CONNECT_TIMEOUT = 60000; // 조정자가 늦게 뜰 수 있으므로 1분 동안 재시도
+  private static final int RETRY_INTERVAL = 1000;
+  // 이주 개체 응답 대기 시간: 지난 이주 이후 이 섬이 세대를 진행한 시간의 몇 배 (가장 느린 섬을 기다리므로 넉넉히)
+  private static final int EXCHANGE_TIMEOUT_FACTOR = 10;
+  private static final int MIN_EXCHANGE_TIMEOUT = 5 * 60 * 1000; // 5분
+
+  private final Socket socket;
+  private final DataInputStream in;
+  private final DataOutputStream out;
+  private boolean connected = true;
+  private int minExchangeTimeout = MIN_EXCHANGE_TIMEOUT;
+  // 지난 이주(처음에는 설정 수신)를 마친 시각
+  private long lastExchangeNanos;
+
+  private int islandId;
+  private int islandCount;
+  private int populationSize;
+  private int migrationInterval;
+  private int migrantCount;
+
+  /**
+   * 조정자에 접속하고 설정을 받습니다 (모든 섬이 접속할 때까지 대기)
+   */
+  IslandWorker(String host, int port) throws IOException {
+    this.socket = connect(host, port);
+    this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    out.writeInt(IslandProtocol.MAGIC);
+    out.writeInt(IslandProtocol.VERSION);
+    out.flush();
+
+    if (in.readByte() != IslandProtocol.MSG_CONFIG) {
+      socket.close();
+      throw new IOException("조정자가 설정을 보내지 않았습니다");
+    }
+    islandId = in.readInt();
+    islandCount = in.readInt();
+    populationSize = in.readInt();
+    migrationInterval = in.readInt();
+    migrantCount = in.readInt();
+    Log.info(String.format("[섬 %d/%d] 조정자 접속 완료: 집단 %d, 이주 주기 %d세대, 이주 개체 %d",
+        islandId, islandCount, populationSize, migrationInterval, migrantCount));
+    lastExchangeNanos = System.nanoTime();
+  }
+
+  private static Socket connect(String host, int port) throws IOException {
+    long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT;
+    while (true) {
+      Socket socket = new Socket();
+      try {
+        socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT);
+        socket.setTcpNoDelay(true);
+        return socket;
+      } catch (ConnectException e) {
+        socket.close();
+        if (System.currentTimeMillis() >= deadline) {
+          throw e;
+        }
+        try {
+          Thread.sleep(RETRY_INTERVAL);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw new IOException("조정자 접속이 중단되었습니다", ie);
+        }
+      }
+    }
+  }
+
+  /**
+   * 학습을 진행하고 최종 가중치를 조정자에 보냅니다
+   *
+   * @param workers 세대 평가에 쓸 작업 스레드 수
+   */
+  void train(int workers) {
+    HybridGeneticAlgorithm ga = new HybridGeneticAlgorithm(workers, populationSize);
+    ga.setIsland(this, migrationInterval, migrantCount);
+    WeightSet survivalWeights = ga.learnSurvivalWeights();
+    WeightSet finalWeights = ga.learnAttackWeights(survivalWeights);
+    finish(finalWeights, survivalWeights);
+  }
+
+  @Override
+  public synchronized void reportResult(int phase, GenerationResult result) {
+    if (!connected) {
+      return;
+    }
+    try {
+      out.writeByte(IslandProtocol.MSG_RESULT);
+      out.writeByte(phase);
+      TrainingCheckpoint.writeResult(out, result);
+      out.flush();
+    } catch (IOException e) {
+      disconnect(e);
+    }
+  }
+
+  @Override
+  public synchronized List<WeightSet> exchange(int phase, int generation, List<WeightSet> emigrants) {
+    if (!connected) {
+      return Collections.emptyList();
+    }
+    int timeout = exchangeTimeout();
+    try {
+      IslandProtocol.writeMigrants(out, phase, generation, emigrants);
+      socket.setSoTimeout(timeout);
+      if (in.readByte() != IslandProtocol.MSG_MIGRANTS || in.readByte() != phase || in.readInt() != generation) {
+        throw new IOException("조정자가 다른 세대의 이주 개체를 보냈습니다");
+      }
+      List<WeightSet> immigrants = IslandProtocol.readWeightList(in);
+      lastExchangeNanos = System.nanoTime();
+      return immigrants;
+    } catch (SocketTimeoutException e) {
+      // 조정자가 멈춤
+      disconnect(new IOException("이주 개체를 " + timeout + "ms 동안 받지 못했습니다", e));
+      return Collections.emptyList();
+    } catch (IOException e) {
+      disconnect(e);
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * 이주 개체 응답을 기다릴 시간 (밀리초)
+   * 조정자는 모든 섬이 같은 세대에 도착해야 응답하므로, 지난 이주 이후 이 섬이 세대를 진행하는 데 걸린 시간의
+   * {@value #EXCHANGE_TIMEOUT_FACTOR}배까지 기다립니다 (최소 {@link #MIN_EXCHANGE_TIMEOUT}).
+   */
+  int exchangeTimeout() {
+    long elapsedMillis = (System.nanoTime() - lastExchangeNanos) / 1_000_000L;
+    return (int) Math.min(Integer.MAX_VALUE, Math.max(minExchangeTimeout, elapsedMillis * EXCHANGE_TIMEOUT_FACTOR));
+  }
+
+  /**
+   * 이주 개체 응답 대기 시간의 최솟값 설정 (테스트용, 기본 5분)
+   */
+  void setMinExchangeTimeout(int millis) {
+    if (millis <= 0) {
+      throw new IllegalArgumentException("대기 시간은 1ms 이상이어야 합니다: " + millis);
+    }
+    this.minExchangeTimeout = millis;
+  }
+
+  /**
+   * 최종 가중치를 보내고 연결을 닫습니다
+   */
+  synchronized void finish(WeightSet finalWeights, WeightSet survivalWeights) {
+    if (connected) {
+      try {
+        out.writeByte(IslandProtocol.MSG_DONE);
+        TrainingCheckpoint.writeWeights(out, finalWeights);
+        TrainingCheckpoint.writeWeights(out, survivalWeights);
+        out.flush();
+      } catch (IOException e) {
+        Log.warn("[섬 " + islandId + "] 최종 가중치 전송 실패: " + e.getMessage());
+      }
+    }
+    close();
+  }
+
+  synchronized void close() {
+    connected = false;
+    try {
+      socket.close();
+    } catch (IOException e) {
+      // 이미 닫힘
+    }
+  }
+
+  private void disconnect(IOException e) {
+    Log.warn("[섬 " + islandId + "] 조정자 연결이 끊겨 혼자 학습을 계속합니다: " + e.getMessage());
+    close();
+  }
+
+  int getIslandId() {
+    return islandId;
+  }
+
+  int getIslandCount() {
+    return islandCount;
+  }
+
+  int getPopulationSize() {
+    return populationSize;
+  }
+
+  public static void main(String[] args) {
+    String coordinator = "localhost:" + IslandProtocol.DEFAULT_PORT;
+    int workers = PopulationEvaluator.defaultWorkers();
+    for (String arg : args) {
+      if (arg.startsWith("--coordinator=")) {
+        coordinator = arg.substring("--coordinator=".length());
+      } else if (arg.startsWith("--workers=")) {
+        workers = Integer.parseInt(arg.substring("--workers=".length()));
+      }
+    }
+
+    try {
+      IslandWorker worker = new IslandWorker(IslandProtocol.parseHost(coordinator),
+          IslandProtocol.parsePort(coordinator));
+      worker.train(workers);
+    } catch (IOException e) {
+      Log.error("조정자 접속 실패: " + coordinator, e);
+      Log.flush();
+      System.exit(1);
+    }
+    Log.flush();
+  }
+}
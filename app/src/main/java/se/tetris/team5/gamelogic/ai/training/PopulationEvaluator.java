@@ -0,0 +1,173 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * 한 세대의 개체들을 작업 스레드 여러 개에 나눠 평가하는 클래스
+ *
+ * 작업 스레드마다 자기 {@link FitnessEvaluator}를 만들어 쓰므로 게임 엔진과 AI도 스레드마다 따로 생성되고,
+ * 상대 개체(이전 세대 최고 개체)는 모든 스레드가 읽기만 합니다.
+ * 스레드는 공유 카운터로 다음 개체를 가져가 평가하고 결과를 그 개체에만 기록합니다.
+ * 호출한 쪽은 평가가 모두 끝난 뒤 집단 순서대로 결과를 읽으므로 스레드 실행 순서와 관계없이 같은 자리에 같은 결과가 남습니다.
+ * {@link FitnessCache}를 주면 캐시에 결과가 있는 개체와 같은 세대 안의 중복 가중치는 게임을 다시 하지 않습니다.
+ */
+class PopulationEvaluator {
+
+  /** 캐시에서 가져오거나 중복 가중치에서 복사한 개체의 평가 시간 */
+  static final long NOT_EVALUATED = -1L;
+
+  private final int workers;
+  private long[] gameSeeds;
+
+  /**
+   * @param workers 작업 스레드 수 (1이면 호출 스레드에서 순서대로 평가)
+   */
+  PopulationEvaluator(int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("작업 스레드 수는 1 이상이어야 합니다: " + workers);
+    }
+    this.workers = workers;
+  }
+
+  /**
+   * 기본 작업 스레드 수: -Dtetris.ga.workers 값, 없으면 CPU 코어 수
+   */
+  static int defaultWorkers() {
+    return Math.max(1, Integer.getInteger("tetris.ga.workers", Runtime.getRuntime().availableProcessors()));
+  }
+
+  int getWorkers() {
+    return workers;
+  }
+
+  /**
+   * 작업 스레드의 평가기에 줄 게임별 시드 ({@link FitnessEvaluator#setGameSeeds(long[])}, null이면 무작위)
+   */
+  void setGameSeeds(long[] seeds) {
+    this.gameSeeds = FitnessEvaluator.copyGameSeeds(seeds);
+  }
+
+  /**
+   * 캐시를 사용해 개체들을 평가합니다
+   * 캐시에 결과가 있는 개체는 결과를 복사하고, 같은 가중치가 여러 번 있으면 하나만 평가해 나머지에 복사합니다.
+   * 새로 평가한 결과는 캐시에 저장합니다.
+   *
+   * @param evaluationName 평가 방식 이름 (캐시 키에 들어감)
+   * @param cache          결과 캐시 (null이면 모두 평가)
+   * @return 개체별 평가 시간 (밀리초, 평가하지 않은 개체는 {@link #NOT_EVALUATED})
+   */
+  long[] evaluate(List<Individual> individuals, Individual opponent, String evaluationName,
+      ToDoubleBiFunction<FitnessEvaluator, Individual> evaluation, FitnessCache cache) {
+    if (cache == null) {
+      return evaluate(individuals, opponent, evaluation);
+    }
+    int count = individuals.size();
+    long[] keys = new long[count];
+    Map<Long, Individual> firstByKey = new HashMap<>();
+    List<Individual> pending = new ArrayList<>();
+    List<Integer> pendingIndices = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Individual individual = individuals.get(i);
+      keys[i] = FitnessCache.key(evaluationName, individual.weights,
+          opponent == null ? null : opponent.weights, gameSeeds);
+      if (firstByKey.putIfAbsent(keys[i], individual) != null) {
+        continue; // 중복 가중치 (아래에서 복사)
+      }
+      individual.resetFitness();
+      if (!cache.restore(keys[i], individual)) {
+        pending.add(individual);
+        pendingIndices.add(i);
+      }
+    }
+
+    long[] elapsedMs = new long[count];
+    Arrays.fill(elapsedMs, NOT_EVALUATED);
+    long[] pendingElapsed = evaluate(pending, opponent, evaluation);
+    for (int p = 0; p < pending.size(); p++) {
+      int i = pendingIndices.get(p);
+      elapsedMs[i] = pendingElapsed[p];
+      cache.store(keys[i], pending.get(p));
+    }
+    for (int i = 0; i < count; i++) {
+      Individual first = firstByKey.get(keys[i]);
+      if (first != individuals.get(i)) {
+        individuals.get(i).copyResultsFrom(first);
+      }
+    }
+    return elapsedMs;
+  }
+
+  /**
+   * 개체들을 모두 평가합니다 (평가가 모두 끝나야 반환)
+   *
+   * @param individuals 평가할 개체들 (각 개체의 적합도가 갱신됨)
+   * @param opponent    상대 개체 (null이면 기본 가중치, 평가 중에는 읽기만 함)
+   * @param evaluation  평가 방식 (예: {@code FitnessEvaluator::quickEvaluate})
+   * @return 개체별 평가 시간 (밀리초, individuals와 같은 순서)
+   */
+  long[] evaluate(List<Individual> individuals, Individual opponent,
+      ToDoubleBiFunction<FitnessEvaluator, Individual> evaluation) {
+    int count = individuals.size();
+    long[] elapsedMs = new long[count];
+    AtomicInteger nextIndex = new AtomicInteger();
+    long[] seeds = gameSeeds;
+    Runnable worker = () -> {
+      FitnessEvaluator evaluator = new FitnessEvaluator();
+      evaluator.setOpponent(opponent);
+      evaluator.setGameSeeds(seeds);
+      for (int i = nextIndex.getAndIncrement(); i < count; i = nextIndex.getAndIncrement()) {
+        long startTime = System.nanoTime();
+        evaluation.applyAsDouble(evaluator, individuals.get(i));
+        elapsedMs[i] = (System.nanoTime() - startTime) / 1_000_000L;
+      }
+    };
+
+    int threads = Math.min(workers, count);
+    if (threads <= 1) {
+      worker.run();
+      return elapsedMs;
+    }
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+      Thread thread = new Thread(r, "GA-Evaluator-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<?>> futures = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++) {
+        futures.add(pool.submit(worker));
+      }
+      // Future.get()이 끝나면 작업 스레드가 기록한 적합도와 시간을 이 스레드에서 읽을 수 있음
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("세대 평가가 중단되었습니다", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException("개체 평가 중 오류가 발생했습니다", cause);
+    } finally {
+      pool.shutdownNow();
+    }
+    return elapsedMs;
+  }
+}
@@ -4,6 +4,7 @@ import se.tetris.team5.gamelogic.ai.WeightSet;
 import java.util.List;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 유전 알고리즘 결과 보고서 생성기
@@ -384,9 +385,9 @@ public class ReportGenerator {
           path,
           report.getBytes(java.nio.charset.StandardCharsets.UTF_8)
       );
-      System.out.println("보고서가 저장되었습니다: " + path.toString());
+      Log.info("보고서가 저장되었습니다: " + path.toString());
     } catch (Exception e) {
-      System.err.println("보고서 저장 실패: " + e.getMessage());
+      Log.error("보고서 저장 실패: " + e.getMessage());
       e.printStackTrace();
     }
   }
@@ -0,0 +1,222 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 하이브리드 유전 알고리즘 학습 체크포인트
+ *
+ * 세대를 평가하기 직전의 상태(단계, 세대 번호, 집단 가중치, 난수 생성기 상태, Step 1 결과, 세대별 결과)를 담습니다.
+ * 상대 AI(이전 세대 최고 개체)와 세대별 최고 개체는 세대별 결과에 들어 있으므로 그대로 복원됩니다.
+ *
+ * 파일은 DataOutputStream 이진 형식(매직 넘버, 버전, 본문, CRC32)이며, 같은 폴더의 임시 파일에 쓰고 디스크에 반영한 뒤
+ * 이름을 바꿔 덮어쓰므로 쓰는 도중에 종료되어도 이전 체크포인트가 온전히 남습니다.
+ */
+public class TrainingCheckpoint {
+
+  /** Step 1: 생존 가중치 학습 */
+  public static final int PHASE_SURVIVAL = 0;
+  /** Step 2: 공격 가중치 학습 */
+  public static final int PHASE_ATTACK = 1;
+
+  private static final int MAGIC = 0x54474143; // "TGAC"
+  private static final int VERSION = 1;
+  private static final int WEIGHT_COUNT = 9;
+
+  public int phase;
+  /** 다음에 평가할 세대 */
+  public int generation;
+  /** 난수 생성기 상태 ({@link TrainingRandom#getState()}) */
+  public long randomState;
+  /** Step 1 결과 (Step 2 체크포인트에만 있음) */
+  public WeightSet bestSurvivalWeights;
+  /** 평가할 집단의 가중치 */
+  public List<WeightSet> population = new ArrayList<>();
+  /** 지금까지의 세대별 결과 */
+  public List<GenerationResult> generationResults = new ArrayList<>();
+
+  /**
+   * 체크포인트를 원자적으로 저장합니다
+   */
+  public void save(Path file) throws IOException {
+    Path dir = file.toAbsolutePath().getParent();
+    if (dir != null) {
+      Files.createDirectories(dir);
+    }
+    Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+    try {
+      try (FileOutputStream fileOut = new FileOutputStream(temp.toFile())) {
+        CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fileOut), new CRC32());
+        DataOutputStream out = new DataOutputStream(checked);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeBody(out);
+        out.flush();
+        out.writeLong(checked.getChecksum().getValue());
+        out.flush();
+        fileOut.getFD().sync(); // 이름을 바꾸기 전에 내용이 디스크에 있어야 함
+      }
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * 체크포인트를 읽습니다
+   *
+   * @throws IOException 파일이 없거나, 형식/버전이 다르거나, 내용이 손상된 경우
+   */
+  public static TrainingCheckpoint load(Path file) throws IOException {
+    try (InputStream fileIn = Files.newInputStream(file)) {
+      CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(fileIn), new CRC32());
+      DataInputStream in = new DataInputStream(checked);
+      if (in.readInt() != MAGIC) {
+        throw new IOException("학습 체크포인트 파일이 아닙니다: " + file);
+      }
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new IOException("지원하지 않는 체크포인트 버전입니다: " + version);
+      }
+      TrainingCheckpoint checkpoint = readBody(in);
+      long expected = checked.getChecksum().getValue();
+      if (in.readLong() != expected) {
+        throw new IOException("체크포인트가 손상되었습니다 (CRC 불일치): " + file);
+      }
+      return checkpoint;
+    }
+  }
+
+  private void writeBody(DataOutputStream out) throws IOException {
+    out.writeByte(phase);
+    out.writeInt(generation);
+    out.writeLong(randomState);
+    out.writeBoolean(bestSurvivalWeights != null);
+    if (bestSurvivalWeights != null) {
+      writeWeights(out, bestSurvivalWeights);
+    }
+    out.writeInt(population.size());
+    for (WeightSet weights : population) {
+      writeWeights(out, weights);
+    }
+    out.writeInt(generationResults.size());
+    for (GenerationResult result : generationResults) {
+      writeResult(out, result);
+    }
+  }
+
+  /**
+   * 세대 결과를 씁니다 (섬 모델 통신에서도 사용)
+   */
+  static void writeResult(DataOutputStream out, GenerationResult result) throws IOException {
+    out.writeInt(result.generation);
+    out.writeDouble(result.bestFitness);
+    out.writeDouble(result.avgFitness);
+    out.writeDouble(result.worstFitness);
+    out.writeBoolean(result.bestWeights != null);
+    if (result.bestWeights != null) {
+      writeWeights(out, result.bestWeights);
+    }
+    out.writeDouble(result.bestLinesPerGame);
+    out.writeDouble(result.bestScorePerGame);
+    out.writeLong(result.evaluationTimeMs);
+    out.writeDouble(result.accurateFitness);
+    out.writeDouble(result.accurateLinesPerGame);
+    out.writeDouble(result.accurateScorePerGame);
+    out.writeLong(result.accurateEvaluationTimeMs);
+  }
+
+  private static TrainingCheckpoint readBody(DataInputStream in) throws IOException {
+    TrainingCheckpoint checkpoint = new TrainingCheckpoint();
+    checkpoint.phase = in.readByte();
+    if (checkpoint.phase != PHASE_SURVIVAL && checkpoint.phase != PHASE_ATTACK) {
+      throw new IOException("알 수 없는 학습 단계입니다: " + checkpoint.phase);
+    }
+    checkpoint.generation = in.readInt();
+    checkpoint.randomState = in.readLong();
+    if (in.readBoolean()) {
+      checkpoint.bestSurvivalWeights = readWeights(in);
+    }
+    int populationSize = readCount(in);
+    for (int i = 0; i < populationSize; i++) {
+      checkpoint.population.add(readWeights(in));
+    }
+    int resultCount = readCount(in);
+    for (int i = 0; i < resultCount; i++) {
+      checkpoint.generationResults.add(readResult(in));
+    }
+    return checkpoint;
+  }
+
+  static GenerationResult readResult(DataInputStream in) throws IOException {
+    GenerationResult result = new GenerationResult(in.readInt());
+    result.bestFitness = in.readDouble();
+    result.avgFitness = in.readDouble();
+    result.worstFitness = in.readDouble();
+    if (in.readBoolean()) {
+      result.bestWeights = readWeights(in);
+    }
+    result.bestLinesPerGame = in.readDouble();
+    result.bestScorePerGame = in.readDouble();
+    result.evaluationTimeMs = in.readLong();
+    result.accurateFitness = in.readDouble();
+    result.accurateLinesPerGame = in.readDouble();
+    result.accurateScorePerGame = in.readDouble();
+    result.accurateEvaluationTimeMs = in.readLong();
+    return result;
+  }
+
+  // 손상된 파일이 큰 배열을 만들지 않도록 개수를 확인
+  static int readCount(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0 || count > 1_000_000) {
+      throw new IOException("체크포인트가 손상되었습니다 (개수: " + count + ")");
+    }
+    return count;
+  }
+
+  /**
+   * 가중치 9개를 씁니다 (섬 모델 통신에서도 사용)
+   */
+  static void writeWeights(DataOutputStream out, WeightSet weights) throws IOException {
+    out.writeByte(WEIGHT_COUNT);
+    out.writeDouble(weights.weightLandingHeight);
+    out.writeDouble(weights.weightEPCM);
+    out.writeDouble(weights.weightRowTransitions);
+    out.writeDouble(weights.weightColumnTransitions);
+    out.writeDouble(weights.weightHoles);
+    out.writeDouble(weights.weightWellSums);
+    out.writeDouble(weights.weightAttack2Lines);
+    out.writeDouble(weights.weightAttack3Lines);
+    out.writeDouble(weights.weightAttack4Lines);
+  }
+
+  static WeightSet readWeights(DataInputStream in) throws IOException {
+    int count = in.readByte();
+    if (count != WEIGHT_COUNT) {
+      throw new IOException("가중치 개수가 다릅니다: " + count);
+    }
+    return new WeightSet(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+        in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+  }
+}
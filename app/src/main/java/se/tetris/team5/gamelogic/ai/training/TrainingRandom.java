@@ -0,0 +1,56 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import java.util.Random;
+
+/**
+ * 상태를 저장하고 되돌릴 수 있는 난수 생성기 (학습 체크포인트용)
+ *
+ * {@link Random}의 문서에 정해진 48비트 선형 합동 생성기를 그대로 구현하므로 같은 시드의 {@link Random}과 같은 수열을 만들고,
+ * {@link #getState()}로 읽은 상태를 {@link #setState(long)}로 되돌리면 그 뒤의 수열도 같습니다.
+ * ({@link #nextGaussian()}이 보관해 둔 두 번째 값은 상태에 들어가지 않으므로 학습에서는 쓰지 않습니다.)
+ * 학습을 진행하는 스레드 하나에서만 사용합니다 (동기화하지 않음).
+ */
+class TrainingRandom extends Random {
+  private static final long serialVersionUID = 1L;
+
+  private static final long MULTIPLIER = 0x5DEECE66DL;
+  private static final long ADDEND = 0xBL;
+  private static final long MASK = (1L << 48) - 1;
+
+  // 필드 초기화 식을 두지 않음 (Random 생성자가 setSeed를 먼저 호출함)
+  private long state;
+
+  TrainingRandom() {
+    this(new Random().nextLong());
+  }
+
+  TrainingRandom(long seed) {
+    super(seed);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    super.setSeed(seed);
+    state = (seed ^ MULTIPLIER) & MASK;
+  }
+
+  @Override
+  protected int next(int bits) {
+    state = (state * MULTIPLIER + ADDEND) & MASK;
+    return (int) (state >>> (48 - bits));
+  }
+
+  /**
+   * @return 현재 상태 (48비트)
+   */
+  long getState() {
+    return state;
+  }
+
+  /**
+   * {@link #getState()}로 읽은 상태로 되돌립니다
+   */
+  void setState(long state) {
+    this.state = state & MASK;
+  }
+}
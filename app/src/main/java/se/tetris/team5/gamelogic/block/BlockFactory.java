@@ -1,9 +1,7 @@
 package se.tetris.team5.gamelogic.block;
 
-import java.util.Random;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import se.tetris.team5.blocks.*;
 
 public class BlockFactory {
@@ -14,27 +12,27 @@ public class BlockFactory {
     NORMAL, EASY, HARD
   }
 
-  private Random random;
   private Difficulty difficulty = Difficulty.NORMAL;
-  // bag-of-7 support (shuffle bag) - kept for compatibility with older logic
-  private List<Integer> bag;
+  // 시드로 결정되는 블럭 순서 (미리보기 큐 포함)
+  private final PieceSequence sequence;
+  // 아이템을 넣을 칸을 고르는 난수열 (같은 시드에서 블럭 순서와 따로 만듦)
+  private SplittableRandom itemRandom;
   private Integer forcedBlockType = null;
 
   /**
    * 기본 생성자 (난이도: NORMAL, seed: 랜덤)
    */
   public BlockFactory() {
-    this.random = new Random();
-    this.bag = new ArrayList<>();
-    refillBag();
+    this(Difficulty.NORMAL);
   }
 
   /**
    * 난이도 지정 생성자 (seed: 랜덤)
    */
   public BlockFactory(Difficulty difficulty) {
-    this.random = new Random();
     this.difficulty = difficulty;
+    this.sequence = new PieceSequence(ThreadLocalRandom.current().nextLong(), PieceSequence.Mode.WEIGHTED, difficulty);
+    resetItemRandom();
   }
 
   /**
@@ -42,6 +40,7 @@ public class BlockFactory {
    */
   public void setDifficulty(Difficulty difficulty) {
     this.difficulty = difficulty;
+    sequence.setDifficulty(difficulty);
   }
 
   /**
@@ -51,44 +50,83 @@ public class BlockFactory {
     return this.difficulty;
   }
 
+  /**
+   * 블럭 생성 방식 설정 (난이도 가중치 또는 7-bag)
+   */
+  public void setSequenceMode(PieceSequence.Mode mode) {
+    sequence.setMode(mode);
+  }
+
+  public PieceSequence.Mode getSequenceMode() {
+    return sequence.getMode();
+  }
+
   /**
    * 랜덤 시드(Seed) 재설정 (UI에서 seed 고정 플레이 등 활용 가능)
+   * 같은 시드, 같은 난이도/생성 방식이면 항상 같은 블럭 순서가 나옵니다.
    */
   public void setRandomSeed(long seed) {
-    this.random = new Random(seed);
+    sequence.reset(seed);
+    resetItemRandom();
+  }
+
+  /**
+   * 지금 시드와 생성 방식 그대로 블럭 순서를 처음부터 다시 시작합니다 (게임 리셋용)
+   */
+  public void reset() {
+    setRandomSeed(sequence.getSeed());
+  }
+
+  /**
+   * 현재 블럭 순서의 시드 (P2P 상대와 공유하면 같은 순서를 재현할 수 있음)
+   */
+  public long getRandomSeed() {
+    return sequence.getSeed();
+  }
+
+  /**
+   * 블럭 순서 생성기를 반환합니다 (미리보기/split용)
+   */
+  public PieceSequence getSequence() {
+    return sequence;
   }
 
   public Block createRandomBlock() {
     if (forcedBlockType != null) {
       return createBlock(forcedBlockType.intValue());
     }
-    
-    int[] weights;
-    // 블럭 순서: I, J, L, Z, S, T, O
-    switch (difficulty) {
-      case EASY:
-        weights = new int[] { 12, 10, 10, 10, 10, 10, 10 }; // I만 20% 더 높음
-        break;
-      case HARD:
-        weights = new int[] { 8, 10, 10, 10, 10, 10, 10 }; // I만 20% 낮음
-        break;
-      case NORMAL:
-      default:
-        weights = new int[] { 10, 10, 10, 10, 10, 10, 10 }; // 모두 동일
-    }
-    int total = 0;
-    for (int w : weights)
-      total += w;
-    int r = random.nextInt(total);
-    int idx = 0;
-    while (r >= weights[idx]) {
-      r -= weights[idx];
-      idx++;
+    return createBlock(sequence.next());
+  }
+
+  /**
+   * index번째 뒤에 생성될 블럭 타입을 소비하지 않고 반환합니다 (0이면 다음 createRandomBlock 결과)
+   */
+  public int peekBlockType(int index) {
+    if (forcedBlockType != null) {
+      return forcedBlockType.intValue();
     }
-    return createBlock(idx);
-  
+    return sequence.peek(index);
+  }
+
+  /**
+   * index번째 뒤에 생성될 블럭을 새로 만들어 반환합니다 (순서를 소비하지 않음, AI 미리보기용)
+   */
+  public Block createPreviewBlock(int index) {
+    return createBlock(peekBlockType(index));
   }
   
+  /**
+   * 아이템을 넣을 칸 번호를 뽑습니다 (0 이상 cellCount 미만)
+   * 시드로 정해지는 별도 난수열을 쓰므로 같은 시드면 같은 칸이 나오고, 블럭 순서에는 영향을 주지 않습니다.
+   */
+  public int nextItemCell(int cellCount) {
+    return itemRandom.nextInt(cellCount);
+  }
+
+  private void resetItemRandom() {
+    itemRandom = new SplittableRandom(sequence.getSeed() ^ 0xD1B54A32D192ED03L);
+  }
+
   /**
    * 테스트 혹은 디버그 목적으로 특정 블록만 생성하도록 강제합니다.
    * @param blockIndex createBlock에서 사용하는 타입 인덱스 (0=I, 1=J, ...)
@@ -131,16 +169,6 @@ public class BlockFactory {
    * 랜덤 시드를 현재 시간으로 재설정 (UI에서 '새로고침' 등 활용 가능)
    */
   public void refreshRandomSeed() {
-    this.random = new Random(System.currentTimeMillis());
-  }
-
-  // Fill and shuffle the 7-bag. Kept for compatibility; current creation
-  // methods may not use the bag but tests or other modules may expect it.
-  private void refillBag() {
-    bag.clear();
-    for (int i = 0; i < 7; i++) {
-      bag.add(i);
-    }
-    Collections.shuffle(bag, random);
+    sequence.reset(System.currentTimeMillis());
   }
 }
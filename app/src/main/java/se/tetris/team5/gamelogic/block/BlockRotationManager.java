@@ -1,9 +1,17 @@
 package se.tetris.team5.gamelogic.block;
 
 import se.tetris.team5.blocks.*;
+import se.tetris.team5.components.game.BoardManager;
 
 public class BlockRotationManager {
 
+  // Wall Kick 시도 순서 (x, y 오프셋)
+  private static final int[][] WALL_KICK_OFFSETS = {
+      { 0, 0 }, { -1, 0 }, { 1, 0 }, { 0, -1 },
+      { -3, 0 }, { 2, 0 }, { 0, 1 },
+      { -1, -1 }, { 1, -1 }
+  };
+
   /**
    * Wall Kick 결과를 저장하는 내부 클래스
    */
@@ -19,6 +27,37 @@ public class BlockRotationManager {
     }
   }
 
+  // 회전 시 결과 객체를 새로 만들지 않도록 미리 생성해 둔 결과
+  private static final WallKickResult FAILED = new WallKickResult(false, 0, 0);
+  private static final WallKickResult[] KICK_RESULTS = new WallKickResult[WALL_KICK_OFFSETS.length];
+
+  static {
+    for (int i = 0; i < WALL_KICK_OFFSETS.length; i++) {
+      KICK_RESULTS[i] = new WallKickResult(true, WALL_KICK_OFFSETS[i][0], WALL_KICK_OFFSETS[i][1]);
+    }
+  }
+
+  /**
+   * Wall Kick 시도 횟수 (AI가 회전 결과를 같은 규칙으로 시뮬레이션할 때 사용)
+   */
+  public static int getWallKickCount() {
+    return WALL_KICK_OFFSETS.length;
+  }
+
+  /**
+   * i번째 Wall Kick의 x 오프셋
+   */
+  public static int getWallKickOffsetX(int i) {
+    return WALL_KICK_OFFSETS[i][0];
+  }
+
+  /**
+   * i번째 Wall Kick의 y 오프셋
+   */
+  public static int getWallKickOffsetY(int i) {
+    return WALL_KICK_OFFSETS[i][1];
+  }
+
   /**
    * Wall Kick을 적용하여 블록을 회전시킵니다.
    * 성공 시 적용된 오프셋을 반환합니다.
@@ -26,32 +65,52 @@ public class BlockRotationManager {
   public WallKickResult rotateBlockWithWallKick(Block block, int x, int y, int[][] board) {
     // 무게추 블록(WBlock)은 회전 불가
     if (block instanceof WBlock) {
-      return new WallKickResult(false, 0, 0);
+      return FAILED;
     }
     
-    Block originalBlock = copyBlock(block);
+    int originalRotation = block.getRotation();
 
     block.rotate();
 
-    int[][] wallKickOffsets = {
-        { 0, 0 }, { -1, 0 }, { 1, 0 }, { 0, -1 },
-        { -3, 0 }, { 2, 0 }, { 0, 1 },
-        { -1, -1 }, { 1, -1 }
-    };
-
-    for (int[] offset : wallKickOffsets) {
-      int testX = x + offset[0];
-      int testY = y + offset[1];
+    for (int i = 0; i < WALL_KICK_OFFSETS.length; i++) {
+      int testX = x + WALL_KICK_OFFSETS[i][0];
+      int testY = y + WALL_KICK_OFFSETS[i][1];
 
       if (canPlaceBlock(block, testX, testY, board)) {
         // 성공: 적용된 오프셋 반환
-        return new WallKickResult(true, offset[0], offset[1]);
+        return KICK_RESULTS[i];
       }
     }
 
     // 회전 실패시 원래 상태로 복원
-    restoreBlock(block, originalBlock);
-    return new WallKickResult(false, 0, 0);
+    block.setRotation(originalRotation);
+    return FAILED;
+  }
+
+  /**
+   * Wall Kick을 적용하여 블록을 회전시킵니다.
+   * 충돌 검사는 BoardManager의 비트마스크 보드(canMove)를 사용합니다.
+   */
+  public WallKickResult rotateBlockWithWallKick(Block block, int x, int y, BoardManager boardManager) {
+    // 무게추 블록(WBlock)은 회전 불가
+    if (block instanceof WBlock) {
+      return FAILED;
+    }
+
+    int originalRotation = block.getRotation();
+
+    block.rotate();
+
+    for (int i = 0; i < WALL_KICK_OFFSETS.length; i++) {
+      if (boardManager.canMove(x + WALL_KICK_OFFSETS[i][0], y + WALL_KICK_OFFSETS[i][1], block)) {
+        // 성공: 적용된 오프셋 반환
+        return KICK_RESULTS[i];
+      }
+    }
+
+    // 회전 실패시 원래 상태로 복원
+    block.setRotation(originalRotation);
+    return FAILED;
   }
 
   public Block copyBlock(Block original) {
@@ -75,47 +134,17 @@ public class BlockRotationManager {
       copy = new WBlock();
 
     if (copy != null) {
-      for (int rotations = 0; rotations < 4; rotations++) {
-        if (isSameShape(copy, original)) {
-          break;
-        }
-        copy.rotate();
-      }
+      copy.setRotation(original.getRotation());
     }
 
     return copy;
   }
 
-  private void restoreBlock(Block block, Block original) {
-    for (int rotations = 0; rotations < 4; rotations++) {
-      if (isSameShape(block, original)) {
-        break;
-      }
-      block.rotate();
-    }
-  }
-
-  private boolean isSameShape(Block block1, Block block2) {
-    if (block1.width() != block2.width() || block1.height() != block2.height()) {
-      return false;
-    }
-
-    for (int i = 0; i < block1.width(); i++) {
-      for (int j = 0; j < block1.height(); j++) {
-        if (block1.getShape(i, j) != block2.getShape(i, j)) {
-          return false;
-        }
-      }
-    }
-
-    return true;
-  }
-
   private boolean canPlaceBlock(Block block, int x, int y, int[][] board) {
-    int HEIGHT = board.length;
-    int WIDTH = board[0].length;
+    int height = board.length;
+    int width = board[0].length;
 
-    if (x < 0 || x + block.width() > WIDTH || y + block.height() > HEIGHT) {
+    if (x < 0 || x + block.width() > width || y + block.height() > height) {
       return false;
     }
 
@@ -0,0 +1,225 @@
+package se.tetris.team5.gamelogic.block;
+
+import java.util.SplittableRandom;
+
+/**
+ * 시드로부터 결정되는 블럭 순서 생성기
+ *
+ * 다음에 나올 블럭 타입(0=I, 1=J, 2=L, 3=Z, 4=S, 5=T, 6=O)을 링 버퍼에 {@link #BATCH_SIZE}개씩 미리 만들어 두고,
+ * {@link #peek(int)}로 소비하지 않고 앞의 블럭들을 미리 볼 수 있습니다. 같은 시드와 같은 설정으로 만든 두 생성기는
+ * 항상 같은 순서를 만들므로, 두 게임 엔진(또는 P2P 양쪽)은 블럭 타입 대신 시드 하나만 공유하면 됩니다.
+ *
+ * {@link #split()}은 이 생성기에서 새 시드를 하나 뽑아 독립된 생성기를 만듭니다 (병렬 시뮬레이션 등).
+ *
+ * 미리보기를 얼마나 멀리 했는지는 결과에 영향을 주지 않아야 하므로, 생성 방식이나 난이도를 바꿀 때는
+ * (시드, 소비한 블럭 수)로 난수열을 다시 만들고, split용 시드는 블럭 생성과 다른 난수열에서 뽑습니다.
+ */
+public class PieceSequence {
+
+  /** 블럭 생성 방식 */
+  public enum Mode {
+    /** 난이도별 가중치로 매번 독립적으로 뽑음 (기존 방식) */
+    WEIGHTED,
+    /** 7종류를 한 묶음으로 섞어 차례로 내보냄 (7-bag) */
+    SEVEN_BAG
+  }
+
+  /** 블럭 종류 수 */
+  public static final int PIECE_TYPES = 7;
+  /** 한 번에 미리 만들어 두는 블럭 수 (7-bag 한 묶음) */
+  public static final int BATCH_SIZE = PIECE_TYPES;
+
+  // 블럭 순서: I, J, L, Z, S, T, O
+  private static final int[] NORMAL_WEIGHTS = { 10, 10, 10, 10, 10, 10, 10 }; // 모두 동일
+  private static final int[] EASY_WEIGHTS = { 12, 10, 10, 10, 10, 10, 10 }; // I만 20% 더 높음
+  private static final int[] HARD_WEIGHTS = { 8, 10, 10, 10, 10, 10, 10 }; // I만 20% 낮음
+
+  private long seed;
+  private SplittableRandom random;
+  private SplittableRandom splitter; // split 전용 (블럭 생성 난수열과 분리)
+  private long consumed; // next()로 꺼낸 블럭 수
+  private Mode mode;
+  private BlockFactory.Difficulty difficulty;
+  private int[] weights;
+  private int totalWeight;
+
+  // 미리 만든 블럭 타입 (링 버퍼, 크기는 2의 거듭제곱이며 더 먼 미리보기를 요청하면 늘어남)
+  private int[] queue = new int[16];
+  private int head = 0;
+  private int size = 0;
+  private final int[] bag = new int[PIECE_TYPES];
+
+  /**
+   * @param seed       시드
+   * @param mode       생성 방식
+   * @param difficulty 가중치 방식에서 사용할 난이도
+   */
+  public PieceSequence(long seed, Mode mode, BlockFactory.Difficulty difficulty) {
+    this.mode = mode;
+    setWeights(difficulty);
+    reset(seed);
+  }
+
+  /**
+   * 같은 시드로 처음부터 다시 시작합니다 (미리 만든 블럭은 버림)
+   */
+  public void reset(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+    this.splitter = new SplittableRandom(seed).split();
+    consumed = 0;
+    head = 0;
+    size = 0;
+  }
+
+  /**
+   * 현재 순서를 만든 시드
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * 생성 방식을 바꿉니다. 미리 만든 블럭은 버리고 이후 블럭부터 새 방식으로 만듭니다.
+   */
+  public void setMode(Mode mode) {
+    if (this.mode != mode) {
+      this.mode = mode;
+      discardQueue();
+    }
+  }
+
+  /**
+   * 가중치 방식의 난이도를 바꿉니다. 가중치가 달라지면 미리 만든 블럭은 버립니다.
+   */
+  public void setDifficulty(BlockFactory.Difficulty difficulty) {
+    int[] previous = weights;
+    setWeights(difficulty);
+    if (previous != weights && mode == Mode.WEIGHTED) {
+      discardQueue();
+    }
+  }
+
+  public BlockFactory.Difficulty getDifficulty() {
+    return difficulty;
+  }
+
+  /**
+   * 다음 블럭 타입을 꺼냅니다
+   */
+  public int next() {
+    if (size == 0) {
+      fillBatch();
+    }
+    int type = queue[head];
+    head = (head + 1) & (queue.length - 1);
+    size--;
+    consumed++;
+    return type;
+  }
+
+  /**
+   * index번째 뒤에 나올 블럭 타입을 소비하지 않고 확인합니다 (0이면 다음 {@link #next()} 값)
+   */
+  public int peek(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("미리보기 인덱스는 0 이상이어야 합니다: " + index);
+    }
+    while (size <= index) {
+      fillBatch();
+    }
+    return queue[(head + index) & (queue.length - 1)];
+  }
+
+  /**
+   * 앞으로 나올 count개의 블럭 타입을 out에 채웁니다 (소비하지 않음)
+   */
+  public void peek(int[] out, int count) {
+    for (int i = 0; i < count; i++) {
+      out[i] = peek(i);
+    }
+  }
+
+  /**
+   * 이 생성기에서 새 시드를 하나 뽑아 같은 설정의 독립된 생성기를 만듭니다.
+   * 같은 시드에서 같은 횟수째 split하면 미리보기/소비 여부와 관계없이 항상 같은 자식이 만들어집니다.
+   */
+  public PieceSequence split() {
+    return new PieceSequence(splitter.nextLong(), mode, difficulty);
+  }
+
+  // 미리 만든 블럭을 버리고 (시드, 소비한 블럭 수)에서 난수열을 다시 시작함
+  // (이전 난수열은 미리보기 깊이만큼 진행되어 있으므로 그대로 이어 쓰면 결과가 미리보기에 따라 달라짐)
+  private void discardQueue() {
+    random = new SplittableRandom(seed ^ (consumed * 0x9E3779B97F4A7C15L));
+    size = 0;
+  }
+
+  // 블럭 BATCH_SIZE개를 만들어 큐 뒤에 붙임
+  private void fillBatch() {
+    if (size + BATCH_SIZE > queue.length) {
+      growQueue();
+    }
+    int tail = head + size;
+    int mask = queue.length - 1;
+    if (mode == Mode.SEVEN_BAG) {
+      for (int i = 0; i < PIECE_TYPES; i++) {
+        bag[i] = i;
+      }
+      // Fisher-Yates 셔플
+      for (int i = PIECE_TYPES - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        int tmp = bag[i];
+        bag[i] = bag[j];
+        bag[j] = tmp;
+      }
+      for (int i = 0; i < PIECE_TYPES; i++) {
+        queue[(tail + i) & mask] = bag[i];
+      }
+    } else {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        int r = random.nextInt(totalWeight);
+        int idx = 0;
+        while (r >= weights[idx]) {
+          r -= weights[idx];
+          idx++;
+        }
+        queue[(tail + i) & mask] = idx;
+      }
+    }
+    size += BATCH_SIZE;
+  }
+
+  private void growQueue() {
+    int[] grown = new int[queue.length << 1];
+    for (int i = 0; i < size; i++) {
+      grown[i] = queue[(head + i) & (queue.length - 1)];
+    }
+    queue = grown;
+    head = 0;
+  }
+
+  private void setWeights(BlockFactory.Difficulty difficulty) {
+    this.difficulty = difficulty;
+    switch (difficulty) {
+      case EASY:
+        weights = EASY_WEIGHTS;
+        break;
+      case HARD:
+        weights = HARD_WEIGHTS;
+        break;
+      case NORMAL:
+      default:
+        weights = NORMAL_WEIGHTS;
+    }
+    int total = 0;
+    for (int w : weights) {
+      total += w;
+    }
+    totalWeight = total;
+  }
+}
@@ -0,0 +1,245 @@
+package se.tetris.team5.gamelogic.event;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.components.game.GameBoard;
+import se.tetris.team5.items.Item;
+
+/**
+ * GameEngine이 발행하는 게임 이벤트 (불변)
+ *
+ * 구독자는 {@link #getType()}으로 분기하거나 instanceof로 구체 타입을 확인한 뒤 필요한 정보만 읽습니다.
+ * 이벤트에 담긴 목록은 발행 시점의 복사본이므로 엔진이 이후 상태를 바꿔도 영향을 받지 않습니다.
+ * 블록도 엔진이 계속 회전/이동시키는 {@link Block} 대신 발행 시점의 종류, 방향, 색만 담습니다.
+ */
+public abstract class GameEvent {
+
+  /** 이벤트 종류 */
+  public enum Type {
+    PIECE_SPAWNED,
+    PIECE_LOCKED,
+    LINES_CLEARED,
+    BOMB_EXPLODED,
+    ITEM_ACQUIRED,
+    GAME_OVER
+  }
+
+  private final Type type;
+  private final long timestamp;
+
+  protected GameEvent(Type type, long timestamp) {
+    this.type = type;
+    this.timestamp = timestamp;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * 발행 시각 (엔진 시계 기준 밀리초)
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * 새 블록이 등장함
+   */
+  public static final class PieceSpawned extends GameEvent {
+    private final PieceInfo piece;
+    private final PieceInfo nextPiece;
+    private final int x;
+    private final int y;
+
+    public PieceSpawned(long timestamp, Block block, Block nextBlock, int x, int y) {
+      super(Type.PIECE_SPAWNED, timestamp);
+      this.piece = new PieceInfo(block);
+      this.nextPiece = nextBlock == null ? null : new PieceInfo(nextBlock);
+      this.x = x;
+      this.y = y;
+    }
+
+    public PieceInfo getPiece() {
+      return piece;
+    }
+
+    /**
+     * 다음 블록 (없으면 null)
+     */
+    public PieceInfo getNextPiece() {
+      return nextPiece;
+    }
+
+    public int getX() {
+      return x;
+    }
+
+    public int getY() {
+      return y;
+    }
+  }
+
+  /**
+   * 블록이 보드에 고정됨
+   */
+  public static final class PieceLocked extends GameEvent {
+    private final PieceInfo piece;
+    private final int x;
+    private final int y;
+
+    public PieceLocked(long timestamp, Block block, int x, int y) {
+      super(Type.PIECE_LOCKED, timestamp);
+      this.piece = new PieceInfo(block);
+      this.x = x;
+      this.y = y;
+    }
+
+    public PieceInfo getPiece() {
+      return piece;
+    }
+
+    public int getX() {
+      return x;
+    }
+
+    public int getY() {
+      return y;
+    }
+  }
+
+  /**
+   * 발행 시점의 블록 정보 (종류, 방향, 색)
+   */
+  public static final class PieceInfo {
+    private final String blockType;
+    private final RotationTable.Orientation orientation;
+    private final Color color;
+
+    PieceInfo(Block block) {
+      this.blockType = block.getBlockType();
+      this.orientation = block.getOrientation();
+      this.color = block.getColor();
+    }
+
+    /**
+     * 블록 종류 ("I", "T" 등 {@link Block#getBlockType()}과 같은 값)
+     */
+    public String getBlockType() {
+      return blockType;
+    }
+
+    /**
+     * 발행 시점의 방향 (회전 상태와 모양)
+     */
+    public RotationTable.Orientation getOrientation() {
+      return orientation;
+    }
+
+    public Color getColor() {
+      return color;
+    }
+  }
+
+  /**
+   * 가득 찬 줄이 삭제됨
+   */
+  public static final class LinesCleared extends GameEvent {
+    private final int[] rows;
+    private final List<Color[]> attackRows;
+
+    /**
+     * @param rows       삭제된 줄 인덱스 (오름차순, 복사해서 보관)
+     * @param attackRows 대전모드 공격 블럭 데이터 (2줄 이상 삭제 시, 없으면 빈 목록)
+     */
+    public LinesCleared(long timestamp, int[] rows, List<Color[]> attackRows) {
+      super(Type.LINES_CLEARED, timestamp);
+      this.rows = rows.clone();
+      this.attackRows = attackRows == null ? Collections.<Color[]>emptyList()
+          : Collections.unmodifiableList(new ArrayList<>(attackRows));
+    }
+
+    public int getRowCount() {
+      return rows.length;
+    }
+
+    public int getRow(int i) {
+      return rows[i];
+    }
+
+    /**
+     * 삭제된 줄 목록 (새 리스트)
+     */
+    public List<Integer> getRows() {
+      List<Integer> result = new ArrayList<>(rows.length);
+      for (int row : rows) {
+        result.add(row);
+      }
+      return result;
+    }
+
+    /**
+     * 상대에게 보낼 공격 블럭 데이터 (각 Color[]가 한 줄, null은 빈 칸)
+     * 표시용입니다. 실제 공격 전송은 이벤트가 버려질 수 있으므로 블럭 고정 콜백에서 처리합니다.
+     */
+    public List<Color[]> getAttackRows() {
+      return attackRows;
+    }
+  }
+
+  /**
+   * 폭탄 블록이 폭발함
+   */
+  public static final class BombExploded extends GameEvent {
+    private final List<GameBoard.CellPos> cells;
+
+    public BombExploded(long timestamp, List<GameBoard.CellPos> cells) {
+      super(Type.BOMB_EXPLODED, timestamp);
+      this.cells = Collections.unmodifiableList(new ArrayList<>(cells));
+    }
+
+    /**
+     * 폭발로 사라진 칸 목록
+     */
+    public List<GameBoard.CellPos> getCells() {
+      return cells;
+    }
+  }
+
+  /**
+   * 아이템을 획득함 (다음 블록에 아이템이 붙음)
+   */
+  public static final class ItemAcquired extends GameEvent {
+    private final Item item;
+
+    public ItemAcquired(long timestamp, Item item) {
+      super(Type.ITEM_ACQUIRED, timestamp);
+      this.item = item;
+    }
+
+    public Item getItem() {
+      return item;
+    }
+  }
+
+  /**
+   * 게임이 끝남
+   */
+  public static final class GameOver extends GameEvent {
+    private final int score;
+
+    public GameOver(long timestamp, int score) {
+      super(Type.GAME_OVER, timestamp);
+      this.score = score;
+    }
+
+    public int getScore() {
+      return score;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package se.tetris.team5.gamelogic.event;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import se.tetris.team5.utils.log.Log;
+
+/**
+ * 게임 엔진 이벤트를 모아 두었다가 한 번에 구독자에게 전달하는 버스
+ *
+ * 발행자(게임 엔진 스레드) 하나와 소비자(drain을 호출하는 스레드) 하나를 전제로 한 고정 크기 링 버퍼를 사용하므로
+ * 락 없이 동작합니다. 발행 시에는 구독자를 호출하지 않고, 소비자가 프레임마다 {@link #drain()}을 한 번 호출해
+ * 쌓인 이벤트를 순서대로 전달합니다. 버퍼가 가득 차면 새 이벤트를 버리고 개수만 셉니다.
+ *
+ * 이벤트가 버려질 수 있으므로 애니메이션, 화면 갱신 같은 표시용 알림에만 사용합니다.
+ * 공격 전송처럼 게임 진행에 영향을 주는 처리는 {@code GameEngine.setOnBlockFixedCallback}으로
+ * 블럭 고정 경로에서 동기적으로 해야 합니다.
+ */
+public class GameEventBus {
+  private final GameEvent[] buffer;
+  private final int mask;
+  // 다음에 쓸 위치 (발행자만 증가)
+  private final AtomicLong tail = new AtomicLong();
+  // 다음에 읽을 위치 (소비자만 증가)
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final CopyOnWriteArrayList<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * @param capacity 큐 크기 (2의 거듭제곱으로 올림)
+   */
+  public GameEventBus(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("큐 크기는 1 이상이어야 합니다: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.buffer = new GameEvent[size];
+    this.mask = size - 1;
+  }
+
+  public void subscribe(GameEventListener listener) {
+    if (listener != null) {
+      listeners.add(listener);
+    }
+  }
+
+  public void unsubscribe(GameEventListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * 구독자가 있는지 확인합니다. 없으면 발행자는 이벤트 객체를 만들 필요가 없습니다.
+   */
+  public boolean hasSubscribers() {
+    return !listeners.isEmpty();
+  }
+
+  /**
+   * 이벤트를 큐에 넣습니다 (발행자 스레드 전용). 큐가 가득 차 있으면 버리고 false를 반환합니다.
+   */
+  public boolean publish(GameEvent event) {
+    long t = tail.get();
+    if (t - head.get() >= buffer.length) {
+      dropped.incrementAndGet();
+      return false;
+    }
+    buffer[(int) (t & mask)] = event;
+    tail.lazySet(t + 1); // 슬롯 기록 후 공개
+    return true;
+  }
+
+  /**
+   * 지금까지 쌓인 이벤트를 모든 구독자에게 순서대로 전달합니다 (소비자 스레드 전용).
+   * 전달 중 발행된 이벤트는 다음 drain에서 처리됩니다.
+   *
+   * @return 전달한 이벤트 수
+   */
+  public int drain() {
+    long h = head.get();
+    long t = tail.get();
+    int count = 0;
+    while (h < t) {
+      int index = (int) (h & mask);
+      GameEvent event = buffer[index];
+      buffer[index] = null;
+      h++;
+      head.lazySet(h);
+      dispatch(event);
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * 큐에 남아 있는 이벤트 수
+   */
+  public int size() {
+    return (int) (tail.get() - head.get());
+  }
+
+  /**
+   * 큐가 가득 차 버려진 이벤트 수
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private void dispatch(GameEvent event) {
+    for (GameEventListener listener : listeners) {
+      try {
+        listener.onEvent(event);
+      } catch (Exception ex) {
+        // 구독자 오류가 다른 구독자나 엔진 진행을 막지 않도록 기록만 하고 계속
+        Log.error("[GameEventBus] 구독자 처리 중 오류 (" + event.getType() + ")", ex);
+      }
+    }
+  }
+}
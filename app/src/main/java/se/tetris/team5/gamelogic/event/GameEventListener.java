@@ -0,0 +1,10 @@
+package se.tetris.team5.gamelogic.event;
+
+/**
+ * 게임 이벤트 구독자
+ *
+ * {@link GameEventBus#drain()}을 호출한 스레드에서 실행됩니다 (UI는 EDT, 헤드리스는 호출 스레드).
+ */
+public interface GameEventListener {
+  void onEvent(GameEvent event);
+}
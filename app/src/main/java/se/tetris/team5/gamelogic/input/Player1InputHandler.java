@@ -1,6 +1,7 @@
 package se.tetris.team5.gamelogic.input;
 
 import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 플레이어 1 입력 핸들러 (WASD + Z)
@@ -75,7 +76,7 @@ public class Player1InputHandler implements PlayerInputHandler {
         int dropKey = settings.getPlayerKeyCode(1, "drop");
         int itemKey = settings.getPlayerKeyCode(1, "item");
         
-        System.out.println("[Player1InputHandler] keyCode=" + keyCode + ", dropKey=" + dropKey);
+        Log.debug("[Player1InputHandler] keyCode=" + keyCode + ", dropKey=" + dropKey);
         
         if (keyCode == leftKey) {
             handleMoveLeft();
@@ -86,7 +87,7 @@ public class Player1InputHandler implements PlayerInputHandler {
         } else if (keyCode == downKey) {
             handleSoftDrop();
         } else if (keyCode == dropKey) {
-            System.out.println("[Player1InputHandler] 하드드롭 호출! gameEngine=" + (gameEngine != null));
+            Log.debug("[Player1InputHandler] 하드드롭 호출! gameEngine=" + (gameEngine != null));
             handleHardDrop();
         } else if (keyCode == itemKey) {
             handleUseItem();
@@ -1,6 +1,7 @@
 package se.tetris.team5.gamelogic.input;
 
 import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 싱글 플레이어 입력 핸들러 (기본 키 설정 사용)
@@ -43,7 +44,7 @@ public class SinglePlayerInputHandler implements PlayerInputHandler {
     @Override
     public void handleHardDrop() {
         if (gameEngine != null) {
-            System.out.println("[SinglePlayerInputHandler] 하드드롭 실행");
+            Log.debug("[SinglePlayerInputHandler] 하드드롭 실행");
             gameEngine.hardDrop();
         }
     }
@@ -76,7 +77,7 @@ public class SinglePlayerInputHandler implements PlayerInputHandler {
         int dropKey = settings.getKeyCode("drop");      // Space
         int itemKey = settings.getKeyCode("item");      // Shift
         
-        System.out.println("[SinglePlayerInputHandler] keyCode=" + keyCode + ", dropKey=" + dropKey);
+        Log.debug("[SinglePlayerInputHandler] keyCode=" + keyCode + ", dropKey=" + dropKey);
         
         if (keyCode == leftKey) {
             handleMoveLeft();
@@ -87,7 +88,7 @@ public class SinglePlayerInputHandler implements PlayerInputHandler {
         } else if (keyCode == downKey) {
             handleSoftDrop();
         } else if (keyCode == dropKey) {
-            System.out.println("[SinglePlayerInputHandler] 하드드롭 호출! gameEngine=" + (gameEngine != null));
+            Log.debug("[SinglePlayerInputHandler] 하드드롭 호출! gameEngine=" + (gameEngine != null));
             handleHardDrop();
         } else if (keyCode == itemKey) {
             handleUseItem();
@@ -23,23 +23,14 @@ public class MovementManager {
   }
 
   public int hardDrop(Block block, int x, int y) {
-    int dropDistance = 0;
-    int newY = y;
-
-    while (boardManager.canMove(x, newY + 1, block)) {
-      newY++;
-      dropDistance++;
-    }
-
-    return dropDistance;
+    return getDropPosition(block, x, y) - y;
   }
 
+  /**
+   * 블록이 착지할 y 위치 (열 높이 기반 계산은 BoardManager.getDropPosition 참고)
+   */
   public int getDropPosition(Block block, int x, int y) {
-    int newY = y;
-    while (boardManager.canMove(x, newY + 1, block)) {
-      newY++;
-    }
-    return newY;
+    return boardManager.getDropPosition(block, x, y);
   }
 
   /**
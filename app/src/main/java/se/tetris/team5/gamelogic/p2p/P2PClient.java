@@ -3,6 +3,7 @@ package se.tetris.team5.gamelogic.p2p;
 import java.io.*;
 import java.net.*;
 import java.util.concurrent.*;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * P2P 클라이언트
@@ -52,7 +53,7 @@ public class P2PClient {
         isRunning = true;
         executorService.submit(() -> {
             try {
-                System.out.println("[P2P Client] 서버 연결 시도: " + serverIP + ":" + PORT);
+                Log.info("[P2P Client] 서버 연결 시도: " + serverIP + ":" + PORT);
                 
                 socket = new Socket();
                 socket.connect(new InetSocketAddress(serverIP, PORT), CONNECTION_TIMEOUT);
@@ -60,7 +61,7 @@ public class P2PClient {
                 socket.setKeepAlive(true);
                 socket.setTcpNoDelay(true); // Nagle 알고리즘 비활성화 (지연 감소)
                 
-                System.out.println("[P2P Client] 서버에 연결됨");
+                Log.info("[P2P Client] 서버에 연결됨");
                 
                 // 스트림 초기화
                 out = new ObjectOutputStream(socket.getOutputStream());
@@ -86,12 +87,12 @@ public class P2PClient {
                 receiveLoop();
                 
             } catch (SocketTimeoutException e) {
-                System.out.println("[P2P Client] 연결 시간 초과");
+                Log.warn("[P2P Client] 연결 시간 초과");
                 if (listener != null) {
                     listener.onError("서버 연결 시간 초과");
                 }
             } catch (IOException e) {
-                System.out.println("[P2P Client] 연결 오류: " + e.getMessage());
+                Log.warn("[P2P Client] 연결 오류: " + e.getMessage());
                 if (listener != null) {
                     listener.onError("연결 오류: " + e.getMessage());
                 }
@@ -119,7 +120,7 @@ public class P2PClient {
                 }
                 
                 if (packet.getType() == GameStatePacket.PacketType.DISCONNECT) {
-                    System.out.println("[P2P Client] 서버가 연결을 종료했습니다");
+                    Log.info("[P2P Client] 서버가 연결을 종료했습니다");
                     isConnected = false;
                     if (listener != null) {
                         listener.onDisconnected("서버가 연결을 종료했습니다");
@@ -145,7 +146,7 @@ public class P2PClient {
                 }
                 
             } catch (EOFException e) {
-                System.out.println("[P2P Client] 연결이 끊어졌습니다");
+                Log.info("[P2P Client] 연결이 끊어졌습니다");
                 isConnected = false;
                 if (listener != null) {
                     listener.onDisconnected("연결이 끊어졌습니다");
@@ -153,7 +154,7 @@ public class P2PClient {
                 break;
             } catch (IOException | ClassNotFoundException e) {
                 if (isRunning) {
-                    System.out.println("[P2P Client] 패킷 수신 오류: " + e.getMessage());
+                    Log.warn("[P2P Client] 패킷 수신 오류: " + e.getMessage());
                     if (listener != null) {
                         listener.onError(e.getMessage());
                     }
@@ -177,7 +178,7 @@ public class P2PClient {
             
             // 연결 끊김 체크 (5초)
             if (elapsed > CONNECTION_TIMEOUT) {
-                System.out.println("[P2P Client] 연결 타임아웃");
+                Log.warn("[P2P Client] 연결 타임아웃");
                 isConnected = false;
                 if (listener != null) {
                     listener.onDisconnected("연결 타임아웃");
@@ -198,7 +199,7 @@ public class P2PClient {
                 pingStartTime = System.currentTimeMillis();
                 sendPacket(new GameStatePacket(GameStatePacket.PacketType.PING));
             } catch (Exception e) {
-                System.out.println("[P2P Client] 핑 전송 실패: " + e.getMessage());
+                Log.warn("[P2P Client] 핑 전송 실패: " + e.getMessage());
             }
             
         }, PING_INTERVAL, PING_INTERVAL, TimeUnit.MILLISECONDS);
@@ -217,7 +218,7 @@ public class P2PClient {
             out.flush();
             out.reset(); // 객체 캐시 초기화 (메모리 누수 방지)
         } catch (IOException e) {
-            System.out.println("[P2P Client] 패킷 전송 오류: " + e.getMessage());
+            Log.warn("[P2P Client] 패킷 전송 오류: " + e.getMessage());
             // 소켓이 실제로 닫혔는지 확인
             if (socket.isClosed() || !socket.isConnected()) {
                 isConnected = false;
@@ -266,9 +267,9 @@ public class P2PClient {
                 executorService.shutdownNow();
             }
         } catch (IOException e) {
-            System.out.println("[P2P Client] 종료 중 오류: " + e.getMessage());
+            Log.warn("[P2P Client] 종료 중 오류: " + e.getMessage());
         }
         
-        System.out.println("[P2P Client] 클라이언트가 종료되었습니다");
+        Log.info("[P2P Client] 클라이언트가 종료되었습니다");
     }
 }
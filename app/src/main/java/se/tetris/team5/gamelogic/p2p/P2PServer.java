@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.concurrent.*;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * P2P 서버 (호스트)
@@ -60,14 +61,14 @@ public class P2PServer {
                 serverSocket = new ServerSocket(PORT);
                 serverSocket.setSoTimeout(TIMEOUT);
                 
-                System.out.println("[P2P Server] 서버 시작됨 - 포트: " + PORT);
+                Log.info("[P2P Server] 서버 시작됨 - 포트: " + PORT);
                 
                 // 클라이언트 연결 대기
                 clientSocket = serverSocket.accept();
                 clientSocket.setTcpNoDelay(true); // Nagle 알고리즘 비활성화 (지연 감소)
                 
                 String clientAddress = clientSocket.getInetAddress().getHostAddress();
-                System.out.println("[P2P Server] 클라이언트 연결됨: " + clientAddress);
+                Log.info("[P2P Server] 클라이언트 연결됨: " + clientAddress);
                 
                 // 스트림 초기화
                 out = new ObjectOutputStream(clientSocket.getOutputStream());
@@ -88,12 +89,12 @@ public class P2PServer {
                 receiveLoop();
                 
             } catch (SocketTimeoutException e) {
-                System.out.println("[P2P Server] 클라이언트 연결 대기 시간 초과");
+                Log.warn("[P2P Server] 클라이언트 연결 대기 시간 초과");
                 if (listener != null) {
                     listener.onError("연결 대기 시간 초과");
                 }
             } catch (IOException e) {
-                System.out.println("[P2P Server] 오류: " + e.getMessage());
+                Log.warn("[P2P Server] 오류: " + e.getMessage());
                 if (listener != null) {
                     listener.onError(e.getMessage());
                 }
@@ -121,7 +122,7 @@ public class P2PServer {
                 }
                 
                 if (packet.getType() == GameStatePacket.PacketType.DISCONNECT) {
-                    System.out.println("[P2P Server] 클라이언트가 연결을 종료했습니다");
+                    Log.info("[P2P Server] 클라이언트가 연결을 종료했습니다");
                     isConnected = false;
                     if (listener != null) {
                         listener.onDisconnected("클라이언트가 연결을 종료했습니다");
@@ -147,7 +148,7 @@ public class P2PServer {
                 }
                 
             } catch (EOFException e) {
-                System.out.println("[P2P Server] 연결이 끊어졌습니다");
+                Log.info("[P2P Server] 연결이 끊어졌습니다");
                 isConnected = false;
                 if (listener != null) {
                     listener.onDisconnected("연결이 끊어졌습니다");
@@ -155,7 +156,7 @@ public class P2PServer {
                 break;
             } catch (IOException | ClassNotFoundException e) {
                 if (isRunning) {
-                    System.out.println("[P2P Server] 패킷 수신 오류: " + e.getMessage());
+                    Log.warn("[P2P Server] 패킷 수신 오류: " + e.getMessage());
                     if (listener != null) {
                         listener.onError(e.getMessage());
                     }
@@ -179,7 +180,7 @@ public class P2PServer {
             
             // 연결 끊김 체크 (5초)
             if (elapsed > CONNECTION_TIMEOUT) {
-                System.out.println("[P2P Server] 연결 타임아웃");
+                Log.warn("[P2P Server] 연결 타임아웃");
                 isConnected = false;
                 if (listener != null) {
                     listener.onDisconnected("연결 타임아웃");
@@ -200,7 +201,7 @@ public class P2PServer {
                 pingStartTime = System.currentTimeMillis();
                 sendPacket(new GameStatePacket(GameStatePacket.PacketType.PING));
             } catch (Exception e) {
-                System.out.println("[P2P Server] 핑 전송 실패: " + e.getMessage());
+                Log.warn("[P2P Server] 핑 전송 실패: " + e.getMessage());
             }
             
         }, PING_INTERVAL, PING_INTERVAL, TimeUnit.MILLISECONDS);
@@ -219,7 +220,7 @@ public class P2PServer {
             out.flush();
             out.reset(); // 객체 캐시 초기화 (메모리 누수 방지)
         } catch (IOException e) {
-            System.out.println("[P2P Server] 패킷 전송 오류: " + e.getMessage());
+            Log.warn("[P2P Server] 패킷 전송 오류: " + e.getMessage());
             // 소켓이 실제로 닫혔는지 확인
             if (clientSocket.isClosed() || !clientSocket.isConnected()) {
                 isConnected = false;
@@ -267,7 +268,7 @@ public class P2PServer {
                 }
             }
         } catch (SocketException e) {
-            System.out.println("[P2P Server] IP 조회 오류: " + e.getMessage());
+            Log.warn("[P2P Server] IP 조회 오류: " + e.getMessage());
         }
 
         if (ips.isEmpty()) {
@@ -326,9 +327,9 @@ public class P2PServer {
                 executorService.shutdownNow();
             }
         } catch (IOException e) {
-            System.out.println("[P2P Server] 종료 중 오류: " + e.getMessage());
+            Log.warn("[P2P Server] 종료 중 오류: " + e.getMessage());
         }
         
-        System.out.println("[P2P Server] 서버가 종료되었습니다");
+        Log.info("[P2P Server] 서버가 종료되었습니다");
     }
 }
@@ -17,6 +17,8 @@ import se.tetris.team5.gamelogic.input.Player1InputHandler;
 import se.tetris.team5.gamelogic.input.Player2InputHandler;
 import se.tetris.team5.gamelogic.GameMode;
 import se.tetris.team5.gamelogic.ai.AIPlayerController;
+import se.tetris.team5.gamelogic.ai.AISearchStats;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * 2인 대전 모드 (리팩토링 버전)
@@ -95,7 +97,7 @@ public class battle extends JPanel implements KeyListener {
 
     // 대전 모드 타입 가져오기
     this.battleMode = System.getProperty("tetris.battle.mode", "NORMAL");
-    System.out.println("[대전 모드] " + battleMode + " 모드로 시작");
+    Log.info("[대전 모드] " + battleMode + " 모드로 시작");
 
     initializeGame();
 
@@ -420,7 +422,10 @@ public class battle extends JPanel implements KeyListener {
   private void initializeAIVsAIMode() {
     // AI 1 컨트롤러 생성 및 설정
     aiController1 = createAIController(player1Panel, AIPlayerController.AIDifficulty.HARD);
-    aiController1.setOnMoveCallback(() -> player1Panel.updateGameUI());
+    aiController1.setOnMoveCallback(() -> {
+      player1Panel.updateGameUI();
+      updateAIStatsOverlay(player1Panel, aiController1);
+    });
     aiController1.setOnGameOverCallback(() -> {
       player1Panel.updateGameUI();
       if (player1Panel.isGameOver()) {
@@ -430,7 +435,10 @@ public class battle extends JPanel implements KeyListener {
 
     // AI 2 컨트롤러 생성 및 설정
     aiController = createAIController(player2Panel, AIPlayerController.AIDifficulty.HARD);
-    aiController.setOnMoveCallback(() -> player2Panel.updateGameUI());
+    aiController.setOnMoveCallback(() -> {
+      player2Panel.updateGameUI();
+      updateAIStatsOverlay(player2Panel, aiController);
+    });
     aiController.setOnGameOverCallback(() -> {
       player2Panel.updateGameUI();
       if (player2Panel.isGameOver()) {
@@ -448,7 +456,10 @@ public class battle extends JPanel implements KeyListener {
     // AI 컨트롤러 생성 및 설정
     AIPlayerController.AIDifficulty aiDifficulty = getAIDifficultyFromSystemProperty();
     aiController = createAIController(player2Panel, aiDifficulty);
-    aiController.setOnMoveCallback(() -> player2Panel.updateGameUI());
+    aiController.setOnMoveCallback(() -> {
+      player2Panel.updateGameUI();
+      updateAIStatsOverlay(player2Panel, aiController);
+    });
     aiController.setOnGameOverCallback(() -> {
       player2Panel.updateGameUI();
       if (player2Panel.isGameOver()) {
@@ -478,6 +489,32 @@ public class battle extends JPanel implements KeyListener {
     return controller;
   }
 
+  /**
+   * AI 탐색 계측 오버레이 갱신 (시스템 속성 tetris.ai.stats=true일 때만 표시)
+   *
+   * @param panel      오버레이를 표시할 플레이어 패널
+   * @param controller 계측 값을 읽을 AI 컨트롤러
+   */
+  private void updateAIStatsOverlay(PlayerGamePanel panel, AIPlayerController controller) {
+    if (!"true".equalsIgnoreCase(System.getProperty("tetris.ai.stats")) || controller == null) {
+      return;
+    }
+    AISearchStats.Snapshot stats = controller.getSearchStats();
+    if (stats == null) {
+      return;
+    }
+    panel.setAIStatsText(String.format("<html>결정 %d회, 평가 %.0f/회<br>%.0fk 노드/초, 가지치기 %d<br>"
+        + "사고 p50 %.1fms p99 %.1fms<br>최대 %.1fms<br>전치표 %s 배치 %s</html>",
+        stats.getDecisions(), stats.getPositionsPerDecision(), stats.getNodesPerSecond() / 1000.0,
+        stats.getPrunedCandidates(), stats.getThinkP50Micros() / 1000.0, stats.getThinkP99Micros() / 1000.0,
+        stats.getThinkMaxMicros() / 1000.0, formatHitRate(stats.getTranspositionHitRate()),
+        formatHitRate(stats.getPlacementHitRate())));
+  }
+
+  private static String formatHitRate(double rate) {
+    return rate < 0 ? "-" : String.format("%.0f%%", rate * 100);
+  }
+
   /**
    * 시스템 속성에서 AI 난이도 가져오기
    *
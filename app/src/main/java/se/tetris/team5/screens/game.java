@@ -26,17 +26,19 @@ import javax.swing.text.StyledDocument;
 import se.tetris.team5.ScreenController;
 import se.tetris.team5.blocks.Block;
 import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.event.GameEvent;
 import se.tetris.team5.components.game.GameBoard;
 import se.tetris.team5.components.game.DoubleScoreBadge;
 import se.tetris.team5.components.game.NextBlockBoard;
 import se.tetris.team5.components.game.ScoreBoard;
 import se.tetris.team5.utils.score.ScoreManager;
+import se.tetris.team5.utils.log.Log;
 
 public class game extends JPanel implements KeyListener {
 
   private static final long serialVersionUID = 2434035659171694595L;
 
-  // GameBoard 클래스의 상수들을 사용
+  // 기본 보드 크기 (GameBoard 클래스의 상수들을 사용)
   public static final int HEIGHT = GameBoard.HEIGHT;
   public static final int WIDTH = GameBoard.WIDTH;
   public static final char BORDER_CHAR = GameBoard.BORDER_CHAR;
@@ -62,6 +64,8 @@ public class game extends JPanel implements KeyListener {
 
   // 게임 엔진 (순수 게임 로직)
   private GameEngine gameEngine;
+  // 화면 갱신마다 재사용하는 보드 사본
+  private int[][] renderBoardBuffer;
 
   // Overlay components for TimeStop (graphical, semi-transparent)
   private javax.swing.JLayeredPane boardLayeredPane;
@@ -326,7 +330,7 @@ public class game extends JPanel implements KeyListener {
           // last 4 rows (if available)
           for (int r = Math.max(0, h - 4); r < h; r++)
             demo.add(r);
-          System.out.println("[DEBUG] force clear anim rows=" + demo);
+          Log.debug("[DEBUG] force clear anim rows=" + demo);
           gameBoard.triggerClearAnimation(demo);
         } catch (Exception ex) {
           // ignore
@@ -362,7 +366,7 @@ public class game extends JPanel implements KeyListener {
       int startY = (h - gridSize) / 2;
       Block next = null;
       if (gameEngine != null) next = gameEngine.getNextBlock();
-      if (next != null) System.out.println("[UI DEBUG] nextVisualPanel.paintComponent next=" + next.getClass().getSimpleName());
+      if (next != null && Log.isDebugEnabled()) Log.debug("[UI DEBUG] nextVisualPanel.paintComponent next=" + next.getClass().getSimpleName());
       
       // 배경 그리기
       g2.setColor(new Color(18, 18, 24));
@@ -662,7 +666,7 @@ public class game extends JPanel implements KeyListener {
           if (window != null) {
             int width = window.getWidth();
             boolean shouldShowControls = width > 450; // 450보다 크면 중형/대형
-            System.out.println("[DEBUG] 창 너비: " + width + ", 조작키 안내 표시: " + shouldShowControls);
+            Log.debug("[DEBUG] 창 너비: " + width + ", 조작키 안내 표시: " + shouldShowControls);
             controlsWrapper.setVisible(shouldShowControls);
           }
         }
@@ -695,17 +699,8 @@ public class game extends JPanel implements KeyListener {
       if (gameModeLabel != null)
         gameModeLabel.setText("모드: 일반 모드");
     }
-    // ensure UI updates immediately when engine spawns next block
-    gameEngine.addStateChangeListener(new Runnable() {
-      @Override
-      public void run() {
-        try {
-          updateAllBoards();
-        } catch (Exception ex) {
-          // ignore failures from listener
-        }
-      }
-    });
+    // 엔진 이벤트 구독: 블록 고정 시 화면 갱신, 줄 삭제/폭발 시 애니메이션 (EDT에서 한 번에 전달됨)
+    gameEngine.getEventBus().subscribe(this::onGameEvent);
 
     // BoardManager, BlockFactory 등은 GameEngine 내부에서만 관리
 
@@ -871,15 +866,17 @@ public class game extends JPanel implements KeyListener {
     // Prefer graphical rendering by default
     gameBoard.setShowTextOverlay(false);
     StringBuffer sb = new StringBuffer();
+    int boardWidth = gameEngine.getBoardManager().getWidth();
 
     // 게임 보드 테두리
-    for (int t = 0; t < WIDTH + 2; t++) {
+    for (int t = 0; t < boardWidth + 2; t++) {
       sb.append(BORDER_CHAR);
     }
     sb.append("\n");
 
-    // BoardManager에서 보드 정보 가져오기
-    int[][] board = gameEngine.getBoardManager().getBoard();
+    // BoardManager에서 보드 정보 가져오기 (읽기 전용 사본)
+    renderBoardBuffer = gameEngine.getBoardManager().copyBoard(renderBoardBuffer);
+    int[][] board = renderBoardBuffer;
     Color[][] boardColors = gameEngine.getBoardManager().getBoardColors();
 
     // 현재 이동 중인 블록 정보
@@ -939,7 +936,7 @@ public class game extends JPanel implements KeyListener {
       sb.append("\n");
     }
 
-    for (int t = 0; t < WIDTH + 2; t++) {
+    for (int t = 0; t < boardWidth + 2; t++) {
       sb.append(BORDER_CHAR);
     }
 
@@ -957,7 +954,7 @@ public class game extends JPanel implements KeyListener {
     doc.setParagraphAttributes(0, doc.getLength(), borderStyle, false);
 
     // 각 블록에 색상 적용
-    int textOffset = WIDTH + 3; // 첫 번째 줄(위쪽 테두리) 건너뛰기
+    int textOffset = boardWidth + 3; // 첫 번째 줄(위쪽 테두리) 건너뛰기
     for (int i = 0; i < board.length; i++) {
       for (int j = 0; j < board[i].length; j++) {
         boolean isCurrentBlock = false;
@@ -986,7 +983,7 @@ public class game extends JPanel implements KeyListener {
           }
         }
       }
-      textOffset += WIDTH + 3;
+      textOffset += boardWidth + 3;
     }
 
     // In addition to updating the text (for compatibility), push the raw board data
@@ -1001,22 +998,29 @@ public class game extends JPanel implements KeyListener {
     }
     int ghostY = gameEngine.getGhostY();
     gameBoard.renderBoard(board, boardColors, items, currBlock, currX, currY, ghostY);
-    // If the engine recorded cleared rows during the last move, consume them and
-    // trigger animations.
-    try {
-      java.util.List<Integer> clearedRows = gameEngine.consumeLastClearedRows();
-      if (clearedRows != null && !clearedRows.isEmpty()) {
-        System.out.println("[game screen] consuming cleared rows for animation: " + clearedRows);
+  }
+
+  /**
+   * 게임 엔진 이벤트 처리 (EDT)
+   * 블록이 고정되면 화면을 갱신하고, 줄 삭제/폭탄 폭발은 이벤트에 담긴 칸으로 애니메이션을 시작합니다.
+   */
+  private void onGameEvent(GameEvent event) {
+    switch (event.getType()) {
+      case PIECE_LOCKED:
+        updateAllBoards();
+        break;
+      case LINES_CLEARED:
+        java.util.List<Integer> clearedRows = ((GameEvent.LinesCleared) event).getRows();
+        if (Log.isDebugEnabled()) {
+          Log.debug("[game screen] cleared rows for animation: " + clearedRows);
+        }
         gameBoard.triggerClearAnimation(clearedRows);
-      }
-      
-      // 폭탄 폭발 애니메이션
-      java.util.List<se.tetris.team5.components.game.GameBoard.CellPos> bombCells = gameEngine.consumeLastBombExplosionCells();
-      if (bombCells != null && !bombCells.isEmpty()) {
-        gameBoard.triggerBombExplosion(bombCells);
-      }
-    } catch (Exception ex) {
-      // safe-guard: don't let UI update fail due to animation triggering
+        break;
+      case BOMB_EXPLODED:
+        gameBoard.triggerBombExplosion(((GameEvent.BombExploded) event).getCells());
+        break;
+      default:
+        break;
     }
   }
 
@@ -1487,7 +1491,8 @@ public class game extends JPanel implements KeyListener {
         gameModeLabel.setText("모드: 일반 모드");
     }
 
-    // GameEngine을 통해 게임 리셋
+    // GameEngine을 통해 게임 리셋 (새 게임은 새 블럭 순서로)
+    gameEngine.getBlockFactory().setRandomSeed(java.util.concurrent.ThreadLocalRandom.current().nextLong());
     gameEngine.resetGame();
     gameStartTime = gameEngine.getGameStartTime();
     isPaused = false;
@@ -1508,7 +1513,7 @@ public class game extends JPanel implements KeyListener {
   public void stopTimer() {
     if (timer != null && timer.isRunning()) {
       timer.stop();
-      System.out.println("[game.java] 타이머 정지됨");
+      Log.debug("[game.java] 타이머 정지됨");
     }
     if (timeStopCountdownTimer != null && timeStopCountdownTimer.isRunning()) {
       timeStopCountdownTimer.stop();
@@ -1872,12 +1877,12 @@ public class game extends JPanel implements KeyListener {
     se.tetris.team5.utils.setting.GameSettings settings = se.tetris.team5.utils.setting.GameSettings.getInstance();
 
     // BoardManager를 통해 보드와 색상 정보 접근
-    int[][] board = gameEngine.getBoardManager().getBoard();
-    Color[][] boardColors = gameEngine.getBoardManager().getBoardColors();
+    se.tetris.team5.components.game.BoardManager boardManager = gameEngine.getBoardManager();
+    Color[][] boardColors = boardManager.getBoardColors();
 
-    for (int i = 0; i < HEIGHT; i++) {
-      for (int j = 0; j < WIDTH; j++) {
-        if (board[i][j] == 2 && boardColors[i][j] != null) {
+    for (int i = 0; i < boardManager.getHeight(); i++) {
+      for (int j = 0; j < boardManager.getWidth(); j++) {
+        if (boardManager.getCell(j, i) == 2 && boardColors[i][j] != null) {
           // 기존 색상을 바탕으로 블록 타입을 추정하고 새로운 색상 적용
           String blockType = guessBlockTypeFromColor(boardColors[i][j]);
           boardColors[i][j] = settings.getColorForBlock(blockType);
@@ -14,6 +14,7 @@ import javax.swing.*;
 import se.tetris.team5.components.home.Title;
 import se.tetris.team5.utils.setting.GameSettings;
 import se.tetris.team5.ScreenController;
+import se.tetris.team5.utils.log.Log;
 
 public class home extends JPanel implements KeyListener {
 
@@ -203,7 +204,7 @@ public class home extends JPanel implements KeyListener {
     Title.WindowSize oldSize = currentWindowSize;
     currentWindowSize = Title.determineWindowSize(windowWidth, windowHeight);
 
-    System.out.println("Window size updated: " + windowWidth + "x" + windowHeight +
+    Log.debug("Window size updated: " + windowWidth + "x" + windowHeight +
         " -> " + oldSize + " to " + currentWindowSize);
 
     if (titleLabel != null) {
@@ -416,9 +417,9 @@ public class home extends JPanel implements KeyListener {
     String newTitle = titleComponent.getGUITitle();
     int newFontSize = titleComponent.getTitleFontSize();
 
-    System.out.println("Updating title for size: " + currentWindowSize);
-    System.out.println("New title: " + newTitle);
-    System.out.println("New font size: " + newFontSize);
+    Log.debug("Updating title for size: " + currentWindowSize);
+    Log.debug("New title: " + newTitle);
+    Log.debug("New font size: " + newFontSize);
 
     titleLabel.setText(newTitle);
     titleLabel.setFont(new Font("Arial", Font.BOLD, newFontSize));
@@ -679,7 +680,7 @@ public class home extends JPanel implements KeyListener {
    * 일반 모드로 게임을 시작합니다
    */
   private void startNormalMode(String difficulty) {
-    System.out.println("[게임 시작] 일반 모드 - 난이도: " + difficulty);
+    Log.info("[게임 시작] 일반 모드 - 난이도: " + difficulty);
 
     // 전역 변수로 게임 모드와 난이도 저장 (game 화면에서 참조)
     System.setProperty("tetris.game.mode", "NORMAL");
@@ -692,7 +693,7 @@ public class home extends JPanel implements KeyListener {
    * 아이템 모드로 게임을 시작합니다
    */
   private void startItemMode() {
-    System.out.println("[게임 시작] 아이템 모드");
+    Log.info("[게임 시작] 아이템 모드");
 
     // 전역 변수로 게임 모드 저장 (game 화면에서 참조)
     System.setProperty("tetris.game.mode", "ITEM");
@@ -708,8 +709,7 @@ public class home extends JPanel implements KeyListener {
    * @param aiDifficulty AI 난이도 ("NORMAL", "HARD") - AI 모드일 때만 사용
    */
   private void startBattleMode(String battleMode, String aiDifficulty) {
-    System.out
-        .println("[게임 시작] 대전 모드 - " + battleMode + (aiDifficulty != null ? " (AI 난이도: " + aiDifficulty + ")" : ""));
+    Log.info("[게임 시작] 대전 모드 - " + battleMode + (aiDifficulty != null ? " (AI 난이도: " + aiDifficulty + ")" : ""));
 
     // 전역 변수로 게임 모드 저장 (battle 화면에서 참조)
     System.setProperty("tetris.game.mode", "BATTLE");
@@ -759,7 +759,7 @@ public class home extends JPanel implements KeyListener {
    * P2P 대전 모드로 이동
    */
   private void startP2PBattle() {
-    System.out.println("[게임 시작] P2P 대전 모드");
+    Log.info("[게임 시작] P2P 대전 모드");
     screenController.showScreen("p2pbattle");
   }
 
@@ -908,7 +908,7 @@ public class home extends JPanel implements KeyListener {
         requestFocus();
         requestFocusInWindow();
         repaint();
-        System.out.println("Focus requested for home panel");
+        Log.debug("Focus requested for home panel");
       });
 
       // 강제로 화면 업데이트 (설정 변경 후 돌아올 때 적용)
@@ -916,7 +916,7 @@ public class home extends JPanel implements KeyListener {
       updateMenuSelection();
     } else {
       // textPane이 null인 경우를 대비한 fallback
-      System.out.println("Warning: textPane is null or has no parent. GUI may not display correctly.");
+      Log.warn("Warning: textPane is null or has no parent. GUI may not display correctly.");
     }
   }
 
@@ -1017,12 +1017,12 @@ public class home extends JPanel implements KeyListener {
           if (resourceName.toLowerCase().endsWith(".gif")) {
             // GIF 애니메이션 로드
             backgroundGif = new ImageIcon(resourceUrl);
-            System.out.println("Animated GIF background loaded from resources: " + resourceName);
+            Log.debug("Animated GIF background loaded from resources: " + resourceName);
             return;
           } else {
             // 정적 이미지 로드
             backgroundImage = ImageIO.read(resourceUrl);
-            System.out.println("Static background image loaded from resources: " + resourceName);
+            Log.debug("Static background image loaded from resources: " + resourceName);
             return;
           }
         }
@@ -1047,20 +1047,20 @@ public class home extends JPanel implements KeyListener {
           if (path.toLowerCase().endsWith(".gif")) {
             // GIF 애니메이션 로드
             backgroundGif = new ImageIcon(path);
-            System.out.println("Animated GIF background loaded from file: " + path);
+            Log.debug("Animated GIF background loaded from file: " + path);
           } else {
             // 정적 이미지 로드
             backgroundImage = ImageIO.read(file);
-            System.out.println("Static background image loaded from file: " + path);
+            Log.debug("Static background image loaded from file: " + path);
           }
           return;
         }
       }
 
-      System.out.println("No background image found, using default gradient background");
+      Log.debug("No background image found, using default gradient background");
     } catch (Exception e) {
-      System.out.println("Error loading background image: " + e.getMessage());
-      System.out.println("Using default gradient background");
+      Log.warn("Error loading background image: " + e.getMessage());
+      Log.debug("Using default gradient background");
     }
   }
 
@@ -1216,6 +1216,6 @@ public class home extends JPanel implements KeyListener {
     if (titleLabel != null) {
       updateComponentSizes();
     }
-    System.out.println("Display refreshed manually");
+    Log.debug("Display refreshed manually");
   }
 }
@@ -10,6 +10,7 @@ import se.tetris.team5.components.battle.PlayerGamePanel;
 import se.tetris.team5.gamelogic.GameMode;
 import se.tetris.team5.gamelogic.battle.BattleGameController;
 import se.tetris.team5.gamelogic.input.Player1InputHandler;
+import se.tetris.team5.utils.log.Log;
 
 /**
  * P2P 대전 모드 화면
@@ -119,11 +120,11 @@ public class p2pbattle extends JPanel implements KeyListener {
             java.net.URL resource = getClass().getResource("/background3.gif");
             if (resource != null) {
                 backgroundGif = new ImageIcon(resource);
-                System.out.println("[P2P] background3.gif loaded");
+                Log.debug("[P2P] background3.gif loaded");
                 return;
             }
         } catch (Exception e) {
-            System.out.println("[P2P] 배경 GIF 로드 실패: " + e.getMessage());
+            Log.warn("[P2P] 배경 GIF 로드 실패: " + e.getMessage());
         }
         
         String[] fallbackPaths = {
@@ -136,10 +137,10 @@ public class p2pbattle extends JPanel implements KeyListener {
             if (file.exists()) {
                 try {
                     backgroundGif = new ImageIcon(path);
-                    System.out.println("[P2P] background3.gif loaded from path: " + path);
+                    Log.debug("[P2P] background3.gif loaded from path: " + path);
                     return;
                 } catch (Exception e) {
-                    System.out.println("[P2P] 경로 로드 실패: " + e.getMessage());
+                    Log.warn("[P2P] 경로 로드 실패: " + e.getMessage());
                 }
             }
         }
@@ -153,7 +154,7 @@ public class p2pbattle extends JPanel implements KeyListener {
                     return;
                 }
             } catch (Exception e) {
-                System.out.println("[P2P] fallback 이미지 로드 실패: " + e.getMessage());
+                Log.warn("[P2P] fallback 이미지 로드 실패: " + e.getMessage());
             }
         }
     }
@@ -796,7 +797,7 @@ public class p2pbattle extends JPanel implements KeyListener {
         se.tetris.team5.gamelogic.GameEngine oppEngine = opponentPanel.getGameEngine();
         if (oppEngine instanceof se.tetris.team5.gamelogic.P2PGameEngine) {
             ((se.tetris.team5.gamelogic.P2PGameEngine) oppEngine).startP2PGame();
-            System.out.println("[P2P] 상대방 P2P 엔진 시작됨");
+            Log.info("[P2P] 상대방 P2P 엔진 시작됨");
         }
         
         // 내 게임 오버 모니터링
@@ -827,7 +828,7 @@ public class p2pbattle extends JPanel implements KeyListener {
         Timer focusTimer = new Timer(200, e -> {
             setFocusable(true);
             requestFocusInWindow();
-            System.out.println("[P2P] 포커스 요청 완료");
+            Log.debug("[P2P] 포커스 요청 완료");
             ((Timer)e.getSource()).stop();
         });
         focusTimer.setRepeats(false);
@@ -843,7 +844,7 @@ public class p2pbattle extends JPanel implements KeyListener {
         }
         
         GameStatePacket packet = new GameStatePacket(GameStatePacket.PacketType.GAME_STATE);
-        packet.setBoard(myPanel.getGameEngine().getBoardManager().getBoard());
+        packet.setBoard(myPanel.getGameEngine().getBoardManager().copyBoard(null));
         packet.setBoardColors(myPanel.getGameEngine().getBoardManager().getBoardColors());
         packet.setCurrentBlockX(myPanel.getGameEngine().getX());
         packet.setCurrentBlockY(myPanel.getGameEngine().getY());
@@ -860,7 +861,7 @@ public class p2pbattle extends JPanel implements KeyListener {
         // 공격 블록 전송 (게임에서 새로 생성된 공격 줄만)
         java.util.List<java.awt.Color[]> attackBlocks = myPanel.drainPendingOutgoingAttackBlocks();
         if (!attackBlocks.isEmpty()) {
-            System.out.println("[P2P] 공격 블록 전송: " + attackBlocks.size() + "줄");
+            Log.debug("[P2P] 공격 블록 전송: " + attackBlocks.size() + "줄");
             GameStatePacket attackPacket = new GameStatePacket(GameStatePacket.PacketType.ATTACK_BLOCKS);
             attackPacket.setAttackBlocks(attackBlocks);
             
@@ -919,7 +920,7 @@ public class p2pbattle extends JPanel implements KeyListener {
                     if (myPanel != null && currentState == ScreenState.PLAYING) {
                         java.util.List<java.awt.Color[]> receivedAttacks = packet.getAttackBlocks();
                         if (receivedAttacks != null && !receivedAttacks.isEmpty()) {
-                            System.out.println("[P2P] 공격 블록 수신: " + receivedAttacks.size() + "줄");
+                            Log.debug("[P2P] 공격 블록 수신: " + receivedAttacks.size() + "줄");
                             myPanel.receiveAttackBlocks(receivedAttacks);
                         }
                     }
@@ -1516,7 +1517,7 @@ public class p2pbattle extends JPanel implements KeyListener {
                 props.store(out, "Tetris P2P Recent IPs");
             }
         } catch (Exception e) {
-            System.out.println("IP 저장 오류: " + e.getMessage());
+            Log.warn("IP 저장 오류: " + e.getMessage());
         }
     }
     
@@ -1546,7 +1547,7 @@ public class p2pbattle extends JPanel implements KeyListener {
                 }
             }
         } catch (Exception e) {
-            System.out.println("IP 불러오기 오류: " + e.getMessage());
+            Log.warn("IP 불러오기 오류: " + e.getMessage());
         }
         
         return new String[] { "최근 접속 기록 없음" };
@@ -1726,17 +1727,17 @@ public class p2pbattle extends JPanel implements KeyListener {
     
     @Override
     public void keyPressed(KeyEvent e) {
-        System.out.println("[P2P] 키 입력 감지: " + KeyEvent.getKeyText(e.getKeyCode()));
+        Log.debug("[P2P] 키 입력 감지: " + KeyEvent.getKeyText(e.getKeyCode()));
 
         if (currentState == ScreenState.PLAYING && myInputHandler != null) {
             myInputHandler.handleKeyPress(e.getKeyCode());
-            System.out.println("[P2P] 키 입력 처리 완료");
+            Log.debug("[P2P] 키 입력 처리 완료");
 
             // 키 입력 후 포커스 유지 (특히 하드드롭 후)
             SwingUtilities.invokeLater(() -> {
                 if (!isFocusOwner()) {
                     requestFocusInWindow();
-                    System.out.println("[P2P] 포커스 복구");
+                    Log.debug("[P2P] 포커스 복구");
                 }
             });
         }
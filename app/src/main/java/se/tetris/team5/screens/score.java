@@ -8,6 +8,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.List;
+import se.tetris.team5.utils.log.Log;
 
 public class score {
     private final ScreenController screenController;
@@ -656,7 +657,7 @@ public class score {
 
     // Debug output to help diagnose why list area may be empty at runtime
     int dbgTotal = showOnlyDummy ? (sampleForPodium == null ? buildSampleEntries().size() : sampleForPodium.size()) : scoreManager.getTotalScoresByMode(currentGameModeFilter);
-    System.out.println("[score] mode=" + currentGameModeFilter + ", totalScores=" + dbgTotal + ", pageScores=" + pageScores.size() + ", currentPage=" + currentPage);
+    Log.debug("[score] mode=" + currentGameModeFilter + ", totalScores=" + dbgTotal + ", pageScores=" + pageScores.size() + ", currentPage=" + currentPage);
 
         // NOTE: persistent dummy injection removed. The UI uses only in-memory sample entries
 
@@ -16,6 +16,7 @@ import javax.swing.text.StyledDocument;
 import se.tetris.team5.utils.setting.GameSettings;
 import se.tetris.team5.ScreenController;
 import se.tetris.team5.components.home.BGMManager;
+import se.tetris.team5.utils.log.Log;
 
 public class setting {
     
@@ -133,7 +134,7 @@ public class setting {
                 return;
             }
         } catch (Exception e) {
-            System.out.println("[Setting] GIF 로드 실패: " + e.getMessage());
+            Log.warn("[Setting] GIF 로드 실패: " + e.getMessage());
         }
         
         String[] fallbackPaths = {
@@ -148,7 +149,7 @@ public class setting {
                     backgroundGif = new ImageIcon(path);
                     return;
                 } catch (Exception e) {
-                    System.out.println("[Setting] 경로 로드 실패: " + e.getMessage());
+                    Log.warn("[Setting] 경로 로드 실패: " + e.getMessage());
                 }
             }
         }
@@ -162,7 +163,7 @@ public class setting {
                     return;
                 }
             } catch (Exception e) {
-                System.out.println("[Setting] 배경 이미지 로드 실패: " + e.getMessage());
+                Log.warn("[Setting] 배경 이미지 로드 실패: " + e.getMessage());
             }
         }
     }
@@ -614,7 +615,7 @@ public class setting {
         if (gameSettings.isSoundEnabled()) {
             // 사운드가 켜져있으면 현재 화면(설정)에 맞는 메인 BGM 재생
             bgmManager.playMainBGM();
-            System.out.println("BGM enabled - Playing main BGM in settings");
+            Log.info("BGM enabled - Playing main BGM in settings");
         }
     }
     
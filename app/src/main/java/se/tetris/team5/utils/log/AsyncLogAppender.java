@@ -0,0 +1,136 @@
+package se.tetris.team5.utils.log;
+
+/**
+ * 고정 크기 링 버퍼와 백그라운드 스레드로 로그를 출력하는 어펜더
+ *
+ * 레벨/메시지/예외를 병렬 배열에 담으므로 기록 시 별도 객체를 만들지 않습니다.
+ * 버퍼가 가득 차면 호출 스레드를 막지 않고 메시지를 버리며, 버린 개수는 다음 출력 때 알립니다.
+ * 출력 스트림은 쓸 때마다 System.out / System.err 에서 읽으므로 System.setOut 으로 바꾼 스트림도 따릅니다.
+ */
+final class AsyncLogAppender {
+    private final LogLevel[] levels;
+    private final String[] messages;
+    private final Throwable[] throwables;
+    private final boolean async;
+    private final Object lock = new Object();
+
+    private int head = 0; // 다음에 꺼낼 위치
+    private int size = 0;
+    private boolean writing = false;
+    private long dropped = 0;
+
+    /**
+     * @param capacity 링 버퍼 크기
+     * @param async    false면 호출 스레드에서 바로 출력
+     */
+    AsyncLogAppender(int capacity, boolean async) {
+        this.levels = new LogLevel[capacity];
+        this.messages = new String[capacity];
+        this.throwables = new Throwable[capacity];
+        this.async = async;
+        if (async) {
+            Thread worker = new Thread(this::drainLoop, "tetris-log");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * 로그를 버퍼에 넣습니다. 버퍼가 가득 차 있으면 버리고 false를 반환합니다.
+     */
+    boolean append(LogLevel level, String message, Throwable throwable) {
+        if (!async) {
+            synchronized (lock) {
+                write(level, message, throwable);
+            }
+            return true;
+        }
+        synchronized (lock) {
+            if (size == levels.length) {
+                dropped++;
+                return false;
+            }
+            int tail = (head + size) % levels.length;
+            levels[tail] = level;
+            messages[tail] = message;
+            throwables[tail] = throwable;
+            size++;
+            lock.notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼에 쌓인 로그가 모두 출력될 때까지 최대 timeoutMillis 동안 기다립니다.
+     *
+     * @return 모두 출력되었으면 true
+     */
+    boolean flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (lock) {
+            while (size > 0 || writing) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    long getDroppedCount() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    private void drainLoop() {
+        long reportedDropped = 0;
+        while (true) {
+            LogLevel level;
+            String message;
+            Throwable throwable;
+            long droppedNow;
+            synchronized (lock) {
+                while (size == 0) {
+                    writing = false;
+                    lock.notifyAll(); // flush 대기자 깨우기
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                level = levels[head];
+                message = messages[head];
+                throwable = throwables[head];
+                messages[head] = null;
+                throwables[head] = null;
+                head = (head + 1) % levels.length;
+                size--;
+                writing = true;
+                droppedNow = dropped;
+            }
+
+            if (droppedNow > reportedDropped) {
+                System.err.println("[Log] 로그 버퍼가 가득 차 메시지 " + (droppedNow - reportedDropped) + "개를 버렸습니다");
+                reportedDropped = droppedNow;
+            }
+            write(level, message, throwable);
+        }
+    }
+
+    private static void write(LogLevel level, String message, Throwable throwable) {
+        java.io.PrintStream out = level.compareTo(LogLevel.WARN) >= 0 ? System.err : System.out;
+        out.println(message);
+        if (throwable != null) {
+            throwable.printStackTrace(out);
+        }
+    }
+}
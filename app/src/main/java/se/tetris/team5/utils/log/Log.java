@@ -0,0 +1,103 @@
+package se.tetris.team5.utils.log;
+
+/**
+ * 게임 전역 로깅 파사드 (System.out/System.err 직접 출력 대체)
+ *
+ * 레벨 검사는 정적 필드 비교 한 번이고, 통과한 메시지만 {@link AsyncLogAppender}의 링 버퍼에 들어갑니다.
+ * 게임 루프나 학습 루프는 콘솔 출력을 기다리지 않습니다. 문자열 조합 비용이 큰 곳에서는
+ * {@link #isDebugEnabled()}로 먼저 확인한 뒤 메시지를 만드세요.
+ *
+ * 시스템 속성:
+ * - tetris.log.level : DEBUG, INFO, WARN, ERROR, OFF (기본 INFO)
+ * - tetris.log.async : false면 호출 스레드에서 바로 출력 (기본 true)
+ */
+public final class Log {
+    private static final int BUFFER_CAPACITY = 4096;
+    private static final long SHUTDOWN_FLUSH_MILLIS = 2000;
+
+    private static volatile int threshold = parseLevel(System.getProperty("tetris.log.level")).ordinal();
+
+    private static final AsyncLogAppender APPENDER = new AsyncLogAppender(BUFFER_CAPACITY,
+            !"false".equalsIgnoreCase(System.getProperty("tetris.log.async")));
+
+    static {
+        // 종료 시 남은 로그 출력
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> APPENDER.flush(SHUTDOWN_FLUSH_MILLIS), "tetris-log-flush"));
+    }
+
+    private Log() {
+    }
+
+    public static boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public static boolean isDebugEnabled() {
+        return threshold <= LogLevel.DEBUG.ordinal();
+    }
+
+    public static void debug(String message) {
+        if (threshold <= LogLevel.DEBUG.ordinal()) {
+            APPENDER.append(LogLevel.DEBUG, message, null);
+        }
+    }
+
+    public static void info(String message) {
+        if (threshold <= LogLevel.INFO.ordinal()) {
+            APPENDER.append(LogLevel.INFO, message, null);
+        }
+    }
+
+    public static void warn(String message) {
+        if (threshold <= LogLevel.WARN.ordinal()) {
+            APPENDER.append(LogLevel.WARN, message, null);
+        }
+    }
+
+    public static void error(String message) {
+        error(message, null);
+    }
+
+    public static void error(String message, Throwable throwable) {
+        if (threshold <= LogLevel.ERROR.ordinal()) {
+            APPENDER.append(LogLevel.ERROR, message, throwable);
+        }
+    }
+
+    /**
+     * 출력할 최소 레벨을 설정합니다
+     */
+    public static void setLevel(LogLevel level) {
+        threshold = level.ordinal();
+    }
+
+    public static LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    /**
+     * 버퍼에 쌓인 로그가 모두 출력될 때까지 기다립니다 (최대 5초).
+     * 출력 스트림을 바꾸거나 닫기 전에 호출합니다.
+     */
+    public static boolean flush() {
+        return APPENDER.flush(5000);
+    }
+
+    /**
+     * 버퍼가 가득 차 버려진 메시지 수
+     */
+    public static long getDroppedCount() {
+        return APPENDER.getDroppedCount();
+    }
+
+    private static LogLevel parseLevel(String value) {
+        if (value != null) {
+            try {
+                return LogLevel.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // 알 수 없는 값이면 기본값 사용
+            }
+        }
+        return LogLevel.INFO;
+    }
+}
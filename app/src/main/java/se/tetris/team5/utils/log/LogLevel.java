@@ -0,0 +1,17 @@
+package se.tetris.team5.utils.log;
+
+/**
+ * 로그 레벨 (선언 순서가 곧 심각도 순서)
+ */
+public enum LogLevel {
+    /** 개발용 상세 정보 (기본적으로 출력하지 않음) */
+    DEBUG,
+    /** 일반 진행 상황 */
+    INFO,
+    /** 복구 가능한 문제 */
+    WARN,
+    /** 오류 */
+    ERROR,
+    /** 아무것도 출력하지 않음 */
+    OFF
+}
@@ -0,0 +1,121 @@
+package se.tetris.team5.blocks;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.items.BombItem;
+import se.tetris.team5.items.Item;
+import se.tetris.team5.items.LineClearItem;
+
+/**
+ * 미리 계산된 회전 테이블 테스트
+ * - 모든 블록의 4방향이 기존 행렬 회전 결과와 같은지
+ * - 줄 마스크와 칸 좌표 목록이 모양과 일치하는지
+ * - 회전 시 아이템이 함께 회전하는지
+ * - 회전이 같은 방향 객체를 재사용하는지
+ */
+public class RotationTableTest {
+
+    private static Block[] allBlocks() {
+        return new Block[] {
+            new IBlock(), new JBlock(), new LBlock(), new OBlock(), new SBlock(),
+            new TBlock(), new ZBlock(), new WBlock(), new DotBlock()
+        };
+    }
+
+    @Test
+    public void testOrientationsMatchMatrixRotation() {
+        for (Block block : allBlocks()) {
+            int[][] expected = snapshot(block);
+            for (int r = 0; r < 8; r++) {
+                assertArrayEquals(block.getBlockType() + " 회전 " + r + " 모양 불일치",
+                    expected, snapshot(block));
+                expected = rotateClockwise(expected);
+                block.rotate();
+            }
+        }
+    }
+
+    @Test
+    public void testRowMasksAndCellsMatchShape() {
+        for (Block block : allBlocks()) {
+            for (int r = 0; r < RotationTable.ROTATIONS; r++) {
+                RotationTable.Orientation o = block.getOrientation();
+                int cells = 0;
+                for (int y = 0; y < block.height(); y++) {
+                    long mask = 0L;
+                    for (int x = 0; x < block.width(); x++) {
+                        if (block.getShape(x, y) == 1) {
+                            mask |= 1L << x;
+                            assertEquals(x, o.getCellX(cells));
+                            assertEquals(y, o.getCellY(cells));
+                            cells++;
+                        }
+                    }
+                    assertEquals(block.getBlockType() + " 줄 마스크 불일치", mask, block.getRowMask(y));
+                }
+                assertEquals(cells, o.getCellCount());
+                block.rotate();
+            }
+        }
+    }
+
+    @Test
+    public void testItemsFollowRotation() {
+        // T블록 (3x2): (0,0)은 빈 칸, (1,1)은 중앙 칸
+        Block block = new TBlock();
+        Item bomb = new BombItem();
+        Item lineClear = new LineClearItem();
+        block.setItem(1, 0, bomb);
+        block.setItem(1, 1, lineClear);
+
+        block.rotate();
+        // 시계 방향 회전: (x, y) -> (rows - 1 - y, x)
+        assertSame(bomb, block.getItem(1, 1));
+        assertSame(lineClear, block.getItem(0, 1));
+
+        block.setRotation(0);
+        assertSame(bomb, block.getItem(1, 0));
+        assertSame(lineClear, block.removeItem(1, 1));
+        assertNull(block.getItem(1, 1));
+    }
+
+    @Test
+    public void testRotationReusesOrientations() {
+        Block block = new LBlock();
+        RotationTable.Orientation start = block.getOrientation();
+        for (int i = 0; i < RotationTable.ROTATIONS; i++) {
+            block.rotate();
+        }
+        assertSame("4번 회전하면 같은 방향 객체로 돌아와야 함", start, block.getOrientation());
+        assertEquals(0, block.getRotation());
+
+        block.setRotation(-1);
+        assertEquals("음수 회전은 4로 나눈 나머지로 처리", 3, block.getRotation());
+        assertSame("같은 종류의 블록은 회전 테이블을 공유", block.getRotationTable(),
+            new LBlock().getRotationTable());
+    }
+
+    private static int[][] snapshot(Block block) {
+        int[][] shape = new int[block.height()][block.width()];
+        for (int y = 0; y < block.height(); y++) {
+            for (int x = 0; x < block.width(); x++) {
+                shape[y][x] = block.getShape(x, y);
+            }
+        }
+        return shape;
+    }
+
+    private static int[][] rotateClockwise(int[][] shape) {
+        int rows = shape.length;
+        int cols = shape[0].length;
+        int[][] rotated = new int[cols][rows];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                rotated[j][rows - 1 - i] = shape[i][j];
+            }
+        }
+        return rotated;
+    }
+}
@@ -177,6 +177,34 @@ public class PlayerGamePanelTest {
                    uiTimer.getDelay() < gameTimer.getDelay());
     }
 
+    /**
+     * 테스트 11: 2줄 이상 삭제 시 공격 블럭이 블럭 고정 경로에서 바로 전송됨
+     * (이벤트 큐를 거치지 않으므로 EDT가 이벤트를 전달하기 전에도 상대에게 도착해야 함)
+     */
+    @Test
+    public void testPlayerPanel_AttackSentOnLock() {
+        PlayerGamePanel opponent = new PlayerGamePanel();
+        playerPanel.setOpponentPanel(opponent);
+        GameEngine engine = playerPanel.getGameEngine();
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setForcedBlockType(6); // O블록
+        engine.startNewGame();
+
+        // 바닥 두 줄의 왼쪽 2칸만 비워 두고 O블록을 떨어뜨림
+        for (int y = GameBoard.HEIGHT - 2; y < GameBoard.HEIGHT; y++) {
+            for (int x = 2; x < GameBoard.WIDTH; x++) {
+                engine.getBoardManager().setCell(x, y, 1);
+            }
+        }
+        while (engine.getX() > 0) {
+            engine.moveBlockLeft();
+        }
+        engine.hardDrop();
+
+        assertEquals("상대에게 공격 2줄이 바로 전달되어야 함", 2, opponent.getAttackBlocksData().size());
+        assertEquals("P2P 전송 대기열에도 들어가야 함", 2, playerPanel.drainPendingOutgoingAttackBlocks().size());
+    }
+
     // ===== Helper Methods =====
 
     private int countOccupiedCells(int[][] board) {
@@ -0,0 +1,215 @@
+package se.tetris.team5.components.game;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.IBlock;
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.blocks.TBlock;
+import se.tetris.team5.items.Item;
+
+/**
+ * BitBoard 백엔드와 BoardManager의 int[][] 뷰가 항상 같은 상태를 유지하는지 테스트합니다.
+ * - 기본 비트 연산 (set/unset/가득 찬 줄/최고 높이)
+ * - 충돌 검사 결과가 칸 단위 검사와 동일한지
+ * - 줄 삭제, 공격 줄 추가, 폭발 이후의 마스크 동기화
+ * - getBoard()로 배열을 직접 수정한 경우의 재동기화, setCell/fillRow의 증분 갱신
+ */
+public class BitBoardTest {
+    private static final int HEIGHT = BoardManager.HEIGHT;
+    private static final int WIDTH = BoardManager.WIDTH;
+
+    private BoardManager boardManager;
+
+    @Before
+    public void setUp() {
+        boardManager = new BoardManager();
+    }
+
+    // ==================== BitBoard 기본 연산 ====================
+
+    @Test
+    public void testSetUnsetAndRowQueries() {
+        BitBoard bits = new BitBoard(HEIGHT, WIDTH);
+        assertEquals("빈 보드의 최고 줄은 -1", -1, bits.highestRow());
+
+        for (int x = 0; x < WIDTH; x++) {
+            bits.set(x, HEIGHT - 1);
+        }
+        assertTrue("맨 아래 줄이 가득 차야 함", bits.isRowFull(HEIGHT - 1));
+        assertEquals(HEIGHT - 1, bits.highestRow());
+
+        bits.unset(4, HEIGHT - 1);
+        assertFalse("한 칸을 비우면 가득 찬 줄이 아님", bits.isRowFull(HEIGHT - 1));
+        assertFalse(bits.get(4, HEIGHT - 1));
+        assertTrue(bits.get(5, HEIGHT - 1));
+        assertFalse("범위 밖 좌표는 false", bits.get(WIDTH, 0));
+    }
+
+    @Test
+    public void testShiftUpAndClearColumn() {
+        BitBoard bits = new BitBoard(HEIGHT, WIDTH);
+        bits.set(2, HEIGHT - 1);
+        bits.set(3, HEIGHT - 2);
+
+        bits.shiftUp(2);
+        assertTrue(bits.get(2, HEIGHT - 3));
+        assertTrue(bits.get(3, HEIGHT - 4));
+        assertTrue("아래 두 줄은 비어 있어야 함", bits.isRowEmpty(HEIGHT - 1) && bits.isRowEmpty(HEIGHT - 2));
+
+        bits.clearColumn(2);
+        assertFalse(bits.get(2, HEIGHT - 3));
+        assertTrue(bits.get(3, HEIGHT - 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTooWideBoard() {
+        new BitBoard(HEIGHT, BitBoard.MAX_WIDTH + 1);
+    }
+
+    // ==================== BoardManager 동기화 ====================
+
+    @Test
+    public void testCanMoveMatchesCellByCellCheck() {
+        Random random = new Random(42);
+        int[][] grid = boardManager.getBoard();
+        for (int y = 8; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                grid[y][x] = random.nextInt(3) == 0 ? 1 : 0;
+            }
+        }
+
+        Block[] blocks = { new IBlock(), new OBlock(), new TBlock() };
+        for (Block block : blocks) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                for (int y = -2; y <= HEIGHT; y++) {
+                    for (int x = -1; x <= WIDTH; x++) {
+                        assertEquals("(" + x + "," + y + ") 충돌 결과가 달라서는 안 됨",
+                            canMoveCellByCell(grid, block, x, y), boardManager.canMove(x, y, block));
+                    }
+                }
+                block.rotate();
+            }
+        }
+    }
+
+    @Test
+    public void testClearLinesKeepsMaskInSync() {
+        int[][] grid = boardManager.getBoard();
+        for (int x = 0; x < WIDTH; x++) {
+            grid[HEIGHT - 1][x] = 1;
+            grid[HEIGHT - 3][x] = 1;
+        }
+        grid[HEIGHT - 2][0] = 1;
+        grid[HEIGHT - 4][5] = 1;
+
+        int cleared = boardManager.clearLines(null);
+
+        assertEquals(2, cleared);
+        assertEquals(List.of(HEIGHT - 3, HEIGHT - 1), boardManager.getLastClearedRows());
+        assertEquals("남은 블록이 아래로 내려와야 함", 1, boardManager.getBoard()[HEIGHT - 1][0]);
+        assertEquals(1, boardManager.getBoard()[HEIGHT - 2][5]);
+        assertMaskMatchesGrid();
+        assertEquals(2, boardManager.getHighestBlockRow());
+    }
+
+    @Test
+    public void testAttackRowsAndExplosionKeepMaskInSync() {
+        List<Color[]> attackRows = new ArrayList<>();
+        Color[] row = new Color[WIDTH];
+        for (int x = 1; x < WIDTH; x++) {
+            row[x] = Color.GRAY;
+        }
+        attackRows.add(row);
+        attackRows.add(row.clone());
+
+        boardManager.addAttackBlocksToBottom(attackRows);
+        assertMaskMatchesGrid();
+        assertEquals(2, boardManager.getHighestBlockRow());
+
+        boardManager.explodeArea(2, HEIGHT - 1);
+        assertMaskMatchesGrid();
+        assertFalse(boardManager.getBitBoard().get(2, HEIGHT - 2));
+    }
+
+    @Test
+    public void testFixBlockKeepsMaskInSync() {
+        Block block = new TBlock();
+        int y = HEIGHT - block.height();
+        boardManager.placeBlock(block, 3, y);
+        boardManager.fixBlock(block, 3, y, new ArrayList<Item>());
+
+        assertMaskMatchesGrid();
+        assertFalse("고정된 블록 위로는 이동할 수 없어야 함", boardManager.canMove(3, y, block));
+    }
+
+    @Test
+    public void testDirectGridWriteIsPickedUp() {
+        boardManager.getBoard()[HEIGHT - 1][0] = 1;
+        assertTrue("getBoard()로 직접 기록한 칸도 마스크에 반영되어야 함",
+            boardManager.getBitBoard().get(0, HEIGHT - 1));
+        assertEquals(1, boardManager.getHighestBlockRow());
+    }
+
+    @Test
+    public void testSetCellKeepsMaskAndStatsInSync() {
+        boardManager.fillRow(HEIGHT - 1, 1);
+        boardManager.setCell(4, HEIGHT - 1, 0);
+        boardManager.setCell(4, HEIGHT - 3, 1);
+        int version = boardManager.getBoardVersion();
+        boardManager.setCell(4, HEIGHT - 3, 1); // 같은 값이면 버전 유지
+        assertEquals(version, boardManager.getBoardVersion());
+
+        assertEquals(9, boardManager.getRowFillCount(HEIGHT - 1));
+        assertEquals(3, boardManager.getColumnHeight(4));
+        assertEquals("(4, HEIGHT-2)와 (4, HEIGHT-1)이 구멍", 2, boardManager.getHoleCount());
+        assertMaskMatchesGrid();
+    }
+
+    @Test
+    public void testReadOnlyAccessorsDoNotMarkStale() throws Exception {
+        boardManager.setCell(0, HEIGHT - 1, 1);
+        int[][] copy = boardManager.copyBoard(null);
+        assertEquals(1, copy[HEIGHT - 1][0]);
+        assertEquals(1, boardManager.getCell(0, HEIGHT - 1));
+        assertSame("크기가 맞으면 배열을 재사용", copy, boardManager.copyBoard(copy));
+
+        copy[HEIGHT - 1][1] = 1; // 사본 수정은 보드에 영향 없음
+        assertEquals(0, boardManager.getCell(1, HEIGHT - 1));
+        java.lang.reflect.Field stale = BoardManager.class.getDeclaredField("bitBoardStale");
+        stale.setAccessible(true);
+        assertFalse("읽기 전용 접근은 재동기화를 유발하지 않아야 함", stale.getBoolean(boardManager));
+    }
+
+    private void assertMaskMatchesGrid() {
+        BitBoard bits = boardManager.getBitBoard();
+        int[][] grid = boardManager.getBoard();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals("(" + x + "," + y + ") 마스크 불일치", grid[y][x] == 1, bits.get(x, y));
+            }
+        }
+    }
+
+    private static boolean canMoveCellByCell(int[][] grid, Block block, int newX, int newY) {
+        if (newX < 0 || newX + block.width() > WIDTH || newY + block.height() > HEIGHT) {
+            return false;
+        }
+        for (int i = 0; i < block.width(); i++) {
+            for (int j = 0; j < block.height(); j++) {
+                if (block.getShape(i, j) == 1 && newY + j >= 0 && grid[newY + j][newX + i] == 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
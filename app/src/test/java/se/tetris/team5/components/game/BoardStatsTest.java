@@ -0,0 +1,206 @@
+package se.tetris.team5.components.game;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.IBlock;
+import se.tetris.team5.blocks.JBlock;
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.blocks.SBlock;
+import se.tetris.team5.blocks.TBlock;
+import se.tetris.team5.items.Item;
+
+/**
+ * BoardManager가 증분으로 유지하는 열 높이/줄 채움 수/구멍 수가
+ * 보드 전체를 다시 훑어 계산한 값과 항상 같은지 테스트합니다.
+ */
+public class BoardStatsTest {
+    private static final int HEIGHT = BoardManager.HEIGHT;
+    private static final int WIDTH = BoardManager.WIDTH;
+
+    private BoardManager boardManager;
+
+    @Before
+    public void setUp() {
+        boardManager = new BoardManager();
+    }
+
+    @Test
+    public void testEmptyBoard() {
+        BoardStats stats = boardManager.getBoardStats();
+        assertEquals(0, stats.getMaxHeight());
+        assertEquals(-1, stats.getHighestRow());
+        assertEquals(0, stats.getHoleCount());
+        assertEquals(0, boardManager.getHighestBlockRow());
+    }
+
+    @Test
+    public void testAddCellCreatesAndFillsHoles() {
+        BoardStats stats = new BoardStats(HEIGHT, WIDTH);
+        stats.addCell(0, HEIGHT - 3); // 높이 3, 아래 빈 칸 2개
+        assertEquals(3, stats.getColumnHeight(0));
+        assertEquals(2, stats.getHoleCount());
+
+        stats.addCell(0, HEIGHT - 1);
+        assertEquals(1, stats.getHoleCount());
+        assertEquals(2, stats.getColumnFillCount(0));
+        assertEquals(1, stats.getRowFillCount(HEIGHT - 1));
+        assertEquals(HEIGHT - 3, stats.getHighestRow());
+    }
+
+    @Test
+    public void testFixAndClearLinesKeepStatsInSync() {
+        // 바닥 한 줄을 I블록 두 개와 O블록 하나로 채움 -> 한 줄 삭제
+        Block iBlock = new IBlock();
+        fix(iBlock, 0, HEIGHT - 1);
+        fix(iBlock, 4, HEIGHT - 1);
+        assertTrue(boardManager.getBoardStats().getRowFillCount(HEIGHT - 1) == 8);
+        fix(new OBlock(), 8, HEIGHT - 2);
+        assertTrue(boardManager.getBoardStats().isRowFull(HEIGHT - 1));
+        assertStatsMatchBoard();
+
+        assertEquals(1, boardManager.clearLines(new ArrayList<>()));
+        assertStatsMatchBoard();
+        assertEquals(1, boardManager.getHighestBlockRow());
+    }
+
+    @Test
+    public void testExplodeAndAttackRowsKeepStatsInSync() {
+        fix(new TBlock(), 3, HEIGHT - 2);
+        fix(new SBlock(), 5, HEIGHT - 4);
+        assertStatsMatchBoard();
+
+        boardManager.explodeArea(4, HEIGHT - 2);
+        assertStatsMatchBoard();
+
+        List<Color[]> attack = new ArrayList<>();
+        Color[] row = new Color[WIDTH];
+        for (int x = 1; x < WIDTH; x++) {
+            row[x] = Color.GRAY;
+        }
+        attack.add(row);
+        attack.add(row.clone());
+        boardManager.addAttackBlocksToBottom(attack);
+        assertStatsMatchBoard();
+    }
+
+    @Test
+    public void testRandomGameMatchesFullScan() {
+        Random random = new Random(17);
+        Block[] pieces = { new IBlock(), new OBlock(), new TBlock(), new SBlock(), new JBlock() };
+        List<Item> removed = new ArrayList<>();
+
+        for (int n = 0; n < 400; n++) {
+            Block block = pieces[random.nextInt(pieces.length)];
+            block.setRotation(random.nextInt(4));
+            int x = random.nextInt(WIDTH - block.width() + 1);
+            int y = 0;
+            if (!boardManager.canMove(x, y, block)) {
+                boardManager.reset();
+                continue;
+            }
+            while (boardManager.canMove(x, y + 1, block)) {
+                y++;
+            }
+            fix(block, x, y);
+            boardManager.clearLines(removed);
+            if (n % 37 == 0) {
+                boardManager.explodeArea(random.nextInt(WIDTH), HEIGHT - 1 - random.nextInt(5));
+            }
+            assertStatsMatchBoard();
+        }
+    }
+
+    @Test
+    public void testTallBoardUsesMultiWordColumns() {
+        // 64줄을 넘는 보드: 열 마스크가 여러 워드로 나뉨
+        boardManager = new BoardManager(100, 12);
+        Random random = new Random(29);
+        Block[] pieces = { new IBlock(), new OBlock(), new TBlock(), new SBlock(), new JBlock() };
+        List<Item> removed = new ArrayList<>();
+
+        for (int n = 0; n < 600; n++) {
+            Block block = pieces[random.nextInt(pieces.length)];
+            block.setRotation(random.nextInt(4));
+            int x = random.nextInt(12 - block.width() + 1);
+            if (!boardManager.canMove(x, 0, block)) {
+                boardManager.reset();
+                continue;
+            }
+            int y = boardManager.getDropPosition(block, x, 0);
+            fix(block, x, y);
+            boardManager.clearLines(removed);
+            if (n % 41 == 0) {
+                List<Color[]> attack = new ArrayList<>();
+                Color[] row = new Color[12];
+                for (int c = 0; c < 11; c++) {
+                    row[c] = Color.GRAY;
+                }
+                for (int i = 0; i < 1 + random.nextInt(70); i++) {
+                    attack.add(row.clone());
+                }
+                boardManager.addAttackBlocksToBottom(attack);
+            }
+            assertStatsMatchBoard();
+        }
+    }
+
+    @Test
+    public void testExternalBoardEditResyncsStats() {
+        int[][] board = boardManager.getBoard();
+        board[HEIGHT - 5][2] = 1;
+        assertEquals(5, boardManager.getColumnHeight(2));
+        assertEquals(4, boardManager.getHoleCount());
+    }
+
+    private void fix(Block block, int x, int y) {
+        boardManager.placeBlock(block, x, y);
+        boardManager.fixBlock(block, x, y, null);
+    }
+
+    // getBoard()는 재동기화를 유발하므로 증분 갱신을 검증할 때는 비트마스크로 직접 계산
+    private void assertStatsMatchBoard() {
+        BitBoard bits = boardManager.getBitBoard();
+        BoardStats stats = boardManager.getBoardStats();
+        int boardHeight = boardManager.getHeight();
+        int boardWidth = boardManager.getWidth();
+        int holes = 0;
+        int maxHeight = 0;
+        for (int x = 0; x < boardWidth; x++) {
+            int height = 0;
+            int fill = 0;
+            for (int y = 0; y < boardHeight; y++) {
+                if (bits.get(x, y)) {
+                    if (height == 0) {
+                        height = boardHeight - y;
+                    }
+                    fill++;
+                } else if (height > 0) {
+                    holes++;
+                }
+            }
+            assertEquals("열 " + x + " 높이", height, stats.getColumnHeight(x));
+            assertEquals("열 " + x + " 채움 수", fill, stats.getColumnFillCount(x));
+            maxHeight = Math.max(maxHeight, height);
+        }
+        for (int y = 0; y < boardHeight; y++) {
+            int fill = 0;
+            for (int x = 0; x < boardWidth; x++) {
+                if (bits.get(x, y)) {
+                    fill++;
+                }
+            }
+            assertEquals("줄 " + y + " 채움 수", fill, stats.getRowFillCount(y));
+        }
+        assertEquals("구멍 수", holes, stats.getHoleCount());
+        assertEquals(maxHeight, stats.getMaxHeight());
+    }
+}
@@ -0,0 +1,88 @@
+package se.tetris.team5.gamelogic;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.IBlock;
+import se.tetris.team5.components.game.BoardManager;
+import se.tetris.team5.gamelogic.ai.TetrisAI;
+
+/**
+ * 보드 크기 설정 테스트
+ * - GameEngine 생성자에 넘긴 크기가 BoardManager까지 전달되는지
+ * - 기본 크기가 아닌 보드에서도 충돌/착지/줄 삭제/AI가 보드 전체를 사용하는지
+ */
+public class BoardDimensionsTest {
+
+    @Test
+    public void testEngineUsesRequestedSize() {
+        GameEngine engine = GameEngine.createHeadless(40, 20);
+        BoardManager boardManager = engine.getBoardManager();
+
+        assertEquals(40, boardManager.getHeight());
+        assertEquals(20, boardManager.getWidth());
+        assertEquals(40, boardManager.getBoard().length);
+        assertEquals(20, boardManager.getBoard()[0].length);
+        assertEquals("등장 위치는 가운데", 8, engine.getX());
+
+        engine.resetGame();
+        assertEquals("리셋해도 크기 유지", 40, engine.getBoardManager().getHeight());
+        assertEquals(20, engine.getBoardManager().getWidth());
+    }
+
+    @Test
+    public void testDefaultSizeUnchanged() {
+        GameEngine engine = GameEngine.createHeadless(BoardManager.HEIGHT, BoardManager.WIDTH);
+        assertEquals(3, engine.getX());
+        assertEquals(BoardManager.HEIGHT, new BoardManager().getHeight());
+        assertEquals(BoardManager.WIDTH, new BoardManager().getWidth());
+    }
+
+    @Test
+    public void testWideBoardCollisionAndLineClear() {
+        BoardManager boardManager = new BoardManager(100, 50);
+        Block block = new IBlock();
+
+        assertTrue(boardManager.canMove(46, 99, block));
+        assertFalse("오른쪽 경계", boardManager.canMove(47, 99, block));
+        assertEquals("빈 보드에서는 바닥까지 떨어짐", 99, boardManager.getDropPosition(block, 46, 0));
+
+        // 바닥 줄을 I블록으로 채우고 마지막 두 칸을 남김
+        for (int x = 0; x + 4 <= 48; x += 4) {
+            boardManager.fixBlock(block, x, 99, null);
+        }
+        assertEquals(48, boardManager.getRowFillCount(99));
+        assertEquals(1, boardManager.getHighestBlockRow());
+        assertEquals(0, boardManager.clearLines(null));
+
+        int[][] board = boardManager.getBoard();
+        board[99][48] = 1;
+        board[99][49] = 1;
+        assertEquals(1, boardManager.clearLines(null));
+        assertEquals(0, boardManager.getHighestBlockRow());
+    }
+
+    @Test
+    public void testAiPlaysOnLargeBoard() {
+        GameEngine engine = GameEngine.createHeadless(40, 20);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setRandomSeed(7L);
+        engine.startNewGame();
+        TetrisAI ai = new TetrisAI(engine);
+        ai.setThinkDelay(0);
+
+        int rightmost = 0;
+        int moves = 0;
+        while (!engine.isGameOver() && moves < 3000) {
+            if (ai.makeMove()) {
+                moves++;
+            }
+            rightmost = Math.max(rightmost, engine.getX() + engine.getCurrentBlock().width());
+        }
+
+        assertTrue("AI가 기본 너비(10) 밖의 열도 사용해야 함", rightmost > BoardManager.WIDTH);
+        assertTrue("넓은 보드에서도 줄을 지울 수 있어야 함", engine.getGameScoring().getLinesCleared() > 0);
+    }
+}
@@ -0,0 +1,124 @@
+package se.tetris.team5.gamelogic;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.DotBlock;
+import se.tetris.team5.blocks.IBlock;
+import se.tetris.team5.blocks.JBlock;
+import se.tetris.team5.blocks.LBlock;
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.blocks.SBlock;
+import se.tetris.team5.blocks.TBlock;
+import se.tetris.team5.blocks.WBlock;
+import se.tetris.team5.blocks.ZBlock;
+import se.tetris.team5.components.game.BoardManager;
+
+/**
+ * 고스트 블록 착지 위치 테스트
+ * - 열 마스크 기반 착지 계산이 한 칸씩 내려 보는 방식과 같은 결과인지
+ * - GameEngine의 고스트 캐시가 이동/회전/보드 변경 시 다시 계산되는지
+ */
+public class GhostPositionTest {
+    private static final int HEIGHT = BoardManager.HEIGHT;
+    private static final int WIDTH = BoardManager.WIDTH;
+
+    @Test
+    public void testColumnMaskDropMatchesStepDrop() {
+        Random random = new Random(3);
+        Block[] pieces = {
+            new IBlock(), new JBlock(), new LBlock(), new OBlock(), new SBlock(),
+            new TBlock(), new ZBlock(), new WBlock(), new DotBlock()
+        };
+
+        for (int trial = 0; trial < 200; trial++) {
+            BoardManager boardManager = randomBoard(random);
+            for (Block block : pieces) {
+                for (int r = 0; r < 4; r++) {
+                    block.setRotation(r);
+                    for (int x = 0; x + block.width() <= WIDTH; x++) {
+                        for (int y = -1; y < HEIGHT - block.height(); y += 3) {
+                            if (!boardManager.canMove(x, y, block)) {
+                                continue;
+                            }
+                            assertEquals(block.getBlockType() + " r=" + r + " x=" + x + " y=" + y,
+                                stepDrop(boardManager, block, x, y), boardManager.getDropPosition(block, x, y));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGhostCacheFollowsPieceAndBoard() {
+        GameEngine engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setForcedBlockType(0); // I블록
+        engine.startNewGame();
+
+        int ghost = engine.getGhostY();
+        assertEquals(expectedGhost(engine), ghost);
+        assertEquals("중력으로 내려와도 같은 위치", ghost, stepAndGhost(engine));
+
+        engine.moveBlockLeft();
+        assertEquals(expectedGhost(engine), engine.getGhostY());
+        engine.rotateBlock();
+        assertEquals(expectedGhost(engine), engine.getGhostY());
+
+        // 공격 줄이 추가되면 착지 위치가 올라가야 함
+        int before = engine.getGhostY();
+        List<Color[]> attack = new ArrayList<>();
+        Color[] row = new Color[WIDTH];
+        for (int i = 0; i < WIDTH - 1; i++) {
+            row[i] = Color.GRAY; // 오른쪽 끝 열만 비움
+        }
+        attack.add(row);
+        attack.add(row.clone());
+        engine.getBoardManager().addAttackBlocksToBottom(attack);
+        assertEquals(before - 2, engine.getGhostY());
+        assertEquals(expectedGhost(engine), engine.getGhostY());
+
+        // 보드 배열을 직접 수정한 경우에도 반영
+        engine.getBoardManager().getBoard()[HEIGHT - 3][engine.getX()] = 1;
+        assertEquals(expectedGhost(engine), engine.getGhostY());
+    }
+
+    private static int stepAndGhost(GameEngine engine) {
+        engine.step();
+        return engine.getGhostY();
+    }
+
+    private static int expectedGhost(GameEngine engine) {
+        return stepDrop(engine.getBoardManager(), engine.getCurrentBlock(), engine.getX(), engine.getY());
+    }
+
+    private static int stepDrop(BoardManager boardManager, Block block, int x, int y) {
+        int newY = y;
+        while (boardManager.canMove(x, newY + 1, block)) {
+            newY++;
+        }
+        return newY;
+    }
+
+    // 바닥 쪽에 구멍과 돌출부가 섞인 무작위 보드
+    private static BoardManager randomBoard(Random random) {
+        BoardManager boardManager = new BoardManager();
+        int[][] board = boardManager.getBoard();
+        for (int y = HEIGHT / 2; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (random.nextInt(100) < 45) {
+                    board[y][x] = 1;
+                }
+            }
+        }
+        return boardManager;
+    }
+}
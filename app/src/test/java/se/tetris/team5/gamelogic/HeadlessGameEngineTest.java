@@ -0,0 +1,100 @@
+package se.tetris.team5.gamelogic;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * 헤드리스 GameEngine 테스트
+ * - 수동 시계로 중력과 시간 효과가 결정적으로 진행되는지
+ * - tick(n)이 게임 오버에서 멈추는지
+ * - 리스너가 EDT 없이 호출 스레드에서 실행되는지
+ */
+public class HeadlessGameEngineTest {
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+
+    private GameEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+    }
+
+    @Test
+    public void testHeadlessEngineUsesManualClock() {
+        assertTrue(engine.isHeadless());
+        assertTrue(engine.getClock() instanceof ManualClock);
+        assertTrue(engine.isGameRunning());
+        assertEquals("시계를 진행시키지 않으면 경과 시간은 0", 0L, engine.getElapsedTime());
+    }
+
+    @Test
+    public void testStepAdvancesClockByDropInterval() {
+        int interval = engine.getGameScoring().getTimerInterval();
+        int startY = engine.getY();
+
+        assertTrue("빈 보드에서는 한 칸 내려가야 함", engine.step());
+        assertEquals(startY + 1, engine.getY());
+        assertEquals(interval, engine.getElapsedTime());
+
+        assertEquals(3, engine.tick(3));
+        assertEquals(4L * interval, engine.getElapsedTime());
+    }
+
+    @Test
+    public void testDoubleScoreExpiresOnSimulatedTime() {
+        int interval = engine.getGameScoring().getTimerInterval();
+        engine.activateDoubleScore(interval * 2);
+
+        engine.tick(2);
+        assertTrue("만료 시각과 같으면 아직 활성 상태", engine.isDoubleScoreActive());
+        assertEquals(0L, engine.getDoubleScoreRemainingMillis());
+
+        engine.tick(1);
+        assertFalse("시뮬레이션 시간으로 만료되어야 함", engine.isDoubleScoreActive());
+    }
+
+    @Test
+    public void testTickStopsAtGameOver() {
+        int steps = engine.tick(100000);
+
+        assertTrue("블록이 계속 쌓이면 게임 오버가 되어야 함", engine.isGameOver());
+        assertTrue(steps < 100000);
+        assertEquals("게임 오버 후에는 진행하지 않음", 0, engine.tick(10));
+        assertFalse(engine.step());
+    }
+
+    @Test
+    public void testListenersRunOnCallingThread() {
+        AtomicInteger calls = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+        engine.addStateChangeListener(() -> {
+            assertSame(caller, Thread.currentThread());
+            calls.incrementAndGet();
+        });
+
+        // 블록 하나가 고정될 때까지 진행
+        while (engine.step()) {
+            // 한 칸씩 내려감
+        }
+        assertTrue("블록 고정 시 리스너가 바로 호출되어야 함", calls.get() > 0);
+    }
+
+    @Test
+    public void testSameSeedGivesSameGame() {
+        assertEquals(playSeeded(7L), playSeeded(7L));
+    }
+
+    private static String playSeeded(long seed) {
+        GameEngine e = GameEngine.createHeadless(HEIGHT, WIDTH);
+        e.setGameMode(GameMode.NORMAL);
+        e.getBlockFactory().setRandomSeed(seed);
+        e.startNewGame();
+        int steps = e.tick(5000);
+        return steps + ":" + e.getGameScoring().getCurrentScore() + ":" + e.getElapsedTime();
+    }
+}
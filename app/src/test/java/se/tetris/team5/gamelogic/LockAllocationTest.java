@@ -0,0 +1,110 @@
+package se.tetris.team5.gamelogic;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.components.game.BoardManager;
+import se.tetris.team5.items.Item;
+
+/**
+ * 블록 고정/줄 삭제 경로의 메모리 할당량 테스트 (ThreadMXBean 스레드별 할당 바이트 측정)
+ * - BoardManager의 고정/줄 삭제는 새 객체를 만들지 않아야 함
+ * - GameEngine 고정 한 번의 할당은 다음 블록 객체 생성 정도로 제한되어야 함
+ */
+public class LockAllocationTest {
+    private static final int WARMUP_CYCLES = 2000;
+    private static final int MEASURED_CYCLES = 2000;
+    // O블록 5개(x = 0, 2, 4, 6, 8)로 바닥 두 줄을 채워 삭제
+    private static final int[] O_COLUMNS = { 0, 2, 4, 6, 8 };
+    private static final int O_BLOCK_INDEX = 6;
+
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @Before
+    public void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("스레드별 할당량 측정을 지원하는 JVM에서만 실행",
+            bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testBoardLockAndClearDoNotAllocate() {
+        BoardManager boardManager = new BoardManager();
+        Block block = new OBlock();
+        List<Item> removedItems = new ArrayList<>();
+
+        for (int i = 0; i < WARMUP_CYCLES; i++) {
+            lockAndClearTwoRows(boardManager, block, removedItems);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_CYCLES; i++) {
+            lockAndClearTwoRows(boardManager, block, removedItems);
+        }
+        long perLock = (allocatedBytes() - before) / (MEASURED_CYCLES * O_COLUMNS.length);
+
+        assertEquals("고정/줄 삭제 한 번에 할당된 바이트", 0L, perLock);
+        assertEquals(2, boardManager.getLastClearedRowCount());
+        assertEquals(BoardManager.HEIGHT - 1, boardManager.getLastClearedRow(1));
+    }
+
+    @Test
+    public void testEngineLockAllocatesOnlyNextPiece() {
+        GameEngine engine = GameEngine.createHeadless(BoardManager.HEIGHT, BoardManager.WIDTH);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setForcedBlockType(O_BLOCK_INDEX);
+        engine.startNewGame();
+
+        for (int i = 0; i < WARMUP_CYCLES; i++) {
+            dropRowPair(engine);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_CYCLES; i++) {
+            dropRowPair(engine);
+        }
+        long perLock = (allocatedBytes() - before) / (MEASURED_CYCLES * O_COLUMNS.length);
+
+        assertFalse(engine.isGameOver());
+        // 다음 블록(Block 객체와 아이템 배열)만 새로 생성됨
+        assertTrue("고정 한 번에 할당된 바이트가 너무 많음: " + perLock, perLock <= 128);
+    }
+
+    private void lockAndClearTwoRows(BoardManager boardManager, Block block, List<Item> removedItems) {
+        int y = BoardManager.HEIGHT - block.height();
+        for (int x : O_COLUMNS) {
+            removedItems.clear();
+            boardManager.placeBlock(block, x, y);
+            boardManager.fixBlock(block, x, y, removedItems);
+            boardManager.clearLines(removedItems);
+        }
+    }
+
+    private void dropRowPair(GameEngine engine) {
+        for (int target : O_COLUMNS) {
+            while (engine.getX() > target && engine.moveBlockLeft()) {
+                // 왼쪽으로 이동
+            }
+            while (engine.getX() < target && engine.moveBlockRight()) {
+                // 오른쪽으로 이동
+            }
+            engine.hardDrop();
+        }
+    }
+
+    private long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,153 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.IBlock;
+import se.tetris.team5.blocks.JBlock;
+import se.tetris.team5.blocks.LBlock;
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.blocks.SBlock;
+import se.tetris.team5.blocks.TBlock;
+import se.tetris.team5.blocks.ZBlock;
+import se.tetris.team5.components.game.BoardManager;
+import se.tetris.team5.components.game.BoardStats;
+
+/**
+ * AI 비트보드 테스트
+ * - 착지 위치, 줄 삭제, 열 높이/구멍 수가 게임 보드(BoardManager)와 같은지
+ * - 줄 삭제 후에도 증분 Zobrist 해시가 처음부터 계산한 값과 같은지
+ * - 마스크로 계산한 특징이 칸 단위로 센 값과 같은지
+ */
+public class AIBoardTest {
+    private static final int HEIGHT = BoardManager.HEIGHT;
+    private static final int WIDTH = BoardManager.WIDTH;
+
+    @Test
+    public void testMatchesBoardManagerOverRandomGames() {
+        Random random = new Random(21);
+        Block[] pieces = {
+            new IBlock(), new JBlock(), new LBlock(), new OBlock(), new SBlock(), new TBlock(), new ZBlock()
+        };
+        BoardManager boardManager = new BoardManager();
+        AIBoard board = AIBoard.fromBitBoard(boardManager.getBitBoard());
+
+        for (int n = 0; n < 2000; n++) {
+            Block block = pieces[random.nextInt(pieces.length)];
+            block.setRotation(random.nextInt(4));
+            RotationTable.Orientation o = block.getOrientation();
+            int x = random.nextInt(WIDTH - block.width() + 1);
+
+            int y = board.dropY(o, x);
+            if (!boardManager.canMove(x, 0, block)) {
+                assertEquals("시작 위치에 놓을 수 없으면 -1", -1, y);
+                boardManager.reset();
+                board = AIBoard.fromBitBoard(boardManager.getBitBoard());
+                continue;
+            }
+            assertEquals("착지 위치", boardManager.getDropPosition(block, x, 0), y);
+
+            boolean alive = board.place(o, x, y);
+            boardManager.fixBlock(block, x, y, null);
+            assertEquals("맨 위 줄 판정", boardManager.getRowFillCount(0) == 0, alive || board.getLinesCleared() > 0);
+            int cleared = boardManager.clearLines(null);
+            assertEquals("삭제된 줄 수", cleared, board.getLinesCleared());
+            if (!alive) {
+                boardManager.reset();
+                board = AIBoard.fromBitBoard(boardManager.getBitBoard());
+                continue;
+            }
+
+            BoardStats stats = boardManager.getBoardStats();
+            for (int row = 0; row < HEIGHT; row++) {
+                assertEquals("줄 " + row, boardManager.getBitBoard().getRow(row), board.getRow(row));
+            }
+            for (int col = 0; col < WIDTH; col++) {
+                assertEquals("열 높이 " + col, stats.getColumnHeight(col), board.getColumnHeight(col));
+            }
+            assertEquals("구멍 수", stats.getHoleCount(), board.getHoleCount());
+            assertEquals(stats.getMaxHeight(), board.getMaxHeight());
+            assertEquals("증분 Zobrist 해시", AIBoard.fromBitBoard(boardManager.getBitBoard()).getZobristHash(),
+                    board.getZobristHash());
+            assertFeaturesMatchCellScan(board);
+        }
+    }
+
+    @Test
+    public void testLineClearReportsUsefulCells() {
+        AIBoard board = new AIBoard(HEIGHT, WIDTH);
+        RotationTable.Orientation flatI = new IBlock().getOrientation();
+        RotationTable.Orientation o = new OBlock().getOrientation();
+
+        assertTrue(board.place(flatI, 0, board.dropY(flatI, 0)));
+        assertTrue(board.place(flatI, 4, board.dropY(flatI, 4)));
+        assertEquals(0, board.getLinesCleared());
+        assertEquals(1, board.getLandingHeight());
+
+        // O블록이 바닥 줄을 채움 -> 1줄 삭제, 블록 칸 중 2칸이 삭제된 줄에 있음
+        assertTrue(board.place(o, 8, board.dropY(o, 8)));
+        assertEquals(1, board.getLinesCleared());
+        assertEquals(2, board.getUsefulCells());
+        assertEquals(1, board.getLandingHeight());
+        assertEquals(1, board.getMaxHeight());
+        assertEquals(0, board.getHoleCount());
+    }
+
+    // 칸 단위로 센 가로/세로 전환, Well 합 (기존 TetrisAI 정의와 동일, 0번 줄부터 가장 높은 블록 줄까지)
+    private static void assertFeaturesMatchCellScan(AIBoard board) {
+        int highestRow = board.getHighestRow();
+        int rowTransitions = 0;
+        int columnTransitions = 0;
+        int wellSums = 0;
+        if (highestRow >= 0) {
+            for (int y = 0; y <= highestRow; y++) {
+                boolean last = true;
+                for (int x = 0; x < WIDTH; x++) {
+                    boolean now = filled(board, x, y);
+                    if (last != now) {
+                        rowTransitions++;
+                    }
+                    last = now;
+                }
+                if (!last) {
+                    rowTransitions++;
+                }
+            }
+            for (int x = 0; x < WIDTH; x++) {
+                boolean last = true;
+                int depth = 0;
+                for (int y = 0; y <= highestRow; y++) {
+                    boolean now = filled(board, x, y);
+                    if (last != now) {
+                        columnTransitions++;
+                    }
+                    last = now;
+                    boolean well = !now && (x == 0 || filled(board, x - 1, y))
+                        && (x == WIDTH - 1 || filled(board, x + 1, y));
+                    if (well) {
+                        depth++;
+                    } else {
+                        wellSums += depth * (depth + 1) / 2;
+                        depth = 0;
+                    }
+                }
+                if (!last) {
+                    columnTransitions++;
+                }
+                wellSums += depth * (depth + 1) / 2;
+            }
+        }
+        assertEquals("가로 전환", rowTransitions, board.countRowTransitions());
+        assertEquals("세로 전환", columnTransitions, board.countColumnTransitions());
+        assertEquals("Well 합", wellSums, board.calculateWellSums());
+    }
+
+    private static boolean filled(AIBoard board, int x, int y) {
+        return (board.getRow(y) & (1L << x)) != 0;
+    }
+}
@@ -0,0 +1,63 @@
+package se.tetris.team5.gamelogic.ai;
+
+import java.util.Random;
+
+/**
+ * 한 번 순회 특징 계산(extractFeatures)과 특징별 개별 계산의 속도 비교 (수동 실행용 벤치마크)
+ *
+ * 실행 시간은 측정 환경에 따라 달라지므로 단위 테스트로 돌리지 않고 결과만 출력합니다.
+ * 값이 같은지는 {@link AIFeatureExtractionTest}가 확인합니다.
+ */
+public final class AIFeatureExtractionBenchmark {
+
+    private AIFeatureExtractionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        Random random = new Random(3);
+        AIBoard[] boards = new AIBoard[256];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = AIFeatureExtractionTest.randomBoard(random, 20, 10);
+        }
+        int[] features = new int[AIBoard.FEATURE_COUNT];
+
+        // JIT 워밍업
+        long sink = runSeparate(boards, rounds) + runFused(boards, features, rounds);
+
+        long start = System.nanoTime();
+        sink += runSeparate(boards, rounds);
+        long separateNs = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        sink += runFused(boards, features, rounds);
+        long fusedNs = System.nanoTime() - start;
+
+        long evaluations = (long) boards.length * rounds;
+        System.out.printf("특징 계산 %d회: 개별 %.1f ns/회, 한 번 순회 %.1f ns/회 (%.2fx), sink=%d%n",
+                evaluations, (double) separateNs / evaluations, (double) fusedNs / evaluations,
+                (double) separateNs / fusedNs, sink);
+    }
+
+    private static long runSeparate(AIBoard[] boards, int rounds) {
+        long sum = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (AIBoard board : boards) {
+                sum += board.countRowTransitions() + board.countColumnTransitions()
+                        + board.getHoleCount() + board.calculateWellSums();
+            }
+        }
+        return sum;
+    }
+
+    private static long runFused(AIBoard[] boards, int[] features, int rounds) {
+        long sum = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (AIBoard board : boards) {
+                board.extractFeatures(features);
+                sum += features[0] + features[1] + features[2] + features[3];
+            }
+        }
+        return sum;
+    }
+}
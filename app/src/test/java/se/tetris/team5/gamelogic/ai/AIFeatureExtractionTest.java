@@ -0,0 +1,56 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import se.tetris.team5.components.game.BitBoard;
+
+/**
+ * 한 번 순회 특징 계산(extractFeatures) 테스트
+ * - 여러 보드 크기의 임의 보드에서 특징별 개별 계산과 값이 같은지
+ * 속도 비교는 {@link AIFeatureExtractionBenchmark}를 직접 실행합니다.
+ */
+public class AIFeatureExtractionTest {
+
+    @Test
+    public void testMatchesSeparateFeatureMethods() {
+        Random random = new Random(8);
+        int[][] sizes = { { 20, 10 }, { 40, 20 }, { 30, 64 }, { 6, 1 } };
+        int[] features = new int[AIBoard.FEATURE_COUNT];
+        for (int[] size : sizes) {
+            for (int n = 0; n < 500; n++) {
+                AIBoard board = randomBoard(random, size[0], size[1]);
+                board.extractFeatures(features);
+                String label = size[0] + "x" + size[1] + " #" + n;
+                assertEquals(label, board.countRowTransitions(), features[AIBoard.FEATURE_ROW_TRANSITIONS]);
+                assertEquals(label, board.countColumnTransitions(), features[AIBoard.FEATURE_COLUMN_TRANSITIONS]);
+                assertEquals(label, board.getHoleCount(), features[AIBoard.FEATURE_HOLES]);
+                assertEquals(label, board.calculateWellSums(), features[AIBoard.FEATURE_WELL_SUMS]);
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyBoardHasNoFeatures() {
+        int[] features = { -1, -1, -1, -1 };
+        new AIBoard(20, 10).extractFeatures(features);
+        assertArrayEquals(new int[] { 0, 0, 0, 0 }, features);
+    }
+
+    // 아래로 갈수록 잘 채워지고 구멍과 Well이 섞인 임의 보드
+    static AIBoard randomBoard(Random random, int height, int width) {
+        BitBoard bits = new BitBoard(height, width);
+        int top = random.nextInt(height + 1);
+        for (int y = top; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (random.nextInt(100) < 30 + 60 * (y - top) / Math.max(1, height - top)) {
+                    bits.set(x, y);
+                }
+            }
+        }
+        return AIBoard.fromBitBoard(bits);
+    }
+}
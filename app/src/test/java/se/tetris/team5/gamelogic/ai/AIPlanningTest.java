@@ -0,0 +1,141 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.gamelogic.GameEngine;
+
+/**
+ * 백그라운드 계획 테스트
+ * - 다른 스레드에서 계산한 계획을 실행해도 EDT에서 바로 탐색한 것과 같은 게임이 되는지
+ * - 블록 이동/회전 중에는 계획이 유효하고, 블록 고정이나 공격 줄 추가 후에는 무효가 되는지
+ * - 취소한 계획은 계획 스레드에서 탐색하지 않고, 취소 뒤에 만든 계획은 그대로 실행되는지
+ */
+public class AIPlanningTest {
+    private ExecutorService planner;
+
+    @Before
+    public void setUp() {
+        planner = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        planner.shutdownNow();
+    }
+
+    @Test
+    public void testBackgroundPlanMatchesSynchronousMove() {
+        GameEngine asyncEngine = GameEngine.createHeadless(20, 10, 19L);
+        GameEngine syncEngine = GameEngine.createHeadless(20, 10, 19L);
+        TetrisAI asyncAI = newAI(asyncEngine);
+        TetrisAI syncAI = newAI(syncEngine);
+
+        for (int piece = 0; piece < 150 && !asyncEngine.isGameOver(); piece++) {
+            MovePlan plan = planInBackground(asyncAI);
+            Block block = asyncEngine.getCurrentBlock();
+            while (asyncEngine.getCurrentBlock() == block && !asyncEngine.isGameOver()) {
+                assertTrue("이동/회전 중에는 계획이 유효해야 함", asyncAI.isPlanCurrent(plan));
+                assertTrue(asyncAI.followPlan(plan));
+            }
+            assertFalse("블록이 고정되면 계획은 무효", asyncAI.isPlanCurrent(plan));
+
+            block = syncEngine.getCurrentBlock();
+            while (syncEngine.getCurrentBlock() == block && !syncEngine.isGameOver()) {
+                assertTrue(syncAI.makeMove());
+            }
+            for (int row = 0; row < asyncEngine.getBoardManager().getHeight(); row++) {
+                assertEquals("piece " + piece + ", row " + row,
+                        syncEngine.getBoardManager().getBitBoard().getRow(row),
+                        asyncEngine.getBoardManager().getBitBoard().getRow(row));
+            }
+        }
+    }
+
+    @Test
+    public void testAttackRowsInvalidatePlan() {
+        GameEngine engine = GameEngine.createHeadless(20, 10, 4L);
+        TetrisAI ai = newAI(engine);
+        MovePlan plan = planInBackground(ai);
+        assertTrue(ai.isPlanCurrent(plan));
+
+        Color[] attackRow = new Color[engine.getBoardManager().getWidth()];
+        for (int x = 1; x < attackRow.length; x++) {
+            attackRow[x] = Color.GRAY;
+        }
+        engine.getBoardManager().addAttackBlocksToBottom(Collections.singletonList(attackRow));
+
+        assertFalse("공격 줄이 들어오면 계획은 무효", ai.isPlanCurrent(plan));
+        assertFalse("무효한 계획은 실행하지 않음", ai.followPlan(plan));
+
+        // 바뀐 보드로 다시 계획하면 실행 가능
+        MovePlan replanned = planInBackground(ai);
+        assertTrue(ai.isPlanCurrent(replanned));
+        assertTrue(ai.followPlan(replanned));
+    }
+
+    @Test
+    public void testCancelledPlanDoesNotSearch() throws Exception {
+        GameEngine engine = GameEngine.createHeadless(20, 10, 8L);
+        TetrisAI ai = newAI(engine);
+        ai.setSearchBudgetMicros(1_000);
+
+        // 계획 스레드가 앞선 작업으로 바쁜 동안 계획을 요청하고 취소
+        CountDownLatch release = new CountDownLatch(1);
+        planner.submit(() -> {
+            release.await();
+            return null;
+        });
+        Supplier<MovePlan> task = ai.preparePlan();
+        CompletableFuture<MovePlan> future = CompletableFuture.supplyAsync(task, planner);
+        long decisions = ai.getSearchStats().getDecisions();
+        ai.cancelPlans();
+        release.countDown();
+
+        try {
+            future.join();
+            fail("취소한 계획은 완료되면 안 됨");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof CancellationException);
+        }
+        assertEquals("취소한 계획은 탐색하지 않음", decisions, ai.getSearchStats().getDecisions());
+
+        // 취소 뒤에 만든 계획은 영향 없음
+        MovePlan plan = planInBackground(ai);
+        assertTrue(ai.isPlanCurrent(plan));
+        assertTrue(ai.followPlan(plan));
+    }
+
+    @Test
+    public void testNullPlanIsNotCurrent() {
+        TetrisAI ai = newAI(GameEngine.createHeadless(20, 10, 1L));
+        assertFalse(ai.isPlanCurrent(null));
+        assertFalse(ai.followPlan(null));
+    }
+
+    private MovePlan planInBackground(TetrisAI ai) {
+        Supplier<MovePlan> task = ai.preparePlan();
+        assertNotNull(task);
+        return CompletableFuture.supplyAsync(task, planner).join();
+    }
+
+    private static TetrisAI newAI(GameEngine engine) {
+        TetrisAI ai = new TetrisAI(engine);
+        ai.setThinkDelay(0);
+        return ai;
+    }
+}
@@ -0,0 +1,71 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.GameMode;
+
+/**
+ * AI 탐색 계측 테스트
+ * - 히스토그램 칸이 값을 빠짐없이 덮고 백분위가 12.5% 이내인지
+ * - AI가 결정마다 평가 수/가지치기 수/탐색 시간을 기록하는지
+ * - 초기화하면 0으로 돌아가는지
+ */
+public class AISearchStatsTest {
+
+    @Test
+    public void testBucketsCoverValues() {
+        for (long v : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 123_456, Long.MAX_VALUE / 2 }) {
+            int bucket = AISearchStats.bucketOf(v);
+            assertTrue("값은 칸 상한 이하: " + v, v <= AISearchStats.bucketUpperBound(bucket));
+            if (bucket > 0) {
+                assertTrue("값은 이전 칸 상한보다 큼: " + v, v > AISearchStats.bucketUpperBound(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        AISearchStats stats = new AISearchStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.recordDecision(i * 1_000_000L, 10); // 1ms ~ 100ms
+        }
+        AISearchStats.Snapshot snapshot = stats.snapshot(-1, -1);
+
+        assertEquals(100, snapshot.getDecisions());
+        assertEquals(100_000L, snapshot.getThinkMaxMicros());
+        assertEquals(50_000.0, snapshot.getThinkP50Micros(), 50_000 * 0.125);
+        assertEquals(99_000.0, snapshot.getThinkP99Micros(), 99_000 * 0.125);
+        assertTrue(snapshot.getThinkP99Micros() <= snapshot.getThinkMaxMicros());
+    }
+
+    @Test
+    public void testAIRecordsSearchWork() {
+        GameEngine engine = GameEngine.createHeadless(20, 10);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setRandomSeed(4L);
+        engine.startNewGame();
+        TetrisAI ai = new TetrisAI(engine);
+        ai.setThinkDelay(0);
+
+        for (int step = 0; step < 200 && !engine.isGameOver(); step++) {
+            ai.makeMove();
+        }
+        AISearchStats.Snapshot snapshot = ai.getSearchStats();
+
+        assertTrue(snapshot.getDecisions() > 10);
+        assertTrue(snapshot.getPositionsEvaluated() >= snapshot.getDecisions());
+        assertTrue(snapshot.getLastPositions() > 0);
+        assertTrue("빔 밖의 후보는 가지치기로 셈", snapshot.getPrunedCandidates() > 0);
+        assertTrue(snapshot.getNodesPerSecond() > 0);
+        assertTrue(snapshot.getThinkMaxMicros() >= snapshot.getThinkP50Micros());
+        assertTrue("전치표 사용 중", snapshot.getTranspositionHitRate() >= 0);
+        assertTrue("도달 가능성 탐색은 꺼져 있음", snapshot.getPlacementHitRate() < 0);
+
+        ai.resetSearchStats();
+        assertEquals(0, ai.getSearchStats().getDecisions());
+        assertEquals(0, ai.getSearchStats().getPositionsEvaluated());
+    }
+}
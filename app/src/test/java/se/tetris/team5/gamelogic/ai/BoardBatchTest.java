@@ -0,0 +1,95 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.blocks.SBlock;
+import se.tetris.team5.blocks.TBlock;
+
+/**
+ * 배치 평가 테스트
+ * - 배치로 계산한 특징이 보드별 계산(AIBoard.extractFeatures)과 같은지
+ * - 점수가 같은 식으로 계산되는지, 빈 보드와 재사용(clear)이 올바른지
+ * - 크기가 다른 보드나 가득 찬 배치를 거부하는지
+ */
+public class BoardBatchTest {
+
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+
+    @Test
+    public void testFeaturesMatchPerBoardExtraction() {
+        Random random = new Random(11L);
+        BoardBatch batch = new BoardBatch(HEIGHT, WIDTH, 200);
+        AIBoard[] boards = new AIBoard[200];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = randomBoard(random, random.nextInt(40));
+            assertEquals(i, batch.add(boards[i]));
+        }
+        double[] scores = new double[batch.size()];
+        WeightSet weights = new WeightSet();
+        batch.evaluate(weights, scores);
+
+        int[] expected = new int[AIBoard.FEATURE_COUNT];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i].extractFeatures(expected);
+            for (int f = 0; f < AIBoard.FEATURE_COUNT; f++) {
+                assertEquals("보드 " + i + " 특징 " + f, expected[f], batch.getFeature(i, f));
+            }
+            double score = BoardBatch.score(weights, boards[i].getLandingHeight(), boards[i].getLinesCleared(),
+                    boards[i].getUsefulCells(), expected[0], expected[1], expected[2], expected[3]);
+            assertEquals(score, scores[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testEmptyBoardAndReuse() {
+        BoardBatch batch = new BoardBatch(HEIGHT, WIDTH, 2);
+        batch.add(new AIBoard(HEIGHT, WIDTH));
+        double[] scores = new double[2];
+        batch.evaluate(new WeightSet(), scores);
+        for (int f = 0; f < AIBoard.FEATURE_COUNT; f++) {
+            assertEquals(0, batch.getFeature(0, f));
+        }
+
+        batch.clear();
+        assertEquals(0, batch.size());
+        AIBoard board = randomBoard(new Random(3L), 12);
+        assertEquals(0, batch.add(board));
+        batch.evaluate(new WeightSet(), scores);
+        int[] expected = new int[AIBoard.FEATURE_COUNT];
+        board.extractFeatures(expected);
+        assertEquals(expected[AIBoard.FEATURE_WELL_SUMS], batch.getFeature(0, AIBoard.FEATURE_WELL_SUMS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsOtherBoardSize() {
+        new BoardBatch(HEIGHT, WIDTH, 1).add(new AIBoard(HEIGHT, WIDTH + 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsWhenFull() {
+        BoardBatch batch = new BoardBatch(HEIGHT, WIDTH, 1);
+        batch.add(new AIBoard(HEIGHT, WIDTH));
+        batch.add(new AIBoard(HEIGHT, WIDTH));
+    }
+
+    // 무작위 위치에 블록을 떨어뜨려 구멍/Well/줄 삭제가 섞인 보드를 만듦
+    private static AIBoard randomBoard(Random random, int pieces) {
+        RotationTable[] tables = { new TBlock().getRotationTable(), new SBlock().getRotationTable() };
+        AIBoard board = new AIBoard(HEIGHT, WIDTH);
+        for (int k = 0; k < pieces; k++) {
+            RotationTable.Orientation o = tables[random.nextInt(tables.length)].get(random.nextInt(4));
+            int x = random.nextInt(WIDTH - o.width() + 1);
+            int y = board.dropY(o, x);
+            if (y >= 2) {
+                board.place(o, x, y);
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,137 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import se.tetris.team5.blocks.Block;
+import se.tetris.team5.blocks.IBlock;
+import se.tetris.team5.blocks.JBlock;
+import se.tetris.team5.blocks.LBlock;
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.blocks.SBlock;
+import se.tetris.team5.blocks.TBlock;
+import se.tetris.team5.blocks.ZBlock;
+import se.tetris.team5.components.game.BitBoard;
+
+/**
+ * 착지 캐시 테스트
+ * - 캐시에서 꺼낸 착지 y와 착지 후 열 높이가 보드에서 직접 계산한 값과 같은지
+ * - 발밑 열 높이와 블록 모양이 같으면 다른 보드, 다른 x에서도 재사용하는지
+ * - 크기 제한을 넘지 않는지
+ */
+public class LandingCacheTest {
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+
+    @Test
+    public void testMatchesDropYOverRandomGames() {
+        Random random = new Random(7);
+        Block[] pieces = {
+            new IBlock(), new JBlock(), new LBlock(), new OBlock(), new SBlock(), new TBlock(), new ZBlock()
+        };
+        LandingCache cache = new LandingCache(256);
+        AIBoard board = new AIBoard(HEIGHT, WIDTH);
+
+        for (int n = 0; n < 3000; n++) {
+            Block block = pieces[random.nextInt(pieces.length)];
+            RotationTable.Orientation o = block.getRotationTable().get(random.nextInt(4));
+            int x = random.nextInt(WIDTH - o.width() + 1);
+
+            LandingCache.Landing landing = cache.drop(board, o, x);
+            assertEquals("착지 y", board.dropY(o, x), landing.getY());
+            if (landing.getY() < 0) {
+                board = new AIBoard(HEIGHT, WIDTH);
+                continue;
+            }
+            AIBoard after = new AIBoard(board);
+            boolean alive = after.place(o, x, landing.getY());
+            if (after.getLinesCleared() == 0) {
+                for (int i = 0; i < o.width(); i++) {
+                    assertEquals("착지 후 열 높이", after.getColumnHeight(x + i), landing.getTopHeight(i));
+                }
+            }
+            board = alive ? after : new AIBoard(HEIGHT, WIDTH);
+        }
+        assertTrue("같은 발밑 높이가 반복되어야 함", cache.getHits() > 0);
+    }
+
+    @Test
+    public void testReusesLandingForSameFootprint() {
+        LandingCache cache = new LandingCache(64);
+        RotationTable.Orientation t = new TBlock().getRotationTable().get(0);
+
+        // 두 보드는 발밑 열 높이만 같고 나머지 열과 구멍 위치가 다름
+        BitBoard first = new BitBoard(HEIGHT, WIDTH);
+        first.set(0, HEIGHT - 1);
+        first.set(1, HEIGHT - 1);
+        first.set(1, HEIGHT - 2);
+        first.set(9, HEIGHT - 5);
+        BitBoard second = new BitBoard(HEIGHT, WIDTH);
+        second.set(5, HEIGHT - 1);
+        second.set(6, HEIGHT - 2);
+        second.set(2, HEIGHT - 8);
+
+        LandingCache.Landing a = cache.drop(AIBoard.fromBitBoard(first), t, 0);
+        LandingCache.Landing b = cache.drop(AIBoard.fromBitBoard(second), t, 5);
+
+        assertSame("발밑 열 높이와 블록 모양이 같으면 x가 달라도 재사용", a, b);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+
+        cache.drop(AIBoard.fromBitBoard(second), t, 4);
+        assertEquals("발밑 열 높이가 다르면 다시 계산", 2, cache.getMisses());
+
+        cache.drop(AIBoard.fromBitBoard(first), new TBlock().getRotationTable().get(2), 0);
+        assertEquals("블록 모양이 다르면 다시 계산", 3, cache.getMisses());
+
+        AIBoard taller = new AIBoard(HEIGHT + 2, WIDTH);
+        assertEquals("보드 높이가 다르면 다시 계산", taller.dropY(t, 0), cache.drop(taller, t, 0).getY());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testOutOfBoardIsNotPlaceable() {
+        LandingCache cache = new LandingCache(16);
+        AIBoard board = new AIBoard(HEIGHT, WIDTH);
+        RotationTable.Orientation i = new IBlock().getRotationTable().get(0);
+
+        assertSame(LandingCache.NOT_PLACEABLE, cache.drop(board, i, -1));
+        assertSame(LandingCache.NOT_PLACEABLE, cache.drop(board, i, WIDTH - i.width() + 1));
+        assertEquals("보드 밖은 조회하지 않음", 0, cache.getMisses());
+    }
+
+    @Test
+    public void testCacheEvictsLeastRecentlyUsed() {
+        LandingCache cache = new LandingCache(16);
+        RotationTable.Orientation o = new OBlock().getRotationTable().get(0);
+
+        for (int h = 0; h < 10; h++) {
+            for (int k = 0; k < 10; k++) {
+                BitBoard bits = new BitBoard(HEIGHT, WIDTH);
+                for (int y = 0; y < h; y++) {
+                    bits.set(0, HEIGHT - 1 - y);
+                }
+                for (int y = 0; y < k; y++) {
+                    bits.set(1, HEIGHT - 1 - y);
+                }
+                cache.drop(AIBoard.fromBitBoard(bits), o, 0);
+            }
+        }
+        assertTrue("크기 제한을 넘지 않아야 함", cache.size() <= cache.getCapacity());
+        assertTrue(cache.getEvictions() > 0);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testSharedCacheIsDefaultForAI() {
+        TetrisAI ai = new TetrisAI(se.tetris.team5.gamelogic.GameEngine.createHeadless(HEIGHT, WIDTH));
+        assertSame(LandingCache.shared(), ai.getLandingCache());
+    }
+}
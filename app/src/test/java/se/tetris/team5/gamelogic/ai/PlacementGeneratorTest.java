@@ -0,0 +1,273 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import se.tetris.team5.blocks.OBlock;
+import se.tetris.team5.blocks.RotationTable;
+import se.tetris.team5.blocks.TBlock;
+import se.tetris.team5.components.game.BitBoard;
+import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.GameMode;
+
+/**
+ * 도달 가능한 배치 생성기 테스트
+ * - 턱이 없는 보드에서는 곧바로 떨어뜨린 자리와 같은 배치를 찾는지
+ * - 턱 밑으로 밀어 넣는 자리를 찾는지
+ * - 복원한 입력 경로를 게임 엔진에서 실행하면 그 자리에 놓이는지
+ * - 같은 보드는 캐시된 결과를 재사용하는지, 지붕 밑 동굴 아래만 다른 보드는 재사용하지 않는지
+ * - 캐시가 크기 제한을 넘으면 오래된 항목부터 버리는지, AI마다 따로 가지는지
+ */
+public class PlacementGeneratorTest {
+
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+
+    @Test
+    public void testMatchesStraightDropsWithoutOverhangs() {
+        // 바닥 왼쪽 구멍 하나 (빠른 경로를 쓰지 않고 탐색하도록)
+        BitBoard bits = new BitBoard(HEIGHT, WIDTH);
+        for (int x = 1; x < WIDTH; x++) {
+            bits.set(x, HEIGHT - 1);
+        }
+        bits.set(0, HEIGHT - 2);
+        AIBoard board = AIBoard.fromBitBoard(bits);
+        RotationTable table = new TBlock().getRotationTable();
+
+        PlacementGenerator.Placements placements = new PlacementGenerator(HEIGHT, WIDTH)
+                .generate(board, table, 0, 4, 3, 0);
+
+        Set<String> expected = new HashSet<>();
+        for (int r = 0; r < 4; r++) {
+            RotationTable.Orientation o = table.get(r);
+            for (int x = 0; x + o.width() <= WIDTH; x++) {
+                int y = board.dropY(o, x);
+                if (y >= 0) {
+                    expected.add(r + "," + x + "," + y);
+                }
+            }
+        }
+        assertEquals(expected, toSet(placements));
+    }
+
+    @Test
+    public void testFindsTuckUnderOverhang() {
+        // 16번 줄 왼쪽 네 칸에 지붕, 그 아래는 비어 있음
+        BitBoard bits = new BitBoard(HEIGHT, WIDTH);
+        for (int x = 0; x < 4; x++) {
+            bits.set(x, 16);
+        }
+        AIBoard board = AIBoard.fromBitBoard(bits);
+        RotationTable table = new OBlock().getRotationTable();
+
+        Set<String> found = toSet(new PlacementGenerator(HEIGHT, WIDTH).generate(board, table, 0, 1, 4, 0));
+
+        assertTrue("지붕 밑 맨 왼쪽 바닥", found.contains("0,0,18"));
+        assertTrue("지붕 위", found.contains("0,0,14"));
+        assertEquals("곧바로 떨어뜨리면 지붕 위에 놓임", 14, board.dropY(table.get(0), 0));
+    }
+
+    @Test
+    public void testPathLandsAtPlacementInEngine() {
+        GameEngine engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setRandomSeed(7L);
+        engine.startNewGame();
+        for (int x = 0; x < 4; x++) {
+            engine.getBoardManager().getBoard()[16][x] = 1;
+        }
+
+        AIBoard board = AIBoard.fromBitBoard(engine.getBoardManager().getBitBoard());
+        RotationTable table = engine.getCurrentBlock().getRotationTable();
+        int baseRotation = engine.getCurrentBlock().getRotation();
+        int rotations = engine.getCurrentBlock() instanceof OBlock ? 1 : 4;
+        PlacementGenerator.Placements placements = new PlacementGenerator(HEIGHT, WIDTH)
+                .generate(board, table, baseRotation, rotations, engine.getX(), engine.getY());
+
+        // 지붕 밑 맨 왼쪽에 닿는 배치
+        int target = -1;
+        for (int i = 0; i < placements.size() && target < 0; i++) {
+            if (placements.getX(i) == 0 && placements.getY(i) > 16) {
+                target = i;
+            }
+        }
+        assertTrue("지붕 밑 배치가 있어야 함", target >= 0);
+
+        int[] steps = placements.pathTo(target);
+        for (int step : steps) {
+            switch (MovePlan.actionOf(step)) {
+                case MovePlan.ROTATE:
+                    assertTrue(engine.rotateBlock());
+                    break;
+                case MovePlan.LEFT:
+                    assertTrue(engine.moveBlockLeft());
+                    break;
+                case MovePlan.RIGHT:
+                    assertTrue(engine.moveBlockRight());
+                    break;
+                case MovePlan.DROP_TO:
+                    while (engine.getY() < MovePlan.argOf(step)) {
+                        assertTrue(engine.moveBlockDown());
+                    }
+                    break;
+                default:
+                    assertEquals("하드 드롭 직전 x", placements.getX(target), engine.getX());
+                    engine.hardDrop();
+                    break;
+            }
+        }
+        assertEquals("마지막 입력은 하드 드롭", MovePlan.HARD_DROP, MovePlan.actionOf(steps[steps.length - 1]));
+
+        RotationTable.Orientation o = table.get(baseRotation + placements.getRotation(target));
+        AIBoard after = AIBoard.fromBitBoard(engine.getBoardManager().getBitBoard());
+        for (int j = 0; j < o.height(); j++) {
+            long mask = o.getRowMask(j) << placements.getX(target);
+            assertEquals("블록이 목표 자리에 고정되어야 함", mask, after.getRow(placements.getY(target) + j) & mask);
+        }
+    }
+
+    @Test
+    public void testReusesResultForSameBoard() {
+        PlacementCache cache = new PlacementCache(64);
+        PlacementGenerator generator = new PlacementGenerator(HEIGHT, WIDTH, cache);
+        RotationTable table = new TBlock().getRotationTable();
+
+        AIBoard first = AIBoard.fromBitBoard(twoRowBoard(9));
+        PlacementGenerator.Placements a = generator.generate(first, table, 0, 4, 3, 0);
+        PlacementGenerator.Placements b = generator.generate(AIBoard.fromBitBoard(twoRowBoard(9)), table, 0, 4, 3, 0);
+
+        assertSame(a, b);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+
+        generator.generate(AIBoard.fromBitBoard(twoRowBoard(8)), table, 0, 4, 3, 0);
+        assertEquals("아래 줄만 달라도 다시 탐색", 2, cache.getMisses());
+
+        generator.generate(first, table, 1, 4, 3, 0);
+        assertEquals("시작 방향이 다르면 다시 탐색", 3, cache.getMisses());
+
+        PlacementGenerator other = new PlacementGenerator(HEIGHT, WIDTH, cache);
+        assertSame("같은 캐시를 쓰는 다른 생성기도 재사용", a, other.generate(first, table, 0, 4, 3, 0));
+
+        PlacementGenerator wider = new PlacementGenerator(HEIGHT, WIDTH + 2, cache);
+        assertNotSame("보드 크기가 다르면 재사용하지 않음", a,
+                wider.generate(AIBoard.fromBitBoard(twoRowBoard(9, WIDTH + 2)), table, 0, 4, 3, 0));
+    }
+
+    @Test
+    public void testCaveBelowLowestColumnIsNotShared() {
+        // 0~2번 열: 14번 줄 지붕 아래 동굴 (바닥까지), 3~4번 열: 높이 3 (입구), 5~9번 열: 지붕 높이까지 채움
+        // 블록은 입구로 내려와 지붕 밑으로 밀려 들어간 뒤 가장 낮은 열 꼭대기보다 깊이 떨어질 수 있음
+        BitBoard open = caveBoard(false);
+        BitBoard filled = caveBoard(true);
+        PlacementCache cache = new PlacementCache(64);
+        PlacementGenerator generator = new PlacementGenerator(HEIGHT, WIDTH, cache);
+        RotationTable table = new OBlock().getRotationTable();
+
+        Set<String> inOpen = toSet(generator.generate(AIBoard.fromBitBoard(open), table, 0, 1, 4, 0));
+        Set<String> inFilled = toSet(generator.generate(AIBoard.fromBitBoard(filled), table, 0, 1, 4, 0));
+
+        assertTrue("동굴 바닥", inOpen.contains("0,0,18"));
+        assertFalse("채워진 칸과 겹치는 배치를 재사용하면 안 됨", inFilled.contains("0,0,18"));
+        assertTrue(inFilled.contains("0,0,17"));
+        assertEquals(inFilled, toSet(new PlacementGenerator(HEIGHT, WIDTH, new PlacementCache(64))
+                .generate(AIBoard.fromBitBoard(filled), table, 0, 1, 4, 0)));
+    }
+
+    @Test
+    public void testSharedEntryIsCheckedAgainstBoard() {
+        // 같은 키(해시 충돌)로 저장된 다른 보드의 결과는 쓰지 않음
+        PlacementCache cache = new PlacementCache(64);
+        PlacementGenerator generator = new PlacementGenerator(HEIGHT, WIDTH, cache);
+        RotationTable table = new OBlock().getRotationTable();
+        AIBoard open = AIBoard.fromBitBoard(caveBoard(false));
+        AIBoard filled = AIBoard.fromBitBoard(caveBoard(true));
+
+        PlacementGenerator.Placements openResult = generator.generate(open, table, 0, 1, 4, 0);
+        cache.put(generator.cacheKey(filled, table, 0, 1, 4, 0), openResult);
+        PlacementGenerator.Placements filledResult = generator.generate(filled, table, 0, 1, 4, 0);
+
+        assertNotSame(openResult, filledResult);
+        assertFalse(toSet(filledResult).contains("0,0,18"));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testCacheEvictsLeastRecentlyUsed() {
+        PlacementCache cache = new PlacementCache(16);
+        PlacementGenerator generator = new PlacementGenerator(HEIGHT, WIDTH, cache);
+        RotationTable table = new TBlock().getRotationTable();
+        AIBoard board = AIBoard.fromBitBoard(twoRowBoard(9));
+
+        for (int spawnX = 0; spawnX < 8; spawnX++) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                generator.generate(board, table, rotation, 4, spawnX, 0);
+            }
+        }
+        assertTrue("크기 제한을 넘지 않아야 함", cache.size() <= cache.getCapacity());
+        assertTrue(cache.getEvictions() > 0);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testEachAIHasOwnCache() {
+        TetrisAI first = new TetrisAI(GameEngine.createHeadless(HEIGHT, WIDTH));
+        TetrisAI second = new TetrisAI(GameEngine.createHeadless(HEIGHT, WIDTH));
+        assertNotSame(first.getPlacementCache(), second.getPlacementCache());
+        assertEquals(PlacementCache.DEFAULT_CAPACITY, first.getPlacementCache().getCapacity());
+    }
+
+    // 맨 아래 줄은 holeX만 비고, 그 위 줄은 0번 열만 빈 보드
+    private static BitBoard twoRowBoard(int holeX) {
+        return twoRowBoard(holeX, WIDTH);
+    }
+
+    private static BitBoard twoRowBoard(int holeX, int width) {
+        BitBoard bits = new BitBoard(HEIGHT, width);
+        for (int x = 0; x < width; x++) {
+            if (x != holeX) {
+                bits.set(x, HEIGHT - 1);
+            }
+            if (x != 0) {
+                bits.set(x, HEIGHT - 2);
+            }
+        }
+        bits.set(0, HEIGHT - 3);
+        return bits;
+    }
+
+    private static BitBoard caveBoard(boolean fillCaveFloor) {
+        BitBoard bits = new BitBoard(HEIGHT, WIDTH);
+        for (int x = 0; x < 3; x++) {
+            bits.set(x, 14);
+            if (fillCaveFloor) {
+                bits.set(x, HEIGHT - 1);
+            }
+        }
+        for (int y = HEIGHT - 3; y < HEIGHT; y++) {
+            bits.set(3, y);
+            bits.set(4, y);
+        }
+        for (int x = 5; x < WIDTH; x++) {
+            for (int y = 14; y < HEIGHT; y++) {
+                bits.set(x, y);
+            }
+        }
+        return bits;
+    }
+
+    private static Set<String> toSet(PlacementGenerator.Placements placements) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < placements.size(); i++) {
+            result.add(placements.getRotation(i) + "," + placements.getX(i) + "," + placements.getY(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+
+/**
+ * 시간 예산 탐색 테스트
+ * - 예산이 넉넉하면 미리보기 블록까지 깊게, 빔을 넓혀 탐색하는지
+ * - 예산이 아주 작아도 항상 수를 반환하는지
+ * - 난이도가 탐색 시간 예산으로 연결되는지
+ */
+public class TetrisAIAnytimeTest {
+
+    @Test
+    public void testLargeBudgetSearchesAllPreviewPieces() {
+        GameEngine engine = GameEngine.createHeadless(20, 10, 3L);
+        TetrisAI ai = newAI(engine, 500_000L);
+
+        assertTrue(ai.makeMove());
+        assertEquals("현재 + 다음 + 미리보기 블록까지", 2 + TetrisAI.MAX_PREVIEW_PIECES, ai.getLastSearchDepth());
+        assertTrue("깊이를 다 쓴 뒤에는 빔을 넓힘", ai.getLastSearchWidth() > ai.getBeamWidth());
+    }
+
+    @Test
+    public void testTinyBudgetStillReturnsMove() {
+        GameEngine engine = GameEngine.createHeadless(20, 10, 3L);
+        TetrisAI ai = newAI(engine, 1L);
+
+        int pieces = 0;
+        for (int step = 0; step < 300 && !engine.isGameOver(); step++) {
+            Object block = engine.getCurrentBlock();
+            assertTrue(ai.makeMove());
+            if (engine.getCurrentBlock() != block) {
+                pieces++;
+            }
+            assertTrue(ai.getLastSearchDepth() >= 1);
+        }
+        assertTrue("예산이 작아도 블록을 계속 놓아야 함", pieces > 10);
+    }
+
+    @Test
+    public void testDifficultyMapsToSearchBudget() {
+        TetrisAI ai = new TetrisAI(GameEngine.createHeadless(20, 10, 1L));
+        assertEquals("기본값은 고정된 탐색", 0L, ai.getSearchBudgetMicros());
+
+        ai.setDifficulty(AIPlayerController.AIDifficulty.HARD);
+        assertEquals(AIPlayerController.AIDifficulty.HARD.getSearchBudgetMicros(), ai.getSearchBudgetMicros());
+        assertTrue(AIPlayerController.AIDifficulty.HARD.getSearchBudgetMicros()
+                > AIPlayerController.AIDifficulty.NORMAL.getSearchBudgetMicros());
+    }
+
+    @Test
+    public void testDifficultyAppliesReachabilityColumn() {
+        TetrisAI ai = new TetrisAI(GameEngine.createHeadless(20, 10, 1L));
+        assertFalse("기본값은 곧바로 떨어뜨리는 자리만", ai.isReachabilitySearch());
+
+        for (AIPlayerController.AIDifficulty difficulty : AIPlayerController.AIDifficulty.values()) {
+            ai.setReachabilitySearch(!difficulty.isReachabilitySearch());
+            ai.setDifficulty(difficulty);
+            assertEquals(difficulty.name(), difficulty.isReachabilitySearch(), ai.isReachabilitySearch());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeBudget() {
+        new TetrisAI(GameEngine.createHeadless(20, 10, 1L)).setSearchBudgetMicros(-1L);
+    }
+
+    private static TetrisAI newAI(GameEngine engine, long budgetMicros) {
+        TetrisAI ai = new TetrisAI(engine);
+        ai.setThinkDelay(0);
+        ai.setSearchBudgetMicros(budgetMicros);
+        return ai;
+    }
+}
@@ -0,0 +1,87 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+
+/**
+ * 병렬 Beam Search 테스트
+ * - 작업 스레드 수와 관계없이 같은 보드에서 같은 수를 고르는지
+ * - 잘못된 설정값을 거부하는지
+ * - 기본 작업 스레드 수를 -Dtetris.ai.workers로 정하는지
+ */
+public class TetrisAIParallelTest {
+
+    @Test
+    public void testParallelSearchMatchesSequential() {
+        assertSameGame(1, 4, 3, 2000);
+    }
+
+    @Test
+    public void testWideBeamIsDeterministicAcrossWorkerCounts() {
+        assertSameGame(2, 8, 12, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroWorkers() {
+        new TetrisAI(GameEngine.createHeadless(20, 10)).setMaxWorkers(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroBeamWidth() {
+        new TetrisAI(GameEngine.createHeadless(20, 10)).setBeamWidth(0);
+    }
+
+    @Test
+    public void testDefaultWorkersFromSystemProperty() {
+        String previous = System.getProperty("tetris.ai.workers");
+        try {
+            System.clearProperty("tetris.ai.workers");
+            assertEquals("기본값은 순차 탐색", 1, new TetrisAI(GameEngine.createHeadless(20, 10)).getMaxWorkers());
+            System.setProperty("tetris.ai.workers", "4");
+            assertEquals(4, new TetrisAI(GameEngine.createHeadless(20, 10)).getMaxWorkers());
+            System.setProperty("tetris.ai.workers", "0");
+            assertEquals("1 미만은 순차 탐색", 1, new TetrisAI(GameEngine.createHeadless(20, 10)).getMaxWorkers());
+        } finally {
+            if (previous == null) {
+                System.clearProperty("tetris.ai.workers");
+            } else {
+                System.setProperty("tetris.ai.workers", previous);
+            }
+        }
+    }
+
+    // 같은 시드의 두 게임을 서로 다른 작업 수로 한 행동씩 진행하며 블록 위치와 보드가 항상 같은지 확인
+    private static void assertSameGame(int workersA, int workersB, int beamWidth, int actions) {
+        GameEngine engineA = GameEngine.createHeadless(20, 10, 77L);
+        GameEngine engineB = GameEngine.createHeadless(20, 10, 77L);
+        TetrisAI aiA = newAI(engineA, workersA, beamWidth);
+        TetrisAI aiB = newAI(engineB, workersB, beamWidth);
+
+        for (int step = 0; step < actions && !engineA.isGameOver(); step++) {
+            assertEquals(aiA.makeMove(), aiB.makeMove());
+            assertEquals("x, step=" + step, engineA.getX(), engineB.getX());
+            assertEquals("y, step=" + step, engineA.getY(), engineB.getY());
+            assertSameBoard(engineA, engineB);
+        }
+        assertEquals(engineA.isGameOver(), engineB.isGameOver());
+        assertEquals(engineA.getGameScoring().getCurrentScore(), engineB.getGameScoring().getCurrentScore());
+    }
+
+    private static void assertSameBoard(GameEngine a, GameEngine b) {
+        for (int row = 0; row < a.getBoardManager().getHeight(); row++) {
+            assertEquals("row " + row, a.getBoardManager().getBitBoard().getRow(row),
+                    b.getBoardManager().getBitBoard().getRow(row));
+        }
+    }
+
+    private static TetrisAI newAI(GameEngine engine, int workers, int beamWidth) {
+        TetrisAI ai = new TetrisAI(engine);
+        ai.setThinkDelay(0);
+        ai.setMaxWorkers(workers);
+        ai.setBeamWidth(beamWidth);
+        return ai;
+    }
+}
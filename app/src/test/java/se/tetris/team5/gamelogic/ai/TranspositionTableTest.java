@@ -0,0 +1,78 @@
+package se.tetris.team5.gamelogic.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+
+/**
+ * 평가 특징 전치표 테스트
+ * - 저장/조회, 같은 칸 교체, 적중/미스 통계
+ * - 전치표를 써도 AI가 고르는 수가 바뀌지 않는지
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void testPutAndGet() {
+        TranspositionTable table = new TranspositionTable(16);
+        assertEquals(TranspositionTable.MISS, table.get(12345L));
+        table.put(12345L, 42L);
+        assertEquals(42L, table.get(12345L));
+        assertEquals(1, table.getHits());
+        assertEquals(1, table.getMisses());
+        assertEquals(0.5, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void testEmptySlotDoesNotMatchZeroHash() {
+        TranspositionTable table = new TranspositionTable(8);
+        assertEquals(TranspositionTable.MISS, table.get(0L));
+        table.put(0L, 0L);
+        assertEquals(0L, table.get(0L));
+    }
+
+    @Test
+    public void testCollidingEntryIsReplaced() {
+        TranspositionTable table = new TranspositionTable(4);
+        long a = 1L;
+        long b = 1L + table.getCapacity(); // 같은 칸
+        table.put(a, 7L);
+        table.put(b, 9L);
+        assertEquals(TranspositionTable.MISS, table.get(a));
+        assertEquals(9L, table.get(b));
+    }
+
+    @Test
+    public void testCapacityRoundsUpAndClearResetsStats() {
+        TranspositionTable table = new TranspositionTable(100);
+        assertEquals(128, table.getCapacity());
+        table.put(5L, 1L);
+        table.get(5L);
+        table.clear();
+        assertEquals(0, table.getHits());
+        assertEquals(0, table.getMisses());
+        assertEquals(TranspositionTable.MISS, table.get(5L));
+    }
+
+    @Test
+    public void testTableDoesNotChangeDecisions() {
+        GameEngine cached = GameEngine.createHeadless(20, 10, 31L);
+        GameEngine uncached = GameEngine.createHeadless(20, 10, 31L);
+        TetrisAI aiCached = new TetrisAI(cached);
+        TetrisAI aiUncached = new TetrisAI(uncached);
+        aiCached.setThinkDelay(0);
+        aiUncached.setThinkDelay(0);
+        aiUncached.setTranspositionCapacity(0);
+        assertNull(aiUncached.getTranspositionTable());
+
+        for (int step = 0; step < 1500 && !cached.isGameOver(); step++) {
+            aiCached.makeMove();
+            aiUncached.makeMove();
+            assertEquals("x, step=" + step, cached.getX(), uncached.getX());
+            assertEquals("y, step=" + step, cached.getY(), uncached.getY());
+        }
+        assertEquals(cached.getGameScoring().getCurrentScore(), uncached.getGameScoring().getCurrentScore());
+        assertTrue("같은 보드가 반복되어 적중이 있어야 함", aiCached.getTranspositionTable().getHits() > 0);
+    }
+}
@@ -0,0 +1,131 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 적합도 캐시 테스트
+ * - 키가 가중치 값/상대/시드/평가 방식으로 정해지는지
+ * - 재평가 주기마다 결과를 버리는지, 용량을 넘으면 오래된 결과부터 버리는지
+ * - 세대 평가에서 캐시된 개체와 중복 가중치는 다시 평가하지 않는지
+ */
+public class FitnessCacheTest {
+
+    @Test
+    public void testKeyDependsOnValues() {
+        WeightSet a = new WeightSet();
+        WeightSet b = new WeightSet();
+        long[] seeds = { 1, 2, 3, 4, 5 };
+        long key = FitnessCache.key("quick", a, null, null);
+
+        assertEquals("같은 값이면 같은 키", key, FitnessCache.key("quick", b, null, null));
+        b.weightHoles += 0.001;
+        assertNotEquals(key, FitnessCache.key("quick", b, null, null));
+        assertNotEquals(key, FitnessCache.key("survival", a, null, null));
+        assertNotEquals(key, FitnessCache.key("quick", a, b, null));
+        assertNotEquals(key, FitnessCache.key("quick", a, null, seeds));
+        assertNotEquals(FitnessCache.key("quick", a, null, seeds),
+                FitnessCache.key("quick", a, null, new long[] { 1, 2, 3, 5, 4 }));
+
+        WeightSet zero = new WeightSet();
+        zero.weightEPCM = 0.0;
+        WeightSet negativeZero = new WeightSet();
+        negativeZero.weightEPCM = -0.0;
+        assertEquals(zero.canonicalHash(), negativeZero.canonicalHash());
+    }
+
+    @Test
+    public void testResampleInterval() {
+        FitnessCache cache = new FitnessCache(16, 3);
+        Individual evaluated = individual(1.0, 42.0);
+        cache.store(7L, evaluated);
+
+        Individual copy = individual(1.0, 0.0);
+        assertTrue(cache.restore(7L, copy));
+        assertEquals(42.0, copy.fitness, 0.0);
+        assertEquals(evaluated.totalGames, copy.totalGames);
+        assertTrue(cache.restore(7L, individual(1.0, 0.0)));
+        assertFalse("세 번째 조회에서 다시 평가", cache.restore(7L, individual(1.0, 0.0)));
+        assertEquals(1, cache.getResamples());
+        assertEquals(0, cache.size());
+
+        FitnessCache forever = new FitnessCache(16, 0);
+        forever.store(7L, evaluated);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(forever.restore(7L, individual(1.0, 0.0)));
+        }
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        FitnessCache cache = new FitnessCache(2, 0);
+        cache.store(1L, individual(1.0, 1.0));
+        cache.store(2L, individual(2.0, 2.0));
+        assertTrue(cache.restore(1L, individual(1.0, 0.0)));
+        cache.store(3L, individual(3.0, 3.0));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.restore(1L, individual(1.0, 0.0)));
+        assertFalse(cache.restore(2L, individual(2.0, 0.0)));
+        assertTrue(cache.restore(3L, individual(3.0, 0.0)));
+    }
+
+    @Test
+    public void testGenerationSkipsCachedAndDuplicateIndividuals() {
+        FitnessCache cache = new FitnessCache(64, 0);
+        PopulationEvaluator evaluator = new PopulationEvaluator(2);
+        AtomicInteger evaluations = new AtomicInteger();
+        Individual opponent = new Individual(new WeightSet());
+
+        List<Individual> first = Arrays.asList(individual(1.0, 0.0), individual(2.0, 0.0), individual(1.0, 0.0));
+        long[] elapsed = evaluator.evaluate(first, opponent, "test", (e, individual) -> {
+            evaluations.incrementAndGet();
+            individual.addGameResult(10, (int) (individual.weights.weightHoles * -100), null, 1000);
+            return individual.fitness;
+        }, cache);
+        assertEquals("중복 가중치는 한 번만 평가", 2, evaluations.get());
+        assertEquals(PopulationEvaluator.NOT_EVALUATED, elapsed[2]);
+        assertEquals(first.get(0).fitness, first.get(2).fitness, 0.0);
+        assertEquals(1, first.get(2).totalGames);
+
+        // 다음 세대: 엘리트(같은 가중치의 새 개체)는 캐시에서 가져오고 새 개체만 평가
+        List<Individual> second = new ArrayList<>();
+        second.add(individual(1.0, 0.0));
+        second.add(individual(3.0, 0.0));
+        elapsed = evaluator.evaluate(second, opponent, "test", (e, individual) -> {
+            evaluations.incrementAndGet();
+            individual.addGameResult(10, 0, null, 1000);
+            return individual.fitness;
+        }, cache);
+        assertEquals(3, evaluations.get());
+        assertEquals(PopulationEvaluator.NOT_EVALUATED, elapsed[0]);
+        assertEquals(first.get(0).fitness, second.get(0).fitness, 0.0);
+
+        // 상대가 바뀌면 다시 평가
+        evaluator.evaluate(second, new Individual(WeightSet.random()), "test", (e, individual) -> {
+            evaluations.incrementAndGet();
+            return 0.0;
+        }, cache);
+        assertEquals(5, evaluations.get());
+    }
+
+    // weightHoles = -id 인 개체 (fitness가 0이 아니면 게임 하나를 치른 결과로 만듦)
+    private static Individual individual(double id, double fitness) {
+        WeightSet weights = new WeightSet();
+        weights.weightHoles = -id;
+        Individual individual = new Individual(weights);
+        if (fitness != 0.0) {
+            individual.addGameResult(1, 0, null, 0);
+            individual.fitness = fitness;
+        }
+        return individual;
+    }
+}
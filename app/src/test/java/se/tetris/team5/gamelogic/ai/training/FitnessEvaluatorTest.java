@@ -0,0 +1,124 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.ManualClock;
+import se.tetris.team5.gamelogic.ai.AIPlayerController;
+import se.tetris.team5.gamelogic.ai.TetrisAI;
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 적합도 평가 lockstep 모드 테스트
+ * - 시뮬레이션 시간으로 낙하:AI 주기 비율을 지키며 진행하는지
+ * - 제한 시간/행동 수에서 멈추는지
+ * - 개체 하나의 평가가 실제 시간 대기 없이 끝나는지
+ * - 게임 시드를 주면 같은 개체는 같은 결과를 얻는지
+ * - AI 사고 시간을 지키고 시뮬레이션 시계로 재는지 (0은 명시적으로 켤 때만)
+ */
+public class FitnessEvaluatorTest {
+
+    @Test
+    public void testLockstepKeepsTimerRatio() {
+        ManualClock clock = new ManualClock();
+        int[] gravity = { 0 };
+        int[] ai = { 0 };
+        int[] moves = { 0 };
+        long[] lastGravityTime = { -1 };
+
+        long elapsed = FitnessEvaluator.runLockstep(clock, 50, 20, Integer.MAX_VALUE, 1000, moves,
+                new boolean[1], () -> {
+                    gravity[0]++;
+                    lastGravityTime[0] = clock.currentTimeMillis();
+                }, () -> ai[0]++);
+
+        assertEquals(1000, elapsed);
+        assertEquals(1000, clock.currentTimeMillis());
+        assertEquals("50ms 간격 낙하는 1초에 19번 (1000ms는 제한 시각)", 19, gravity[0]);
+        assertEquals(49, ai[0]);
+        assertEquals(950, lastGravityTime[0]);
+    }
+
+    @Test
+    public void testLockstepStopsAtMoveLimitAndFinish() {
+        ManualClock clock = new ManualClock();
+        int[] moves = { 0 };
+        long elapsed = FitnessEvaluator.runLockstep(clock, 20, 5, 100, 10_000, moves, new boolean[1],
+                () -> { }, () -> moves[0]++);
+        assertEquals(100, moves[0]);
+        assertEquals("AI 주기 100번 = 500ms", 500, elapsed);
+
+        boolean[] finished = { false };
+        int[] gravity = { 0 };
+        elapsed = FitnessEvaluator.runLockstep(new ManualClock(), 20, 5, 1000, 10_000, new int[1], finished,
+                () -> finished[0] = ++gravity[0] == 3, () -> { });
+        assertEquals(60, elapsed);
+    }
+
+    @Test
+    public void testQuickEvaluateRunsWithoutRealTime() {
+        FitnessEvaluator evaluator = new FitnessEvaluator();
+        assertTrue(evaluator.isLockstep());
+        Individual individual = new Individual(new WeightSet());
+
+        long start = System.nanoTime();
+        evaluator.quickEvaluate(individual);
+        evaluator.evaluateSurvival(individual);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        assertEquals(5, individual.totalGames);
+        assertTrue("게임 시간은 시뮬레이션 시간으로 셈", individual.averageGameTimeMs > 0);
+        assertTrue("실제 시간 타이머로는 50초가 걸리는 평가: " + elapsedMs + "ms", elapsedMs < 20_000);
+    }
+
+    @Test
+    public void testSeededEvaluationIsRepeatable() {
+        FitnessEvaluator evaluator = new FitnessEvaluator();
+        evaluator.setGameSeeds(new long[] { 11, 12, 13, 14, 15 });
+        Individual first = new Individual(new WeightSet());
+        Individual second = new Individual(new WeightSet());
+
+        evaluator.quickEvaluate(first);
+        evaluator.quickEvaluate(second);
+
+        assertEquals(first.fitness, second.fitness, 0.0);
+        assertEquals(first.totalLinesCleared, second.totalLinesCleared);
+        assertEquals(first.totalGameTimeMs, second.totalGameTimeMs);
+    }
+
+    @Test
+    public void testKeepsThinkDelayOnSimulatedClock() {
+        FitnessEvaluator evaluator = new FitnessEvaluator();
+        assertFalse("사고 시간 0은 기본값이 아님", evaluator.isZeroThinkDelay());
+        int delay = AIPlayerController.AIDifficulty.NORMAL.getThinkDelayMs();
+
+        ManualClock clock = new ManualClock();
+        long start = clock.currentTimeMillis();
+        TetrisAI ai = evaluator.createAI(clockedEngine(clock), new WeightSet());
+        assertTrue(ai.makeMove());
+        clock.setTime(start + delay - 1);
+        assertFalse("사고 시간이 지나기 전에는 행동하지 않음", ai.makeMove());
+        clock.setTime(start + delay);
+        assertTrue(ai.makeMove());
+
+        evaluator.setZeroThinkDelay(true);
+        ManualClock fastClock = new ManualClock();
+        TetrisAI fast = evaluator.createAI(clockedEngine(fastClock), new WeightSet());
+        assertTrue(fast.makeMove());
+        fastClock.setTime(fastClock.currentTimeMillis() + 1);
+        assertTrue("사고 시간 0이면 시계가 움직일 때마다 행동", fast.makeMove());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTooFewSeeds() {
+        new FitnessEvaluator().setGameSeeds(new long[] { 1, 2 });
+    }
+
+    private static GameEngine clockedEngine(ManualClock clock) {
+        GameEngine engine = GameEngine.createHeadless(20, 10);
+        engine.setClock(clock);
+        return engine;
+    }
+}
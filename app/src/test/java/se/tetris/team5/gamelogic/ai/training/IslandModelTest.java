@@ -0,0 +1,272 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import static org.junit.Assert.*;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 섬 모델 테스트 (조정자와 섬을 한 JVM 안에서 localhost 소켓으로 연결)
+ * - 이주 개체가 고리의 앞 섬에서 오는지, 세대 결과가 모이는지
+ * - 연결이 끊긴 섬을 빼고 이주가 계속되는지, 조정자가 끊기거나 멈춰도 섬은 학습을 계속하는지
+ * - 받기를 멈춘 섬이 다른 섬의 이주를 막지 않는지
+ * - 하이브리드 유전 알고리즘이 이주 주기마다 개체를 교환하는지
+ */
+public class IslandModelTest {
+
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        pool = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test(timeout = 30000)
+    public void testRingMigrationAndAggregation() throws Exception {
+        IslandCoordinator coordinator = new IslandCoordinator(3, 10, 1, 2);
+        int port = coordinator.bind(0);
+        Future<?> run = pool.submit(() -> {
+            coordinator.run();
+            return null;
+        });
+
+        List<Future<double[]>> received = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            received.add(pool.submit(() -> {
+                IslandWorker worker = new IslandWorker("localhost", port);
+                int id = worker.getIslandId();
+                assertEquals(3, worker.getIslandCount());
+                assertEquals(10, worker.getPopulationSize());
+
+                GenerationResult result = new GenerationResult(0);
+                result.bestFitness = 10.0 * id;
+                result.avgFitness = id;
+                result.worstFitness = -id;
+                worker.reportResult(TrainingCheckpoint.PHASE_SURVIVAL, result);
+                List<WeightSet> migrants = worker.exchange(TrainingCheckpoint.PHASE_SURVIVAL, 0,
+                        Collections.singletonList(tagged(id)));
+                worker.finish(tagged(id), tagged(id));
+                assertEquals(1, migrants.size());
+                return new double[] { id, migrants.get(0).weightHoles };
+            }));
+        }
+        for (Future<double[]> future : received) {
+            double[] idAndTag = future.get(20, TimeUnit.SECONDS);
+            assertEquals("고리의 앞 섬에서 받음", -((idAndTag[0] + 2) % 3), idAndTag[1], 0.0);
+        }
+        run.get(20, TimeUnit.SECONDS);
+
+        List<GenerationResult> aggregated = coordinator.getAggregatedResults();
+        assertEquals(1, aggregated.size());
+        assertEquals(20.0, aggregated.get(0).bestFitness, 0.0);
+        assertEquals(1.0, aggregated.get(0).avgFitness, 1e-9);
+        assertEquals(-2.0, aggregated.get(0).worstFitness, 0.0);
+        assertEquals(3, coordinator.getFinalWeights().size());
+        assertEquals(1, coordinator.getIslandResults(1).size());
+    }
+
+    @Test(timeout = 30000)
+    public void testDroppedIslandLeavesRing() throws Exception {
+        IslandCoordinator coordinator = new IslandCoordinator(3, 10, 1, 1);
+        int port = coordinator.bind(0);
+        Future<?> run = pool.submit(() -> {
+            coordinator.run();
+            return null;
+        });
+
+        List<Future<IslandWorker>> connected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            connected.add(pool.submit(() -> new IslandWorker("localhost", port)));
+        }
+        List<IslandWorker> workers = new ArrayList<>();
+        for (Future<IslandWorker> future : connected) {
+            workers.add(future.get(20, TimeUnit.SECONDS));
+        }
+        workers.sort((a, b) -> a.getIslandId() - b.getIslandId());
+
+        workers.get(1).close(); // 섬 1이 이주 전에 끊김
+        Future<List<WeightSet>> island0 = pool.submit(() -> workers.get(0).exchange(
+                TrainingCheckpoint.PHASE_ATTACK, 1, Collections.singletonList(tagged(0))));
+        Future<List<WeightSet>> island2 = pool.submit(() -> workers.get(2).exchange(
+                TrainingCheckpoint.PHASE_ATTACK, 1, Collections.singletonList(tagged(2))));
+
+        assertEquals(-2.0, island0.get(20, TimeUnit.SECONDS).get(0).weightHoles, 0.0);
+        assertEquals(-0.0, island2.get(20, TimeUnit.SECONDS).get(0).weightHoles, 0.0);
+        workers.get(0).finish(tagged(0), tagged(0));
+        workers.get(2).finish(tagged(2), tagged(2));
+        run.get(20, TimeUnit.SECONDS);
+        assertEquals(2, coordinator.getFinalWeights().size());
+    }
+
+    @Test(timeout = 60000)
+    public void testStalledIslandDoesNotBlockOthers() throws Exception {
+        IslandCoordinator coordinator = new IslandCoordinator(3, 10, 1, 1);
+        int port = coordinator.bind(0);
+        Future<?> run = pool.submit(() -> {
+            coordinator.run();
+            return null;
+        });
+
+        // 먼저 접속해 섬 0이 되고, 이주 개체를 보낸 뒤 아무것도 읽지 않는 섬
+        try (Socket stalled = new Socket("localhost", port)) {
+            DataOutputStream out = new DataOutputStream(stalled.getOutputStream());
+            out.writeInt(IslandProtocol.MAGIC);
+            out.writeInt(IslandProtocol.VERSION);
+            out.flush();
+
+            List<Future<IslandWorker>> connected = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                connected.add(pool.submit(() -> new IslandWorker("localhost", port)));
+            }
+            List<IslandWorker> workers = new ArrayList<>();
+            for (Future<IslandWorker> future : connected) {
+                workers.add(future.get(20, TimeUnit.SECONDS));
+            }
+            workers.sort((a, b) -> a.getIslandId() - b.getIslandId());
+            assertEquals(1, workers.get(0).getIslandId());
+
+            IslandProtocol.writeMigrants(out, TrainingCheckpoint.PHASE_SURVIVAL, 0,
+                    Collections.singletonList(tagged(0)));
+            // 섬 2가 보내는 개체는 소켓 버퍼보다 커서 섬 0에 쓰는 쪽이 막힘
+            List<WeightSet> large = new ArrayList<>(Collections.nCopies(200_000, tagged(2)));
+            Future<List<WeightSet>> island1 = pool.submit(() -> workers.get(0).exchange(
+                    TrainingCheckpoint.PHASE_SURVIVAL, 0, Collections.singletonList(tagged(1))));
+            Future<List<WeightSet>> island2 = pool.submit(() -> workers.get(1).exchange(
+                    TrainingCheckpoint.PHASE_SURVIVAL, 0, large));
+
+            assertEquals(-0.0, island1.get(20, TimeUnit.SECONDS).get(0).weightHoles, 0.0);
+            assertEquals(-1.0, island2.get(20, TimeUnit.SECONDS).get(0).weightHoles, 0.0);
+            workers.get(0).finish(tagged(1), tagged(1));
+            workers.get(1).finish(tagged(2), tagged(2));
+        }
+        run.get(20, TimeUnit.SECONDS);
+        assertEquals(2, coordinator.getFinalWeights().size());
+    }
+
+    @Test(timeout = 30000)
+    public void testWorkerContinuesWithoutCoordinator() throws Exception {
+        // 설정만 보내고 연결을 닫는 조정자
+        try (ServerSocket server = new ServerSocket(0)) {
+            Future<?> coordinator = pool.submit(() -> {
+                try (Socket socket = server.accept()) {
+                    DataInputStream in = new DataInputStream(socket.getInputStream());
+                    assertEquals(IslandProtocol.MAGIC, in.readInt());
+                    assertEquals(IslandProtocol.VERSION, in.readInt());
+                    DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                    out.writeByte(IslandProtocol.MSG_CONFIG);
+                    for (int value : new int[] { 0, 1, 10, 1, 1 }) {
+                        out.writeInt(value);
+                    }
+                    out.flush();
+                }
+                return null;
+            });
+            IslandWorker worker = new IslandWorker("localhost", server.getLocalPort());
+            coordinator.get(20, TimeUnit.SECONDS);
+
+            assertTrue(worker.exchange(TrainingCheckpoint.PHASE_SURVIVAL, 0,
+                    Collections.singletonList(tagged(0))).isEmpty());
+            worker.reportResult(TrainingCheckpoint.PHASE_SURVIVAL, new GenerationResult(1));
+            worker.finish(tagged(0), tagged(0));
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testWorkerStopsWaitingForHungCoordinator() throws Exception {
+        // 설정을 보낸 뒤 연결은 유지한 채 응답하지 않는 조정자
+        CountDownLatch release = new CountDownLatch(1);
+        try (ServerSocket server = new ServerSocket(0)) {
+            Future<?> coordinator = pool.submit(() -> {
+                try (Socket socket = server.accept()) {
+                    DataInputStream in = new DataInputStream(socket.getInputStream());
+                    assertEquals(IslandProtocol.MAGIC, in.readInt());
+                    assertEquals(IslandProtocol.VERSION, in.readInt());
+                    DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                    out.writeByte(IslandProtocol.MSG_CONFIG);
+                    for (int value : new int[] { 0, 1, 10, 1, 1 }) {
+                        out.writeInt(value);
+                    }
+                    out.flush();
+                    release.await();
+                }
+                return null;
+            });
+            IslandWorker worker = new IslandWorker("localhost", server.getLocalPort());
+            assertTrue("기본 대기 시간은 넉넉해야 함", worker.exchangeTimeout() >= 60_000);
+            worker.setMinExchangeTimeout(200);
+
+            long start = System.nanoTime();
+            assertTrue(worker.exchange(TrainingCheckpoint.PHASE_SURVIVAL, 0,
+                    Collections.singletonList(tagged(0))).isEmpty());
+            assertTrue("시간 초과 후 혼자 계속해야 함", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+            // 연결을 끊었으므로 다음 이주는 기다리지 않음
+            assertTrue(worker.exchange(TrainingCheckpoint.PHASE_SURVIVAL, 1,
+                    Collections.singletonList(tagged(0))).isEmpty());
+            worker.finish(tagged(0), tagged(0));
+
+            release.countDown();
+            coordinator.get(20, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsMigrantsReplacingElites() {
+        new IslandCoordinator(2, 10, 1, 9); // 집단 10, 엘리트 2 → 최대 8개
+    }
+
+    @Test(timeout = 120000)
+    public void testGeneticAlgorithmExchangesEveryInterval() {
+        List<Integer> exchanges = new ArrayList<>();
+        int[] results = { 0 };
+        WeightSet immigrant = WeightSet.random(new java.util.Random(9));
+        IslandChannel channel = new IslandChannel() {
+            @Override
+            public void reportResult(int phase, GenerationResult result) {
+                results[0]++;
+            }
+
+            @Override
+            public List<WeightSet> exchange(int phase, int generation, List<WeightSet> emigrants) {
+                assertEquals(1, emigrants.size());
+                exchanges.add(phase * 100 + generation);
+                return Collections.singletonList(immigrant);
+            }
+        };
+
+        HybridGeneticAlgorithm ga = new HybridGeneticAlgorithm(1, 3);
+        ga.setIsland(channel, 4, 1);
+        WeightSet survival = ga.learnSurvivalWeights();
+        ga.learnAttackWeights(survival);
+
+        assertEquals(20, results[0]);
+        assertEquals("마지막 세대 뒤에는 교환하지 않음", List.of(3, 7, 103, 107), exchanges);
+    }
+
+    // weightHoles = -id 인 가중치
+    private static WeightSet tagged(int id) {
+        WeightSet weights = new WeightSet();
+        weights.weightHoles = -id;
+        return weights;
+    }
+}
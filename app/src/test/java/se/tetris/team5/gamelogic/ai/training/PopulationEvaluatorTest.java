@@ -0,0 +1,99 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 세대 병렬 평가 테스트
+ * - 결과가 스레드 순서와 관계없이 각 개체 자리에 기록되는지
+ * - 작업 스레드마다 평가기를 따로 쓰고 상대 개체를 공유하는지
+ * - 평가 중 예외가 호출한 쪽으로 전달되는지
+ */
+public class PopulationEvaluatorTest {
+
+    @Test
+    public void testResultsWrittenToEachIndividual() {
+        List<Individual> population = population(23);
+        Individual opponent = new Individual(new WeightSet());
+        Set<FitnessEvaluator> evaluators = ConcurrentHashMap.newKeySet();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch started = new CountDownLatch(2);
+
+        long[] elapsed = new PopulationEvaluator(4).evaluate(population, opponent, (evaluator, individual) -> {
+            evaluators.add(evaluator);
+            threads.add(Thread.currentThread());
+            started.countDown();
+            try {
+                // 적어도 두 스레드가 동시에 평가하도록 잠시 기다림
+                started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            individual.fitness = individual.weights.weightHoles * 2;
+            return individual.fitness;
+        });
+
+        assertEquals(population.size(), elapsed.length);
+        for (Individual individual : population) {
+            assertEquals(individual.weights.weightHoles * 2, individual.fitness, 0.0);
+        }
+        assertTrue("여러 스레드에서 평가", threads.size() > 1);
+        assertFalse("호출 스레드는 기다리기만 함", threads.contains(Thread.currentThread()));
+        assertEquals("작업 스레드마다 평가기 하나", threads.size(), evaluators.size());
+    }
+
+    @Test
+    public void testSingleWorkerRunsInCallerThread() {
+        List<Individual> population = population(5);
+        List<Thread> threads = new ArrayList<>();
+        new PopulationEvaluator(1).evaluate(population, null, (evaluator, individual) -> {
+            threads.add(Thread.currentThread());
+            return 0.0;
+        });
+        assertEquals(5, threads.size());
+        for (Thread thread : threads) {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void testParallelSurvivalEvaluation() {
+        List<Individual> population = population(4);
+        new PopulationEvaluator(2).evaluate(population, null, FitnessEvaluator::evaluateSurvival);
+        for (Individual individual : population) {
+            assertEquals(5, individual.totalGames);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWorkerFailurePropagates() {
+        new PopulationEvaluator(3).evaluate(population(6), null, (evaluator, individual) -> {
+            throw new IllegalStateException("평가 실패");
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroWorkers() {
+        new PopulationEvaluator(0);
+    }
+
+    private static List<Individual> population(int size) {
+        List<Individual> population = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            WeightSet weights = new WeightSet();
+            weights.weightHoles = -i;
+            population.add(new Individual(weights));
+        }
+        return population;
+    }
+}
@@ -0,0 +1,147 @@
+package se.tetris.team5.gamelogic.ai.training;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.ai.WeightSet;
+
+/**
+ * 학습 체크포인트 테스트
+ * - 난수 생성기가 java.util.Random과 같은 수열을 만들고 상태를 되돌릴 수 있는지
+ * - 저장한 체크포인트를 그대로 읽는지, 임시 파일이 남지 않는지
+ * - 손상된 파일을 거부하는지
+ * - Step 2 체크포인트에서 이어가면 Step 1을 건너뛰는지
+ */
+public class TrainingCheckpointTest {
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("checkpoint-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testRandomMatchesJavaRandomAndRestores() {
+        TrainingRandom random = new TrainingRandom(1234L);
+        Random reference = new Random(1234L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(reference.nextInt(30), random.nextInt(30));
+            assertEquals(reference.nextDouble(), random.nextDouble(), 0.0);
+        }
+
+        long state = random.getState();
+        WeightSet first = WeightSet.random(random);
+        random.setState(state);
+        WeightSet second = WeightSet.random(random);
+        assertEquals(first.canonicalHash(), second.canonicalHash());
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        TrainingCheckpoint checkpoint = new TrainingCheckpoint();
+        checkpoint.phase = TrainingCheckpoint.PHASE_ATTACK;
+        checkpoint.generation = 4;
+        checkpoint.randomState = 0x123456789ABCL;
+        checkpoint.bestSurvivalWeights = new WeightSet();
+        checkpoint.population.add(WeightSet.random(new Random(1)));
+        checkpoint.population.add(WeightSet.random(new Random(2)));
+        GenerationResult result = new GenerationResult(3);
+        result.bestFitness = 12.5;
+        result.bestWeights = WeightSet.random(new Random(3));
+        result.evaluationTimeMs = 777;
+        checkpoint.generationResults.add(result);
+        checkpoint.generationResults.add(new GenerationResult(4));
+
+        Path file = dir.resolve("ga.bin");
+        checkpoint.save(file);
+        checkpoint.generation = 5;
+        checkpoint.save(file); // 기존 파일 덮어쓰기
+        TrainingCheckpoint loaded = TrainingCheckpoint.load(file);
+
+        assertEquals(TrainingCheckpoint.PHASE_ATTACK, loaded.phase);
+        assertEquals(5, loaded.generation);
+        assertEquals(0x123456789ABCL, loaded.randomState);
+        assertEquals(new WeightSet().canonicalHash(), loaded.bestSurvivalWeights.canonicalHash());
+        assertEquals(2, loaded.population.size());
+        assertEquals(checkpoint.population.get(1).canonicalHash(), loaded.population.get(1).canonicalHash());
+        assertEquals(2, loaded.generationResults.size());
+        assertEquals(3, loaded.generationResults.get(0).generation);
+        assertEquals(12.5, loaded.generationResults.get(0).bestFitness, 0.0);
+        assertEquals(777, loaded.generationResults.get(0).evaluationTimeMs);
+        assertEquals(result.bestWeights.canonicalHash(), loaded.generationResults.get(0).bestWeights.canonicalHash());
+        assertNull(loaded.generationResults.get(1).bestWeights);
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals("임시 파일이 남지 않음", 1, files.count());
+        }
+    }
+
+    @Test
+    public void testResumeInAttackPhaseSkipsSurvivalStep() {
+        TrainingCheckpoint checkpoint = new TrainingCheckpoint();
+        checkpoint.phase = TrainingCheckpoint.PHASE_ATTACK;
+        checkpoint.bestSurvivalWeights = WeightSet.random(new Random(5));
+        checkpoint.population.add(new WeightSet());
+        checkpoint.generationResults.add(new GenerationResult(0));
+
+        HybridGeneticAlgorithm ga = new HybridGeneticAlgorithm(1);
+        ga.restore(checkpoint);
+
+        assertSame(checkpoint.bestSurvivalWeights, ga.learnSurvivalWeights());
+        assertEquals(1, ga.getGenerationResults().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRestoreRejectsAttackPhaseWithoutSurvivalWeights() {
+        TrainingCheckpoint checkpoint = new TrainingCheckpoint();
+        checkpoint.phase = TrainingCheckpoint.PHASE_ATTACK;
+        checkpoint.population.add(new WeightSet());
+        new HybridGeneticAlgorithm(1).restore(checkpoint);
+    }
+
+    @Test
+    public void testRejectsCorruptedFile() throws IOException {
+        TrainingCheckpoint checkpoint = new TrainingCheckpoint();
+        checkpoint.population.add(new WeightSet());
+        Path file = dir.resolve("ga.bin");
+        checkpoint.save(file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[20] ^= 0x01;
+        Files.write(file, bytes);
+        try {
+            TrainingCheckpoint.load(file);
+            fail("손상된 체크포인트를 읽음");
+        } catch (IOException expected) {
+            // 예상된 동작
+        }
+
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        try {
+            TrainingCheckpoint.load(file);
+            fail("체크포인트가 아닌 파일을 읽음");
+        } catch (IOException expected) {
+            // 예상된 동작
+        }
+    }
+}
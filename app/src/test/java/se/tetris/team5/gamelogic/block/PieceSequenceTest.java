@@ -0,0 +1,232 @@
+package se.tetris.team5.gamelogic.block;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.GameMode;
+
+/**
+ * 시드 기반 블럭 순서 생성기 테스트
+ * - 같은 시드면 같은 순서, 미리보기는 순서를 바꾸지 않음
+ * - 7-bag은 7개마다 모든 종류가 한 번씩 나옴
+ * - split은 결정적이고 부모와 독립적임
+ * - 설정 변경과 split 결과는 미리보기 깊이와 무관함
+ * - 같은 시드를 받은 두 엔진은 같은 블럭을 받음, 아이템 부여가 블럭 순서를 소비하지 않음
+ * - 게임 리셋은 같은 시드/생성 방식으로 처음부터 다시 시작함, 아이템 칸도 시드로 정해짐
+ */
+public class PieceSequenceTest {
+
+    @Test
+    public void testSameSeedSameSequence() {
+        PieceSequence a = new PieceSequence(42L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.NORMAL);
+        PieceSequence b = new PieceSequence(42L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.NORMAL);
+        for (int i = 0; i < 500; i++) {
+            assertEquals("i=" + i, a.next(), b.next());
+        }
+    }
+
+    @Test
+    public void testPeekDoesNotConsume() {
+        PieceSequence a = new PieceSequence(7L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.HARD);
+        PieceSequence b = new PieceSequence(7L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.HARD);
+
+        // 배치 크기보다 멀리 미리 보기
+        int[] preview = new int[40];
+        a.peek(preview, preview.length);
+        for (int i = 0; i < preview.length; i++) {
+            assertEquals(preview[i], a.peek(0));
+            assertEquals(preview[i], a.next());
+            assertEquals(preview[i], b.next());
+        }
+    }
+
+    @Test
+    public void testSevenBagContainsEveryPiece() {
+        PieceSequence bag = new PieceSequence(3L, PieceSequence.Mode.SEVEN_BAG, BlockFactory.Difficulty.NORMAL);
+        for (int round = 0; round < 50; round++) {
+            boolean[] seen = new boolean[PieceSequence.PIECE_TYPES];
+            for (int i = 0; i < PieceSequence.PIECE_TYPES; i++) {
+                int type = bag.next();
+                assertFalse("한 묶음 안에서 중복: " + type, seen[type]);
+                seen[type] = true;
+            }
+        }
+    }
+
+    @Test
+    public void testResetRestartsSequence() {
+        PieceSequence a = new PieceSequence(99L, PieceSequence.Mode.SEVEN_BAG, BlockFactory.Difficulty.NORMAL);
+        int[] first = new int[20];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = a.next();
+        }
+        a.reset(99L);
+        assertEquals(99L, a.getSeed());
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], a.next());
+        }
+    }
+
+    @Test
+    public void testSplitIsDeterministicAndIndependent() {
+        PieceSequence a = new PieceSequence(11L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.EASY);
+        PieceSequence b = new PieceSequence(11L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.EASY);
+
+        PieceSequence childA = a.split();
+        PieceSequence childB = b.split();
+        assertEquals(childA.getSeed(), childB.getSeed());
+        assertEquals(PieceSequence.Mode.WEIGHTED, childA.getMode());
+        assertEquals(BlockFactory.Difficulty.EASY, childA.getDifficulty());
+
+        // 한쪽 자식만 먼저 소비해도 부모 순서는 그대로
+        int[] ahead = new int[30];
+        for (int i = 0; i < ahead.length; i++) {
+            ahead[i] = childA.next();
+        }
+        for (int i = 0; i < ahead.length; i++) {
+            assertEquals(ahead[i], childB.next());
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.next(), b.next());
+            assertEquals(childA.next(), childB.next());
+        }
+    }
+
+    @Test
+    public void testSettingChangesIgnorePeekDepth() {
+        PieceSequence shallow = new PieceSequence(21L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.NORMAL);
+        PieceSequence deep = new PieceSequence(21L, PieceSequence.Mode.WEIGHTED, BlockFactory.Difficulty.NORMAL);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(shallow.next(), deep.next());
+        }
+        deep.peek(40); // 여러 묶음을 미리 만들어 둠
+
+        shallow.setMode(PieceSequence.Mode.SEVEN_BAG);
+        deep.setMode(PieceSequence.Mode.SEVEN_BAG);
+        for (int i = 0; i < 30; i++) {
+            assertEquals("i=" + i, shallow.next(), deep.next());
+        }
+
+        shallow.setMode(PieceSequence.Mode.WEIGHTED);
+        deep.setMode(PieceSequence.Mode.WEIGHTED);
+        deep.peek(25);
+        shallow.setDifficulty(BlockFactory.Difficulty.HARD);
+        deep.setDifficulty(BlockFactory.Difficulty.HARD);
+        for (int i = 0; i < 30; i++) {
+            assertEquals("i=" + i, shallow.next(), deep.next());
+        }
+
+        deep.peek(50);
+        assertEquals(shallow.split().getSeed(), deep.split().getSeed());
+    }
+
+    @Test
+    public void testFactoryPreviewMatchesCreatedBlocks() {
+        BlockFactory factory = new BlockFactory();
+        factory.setRandomSeed(5L);
+        int[] preview = new int[10];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = factory.peekBlockType(i);
+        }
+        assertEquals(factory.createBlock(preview[3]).getClass(), factory.createPreviewBlock(3).getClass());
+        for (int i = 0; i < preview.length; i++) {
+            assertEquals(factory.createBlock(preview[i]).getClass(), factory.createRandomBlock().getClass());
+        }
+    }
+
+    @Test
+    public void testEnginesWithSameSeedGetSameBlocks() {
+        GameEngine e1 = GameEngine.createHeadless(20, 10, 1234L);
+        GameEngine e2 = GameEngine.createHeadless(20, 10, 1234L);
+
+        for (int i = 0; i < 100 && !e1.isGameOver() && !e2.isGameOver(); i++) {
+            assertEquals(e1.getCurrentBlock().getBlockType(), e2.getCurrentBlock().getBlockType());
+            assertEquals(e1.getNextBlock().getBlockType(), e2.getNextBlock().getBlockType());
+            e1.hardDrop();
+            e2.hardDrop();
+        }
+    }
+
+    @Test
+    public void testItemGrantDoesNotConsumeSequence() throws Exception {
+        GameEngine engine = GameEngine.createHeadless(20, 10);
+        engine.setGameMode(GameMode.ITEM);
+        engine.getBlockFactory().setRandomSeed(77L);
+        engine.startNewGame();
+        BlockFactory factory = engine.getBlockFactory();
+        int[] before = new int[5];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = factory.peekBlockType(i);
+        }
+
+        Method handle = GameEngine.class.getDeclaredMethod("handleItemSpawnAndCollect", int.class);
+        handle.setAccessible(true);
+        handle.invoke(engine, 10);
+        Field pending = GameEngine.class.getDeclaredField("pendingItem");
+        pending.setAccessible(true);
+        assertNotNull("10줄을 지우면 아이템이 예약되어야 함", pending.get(engine));
+
+        for (int i = 0; i < before.length; i++) {
+            assertEquals("i=" + i, before[i], factory.peekBlockType(i));
+        }
+    }
+
+    @Test
+    public void testResetGameKeepsSeedAndMode() {
+        GameEngine engine = GameEngine.createHeadless(20, 10, 31L);
+        BlockFactory factory = engine.getBlockFactory();
+        factory.setSequenceMode(PieceSequence.Mode.SEVEN_BAG);
+        engine.resetGame();
+        String current = engine.getCurrentBlock().getBlockType();
+        String next = engine.getNextBlock().getBlockType();
+        int[] preview = new int[8];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = factory.peekBlockType(i);
+        }
+
+        for (int i = 0; i < 10 && !engine.isGameOver(); i++) {
+            engine.hardDrop();
+        }
+        engine.resetGame();
+
+        assertSame("리셋해도 같은 블럭 생성기를 씀", factory, engine.getBlockFactory());
+        assertEquals(31L, factory.getRandomSeed());
+        assertEquals(PieceSequence.Mode.SEVEN_BAG, factory.getSequenceMode());
+        assertEquals(current, engine.getCurrentBlock().getBlockType());
+        assertEquals(next, engine.getNextBlock().getBlockType());
+        for (int i = 0; i < preview.length; i++) {
+            assertEquals("i=" + i, preview[i], factory.peekBlockType(i));
+        }
+    }
+
+    @Test
+    public void testItemCellFollowsSeedWithoutConsumingSequence() {
+        BlockFactory a = new BlockFactory();
+        BlockFactory b = new BlockFactory();
+        a.setRandomSeed(9L);
+        b.setRandomSeed(9L);
+        int[] preview = new int[5];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = a.peekBlockType(i);
+        }
+
+        for (int n = 0; n < 50; n++) {
+            assertEquals("n=" + n, a.nextItemCell(4), b.nextItemCell(4));
+        }
+        for (int i = 0; i < preview.length; i++) {
+            assertEquals("i=" + i, preview[i], a.peekBlockType(i));
+        }
+
+        BlockFactory fresh = new BlockFactory();
+        fresh.setRandomSeed(9L);
+        a.reset();
+        for (int n = 0; n < 10; n++) {
+            assertEquals("리셋하면 아이템 칸도 처음부터 n=" + n, fresh.nextItemCell(1000), a.nextItemCell(1000));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package se.tetris.team5.gamelogic.event;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import se.tetris.team5.gamelogic.GameEngine;
+import se.tetris.team5.gamelogic.GameMode;
+
+/**
+ * 게임 이벤트 버스 테스트
+ * - 발행 순서대로 drain을 호출한 스레드에서 전달되는지
+ * - 큐가 가득 차면 새 이벤트를 버리고 개수를 세는지
+ * - 헤드리스 엔진이 블록 고정/줄 삭제/등장/게임 오버 이벤트를 발행하는지
+ * - 블록 이벤트가 발행 시점의 블록 정보를 담아 이후 회전에 영향받지 않는지
+ */
+public class GameEventBusTest {
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+
+    @Test
+    public void testDrainDeliversInOrderOnCallingThread() {
+        GameEventBus bus = new GameEventBus(8);
+        List<GameEvent> received = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        bus.subscribe(event -> {
+            assertSame(caller, Thread.currentThread());
+            received.add(event);
+        });
+
+        bus.publish(new GameEvent.GameOver(1L, 10));
+        bus.publish(new GameEvent.GameOver(2L, 20));
+        assertTrue("발행만으로는 전달하지 않음", received.isEmpty());
+        assertEquals(2, bus.size());
+
+        assertEquals(2, bus.drain());
+        assertEquals(0, bus.size());
+        assertEquals(2, received.size());
+        assertEquals(10, ((GameEvent.GameOver) received.get(0)).getScore());
+        assertEquals(20, ((GameEvent.GameOver) received.get(1)).getScore());
+    }
+
+    @Test
+    public void testPublishDropsWhenFull() {
+        GameEventBus bus = new GameEventBus(3); // 4로 올림
+        for (int i = 0; i < 6; i++) {
+            bus.publish(new GameEvent.GameOver(i, i));
+        }
+        assertEquals(4, bus.size());
+        assertEquals(2L, bus.getDroppedCount());
+
+        List<GameEvent> received = new ArrayList<>();
+        bus.subscribe(received::add);
+        bus.drain();
+        assertEquals("먼저 들어온 이벤트가 남아야 함", 0L, received.get(0).getTimestamp());
+        assertEquals(3L, received.get(3).getTimestamp());
+        assertTrue("비운 뒤에는 다시 발행 가능", bus.publish(new GameEvent.GameOver(9L, 0)));
+    }
+
+    @Test
+    public void testListenerExceptionDoesNotStopOthers() {
+        GameEventBus bus = new GameEventBus(4);
+        List<GameEvent> received = new ArrayList<>();
+        bus.subscribe(event -> {
+            throw new IllegalStateException("구독자 오류");
+        });
+        bus.subscribe(received::add);
+
+        bus.publish(new GameEvent.GameOver(0L, 0));
+        bus.drain();
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testHeadlessEngineDoesNotQueueWithoutSubscribers() {
+        GameEngine engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+        engine.hardDrop();
+        assertEquals(0, engine.getEventBus().size());
+    }
+
+    @Test
+    public void testHeadlessEnginePublishesLockAndLineClear() {
+        GameEngine engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setForcedBlockType(0); // I블록
+        engine.startNewGame();
+
+        List<GameEvent> received = new ArrayList<>();
+        engine.getEventBus().subscribe(received::add);
+
+        // 바닥 줄의 왼쪽 4칸만 비워 두고 I블록을 떨어뜨림
+        int[][] board = engine.getBoardManager().getBoard();
+        for (int x = 4; x < WIDTH; x++) {
+            board[HEIGHT - 1][x] = 1;
+        }
+        while (engine.getX() > 0) {
+            engine.moveBlockLeft();
+        }
+        engine.hardDrop();
+
+        List<GameEvent.Type> types = new ArrayList<>();
+        for (GameEvent event : received) {
+            types.add(event.getType());
+        }
+        assertEquals(GameEvent.Type.PIECE_LOCKED, types.get(0));
+        assertTrue(types.contains(GameEvent.Type.LINES_CLEARED));
+        assertEquals(GameEvent.Type.PIECE_SPAWNED, types.get(types.size() - 1));
+
+        GameEvent.LinesCleared cleared = (GameEvent.LinesCleared) received.get(types.indexOf(GameEvent.Type.LINES_CLEARED));
+        assertEquals(1, cleared.getRowCount());
+        assertEquals(HEIGHT - 1, cleared.getRow(0));
+        assertTrue("1줄 삭제는 공격 없음", cleared.getAttackRows().isEmpty());
+        assertEquals("헤드리스에서는 즉시 전달", 0, engine.getEventBus().size());
+    }
+
+    @Test
+    public void testPieceEventKeepsSpawnOrientation() {
+        GameEngine engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+        engine.setGameMode(GameMode.NORMAL);
+        engine.getBlockFactory().setForcedBlockType(5); // T블록
+        List<GameEvent.PieceSpawned> spawned = new ArrayList<>();
+        engine.getEventBus().subscribe(event -> {
+            if (event instanceof GameEvent.PieceSpawned) {
+                spawned.add((GameEvent.PieceSpawned) event);
+            }
+        });
+        engine.startNewGame();
+
+        assertEquals(1, spawned.size());
+        GameEvent.PieceInfo piece = spawned.get(0).getPiece();
+        assertEquals(engine.getCurrentBlock().getBlockType(), piece.getBlockType());
+        assertEquals(0, piece.getOrientation().getRotation());
+
+        engine.rotateBlock();
+        assertEquals(1, engine.getCurrentBlock().getRotation());
+        assertEquals("이미 발행한 이벤트는 회전에 영향받지 않음", 0, piece.getOrientation().getRotation());
+    }
+
+    @Test
+    public void testHeadlessEnginePublishesGameOver() {
+        GameEngine engine = GameEngine.createHeadless(HEIGHT, WIDTH);
+        List<GameEvent.GameOver> gameOvers = new ArrayList<>();
+        engine.getEventBus().subscribe(event -> {
+            if (event instanceof GameEvent.GameOver) {
+                gameOvers.add((GameEvent.GameOver) event);
+            }
+        });
+
+        engine.tick(100000);
+
+        assertTrue(engine.isGameOver());
+        assertEquals(1, gameOvers.size());
+        assertEquals(engine.getGameScoring().getCurrentScore(), gameOvers.get(0).getScore());
+    }
+}
@@ -0,0 +1,116 @@
+package se.tetris.team5.utils.log;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * 비동기 로그 어펜더와 Log 파사드 테스트
+ * - 레벨 미만의 메시지는 버퍼에 들어가지 않는지
+ * - flush 후에는 모든 메시지가 순서대로 출력되는지
+ * - 버퍼가 가득 차면 호출 스레드를 막지 않고 버리는지
+ */
+public class AsyncLogAppenderTest {
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+    private LogLevel originalLevel;
+
+    @Before
+    public void setUp() {
+        originalOut = System.out;
+        originalErr = System.err;
+        originalLevel = Log.getLevel();
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out, true));
+        System.setErr(new PrintStream(err, true));
+    }
+
+    @After
+    public void tearDown() {
+        Log.flush();
+        Log.setLevel(originalLevel);
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    public void testLevelGating() {
+        Log.setLevel(LogLevel.WARN);
+        assertFalse(Log.isDebugEnabled());
+        assertFalse(Log.isEnabled(LogLevel.INFO));
+        assertTrue(Log.isEnabled(LogLevel.ERROR));
+
+        Log.debug("debug-message");
+        Log.info("info-message");
+        Log.warn("warn-message");
+        assertTrue(Log.flush());
+
+        assertEquals("", out.toString());
+        assertTrue(err.toString().contains("warn-message"));
+    }
+
+    @Test
+    public void testFlushWritesInOrder() {
+        AsyncLogAppender appender = new AsyncLogAppender(64, true);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(appender.append(LogLevel.INFO, "line-" + i, null));
+        }
+        assertTrue(appender.flush(5000));
+
+        String[] lines = out.toString().trim().split("\\R");
+        assertEquals(10, lines.length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("line-" + i, lines[i]);
+        }
+    }
+
+    @Test
+    public void testFullBufferDropsWithoutBlocking() throws Exception {
+        // 출력이 막힌 상태를 만들어 작업 스레드가 버퍼를 비우지 못하게 함
+        CountDownLatch release = new CountDownLatch(1);
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, true));
+
+        AsyncLogAppender appender = new AsyncLogAppender(4, true);
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (appender.append(LogLevel.INFO, "flood-" + i, null)) {
+                accepted++;
+            }
+        }
+        release.countDown();
+
+        assertTrue(appender.flush(5000));
+        assertTrue("가득 찬 버퍼는 메시지를 버려야 함", appender.getDroppedCount() > 0);
+        assertEquals(100, accepted + appender.getDroppedCount());
+    }
+
+    @Test
+    public void testSyncModeWritesImmediately() {
+        AsyncLogAppender appender = new AsyncLogAppender(4, false);
+        appender.append(LogLevel.ERROR, "sync-error", new IllegalStateException("boom"));
+
+        String written = err.toString();
+        assertTrue(written.contains("sync-error"));
+        assertTrue(written.contains("IllegalStateException"));
+    }
+}